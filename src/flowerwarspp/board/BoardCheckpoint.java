@@ -0,0 +1,258 @@
+package flowerwarspp.board;
+
+import flowerwarspp.preset.Ditch;
+import flowerwarspp.preset.Flower;
+import flowerwarspp.preset.PlayerColor;
+import flowerwarspp.util.MoveCodec;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Ein unveränderlicher Schnappschuss eines laufenden Spiels auf einem {@link MainBoard}, aus
+ * welchem mit {@link MainBoard#MainBoard(BoardCheckpoint, Iterable)} wieder ein Spielbrett
+ * erzeugt werden kann, ohne alle vorherigen Züge auszuführen.
+ * <p>
+ * Gespeichert werden die Größe des Spielbretts, der Spieler am Zug, die gesetzten Blumen und
+ * Gräben sowie die Punktestände beider Spieler. Die legalen Züge werden nicht gespeichert, da sie
+ * sich vollständig aus den gesetzten Blumen und Gräben ergeben und beim Wiederherstellen neu
+ * berechnet werden. Diese Berechnung bestimmt die Dauer des Wiederherstellens: Auf großen
+ * Spielbrettern dauert es etwa so lange wie das Erzeugen eines leeren Spielbretts oder das
+ * Nachspielen aller Züge mit {@link MainBoard#MainBoard(int, Iterable)}. Ein Schnappschuss
+ * erspart nur das Prüfen der Züge vor ihm.
+ * <p>
+ * Mit {@link #write(ByteBuffer)} und {@link #read(ByteBuffer)} wird ein Schnappschuss kompakt
+ * binär gespeichert. Blumen und Gräben werden dabei mit {@link MoveCodec} kodiert.
+ */
+public class BoardCheckpoint {
+	/**
+	 * Die Größe des Spielbretts.
+	 */
+	private final int size;
+
+	/**
+	 * Der Spieler, der am Zug ist.
+	 */
+	private final PlayerColor turn;
+
+	/**
+	 * Die gesetzten {@link Flower}s beider Spieler.
+	 */
+	private final EnumMap<PlayerColor, List<Flower>> flowers = new EnumMap<>(PlayerColor.class);
+
+	/**
+	 * Die gesetzten {@link Ditch}es beider Spieler.
+	 */
+	private final EnumMap<PlayerColor, List<Ditch>> ditches = new EnumMap<>(PlayerColor.class);
+
+	/**
+	 * Die Punktestände beider Spieler.
+	 */
+	private final EnumMap<PlayerColor, Integer> scores = new EnumMap<>(PlayerColor.class);
+
+	/**
+	 * Erzeugt einen neuen Schnappschuss. Wird nur von {@link MainBoard#checkpoint()} und {@link
+	 * #read(ByteBuffer)} aufgerufen.
+	 *
+	 * @param size
+	 * 		Die Größe des Spielbretts
+	 * @param turn
+	 * 		Der Spieler, der am Zug ist
+	 */
+	BoardCheckpoint(int size, PlayerColor turn) {
+		this.size = size;
+		this.turn = turn;
+	}
+
+	/**
+	 * Setzt die Daten eines Spielers.
+	 *
+	 * @param color
+	 * 		Die Farbe des Spielers
+	 * @param playerFlowers
+	 * 		Die gesetzten {@link Flower}s des Spielers
+	 * @param playerDitches
+	 * 		Die gesetzten {@link Ditch}es des Spielers
+	 * @param score
+	 * 		Der Punktestand des Spielers
+	 */
+	void setPlayer(PlayerColor color, Collection<Flower> playerFlowers,
+	               Collection<Ditch> playerDitches, int score) {
+		flowers.put(color, Collections.unmodifiableList(new ArrayList<>(playerFlowers)));
+		ditches.put(color, Collections.unmodifiableList(new ArrayList<>(playerDitches)));
+		scores.put(color, score);
+	}
+
+	/**
+	 * Gibt {@link #size} zurück.
+	 *
+	 * @return Wert von {@link #size}
+	 */
+	public int getSize() {
+		return size;
+	}
+
+	/**
+	 * Gibt {@link #turn} zurück.
+	 *
+	 * @return Wert von {@link #turn}
+	 */
+	public PlayerColor getTurn() {
+		return turn;
+	}
+
+	/**
+	 * Gibt die gesetzten {@link Flower}s eines Spielers zurück.
+	 *
+	 * @param color
+	 * 		Die Farbe des Spielers
+	 *
+	 * @return Die gesetzten {@link Flower}s
+	 */
+	public List<Flower> getFlowers(PlayerColor color) {
+		return flowers.get(color);
+	}
+
+	/**
+	 * Gibt die gesetzten {@link Ditch}es eines Spielers zurück.
+	 *
+	 * @param color
+	 * 		Die Farbe des Spielers
+	 *
+	 * @return Die gesetzten {@link Ditch}es
+	 */
+	public List<Ditch> getDitches(PlayerColor color) {
+		return ditches.get(color);
+	}
+
+	/**
+	 * Gibt den Punktestand eines Spielers zurück.
+	 *
+	 * @param color
+	 * 		Die Farbe des Spielers
+	 *
+	 * @return Der Punktestand
+	 */
+	public int getScore(PlayerColor color) {
+		return scores.get(color);
+	}
+
+	/**
+	 * Vergleicht diesen Schnappschuss mit einem anderen Objekt. Zwei Schnappschüsse sind gleich,
+	 * wenn sie in Spielbrettgröße, Spieler am Zug, Punkteständen und den Mengen der gesetzten
+	 * Blumen und Gräben übereinstimmen.
+	 *
+	 * @param o
+	 * 		Das zu vergleichende Objekt
+	 *
+	 * @return <code>true</code>, falls beide Schnappschüsse gleich sind
+	 */
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof BoardCheckpoint)) {
+			return false;
+		}
+		final BoardCheckpoint other = (BoardCheckpoint) o;
+		if (size != other.size || turn != other.turn || !scores.equals(other.scores)) {
+			return false;
+		}
+		for (PlayerColor color : PlayerColor.values()) {
+			if (!new HashSet<>(flowers.get(color)).equals(new HashSet<>(other.flowers.get(color))) ||
+					!new HashSet<>(ditches.get(color))
+							.equals(new HashSet<>(other.ditches.get(color)))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public int hashCode() {
+		int result = Objects.hash(size, turn, scores);
+		for (PlayerColor color : PlayerColor.values()) {
+			result = 31 * result + new HashSet<>(flowers.get(color)).hashCode();
+			result = 31 * result + new HashSet<>(ditches.get(color)).hashCode();
+		}
+		return result;
+	}
+
+	/**
+	 * Gibt die Anzahl der Bytes zurück, die {@link #write(ByteBuffer)} schreibt.
+	 *
+	 * @return Größe des kodierten Schnappschusses in Byte
+	 */
+	public int encodedSize() {
+		int result = 3;
+		for (PlayerColor color : PlayerColor.values()) {
+			result += 4 + 2 + 2 * flowers.get(color).size() + 2 + 2 * ditches.get(color).size();
+		}
+		return result;
+	}
+
+	/**
+	 * Schreibt den Schnappschuss kompakt in einen Puffer: Spielbrettgröße, Spieler am Zug und
+	 * für jeden Spieler Punktestand, Anzahl und Codes der Blumen sowie Anzahl und Codes der
+	 * Gräben.
+	 *
+	 * @param buffer
+	 * 		Der Puffer, in welchen geschrieben wird
+	 */
+	public void write(ByteBuffer buffer) {
+		buffer.putShort((short) size);
+		buffer.put((byte) turn.ordinal());
+		for (PlayerColor color : PlayerColor.values()) {
+			buffer.putInt(scores.get(color));
+			buffer.putShort((short) flowers.get(color).size());
+			for (Flower flower : flowers.get(color)) {
+				buffer.putShort((short) MoveCodec.encode(flower));
+			}
+			buffer.putShort((short) ditches.get(color).size());
+			for (Ditch ditch : ditches.get(color)) {
+				buffer.putShort((short) MoveCodec.encode(ditch));
+			}
+		}
+	}
+
+	/**
+	 * Liest einen mit {@link #write(ByteBuffer)} geschriebenen Schnappschuss.
+	 *
+	 * @param buffer
+	 * 		Der Puffer, aus welchem gelesen wird
+	 *
+	 * @return Der gelesene Schnappschuss
+	 *
+	 * @throws IllegalArgumentException
+	 * 		Falls der Puffer keinen gültigen Schnappschuss enthält
+	 */
+	public static BoardCheckpoint read(ByteBuffer buffer) throws IllegalArgumentException {
+		final int size = buffer.getShort();
+		final int turn = buffer.get();
+		if (turn < 0 || turn >= PlayerColor.values().length) {
+			throw new IllegalArgumentException("Ungültiger Spieler am Zug: " + turn);
+		}
+		final BoardCheckpoint checkpoint = new BoardCheckpoint(size, PlayerColor.values()[turn]);
+
+		for (PlayerColor color : PlayerColor.values()) {
+			final int score = buffer.getInt();
+			final ArrayList<Flower> playerFlowers = new ArrayList<>();
+			for (int i = buffer.getShort(); i > 0; i--) {
+				playerFlowers.add(MoveCodec.decodeFlower(buffer.getShort()));
+			}
+			final ArrayList<Ditch> playerDitches = new ArrayList<>();
+			for (int i = buffer.getShort(); i > 0; i--) {
+				playerDitches.add(MoveCodec.decodeDitch(buffer.getShort()));
+			}
+			checkpoint.setPlayer(color, playerFlowers, playerDitches, score);
+		}
+		return checkpoint;
+	}
+}
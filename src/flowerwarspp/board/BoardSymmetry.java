@@ -0,0 +1,347 @@
+package flowerwarspp.board;
+
+import flowerwarspp.preset.Ditch;
+import flowerwarspp.preset.Flower;
+import flowerwarspp.preset.Move;
+import flowerwarspp.preset.Position;
+import flowerwarspp.util.MoveCodec;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Die sechs Symmetrien (drei Drehungen und drei Spiegelungen) des dreieckigen Spielbretts einer
+ * bestimmten Größe.
+ * <p>
+ * Ein Punkt {@link Position}(Spalte, Zeile) des Spielbretts der Größe n wird dazu in die drei
+ * Koordinaten (Spalte - 1, Zeile - 1, n + 2 - Spalte - Zeile) umgerechnet, welche jeweils den
+ * Abstand zu einer der drei Seiten des Spielbretts angeben. Jede Symmetrie vertauscht diese drei
+ * Koordinaten.
+ * <p>
+ * Für jede Spielbrettgröße werden beim ersten Zugriff mit {@link #forSize(int)} Tabellen angelegt,
+ * welche für jede Symmetrie jede mit {@link MoveCodec} kodierte {@link Flower} und jeden kodierten
+ * {@link Ditch} auf den Code des Bildes abbilden. Damit kann eine Stellung oder eine Zugfolge auf
+ * einen eindeutigen Vertreter aller zu ihr symmetrischen Stellungen oder Zugfolgen abgebildet
+ * werden.
+ */
+public class BoardSymmetry {
+	/**
+	 * Die Anzahl der Symmetrien. Die Symmetrie 0 ist die Identität.
+	 */
+	public static final int COUNT = 6;
+
+	/**
+	 * Die Vertauschungen der drei Koordinaten: Die i-te neue Koordinate ist die
+	 * <code>PERMUTATIONS[s][i]</code>-te alte Koordinate. Die ersten drei Einträge sind die
+	 * Drehungen, die letzten drei die Spiegelungen.
+	 */
+	private static final int[][] PERMUTATIONS =
+			{{0, 1, 2}, {1, 2, 0}, {2, 0, 1}, {0, 2, 1}, {2, 1, 0}, {1, 0, 2}};
+
+	/**
+	 * Die zu jeder Symmetrie inverse Symmetrie.
+	 */
+	private static final int[] INVERSE = new int[COUNT];
+
+	/**
+	 * Die bereits angelegten Tabellen, nach Spielbrettgröße.
+	 */
+	private static final BoardSymmetry[] cache = new BoardSymmetry[32];
+
+	static {
+		for (int s = 0; s < COUNT; s++) {
+			final int[] inverse = new int[3];
+			for (int i = 0; i < 3; i++) {
+				inverse[PERMUTATIONS[s][i]] = i;
+			}
+			for (int t = 0; t < COUNT; t++) {
+				if (Arrays.equals(PERMUTATIONS[t], inverse)) {
+					INVERSE[s] = t;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Die Größe des Spielbretts.
+	 */
+	private final int size;
+
+	/**
+	 * Bildet für jede Symmetrie den Code jeder {@link Flower} auf den Code ihres Bildes ab. Codes,
+	 * die keine {@link Flower} des Spielbretts beschreiben, werden auf -1 abgebildet.
+	 */
+	private final int[][] flowerTable = new int[COUNT][1 << MoveCodec.FLOWER_BITS];
+
+	/**
+	 * Bildet für jede Symmetrie den Code jedes {@link Ditch} auf den Code seines Bildes ab. Codes,
+	 * die keinen {@link Ditch} des Spielbretts beschreiben, werden auf -1 abgebildet.
+	 */
+	private final int[][] ditchTable = new int[COUNT][1 << MoveCodec.DITCH_BITS];
+
+	/**
+	 * Legt die Tabellen für ein Spielbrett der gegebenen Größe an.
+	 *
+	 * @param size
+	 * 		Die Größe des Spielbretts
+	 */
+	private BoardSymmetry(int size) {
+		this.size = size;
+
+		for (int s = 0; s < COUNT; s++) {
+			Arrays.fill(flowerTable[s], -1);
+			Arrays.fill(ditchTable[s], -1);
+		}
+
+		// Alle Blumen und Gräben des Spielbretts werden über die Dreiecke aufgezählt.
+		for (int column = 1; column <= size; column++) {
+			for (int row = 1; column + row <= size + 1; row++) {
+				final Position a = new Position(column, row);
+				final Position b = new Position(column + 1, row);
+				final Position c = new Position(column, row + 1);
+				addFlower(new Flower(a, b, c));
+				addDitch(new Ditch(a, b));
+				addDitch(new Ditch(a, c));
+				addDitch(new Ditch(b, c));
+
+				if (column + row <= size) {
+					addFlower(new Flower(new Position(column + 1, row + 1), b, c));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Gibt die Symmetrien des Spielbretts der gegebenen Größe zurück. Die Tabellen werden nur beim
+	 * ersten Aufruf für eine Größe angelegt.
+	 *
+	 * @param size
+	 * 		Die Größe des Spielbretts
+	 *
+	 * @return Die Symmetrien des Spielbretts
+	 */
+	public static BoardSymmetry forSize(int size) {
+		synchronized (cache) {
+			if (cache[size] == null) {
+				cache[size] = new BoardSymmetry(size);
+			}
+			return cache[size];
+		}
+	}
+
+	/**
+	 * Gibt die zu einer Symmetrie inverse Symmetrie zurück.
+	 *
+	 * @param symmetry
+	 * 		Die Symmetrie
+	 *
+	 * @return Die inverse Symmetrie
+	 */
+	public static int inverse(int symmetry) {
+		return INVERSE[symmetry];
+	}
+
+	/**
+	 * Gibt {@link #size} zurück.
+	 *
+	 * @return Wert von {@link #size}
+	 */
+	public int getSize() {
+		return size;
+	}
+
+	/**
+	 * Wendet eine Symmetrie auf eine {@link Position} an.
+	 *
+	 * @param symmetry
+	 * 		Die Symmetrie
+	 * @param position
+	 * 		Die {@link Position}
+	 *
+	 * @return Das Bild der {@link Position}
+	 */
+	public Position apply(int symmetry, Position position) {
+		final int[] coordinates = {position.getColumn() - 1, position.getRow() - 1,
+				size + 2 - position.getColumn() - position.getRow()};
+		return new Position(coordinates[PERMUTATIONS[symmetry][0]] + 1,
+				coordinates[PERMUTATIONS[symmetry][1]] + 1);
+	}
+
+	/**
+	 * Wendet eine Symmetrie auf eine {@link Flower} an.
+	 *
+	 * @param symmetry
+	 * 		Die Symmetrie
+	 * @param flower
+	 * 		Die {@link Flower}
+	 *
+	 * @return Das Bild der {@link Flower}
+	 */
+	public Flower apply(int symmetry, Flower flower) {
+		return MoveCodec.decodeFlower(applyToFlower(symmetry, MoveCodec.encode(flower)));
+	}
+
+	/**
+	 * Wendet eine Symmetrie auf einen {@link Ditch} an.
+	 *
+	 * @param symmetry
+	 * 		Die Symmetrie
+	 * @param ditch
+	 * 		Der {@link Ditch}
+	 *
+	 * @return Das Bild des {@link Ditch}
+	 */
+	public Ditch apply(int symmetry, Ditch ditch) {
+		return MoveCodec.decodeDitch(applyToDitch(symmetry, MoveCodec.encode(ditch)));
+	}
+
+	/**
+	 * Wendet eine Symmetrie auf einen {@link Move} an. Züge ohne {@link Flower}s oder {@link
+	 * Ditch} bleiben unverändert.
+	 *
+	 * @param symmetry
+	 * 		Die Symmetrie
+	 * @param move
+	 * 		Der {@link Move}
+	 *
+	 * @return Das Bild des {@link Move}
+	 */
+	public Move apply(int symmetry, Move move) {
+		switch (move.getType()) {
+			case Flower:
+				return new Move(apply(symmetry, move.getFirstFlower()),
+						apply(symmetry, move.getSecondFlower()));
+			case Ditch:
+				return new Move(apply(symmetry, move.getDitch()));
+			default:
+				return move;
+		}
+	}
+
+	/**
+	 * Wendet eine Symmetrie auf den Code einer {@link Flower} an.
+	 *
+	 * @param symmetry
+	 * 		Die Symmetrie
+	 * @param code
+	 * 		Der mit {@link MoveCodec#encode(Flower)} erzeugte Code
+	 *
+	 * @return Der Code des Bildes
+	 *
+	 * @throws IllegalArgumentException
+	 * 		falls der Code keine {@link Flower} dieses Spielbretts beschreibt
+	 */
+	public int applyToFlower(int symmetry, int code) throws IllegalArgumentException {
+		final int result = code >= 0 && code < flowerTable[symmetry].length ?
+				flowerTable[symmetry][code] : -1;
+		if (result < 0) {
+			throw new IllegalArgumentException("Keine Blume des Spielbretts: " + code);
+		}
+		return result;
+	}
+
+	/**
+	 * Wendet eine Symmetrie auf den Code eines {@link Ditch} an.
+	 *
+	 * @param symmetry
+	 * 		Die Symmetrie
+	 * @param code
+	 * 		Der mit {@link MoveCodec#encode(Ditch)} erzeugte Code
+	 *
+	 * @return Der Code des Bildes
+	 *
+	 * @throws IllegalArgumentException
+	 * 		falls der Code keinen {@link Ditch} dieses Spielbretts beschreibt
+	 */
+	public int applyToDitch(int symmetry, int code) throws IllegalArgumentException {
+		final int result = code >= 0 && code < ditchTable[symmetry].length ?
+				ditchTable[symmetry][code] : -1;
+		if (result < 0) {
+			throw new IllegalArgumentException("Kein Graben des Spielbretts: " + code);
+		}
+		return result;
+	}
+
+	/**
+	 * Bildet eine Zugfolge auf ihren Vertreter unter allen symmetrischen Zugfolgen ab. Das ist die
+	 * Zugfolge, deren mit {@link MoveCodec#encode(Move)} kodierte Züge lexikographisch am
+	 * kleinsten sind.
+	 *
+	 * @param moves
+	 * 		Die Zugfolge
+	 *
+	 * @return Die Symmetrie, welche die Zugfolge auf ihren Vertreter abbildet
+	 */
+	public int canonicalSymmetry(List<Move> moves) {
+		final List<Integer> candidates = new ArrayList<>();
+		for (int s = 0; s < COUNT; s++) {
+			candidates.add(s);
+		}
+
+		// Es werden nur die Symmetrien behalten, welche den bisher kleinsten Präfix ergeben.
+		for (Move move : moves) {
+			if (candidates.size() == 1) {
+				break;
+			}
+			int smallest = Integer.MAX_VALUE;
+			final int[] codes = new int[COUNT];
+			for (int s : candidates) {
+				codes[s] = MoveCodec.encode(apply(s, move));
+				smallest = Math.min(smallest, codes[s]);
+			}
+			final int minimum = smallest;
+			candidates.removeIf(s -> codes[s] != minimum);
+		}
+		return candidates.get(0);
+	}
+
+	/**
+	 * Bildet eine Zugfolge auf ihren Vertreter unter allen symmetrischen Zugfolgen ab, siehe
+	 * {@link #canonicalSymmetry(List)}.
+	 *
+	 * @param moves
+	 * 		Die Zugfolge
+	 *
+	 * @return Der Vertreter der Zugfolge
+	 */
+	public List<Move> canonicalize(List<Move> moves) {
+		final int symmetry = canonicalSymmetry(moves);
+		final List<Move> result = new ArrayList<>(moves.size());
+		for (Move move : moves) {
+			result.add(apply(symmetry, move));
+		}
+		return result;
+	}
+
+	/**
+	 * Trägt eine {@link Flower} und ihre Bilder unter allen Symmetrien in {@link #flowerTable}
+	 * ein.
+	 *
+	 * @param flower
+	 * 		Die {@link Flower}
+	 */
+	private void addFlower(Flower flower) {
+		final int code = MoveCodec.encode(flower);
+		for (int s = 0; s < COUNT; s++) {
+			flowerTable[s][code] = MoveCodec.encode(
+					new Flower(apply(s, flower.getFirst()), apply(s, flower.getSecond()),
+							apply(s, flower.getThird())));
+		}
+	}
+
+	/**
+	 * Trägt einen {@link Ditch} und seine Bilder unter allen Symmetrien in {@link #ditchTable}
+	 * ein.
+	 *
+	 * @param ditch
+	 * 		Der {@link Ditch}
+	 */
+	private void addDitch(Ditch ditch) {
+		final int code = MoveCodec.encode(ditch);
+		for (int s = 0; s < COUNT; s++) {
+			ditchTable[s][code] = MoveCodec.encode(
+					new Ditch(apply(s, ditch.getFirst()), apply(s, ditch.getSecond())));
+		}
+	}
+}
@@ -58,6 +58,14 @@ class PlayerData {
  */
 public class MainBoard implements Board {
 	private static final int GARDEN_SIZE = 4;
+	/**
+	 * Reichweite in direkten Schritten, in welcher nach dem Setzen einer {@link Flower} die Beete
+	 * des Spielers neu bewertet werden. Ein Blumenzug wird ungültig, wenn er ein Beet über die neue
+	 * Blume zu einem zu großen Beet verbinden würde. Ein solches Beet kann die Blume nur an einer
+	 * Ecke berühren und über die Ecke und das Beet bis zu sechs direkte Schritte entfernt sein;
+	 * mit vier Schritten bleiben einzelne ungültige Züge erlaubt.
+	 */
+	private static final int BED_UPDATE_RADIUS = 6;
 
 	/**
 	 * Größe des {@link MainBoard}.
@@ -96,10 +104,88 @@ public class MainBoard implements Board {
 		initBoard();
 	}
 
+	/**
+	 * Erzeugt ein neues {@link MainBoard} mit der angegebenen Größe, auf welchem die gegebenen
+	 * Züge bereits ausgeführt worden sind. Das Ergebnis entspricht {@link #MainBoard(int)} gefolgt
+	 * von {@link #makeAll(Iterable)}, die Züge für alle Kombinationen von Blumen werden aber nicht
+	 * erst für das leere Spielbrett erzeugt.
+	 *
+	 * @param size
+	 * 		Größe des Boardes.
+	 * @param moves
+	 * 		Die auszuführenden Züge, in ihrer Reihenfolge
+	 *
+	 * @throws IllegalStateException
+	 * 		falls nach dem Ende des Spiels noch Züge folgen
+	 */
+	public MainBoard(int size, Iterable<Move> moves) throws IllegalStateException {
+		this(size, moves, null);
+	}
+
+	/**
+	 * Erzeugt wie {@link #MainBoard(int, Iterable)} ein {@link MainBoard}, auf welchem die
+	 * gegebenen Züge bereits ausgeführt worden sind. Zusätzlich wird für jede Anzahl an Zügen,
+	 * welche als Schlüssel in <code>checkpoints</code> enthalten ist, der Schnappschuss nach so
+	 * vielen Zügen wie mit {@link #checkpoint()} eingetragen. Da die legalen Züge auch hier erst
+	 * nach dem letzten Zug berechnet werden, kostet ein Schnappschuss kaum mehr als das Kopieren
+	 * der gesetzten Blumen und Gräben.
+	 *
+	 * @param size
+	 * 		Größe des Boardes.
+	 * @param moves
+	 * 		Die auszuführenden Züge, in ihrer Reihenfolge
+	 * @param checkpoints
+	 * 		Die Anzahlen an Zügen, zu welchen ein Schnappschuss eingetragen wird, oder
+	 * 		<code>null</code>. Nach dem Ende des Spiels und nach dem letzten Zug wird keiner mehr
+	 * 		eingetragen.
+	 *
+	 * @throws IllegalStateException
+	 * 		falls nach dem Ende des Spiels noch Züge folgen
+	 */
+	public MainBoard(int size, Iterable<Move> moves, Map<Integer, BoardCheckpoint> checkpoints)
+			throws IllegalStateException {
+		this.size = size;
+		allFlowers = new Flower[this.size * this.size];
+		initFlowers();
+		addCheckpoint(checkpoints, 0);
+		if (moves.iterator().hasNext()) {
+			makeAll(moves, false, checkpoints);
+		} else {
+			initMoves();
+		}
+	}
+
 	/**
 	 * Initalisiert das {@link MainBoard}.
 	 */
 	private void initBoard() {
+		initFlowers();
+		initMoves();
+	}
+
+	/**
+	 * Erlaubt beiden Spielern alle Züge, die auf dem leeren Spielbrett möglich sind.
+	 */
+	private void initMoves() {
+		// Züge für alle möglichen Kombinationen von Blumen erzeugen und für alle Spieler erlauben.
+		for (int i = 0; i < allFlowers.length; i++) {
+			for (int j = i + 1; j < allFlowers.length; j++) {
+				Move move = new Move(allFlowers[i], allFlowers[j]);
+				playerDataSet.get(PlayerColor.Red).legalMoves.add(move);
+				playerDataSet.get(PlayerColor.Blue).legalMoves.add(move);
+			}
+		}
+
+		// Aufgeben für beide Spieler erlauben.
+		Move surrenderMove = new Move(MoveType.Surrender);
+		playerDataSet.get(PlayerColor.Red).legalMoves.add(surrenderMove);
+		playerDataSet.get(PlayerColor.Blue).legalMoves.add(surrenderMove);
+	}
+
+	/**
+	 * Legt die Spielerdaten an und erzeugt alle {@link Flower}s des Spielbretts.
+	 */
+	private void initFlowers() {
 		// Spielerdaten anlegen
 		playerDataSet.put(PlayerColor.Red, new PlayerData());
 		playerDataSet.put(PlayerColor.Blue, new PlayerData());
@@ -121,20 +207,6 @@ public class MainBoard implements Board {
 				}
 			}
 		}
-
-		// Züge für alle möglichen Kombinationen von Blumen erzeugen und für alle Spieler erlauben.
-		for (int i = 0; i < allFlowers.length; i++) {
-			for (int j = i + 1; j < allFlowers.length; j++) {
-				Move move = new Move(allFlowers[i], allFlowers[j]);
-				playerDataSet.get(PlayerColor.Red).legalMoves.add(move);
-				playerDataSet.get(PlayerColor.Blue).legalMoves.add(move);
-			}
-		}
-
-		// Aufgeben für beide Spieler erlauben.
-		Move surrenderMove = new Move(MoveType.Surrender);
-		playerDataSet.get(PlayerColor.Red).legalMoves.add(surrenderMove);
-		playerDataSet.get(PlayerColor.Blue).legalMoves.add(surrenderMove);
 	}
 
 	/**
@@ -157,6 +229,60 @@ public class MainBoard implements Board {
 		allFlowers = Arrays.copyOf(original.allFlowers, original.allFlowers.length);
 	}
 
+	/**
+	 * Erzeugt ein {@link MainBoard} aus einem mit {@link #checkpoint()} erzeugten Schnappschuss
+	 * und führt danach die gegebenen Züge wie {@link #makeAll(Iterable)} aus. Die legalen Züge
+	 * beider Spieler werden dabei nur einmal nach dem letzten Zug, aber vollständig neu berechnet.
+	 * Das dauert etwa so lange wie {@link #MainBoard(int, Iterable)} mit allen Zügen des Spiels.
+	 *
+	 * @param checkpoint
+	 * 		Der wiederherzustellende Schnappschuss
+	 * @param moves
+	 * 		Die nach dem Schnappschuss auszuführenden Züge, in ihrer Reihenfolge
+	 *
+	 * @throws IllegalStateException
+	 * 		falls nach dem Ende des Spiels noch Züge folgen
+	 */
+	public MainBoard(BoardCheckpoint checkpoint, Iterable<Move> moves)
+			throws IllegalStateException {
+		size = checkpoint.getSize();
+		allFlowers = new Flower[size * size];
+		initFlowers();
+
+		for (PlayerColor color : PlayerColor.values()) {
+			PlayerData playerData = playerDataSet.get(color);
+			playerData.flowers.addAll(checkpoint.getFlowers(color));
+			playerData.ditches.addAll(checkpoint.getDitches(color));
+			playerData.currentScore = checkpoint.getScore(color);
+		}
+		currentPlayer = checkpoint.getTurn();
+		oppositePlayer =
+				currentPlayer == PlayerColor.Red ? PlayerColor.Blue : PlayerColor.Red;
+
+		makeAll(moves, false, null);
+	}
+
+	/**
+	 * Erzeugt einen Schnappschuss des aktuellen Spielstands, aus welchem mit {@link
+	 * #MainBoard(BoardCheckpoint, Iterable)} wieder ein gleiches Spielbrett erzeugt werden kann.
+	 *
+	 * @return Der Schnappschuss
+	 *
+	 * @throws IllegalStateException
+	 * 		falls das Spiel bereits beendet ist
+	 */
+	public BoardCheckpoint checkpoint() throws IllegalStateException {
+		if (currentStatus != Status.Ok) {
+			throw new IllegalStateException("Ein beendetes Spiel kann nicht gespeichert werden!");
+		}
+		BoardCheckpoint checkpoint = new BoardCheckpoint(size, currentPlayer);
+		for (Map.Entry<PlayerColor, PlayerData> entry : playerDataSet.entrySet()) {
+			checkpoint.setPlayer(entry.getKey(), entry.getValue().flowers,
+					entry.getValue().ditches, entry.getValue().currentScore);
+		}
+		return checkpoint;
+	}
+
 	/**
 	 * {@inheritDoc} Verifiziert den {@link Move}, führt diesen aus und berechnet die Punktzahl.
 	 *
@@ -221,6 +347,341 @@ public class MainBoard implements Board {
 		oppositePlayer = t;
 	}
 
+	/**
+	 * Führt eine Folge von Zügen aus, etwa beim Laden eines Spielstands oder beim Fortsetzen eines
+	 * Spielers. Das Ergebnis entspricht dem Aufrufen von {@link #make(Move)} für jeden Zug.
+	 * <p>
+	 * Anstatt nach jedem Zug die legalen Züge beider Spieler zu aktualisieren, wird jeder Zug nur
+	 * anhand der gesetzten Blumen und Gräben auf Gültigkeit geprüft. Ob der nächste Spieler noch
+	 * einen Blumen- oder Grabenzug machen kann und das Spiel damit weitergeht, wird nach jedem Zug
+	 * mit {@link #hasFlowerOrDitchMove(PlayerColor)} geprüft. Die legalen Züge werden erst nach
+	 * dem letzten Zug einmalig neu berechnet.
+	 *
+	 * @param moves
+	 * 		Die auszuführenden Züge, in ihrer Reihenfolge
+	 *
+	 * @throws IllegalStateException
+	 * 		falls das Spielbrett vor oder während der Ausführung keine Züge mehr annehmen kann
+	 */
+	public void makeAll(Iterable<Move> moves) throws IllegalStateException {
+		makeAll(moves, true, null);
+	}
+
+	/**
+	 * Führt eine Folge von Zügen wie {@link #makeAll(Iterable)} aus.
+	 *
+	 * @param moves
+	 * 		Die auszuführenden Züge, in ihrer Reihenfolge
+	 * @param legalMovesValid
+	 * 		Ob die legalen Züge beider Spieler bereits berechnet worden sind
+	 * @param checkpoints
+	 * 		Die Anzahlen an ausgeführten Zügen, zu welchen ein Schnappschuss eingetragen wird, oder
+	 * 		<code>null</code>
+	 *
+	 * @throws IllegalStateException
+	 * 		falls das Spielbrett vor oder während der Ausführung keine Züge mehr annehmen kann
+	 */
+	private void makeAll(Iterable<Move> moves, boolean legalMovesValid,
+	                     Map<Integer, BoardCheckpoint> checkpoints) throws IllegalStateException {
+		Log.log(LogLevel.DEBUG, LogModule.BOARD, "Status at beginning of makeAll: " +
+				currentStatus);
+
+		int ply = 0;
+		for (Move move : moves) {
+			// Die Schnappschüsse werden vor dem nächsten Zug angelegt, da einige Züge mit continue
+			// abgeschlossen werden.
+			if (ply > 0) {
+				addCheckpoint(checkpoints, ply);
+			}
+			ply++;
+
+			if (currentStatus != Status.Ok) {
+				throw new IllegalStateException("Das Spielbrett kann keine Züge mehr annehmen!");
+			}
+
+			switch (move.getType()) {
+				case Flower:
+					if (!isLegalFlowerMove(move.getFirstFlower(), move.getSecondFlower(),
+							currentPlayer)) {
+						currentStatus = Status.Illegal;
+						break;
+					}
+					playerDataSet.get(currentPlayer).flowers.add(move.getFirstFlower());
+					playerDataSet.get(currentPlayer).flowers.add(move.getSecondFlower());
+					updateScore(new Flower[] {move.getFirstFlower(), move.getSecondFlower()});
+					legalMovesValid = false;
+					break;
+				case Ditch:
+					if (!isLegalDitchMove(move.getDitch(), currentPlayer)) {
+						currentStatus = Status.Illegal;
+						break;
+					}
+					playerDataSet.get(currentPlayer).ditches.add(move.getDitch());
+					updateScore(move.getDitch());
+					legalMovesValid = false;
+					break;
+				default:
+					// Züge, die das Spiel beenden, werden anhand der legalen Züge geprüft.
+					if (!legalMovesValid) {
+						rebuildLegalMoves();
+						legalMovesValid = true;
+					}
+					make(move);
+					continue;
+			}
+
+			if (currentStatus != Status.Ok) {
+				break;
+			}
+
+			/*
+			 * Wie in make() endet das Spiel, falls der Spieler, der als nächstes am Zug wäre, keine
+			 * Blumen- oder Grabenzüge mehr machen kann. Der Spieler am Zug wird dann nicht
+			 * gewechselt, und ein folgender Zug wird wie in make() abgelehnt.
+			 */
+			if (!hasFlowerOrDitchMove(oppositePlayer)) {
+				endGame();
+				continue;
+			}
+
+			PlayerColor t = currentPlayer;
+			currentPlayer = oppositePlayer;
+			oppositePlayer = t;
+		}
+
+		if (ply > 0) {
+			addCheckpoint(checkpoints, ply);
+		}
+		if (!legalMovesValid) {
+			rebuildLegalMoves();
+		}
+	}
+
+	/**
+	 * Trägt einen Schnappschuss des aktuellen Spielstands ein, falls er für die gegebene Anzahl
+	 * an Zügen verlangt wird und das Spiel noch läuft.
+	 *
+	 * @param checkpoints
+	 * 		Die Anzahlen an Zügen, zu welchen ein Schnappschuss eingetragen wird, oder
+	 * 		<code>null</code>
+	 * @param ply
+	 * 		Die Anzahl der bisher ausgeführten Züge
+	 */
+	private void addCheckpoint(Map<Integer, BoardCheckpoint> checkpoints, int ply) {
+		if (checkpoints != null && currentStatus == Status.Ok && checkpoints.containsKey(ply)) {
+			checkpoints.put(ply, checkpoint());
+		}
+	}
+
+	/**
+	 * Prüft allein anhand der gesetzten Blumen und Gräben, ob ein Spieler noch mindestens einen
+	 * Blumen- oder Grabenzug machen kann. Die Suche endet beim ersten gefundenen Zug, sodass dies
+	 * im Spielverlauf meist nur wenige Blumen betrifft.
+	 *
+	 * @param player
+	 * 		Der zu prüfende Spieler
+	 *
+	 * @return <code>true</code>, falls der Spieler einen Blumen- oder Grabenzug machen kann
+	 */
+	private boolean hasFlowerOrDitchMove(PlayerColor player) {
+		for (Flower flower : playerDataSet.get(player).flowers) {
+			for (Ditch ditch : getAdjacentDitches(flower)) {
+				if (isLegalDitchMove(ditch, player)) {
+					return true;
+				}
+			}
+		}
+
+		final ArrayList<Flower> candidates = new ArrayList<>();
+		for (Flower flower : allFlowers) {
+			if (isFree(flower) && isLegalPlacement(player, flower)) {
+				for (Flower candidate : candidates) {
+					if (isLegalPlacement(player, candidate, flower)) {
+						return true;
+					}
+				}
+				candidates.add(flower);
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Berechnet die legalen Züge beider Spieler allein anhand der gesetzten Blumen und Gräben
+	 * neu.
+	 * <p>
+	 * Zwei Blumen, die ein Spieler jeweils für sich setzen dürfte, können nur dann nicht zusammen
+	 * gesetzt werden, wenn die eine an das durch die andere entstehende Beet angrenzt. Nur solche
+	 * Paare werden einzeln geprüft.
+	 */
+	private void rebuildLegalMoves() {
+		final boolean flowersPlaced = !playerDataSet.get(PlayerColor.Red).flowers.isEmpty() ||
+				!playerDataSet.get(PlayerColor.Blue).flowers.isEmpty();
+
+		for (Map.Entry<PlayerColor, PlayerData> entry : playerDataSet.entrySet()) {
+			final PlayerColor player = entry.getKey();
+			final MoveSet legalMoves = new MoveSet();
+
+			// Alle Blumen, die der Spieler für sich allein setzen dürfte.
+			final ArrayList<Flower> candidates = new ArrayList<>();
+			final HashMap<Flower, HashSet<Flower>> bedNeighbors = new HashMap<>();
+			for (Flower flower : allFlowers) {
+				if (isFree(flower) && isLegalPlacement(player, flower)) {
+					candidates.add(flower);
+
+					playerDataSet.get(player).flowers.add(flower);
+					bedNeighbors.put(flower, getAllNeighbors(getFlowerBed(flower)));
+					playerDataSet.get(player).flowers.remove(flower);
+				}
+			}
+
+			for (int i = 0; i < candidates.size(); i++) {
+				final Flower first = candidates.get(i);
+				for (int j = i + 1; j < candidates.size(); j++) {
+					final Flower second = candidates.get(j);
+					if ((bedNeighbors.get(first).contains(second) ||
+							bedNeighbors.get(second).contains(first)) &&
+							!isLegalPlacement(player, first, second)) {
+						continue;
+					}
+					legalMoves.add(new Move(first, second));
+				}
+			}
+
+			// Grabenzüge können nur an den eigenen Blumen liegen.
+			for (Flower flower : playerDataSet.get(player).flowers) {
+				for (Ditch ditch : getAdjacentDitches(flower)) {
+					if (isLegalDitchMove(ditch, player)) {
+						legalMoves.add(new Move(ditch));
+					}
+				}
+			}
+
+			legalMoves.add(new Move(MoveType.Surrender));
+			if (flowersPlaced && legalMoves.getFlowerMoves().isEmpty()) {
+				legalMoves.add(new Move(MoveType.End));
+			}
+
+			entry.getValue().legalMoves = legalMoves;
+		}
+	}
+
+	/**
+	 * Prüft, ob eine {@link Flower} noch von keinem Spieler gesetzt und nicht durch einen Graben
+	 * blockiert ist.
+	 *
+	 * @param flower
+	 * 		Die zu prüfende {@link Flower}
+	 *
+	 * @return Ob die {@link Flower} frei ist
+	 */
+	private boolean isFree(Flower flower) {
+		if (!isOnBoard(flower) || getFlowerColor(flower) != null) {
+			return false;
+		}
+		for (Ditch edgeDitch : getEdgeDitches(flower)) {
+			if (getDitchColor(edgeDitch) != null) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Prüft, ob ein Spieler die gegebenen {@link Flower}s setzen darf, ohne dass eines seiner
+	 * Beete ungültig wird. Ob die {@link Flower}s frei sind, wird nicht geprüft.
+	 *
+	 * @param player
+	 * 		Der Spieler, der die {@link Flower}s setzen würde
+	 * @param flowers
+	 * 		Die zu setzenden {@link Flower}s
+	 *
+	 * @return Ob alle betroffenen Beete gültig bleiben
+	 */
+	private boolean isLegalPlacement(PlayerColor player, Flower... flowers) {
+		final HashSet<Flower> ownFlowers = playerDataSet.get(player).flowers;
+		final LinkedList<Flower> placed = new LinkedList<>();
+
+		// Die Blumen werden testweise gesetzt.
+		for (Flower flower : flowers) {
+			if (ownFlowers.add(flower)) {
+				placed.add(flower);
+			}
+		}
+
+		try {
+			for (Flower flower : flowers) {
+				if (!isLegalBed(getFlowerBed(flower), player)) {
+					return false;
+				}
+				// Auch ein angrenzender Garten darf nicht berührt werden.
+				for (Flower neighbor : getAllNeighbors(flower)) {
+					if (ownFlowers.contains(neighbor) &&
+							!isLegalBed(getFlowerBed(neighbor), player)) {
+						return false;
+					}
+				}
+			}
+			return true;
+		} finally {
+			// Testweise gesetzte Blumen wieder wegnehmen.
+			ownFlowers.removeAll(placed);
+		}
+	}
+
+	/**
+	 * Prüft allein anhand der gesetzten Blumen und Gräben, ob ein Spieler einen Blumenzug machen
+	 * darf.
+	 *
+	 * @param first
+	 * 		Die erste zu setzende {@link Flower}
+	 * @param second
+	 * 		Die zweite zu setzende {@link Flower}
+	 * @param player
+	 * 		Der Spieler, der den Zug machen würde
+	 *
+	 * @return Ob der Zug legal ist
+	 */
+	private boolean isLegalFlowerMove(Flower first, Flower second, PlayerColor player) {
+		return !first.equals(second) && isFree(first) && isFree(second) &&
+				isLegalPlacement(player, first, second);
+	}
+
+	/**
+	 * Prüft allein anhand der gesetzten Blumen und Gräben, ob ein Spieler einen Graben setzen
+	 * darf. Dazu müssen an beiden Enden des Grabens eigene Blumen liegen, an keiner Seite eine
+	 * Blume und an keinem Ende ein anderer Graben.
+	 *
+	 * @param ditch
+	 * 		Der zu setzende {@link Ditch}
+	 * @param player
+	 * 		Der Spieler, der den Graben setzen würde
+	 *
+	 * @return Ob der Zug legal ist
+	 */
+	private boolean isLegalDitchMove(Ditch ditch, PlayerColor player) {
+		if (getDitchColor(ditch) != null) {
+			return false;
+		}
+		for (Flower ditchNeighbor : getDirectNeighbors(ditch)) {
+			if (getFlowerColor(ditchNeighbor) != null) {
+				return false;
+			}
+		}
+		for (Position pos : getPositions(ditch)) {
+			for (Ditch ditchContainingPos : getDitchesAround(pos)) {
+				if (getDitchColor(ditchContainingPos) != null) {
+					return false;
+				}
+			}
+			if (getFlowersAround(pos).stream()
+					.noneMatch(playerDataSet.get(player).flowers::contains)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	/**
 	 * Beendet das Spiel. Unentschieden wenn Parameter null ist.
 	 *
@@ -278,8 +739,8 @@ public class MainBoard implements Board {
 				playerData.legalMoves.removeMovesContaining(flower);
 			}
 
-			// Durch diese Blume ungültig gewordene Blumenzüge verbieten
-			for (Collection<Flower> bed : getBedsNear(flower, 4, currentPlayer)) {
+			// Durch diese Blume ungültig gewordene Blumenzüge verbieten.
+			for (Collection<Flower> bed : getBedsNear(flower, BED_UPDATE_RADIUS, currentPlayer)) {
 				updateValidMovesForBed(bed);
 			}
 
@@ -295,6 +756,16 @@ public class MainBoard implements Board {
 		}
 
 		// Punktestand aktualisieren
+		updateScore(flowers);
+	}
+
+	/**
+	 * Aktualisiert den Punktestand eines Spielers nach dem Setzen zweier {@link Flower}s.
+	 *
+	 * @param flowers
+	 * 		Die beiden gesetzten {@link Flower}s
+	 */
+	private void updateScore(Flower[] flowers) {
 		playerDataSet.get(currentPlayer).currentScore += getBedChainScore(flowers[0]);
 		if (!getBedChain(flowers[0]).contains(getFlowerBed(flowers[1]))) {
 			playerDataSet.get(currentPlayer).currentScore += getBedChainScore(flowers[1]);
@@ -334,13 +805,25 @@ public class MainBoard implements Board {
 	private HashSet<Collection<Flower>> getBedsNear(Flower flower, int radius, PlayerColor
 			player) {
 		HashSet<Collection<Flower>> result = new HashSet<>();
-		if (playerDataSet.get(player).flowers.contains(flower)) {
-			result.add(getFlowerBed(flower));
-		}
-		if (radius != 0) {
-			for (Flower neighbor : getDirectNeighbors(flower)) {
-				result.addAll(getBedsNear(neighbor, radius - 1, player));
+		// Breitensuche, damit jede Blume innerhalb des Radius nur einmal betrachtet wird.
+		HashSet<Flower> visited = new HashSet<>();
+		Collection<Flower> ring = Collections.singleton(flower);
+		visited.add(flower);
+		for (int distance = 0; !ring.isEmpty(); distance++) {
+			LinkedList<Flower> nextRing = new LinkedList<>();
+			for (Flower current : ring) {
+				if (playerDataSet.get(player).flowers.contains(current)) {
+					result.add(getFlowerBed(current));
+				}
+				if (distance < radius) {
+					for (Flower neighbor : getDirectNeighbors(current)) {
+						if (visited.add(neighbor)) {
+							nextRing.add(neighbor);
+						}
+					}
+				}
 			}
+			ring = nextRing;
 		}
 		return result;
 	}
@@ -115,5 +115,37 @@ public enum ExitCode {
 			return "Fehler: Der von der Spielsteuerung erhaltene Spielzug ist nicht mit dem " +
 					"Zustand des lokalen Spielbretts vereinbar.";
 		}
+	},
+
+	/**
+	 * Dieser Exit-Code signalisiert, dass ein Eröffnungsbuch nicht erzeugt werden konnte.
+	 */
+	BOOK_ERROR {
+		@Override
+		public String toString() {
+			return "Das Eröffnungsbuch konnte nicht erzeugt werden.";
+		}
+	},
+
+	/**
+	 * Dieser Exit-Code signalisiert, dass mindestens einer der geprüften Spielstände ungültig ist
+	 * oder nicht gelesen werden konnte.
+	 */
+	VALIDATION_FAILED {
+		@Override
+		public String toString() {
+			return "Mindestens ein Spielstand ist ungültig oder konnte nicht gelesen werden.";
+		}
+	},
+
+	/**
+	 * Dieser Exit-Code signalisiert, dass eine Datei, etwa ein Archiv oder ein Export, nicht
+	 * gelesen oder geschrieben werden konnte.
+	 */
+	FILE_ERROR {
+		@Override
+		public String toString() {
+			return "Eine Datei konnte nicht gelesen oder geschrieben werden.";
+		}
 	}
 }
\ No newline at end of file
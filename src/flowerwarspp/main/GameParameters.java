@@ -64,6 +64,12 @@ public class GameParameters {
 	 */
 	private int delay = 0;
 
+	/**
+	 * Wie oft die grafische Oberfläche pro Sekunde den neuesten Stand des Spielbretts zeichnet,
+	 * oder 0, falls nach jedem Zug gezeichnet werden soll.
+	 */
+	private int framesPerSecond = 0;
+
 	/**
 	 * Ob Debug-Informationen im {@link Log} angezeigt werden sollen, oder nicht.
 	 */
@@ -79,6 +85,96 @@ public class GameParameters {
 	 */
 	private boolean quiet = false;
 
+	/**
+	 * Ob die Spiele als Benchmark ohne jede Ausgabe laufen sollen. Am Ende wird nur ein
+	 * maschinenlesbares Ergebnis ausgegeben.
+	 */
+	private boolean bench = false;
+
+	/**
+	 * Ob Computerspieler während der Zugzeit des Gegners vorausberechnen sollen.
+	 */
+	private boolean ponder = false;
+
+	/**
+	 * Port, an welchem Zuschauer das Spiel verfolgen können. 0, falls keine Zuschauer über das
+	 * Netzwerk zugelassen werden.
+	 */
+	private int spectatePort = 0;
+
+	/**
+	 * Name der Datei, an welche jeder Zug sofort angehängt werden soll. <code>null</code>, falls
+	 * kein Journal geführt werden soll.
+	 */
+	private String journalName = null;
+
+	/**
+	 * Nach wie vielen Zügen das Journal jeweils auf den Datenträger geschrieben werden soll.
+	 */
+	private int journalSync = 10;
+
+	/**
+	 * Name der Datei, in welche das Spiel regelmäßig im Hintergrund gespeichert werden soll.
+	 * <code>null</code>, falls nicht automatisch gespeichert werden soll.
+	 */
+	private String autosaveName = null;
+
+	/**
+	 * Nach wie vielen Millisekunden spätestens automatisch gespeichert werden soll, oder 0.
+	 */
+	private int autosaveInterval = 30000;
+
+	/**
+	 * Nach wie vielen Zügen spätestens automatisch gespeichert werden soll, oder 0.
+	 */
+	private int autosaveMoves = 10;
+
+	/**
+	 * Name des Archivs, in welchem alle Spiele gespeichert werden sollen. <code>null</code>, falls
+	 * die Spiele nicht archiviert werden sollen.
+	 */
+	private String archiveName = null;
+
+	/**
+	 * Name des Eröffnungsbuchs, welches die Computerspieler verwenden sollen oder welches erzeugt
+	 * werden soll. <code>null</code>, falls kein Eröffnungsbuch verwendet wird.
+	 */
+	private String bookName = null;
+
+	/**
+	 * Bis zu wie vielen Zügen das Eröffnungsbuch erzeugt und befragt wird.
+	 */
+	private int bookDepth = 12;
+
+	/**
+	 * Datei oder Verzeichnis mit aufgezeichneten Spielen, aus welchen das Eröffnungsbuch erzeugt
+	 * werden soll. <code>null</code>, falls kein Eröffnungsbuch erzeugt werden soll.
+	 */
+	private String bookSourceName = null;
+
+	/**
+	 * Datei, in welche die Züge aller Spiele spaltenweise exportiert werden. <code>null</code>,
+	 * falls nicht exportiert werden soll.
+	 */
+	private String exportName = null;
+
+	/**
+	 * Datei oder Verzeichnis mit aufgezeichneten Spielen, welche exportiert werden sollen.
+	 * <code>null</code>, falls keine aufgezeichneten Spiele exportiert werden sollen.
+	 */
+	private String exportSourceName = null;
+
+	/**
+	 * Datei oder Verzeichnis mit Spielständen, welche geprüft werden sollen. <code>null</code>,
+	 * falls keine Spielstände geprüft werden sollen.
+	 */
+	private String validateSourceName = null;
+
+	/**
+	 * Auf wie vielen Threads Spielstände geprüft werden.
+	 */
+	private int threads = Runtime.getRuntime().availableProcessors();
+
 	/**
 	 * Anzahl der Spiele, die gespielt werden sollen.
 	 */
@@ -94,11 +190,23 @@ public class GameParameters {
 	 */
 	private boolean loadGame = false;
 
+	/**
+	 * <code>true</code> falls ein Spielstand Zug für Zug durchgesehen werden soll, ohne ein Spiel
+	 * zu starten.
+	 */
+	private boolean review = false;
+
 	/**
 	 * Die Zeit in MS zwischen Zügen beim Replay eines geladenen Spielstands.
 	 */
 	private long replaySpeed = -1;
 
+	/**
+	 * Die Anzahl der Züge eines geladenen Spielstands, welche vor dem Replay ohne Verzögerung
+	 * hergestellt werden.
+	 */
+	private int replayFrom = 0;
+
 	/**
 	 * Erzeugt ein neues Objekt basierend auf den angegebenen Kommandozeilenparametern und
 	 * versucht, diese zu parsen.
@@ -126,6 +234,62 @@ public class GameParameters {
 			// Quiet-Schalter überprüfen
 			quiet = argumentParser.isSet("quiet");
 
+			// Bench-Schalter überprüfen
+			bench = argumentParser.isSet("bench");
+
+			// Ponder-Schalter überprüfen
+			ponder = argumentParser.isSet("ponder");
+
+			// Eröffnungsbuch-Einstellungen überprüfen
+			if (argumentParser.isSet("book")) {
+				bookName = argumentParser.getBook();
+			}
+
+			if (argumentParser.isSet("bookDepth")) {
+				bookDepth = argumentParser.getBookDepth();
+			}
+
+			// Soll ein Eröffnungsbuch erzeugt werden, wird kein Spiel gestartet.
+			if (argumentParser.isSet("buildBook")) {
+				bookSourceName = argumentParser.getBuildBook();
+				if (bookName == null) {
+					throw new ArgumentParserException("Für -buildBook fehlt -book.");
+				}
+				return;
+			}
+
+			if (argumentParser.isSet("export")) {
+				exportName = argumentParser.getExport();
+			}
+
+			// Sollen aufgezeichnete Spiele exportiert werden, wird kein Spiel gestartet.
+			if (argumentParser.isSet("exportFrom")) {
+				exportSourceName = argumentParser.getExportFrom();
+				if (exportName == null) {
+					throw new ArgumentParserException("Für -exportFrom fehlt -export.");
+				}
+				return;
+			}
+
+			// Sollen Spielstände geprüft werden, wird ebenfalls kein Spiel gestartet.
+			if (argumentParser.isSet("validate")) {
+				validateSourceName = argumentParser.getValidate();
+				if (argumentParser.isSet("threads")) {
+					threads = argumentParser.getThreads();
+					if (threads < 1) {
+						throw new ArgumentParserException("-threads muss mindestens 1 sein.");
+					}
+				}
+				return;
+			}
+
+			// Soll ein Spielstand durchgesehen werden, wird ebenfalls kein Spiel gestartet.
+			if (argumentParser.isSet("review")) {
+				saveGameName = argumentParser.getReview();
+				review = true;
+				return;
+			}
+
 			/*
 			 * Wenn ein Spieler im Netzwerk angeboten werden soll, werden die notwendigen
 			 * Einstellungen geparsed und
@@ -148,10 +312,50 @@ public class GameParameters {
 				numberOfGames = argumentParser.getNumberOfGames();
 			}
 
+			if (argumentParser.isSet("archive")) {
+				archiveName = argumentParser.getArchive();
+			}
+
 			if (argumentParser.isSet("delay")) {
 				delay = argumentParser.getDelay();
 			}
 
+			if (argumentParser.isSet("fps")) {
+				framesPerSecond = argumentParser.getFps();
+				if (framesPerSecond < 0) {
+					throw new ArgumentParserException("-fps darf nicht negativ sein.");
+				}
+			}
+
+			if (argumentParser.isSet("spectate")) {
+				spectatePort = argumentParser.getSpectatePort();
+			}
+
+			if (argumentParser.isSet("journal")) {
+				journalName = argumentParser.getJournal();
+			}
+
+			if (argumentParser.isSet("journalSync")) {
+				journalSync = argumentParser.getJournalSync();
+			}
+
+			if (argumentParser.isSet("autosave")) {
+				autosaveName = argumentParser.getAutosave();
+			}
+
+			if (argumentParser.isSet("autosaveInterval")) {
+				autosaveInterval = argumentParser.getAutosaveInterval();
+			}
+
+			if (argumentParser.isSet("autosaveMoves")) {
+				autosaveMoves = argumentParser.getAutosaveMoves();
+			}
+
+			if (autosaveInterval < 0 || autosaveMoves < 0) {
+				throw new ArgumentParserException(
+						"-autosaveInterval und -autosaveMoves dürfen nicht negativ sein.");
+			}
+
 			redType = argumentParser.getRed();
 			if (redType == PlayerType.REMOTE) {
 				redUrl = argumentParser.getRedUrl();
@@ -162,10 +366,19 @@ public class GameParameters {
 				blueUrl = argumentParser.getBlueUrl();
 			}
 
+			// Ohne Ausgabe kann kein menschlicher Spieler Züge eingeben.
+			if (bench && (redType == PlayerType.HUMAN || blueType == PlayerType.HUMAN)) {
+				throw new ArgumentParserException("--bench erlaubt keine menschlichen Spieler.");
+			}
+
 			if (argumentParser.isSet("replay")) {
 				replaySpeed = argumentParser.getReplay();
 			}
 
+			if (argumentParser.isSet("replayFrom")) {
+				replayFrom = argumentParser.getReplayFrom();
+			}
+
 			if (argumentParser.isSet("load")) {
 				saveGameName = argumentParser.getLoad();
 				loadGame = true;
@@ -355,6 +568,150 @@ public class GameParameters {
 		return quiet;
 	}
 
+	/**
+	 * Gibt {@link #bench} zurück.
+	 *
+	 * @return Wert von {@link #bench}
+	 */
+	boolean getBench() {
+		return bench;
+	}
+
+	/**
+	 * Gibt {@link #ponder} zurück.
+	 *
+	 * @return Wert von {@link #ponder}
+	 */
+	boolean getPonder() {
+		return ponder;
+	}
+
+	/**
+	 * Gibt {@link #spectatePort} zurück.
+	 *
+	 * @return Wert von {@link #spectatePort}
+	 */
+	int getSpectatePort() {
+		return spectatePort;
+	}
+
+	/**
+	 * Gibt {@link #journalName} zurück.
+	 *
+	 * @return Wert von {@link #journalName}
+	 */
+	String getJournalName() {
+		return journalName;
+	}
+
+	/**
+	 * Gibt {@link #journalSync} zurück.
+	 *
+	 * @return Wert von {@link #journalSync}
+	 */
+	int getJournalSync() {
+		return journalSync;
+	}
+
+	/**
+	 * Gibt {@link #autosaveName} zurück.
+	 *
+	 * @return Wert von {@link #autosaveName}
+	 */
+	String getAutosaveName() {
+		return autosaveName;
+	}
+
+	/**
+	 * Gibt {@link #autosaveInterval} zurück.
+	 *
+	 * @return Wert von {@link #autosaveInterval}
+	 */
+	int getAutosaveInterval() {
+		return autosaveInterval;
+	}
+
+	/**
+	 * Gibt {@link #autosaveMoves} zurück.
+	 *
+	 * @return Wert von {@link #autosaveMoves}
+	 */
+	int getAutosaveMoves() {
+		return autosaveMoves;
+	}
+
+	/**
+	 * Gibt {@link #archiveName} zurück.
+	 *
+	 * @return Wert von {@link #archiveName}
+	 */
+	String getArchiveName() {
+		return archiveName;
+	}
+
+	/**
+	 * Gibt {@link #bookName} zurück.
+	 *
+	 * @return Wert von {@link #bookName}
+	 */
+	String getBookName() {
+		return bookName;
+	}
+
+	/**
+	 * Gibt {@link #bookDepth} zurück.
+	 *
+	 * @return Wert von {@link #bookDepth}
+	 */
+	int getBookDepth() {
+		return bookDepth;
+	}
+
+	/**
+	 * Gibt {@link #bookSourceName} zurück.
+	 *
+	 * @return Wert von {@link #bookSourceName}
+	 */
+	String getBookSourceName() {
+		return bookSourceName;
+	}
+
+	/**
+	 * Gibt {@link #exportName} zurück.
+	 *
+	 * @return Wert von {@link #exportName}
+	 */
+	String getExportName() {
+		return exportName;
+	}
+
+	/**
+	 * Gibt {@link #exportSourceName} zurück.
+	 *
+	 * @return Wert von {@link #exportSourceName}
+	 */
+	String getExportSourceName() {
+		return exportSourceName;
+	}
+
+	/**
+	 * Gibt {@link #validateSourceName} zurück.
+	 *
+	 * @return Wert von {@link #validateSourceName}
+	 */
+	String getValidateSourceName() {
+		return validateSourceName;
+	}
+
+	/**
+	 * Gibt {@link #threads} zurück.
+	 *
+	 * @return Wert von {@link #threads}
+	 */
+	int getThreads() {
+		return threads;
+	}
+
 	/**
 	 * Gibt {@link #numberOfGames} zurück.
 	 *
@@ -382,6 +739,15 @@ public class GameParameters {
 		return replaySpeed;
 	}
 
+	/**
+	 * Gibt {@link #replayFrom} zurück.
+	 *
+	 * @return Wert von {@link #replayFrom}
+	 */
+	int getReplayFrom() {
+		return replayFrom;
+	}
+
 	/**
 	 * Gibt {@link #loadGame} zurück.
 	 *
@@ -390,4 +756,22 @@ public class GameParameters {
 	public boolean loadGame() {
 		return loadGame;
 	}
+
+	/**
+	 * Gibt {@link #framesPerSecond} zurück.
+	 *
+	 * @return Wert von {@link #framesPerSecond}
+	 */
+	int getFramesPerSecond() {
+		return framesPerSecond;
+	}
+
+	/**
+	 * Gibt {@link #review} zurück.
+	 *
+	 * @return Wert von {@link #review}
+	 */
+	boolean getReview() {
+		return review;
+	}
 }
@@ -1,12 +1,23 @@
 package flowerwarspp.main;
 
 import flowerwarspp.board.MainBoard;
+import flowerwarspp.main.savegame.AutoSave;
+import flowerwarspp.main.savegame.ColumnarExporter;
+import flowerwarspp.main.savegame.GameArchiveWriter;
 import flowerwarspp.main.savegame.LoadException;
+import flowerwarspp.main.savegame.ReplayEngine;
 import flowerwarspp.main.savegame.SaveGame;
+import flowerwarspp.main.savegame.SaveGameValidator;
+import flowerwarspp.main.savegame.ValidationResult;
+import flowerwarspp.main.spectator.GameEvent;
+import flowerwarspp.main.spectator.SocketSpectatorServer;
+import flowerwarspp.main.spectator.SpectatorBroadcast;
 import flowerwarspp.player.InteractivePlayer;
 import flowerwarspp.player.NetworkException;
 import flowerwarspp.player.Players;
 import flowerwarspp.player.RemotePlayer;
+import flowerwarspp.player.book.OpeningBook;
+import flowerwarspp.player.book.OpeningBookBuilder;
 import flowerwarspp.preset.*;
 import flowerwarspp.ui.DummyOutput;
 import flowerwarspp.ui.Output;
@@ -20,7 +31,12 @@ import flowerwarspp.util.log.LogModule;
 
 import javax.swing.*;
 import java.awt.*;
+import java.io.IOException;
+import java.nio.file.Paths;
 import java.rmi.RemoteException;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
 
 import static flowerwarspp.main.ExitCode.*;
 
@@ -73,6 +89,42 @@ public class Main {
 	 * Größe des Spielbretts.
 	 */
 	private static int boardSize;
+	/**
+	 * Verteilt die Züge der laufenden Spiele an alle angemeldeten Zuschauer.
+	 */
+	private static final SpectatorBroadcast spectators = new SpectatorBroadcast();
+	/**
+	 * Der Server, über welchen Zuschauer sich mit dem Netzwerk verbinden können, falls dies mit
+	 * <code>-spectate</code> verlangt worden ist.
+	 */
+	private static SocketSpectatorServer spectatorServer;
+	/**
+	 * Speichert das laufende Spiel regelmäßig im Hintergrund, falls dies mit
+	 * <code>-autosave</code> verlangt worden ist.
+	 */
+	private static AutoSave autoSave;
+	/**
+	 * Exportiert jeden Zug der laufenden Spiele, falls dies mit <code>-export</code> verlangt
+	 * worden ist, sonst <code>null</code>.
+	 */
+	private static ColumnarExporter exporter;
+
+	/**
+	 * Ob die Züge in {@link #saveGame} aufgezeichnet werden. Nur im Benchmark-Modus ohne
+	 * Archiv, Journal, automatische Sicherung und Zuschauer ist dies nicht der Fall.
+	 */
+	private static boolean recordMoves = true;
+
+	/**
+	 * Die Anzahl der in {@link #run()} ausgeführten Züge seit dem Start des Programms.
+	 */
+	private static long movesPlayed = 0;
+
+	/**
+	 * Das Spielbrett des ersten Spiels, welches in {@link #init()} auf einem eigenen Thread
+	 * erzeugt wird, während die Ausgabe aufgebaut wird, oder <code>null</code>.
+	 */
+	private static FutureTask<MainBoard> preparedBoard = null;
 
 	/**
 	 * Leerer privater Konstruktor zum Verhindern der Objektinitialisierung
@@ -88,9 +140,21 @@ public class Main {
 		System.out.println("flowerwarspp.main.Main (-offer <Spielertyp> -name <Name> " +
 				"[-offerUrl <URL>] [-port" +
 				" <Port>] | -size <Spielfeldgröße> -red <Spielertyp> " + "[-redUrl <URL>] -blue " +
-				"<Spielertyp> [-blueUrl <URL>]) [-delay <Verzögerung>] " +
-				"[-load <Spielstandname>] [-replay <Verzögerung>] " +
-				"[-games <Anzahl Spiele>] [--debug] [--text] [--quiet] [--help]");
+				"<Spielertyp> [-blueUrl <URL>]) [-delay <Verzögerung>] [-fps <Bildrate>] " +
+				"[-load <Spielstandname>] [-replay <Verzögerung> [-replayFrom <Zugnummer>]] " +
+				"[-spectate <Port>] " +
+				"[-journal <Dateiname>] [-journalSync <Anzahl Züge>] " +
+				"[-autosave <Dateiname> [-autosaveInterval <Intervall>] " +
+				"[-autosaveMoves <Anzahl Züge>]] " +
+				"[-games <Anzahl Spiele> [-archive <Dateiname>] [-export <Dateiname>]] " +
+				"[-book <Buchdatei> [-bookDepth <Anzahl Züge>]] " +
+				"[--ponder] [--bench] [--debug] [--text] [--quiet] [--help]");
+		System.out.println("flowerwarspp.main.Main -review <Spielstandname>");
+		System.out.println("flowerwarspp.main.Main -buildBook <Verzeichnis> -book <Buchdatei> " +
+				"[-bookDepth <Anzahl Züge>]");
+		System.out.println("flowerwarspp.main.Main -exportFrom <Verzeichnis> -export <Dateiname>");
+		System.out.println("flowerwarspp.main.Main -validate <Verzeichnis> " +
+				"[-threads <Anzahl Threads>]");
 		System.out.println();
 		System.out.println("Spielfeldgröße: Zahl zwischen 3 und 30");
 		System.out.println(
@@ -101,12 +165,55 @@ public class Main {
 				"Name:           Name, unter dem ein angebotener Spieler erreichbar sein soll.");
 		System.out.println(
 				"Port:           Port, unter dem ein angebotener Spieler erreichbar sein soll. Der" +
-						" Standardwert ist 1099.");
+						" Standardwert ist 1099. Bei -spectate der Port, an dem Zuschauer sich " +
+						"verbinden können.");
 		System.out.println("Verzögerung:    Zeit zwischen Zügen in Millisekunden.");
-		System.out.println("Spielstandname: Name des zu ladenden Spielstands, ohne Datei-Endung.");
+		System.out.println(
+				"Bildrate:       So oft pro Sekunde zeichnet die grafische Oberfläche den " +
+						"neuesten Stand, Zwischenstände werden übersprungen. Bei 0 (Standard) " +
+						"wird nach jedem Zug gezeichnet.");
+		System.out.println("Spielstandname: Name des zu ladenden Spielstands, ohne Datei-Endung. " +
+				"Mit -review wird er in der grafischen Oberfläche Zug für Zug vor- und " +
+				"zurückgeblättert, ohne ein Spiel zu starten.");
+		System.out.println(
+				"Zugnummer:      Das Replay beginnt nach so vielen Zügen, die vorherigen Züge " +
+						"werden sofort hergestellt.");
+		System.out.println(
+				"Dateiname:      Datei, an die jeder Zug sofort angehängt wird. Sie kann wie ein " +
+						"Spielstand geladen werden.");
+		System.out.println(
+				"Anzahl Züge:    Nach so vielen Zügen wird das Journal auf den Datenträger " +
+						"geschrieben. Der Standardwert ist 10, bei 0 erst am Spielende. Bei " +
+						"-autosaveMoves wird nach so vielen Zügen automatisch gespeichert, " +
+						"Standardwert 10.");
+		System.out.println(
+				"Intervall:      Nach so vielen Millisekunden wird mit -autosave spätestens " +
+						"gespeichert. Der Standardwert ist 30000, bei 0 nur nach Zügen.");
 		System.out.println(
 				"Anzahl Spiele:  Anzahl der Spiele, welche nacheinander ausgeführt werden sollen" +
 						".");
+		System.out.println(
+				"Archiv:         Mit -archive werden alle Spiele samt Ergebnis in einer Datei " +
+						"gespeichert. Mit -export werden die Züge aller Spiele spaltenweise " +
+						"für Analysewerkzeuge exportiert, mit -exportFrom alle Spielstände und " +
+						"Archive im Verzeichnis.");
+		System.out.println(
+				"Buchdatei:      Eröffnungsbuch, welches die Computerspieler in den ersten Zügen " +
+						"befragen. Mit -buildBook wird es aus allen Spielständen und Archiven im " +
+						"Verzeichnis erzeugt. -bookDepth gibt die Anzahl der Züge an, der " +
+						"Standardwert ist 12.");
+		System.out.println(
+				"Verzeichnis:    Mit -validate werden alle Spielstände und Archive im Verzeichnis " +
+						"parallel geprüft.");
+		System.out.println(
+				"Anzahl Threads: Auf so vielen Threads wird geprüft. Der Standardwert ist die " +
+						"Anzahl der Prozessoren.");
+		System.out.println(
+				"Ponder:         Computerspieler rechnen während des gegnerischen Zugs voraus. " +
+						"Optionale Flag (hat keine Argumente)");
+		System.out.println(
+				"Bench:          Die Spiele laufen ohne jede Ausgabe, am Ende wird das Ergebnis " +
+						"als JSON ausgegeben. Optionale Flag (hat keine Argumente)");
 		System.out.println(
 				"Debug:          Zeigt Debug-Information im Log an. Optionale Flag (hat keine " +
 						"Argumente)");
@@ -133,6 +240,13 @@ public class Main {
 	public static void main(String[] args) {
 		if ((args.length == 0) && (!GraphicsEnvironment.isHeadless())) {
 			SwingUtilities.invokeLater(StartupFrame::new);
+
+			// Während das Startmenü ausgefüllt wird, werden die Klassen des Spielbretts geladen und
+			// initialisiert, damit das erste Spiel schneller beginnt.
+			final Thread warmUp = new Thread(() -> new MainBoard(3), "WarmUp");
+			warmUp.setDaemon(true);
+			warmUp.setPriority(Thread.MIN_PRIORITY);
+			warmUp.start();
 		} else {
 			startNewGame(new GameParameters(args));
 		}
@@ -165,14 +279,33 @@ public class Main {
 			Log.setLogLevel(LogLevel.ERROR);
 		}
 
-		// Den Output gemäß der Kommandozeilenparameter initialisieren.
-		if (gameParameters.getText() || gameParameters.getQuiet() ||
-				gameParameters.getNumberOfGames() > 1) {
+		boardSize = gameParameters.getBoardSize();
+
+		// Das Spielbrett eines neuen Spiels wird erzeugt, während die Ausgabe aufgebaut wird.
+		// Auf großen Spielbrettern dauert das Erzeugen aller Züge ähnlich lange.
+		if (startsNewBoard()) {
+			final int size = boardSize;
+			preparedBoard = new FutureTask<>(() -> new MainBoard(size));
+			final Thread thread = new Thread(preparedBoard, "BoardPreparation");
+			thread.setDaemon(true);
+			thread.start();
+		}
+
+		// Den Output gemäß der Kommandozeilenparameter initialisieren. Im Benchmark-Modus wird
+		// keine Ausgabe erzeugt, da es keine menschlichen Spieler gibt.
+		if (gameParameters.getBench()) {
+			input = null;
+			output = new DummyOutput();
+		} else if (gameParameters.getText() || gameParameters.getQuiet() ||
+				gameParameters.getNumberOfGames() > 1 || gameParameters.getBookSourceName() != null ||
+				gameParameters.getValidateSourceName() != null ||
+				gameParameters.getExportSourceName() != null) {
 			final TextInterface textInterface = new TextInterface();
 			input = textInterface;
 			output = textInterface;
 		} else {
 			final BoardFrame boardFrame = BoardFrame.getInstance();
+			boardFrame.setFrameRate(gameParameters.getFramesPerSecond());
 			input = boardFrame;
 			output = boardFrame;
 		}
@@ -181,7 +314,77 @@ public class Main {
 			output = new DummyOutput();
 		}
 
-		boardSize = gameParameters.getBoardSize();
+		// Im Benchmark-Modus werden Züge nur aufgezeichnet, falls sie weiterverwendet werden.
+		recordMoves = !gameParameters.getBench() || gameParameters.getArchiveName() != null ||
+				gameParameters.getJournalName() != null ||
+				gameParameters.getAutosaveName() != null || gameParameters.getSpectatePort() > 0;
+
+		// Gegebenenfalls das Eröffnungsbuch für die Computerspieler laden.
+		if (gameParameters.getBookName() != null && gameParameters.getBookSourceName() == null) {
+			try {
+				Players.setOpeningBook(OpeningBook.open(gameParameters.getBookName()),
+						gameParameters.getBookDepth());
+			} catch (IOException e) {
+				Log.log(LogLevel.ERROR, LogModule.MAIN,
+						"Could not open opening book " + gameParameters.getBookName() + ": " +
+								e.getMessage());
+			}
+		}
+
+		// Beim Beenden des Programms wird das Journal vollständig auf den Datenträger geschrieben.
+		if (gameParameters.getJournalName() != null) {
+			Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+				if (saveGame != null) {
+					saveGame.closeJournal();
+				}
+			}));
+		}
+
+		/*
+		 * Gegebenenfalls wird das Spiel regelmäßig auf einem eigenen Thread gespeichert. Beim
+		 * Beenden des Programms werden noch nicht gespeicherte Züge gesichert.
+		 */
+		if (gameParameters.getAutosaveName() != null && autoSave == null) {
+			autoSave = new AutoSave(gameParameters.getAutosaveName(),
+					gameParameters.getAutosaveInterval(), gameParameters.getAutosaveMoves());
+			Runtime.getRuntime().addShutdownHook(new Thread(autoSave::close));
+		}
+
+		// Gegebenenfalls Zuschauer über das Netzwerk zulassen.
+		if (gameParameters.getSpectatePort() > 0 && spectatorServer == null) {
+			try {
+				spectatorServer =
+						new SocketSpectatorServer(gameParameters.getSpectatePort(), spectators);
+				spectatorServer.start();
+			} catch (IOException e) {
+				Log.log(LogLevel.ERROR, LogModule.MAIN,
+						"Could not accept spectators on port " + gameParameters.getSpectatePort() +
+								": " + e.getMessage());
+			}
+		}
+	}
+
+	/**
+	 * Gibt zurück, ob {@link #start()} ein Spiel auf einem neuen, leeren Spielbrett beginnt.
+	 *
+	 * @return <code>true</code>, falls ein neues Spielbrett benötigt wird
+	 */
+	private static boolean startsNewBoard() {
+		return gameParameters.getBookSourceName() == null &&
+				gameParameters.getExportSourceName() == null &&
+				gameParameters.getValidateSourceName() == null && !gameParameters.getReview() &&
+				gameParameters.getOfferType() == null && !gameParameters.loadGame() &&
+				boardSize > 0;
+	}
+
+	/**
+	 * Gibt die {@link SpectatorBroadcast} zurück, an welcher sich Zuschauer innerhalb des
+	 * Programms anmelden können, um die Züge aller gestarteten Spiele zu erhalten.
+	 *
+	 * @return Die {@link SpectatorBroadcast} des Hauptprogramms
+	 */
+	public static SpectatorBroadcast getSpectators() {
+		return spectators;
 	}
 
 	/**
@@ -195,13 +398,21 @@ public class Main {
 
 		try {
 
-			if (gameParameters.getOfferType() != null) {
+			if (gameParameters.getBookSourceName() != null) {
+				buildBook();
+			} else if (gameParameters.getExportSourceName() != null) {
+				exportGames();
+			} else if (gameParameters.getValidateSourceName() != null) {
+				validateSaveGames();
+			} else if (gameParameters.getReview()) {
+				review();
+			} else if (gameParameters.getOfferType() != null) {
 				offer();
 			} else if (gameParameters.loadGame()) {
 				loadGame();
 				run();
 				output.showEndMessage(Convert.statusToText(viewer.getStatus()), OK);
-			} else if (gameParameters.getNumberOfGames() > 1) {
+			} else if (gameParameters.getNumberOfGames() > 1 || gameParameters.getBench()) {
 				runGameWithStats();
 			} else {
 				initLocalGame();
@@ -225,10 +436,154 @@ public class Main {
 					"There was an error offering the player in the " + "network: " +
 							e.getMessage());
 			output.showEndMessage(OFFER_ERROR);
+		} catch (IOException e) {
+			Log.log(LogLevel.ERROR, LogModule.MAIN,
+					"There was an error reading or writing a file: " + e.getMessage());
+			output.showEndMessage(FILE_ERROR);
 		} catch (Exception e) {
 			Log.log(LogLevel.ERROR, LogModule.MAIN, "There was an error initialising the" +
 					" players.");
 			output.showEndMessage(PLAYER_INIT_ERROR);
+		} finally {
+			// Nach dem Ende des Spiels sollen etwa keine Heartbeats mehr gesendet werden.
+			Players.close(redPlayer);
+			Players.close(bluePlayer);
+		}
+	}
+
+	/**
+	 * Erzeugt aus allen Spielständen und Archiven in der angegebenen Datei oder dem angegebenen
+	 * Verzeichnis ein Eröffnungsbuch und beendet das Programm.
+	 */
+	private static void buildBook() {
+		Log.log(LogLevel.INFO, LogModule.MAIN,
+				"Building opening book from " + gameParameters.getBookSourceName());
+
+		final OpeningBookBuilder builder = new OpeningBookBuilder(gameParameters.getBookDepth());
+		final int files;
+		try {
+			files = builder.addAll(Paths.get(gameParameters.getBookSourceName()));
+			builder.write(gameParameters.getBookName());
+		} catch (IOException e) {
+			Log.log(LogLevel.ERROR, LogModule.MAIN,
+					"There was an error building the opening book: " + e.getMessage());
+			output.showEndMessage(BOOK_ERROR);
+			return;
+		}
+
+		output.showEndMessage("Eröffnungsbuch " + gameParameters.getBookName() + " mit " +
+				builder.getGames() + " Spielen aus " + files + " Dateien und " +
+				builder.getPositions() + " Stellungen erzeugt.", OK);
+	}
+
+	/**
+	 * Exportiert alle Spielstände und Archive in der angegebenen Datei oder dem angegebenen
+	 * Verzeichnis spaltenweise mit einem {@link ColumnarExporter} und beendet das Programm.
+	 *
+	 * @throws IOException
+	 * 		Falls das Verzeichnis nicht durchsucht oder die Exportdatei nicht geschrieben werden
+	 * 		konnte.
+	 */
+	private static void exportGames() throws IOException {
+		Log.log(LogLevel.INFO, LogModule.MAIN,
+				"Exporting games from " + gameParameters.getExportSourceName());
+
+		final int files;
+		exporter = new ColumnarExporter(gameParameters.getExportName());
+		try {
+			files = exporter.appendAll(Paths.get(gameParameters.getExportSourceName()));
+		} finally {
+			exporter.close();
+		}
+
+		output.showEndMessage(exporter.getGames() + " Spiele mit " + exporter.getRows() +
+				" Zügen aus " + files + " Dateien nach " + gameParameters.getExportName() +
+				" exportiert.", OK);
+	}
+
+	/**
+	 * Prüft alle Spielstände und Archive in der angegebenen Datei oder dem angegebenen Verzeichnis
+	 * parallel, gibt für jedes Spiel das Ergebnis und danach eine Zusammenfassung aus und beendet
+	 * das Programm.
+	 *
+	 * @throws InterruptedException
+	 * 		Falls der Thread während des Wartens auf die Prüfung unterbrochen wird.
+	 */
+	private static void validateSaveGames() throws InterruptedException {
+		Log.log(LogLevel.INFO, LogModule.MAIN, "Validating savegames in " +
+				gameParameters.getValidateSourceName() + " on " + gameParameters.getThreads() +
+				" thread(s)");
+
+		final long start = System.nanoTime();
+		final List<ValidationResult> results;
+		try {
+			results = new SaveGameValidator(gameParameters.getThreads())
+					.validateAll(Paths.get(gameParameters.getValidateSourceName()));
+		} catch (IOException e) {
+			Log.log(LogLevel.ERROR, LogModule.MAIN,
+					"Could not search " + gameParameters.getValidateSourceName() + ": " +
+							e.getMessage());
+			output.showEndMessage(VALIDATION_FAILED);
+			return;
+		}
+		final long elapsed = (System.nanoTime() - start) / 1000000;
+
+		int valid = 0, invalid = 0, unreadable = 0, unfinished = 0;
+		int redWins = 0, blueWins = 0, draws = 0;
+		long redPoints = 0, bluePoints = 0, moves = 0;
+		for (ValidationResult result : results) {
+			System.out.println(result);
+			if (!result.isReadable()) {
+				unreadable++;
+				continue;
+			}
+			if (!result.isValid()) {
+				invalid++;
+				continue;
+			}
+			valid++;
+			redPoints += result.getPoints(PlayerColor.Red);
+			bluePoints += result.getPoints(PlayerColor.Blue);
+			moves += result.getMoveCount();
+			switch (result.getStatus()) {
+				case RedWin:
+					redWins++;
+					break;
+				case BlueWin:
+					blueWins++;
+					break;
+				case Draw:
+					draws++;
+					break;
+				default:
+					unfinished++;
+			}
+		}
+
+		final int n = Math.max(1, valid);
+		System.out.println();
+		System.out.println("=======================================");
+		System.out.println("Alle Spielstände wurden geprüft. Ergebnisse:");
+		System.out.println("=======================================");
+		System.out.println();
+		System.out.println("Geprüfte Spiele: " + results.size() + " in " + elapsed + " ms");
+		System.out.println("Gültig: " + valid);
+		System.out.println("Ungültig: " + invalid);
+		System.out.println("Unlesbar: " + unreadable);
+		System.out.println("Nicht beendet: " + unfinished);
+		System.out.println();
+		System.out.println("Gewonnene Spiele (Rot): " + redWins);
+		System.out.println("Gewonnene Spiele (Blau): " + blueWins);
+		System.out.println("Unentschieden: " + draws);
+		System.out.println();
+		System.out.println("Durchschnittliche Punktezahl (Rot): " + (double) redPoints / n);
+		System.out.println("Durchschnittliche Punktezahl (Blau): " + (double) bluePoints / n);
+		System.out.println("Durchschnittliche Anzahl Züge: " + (double) moves / n);
+
+		if (invalid > 0 || unreadable > 0) {
+			output.showEndMessage(VALIDATION_FAILED);
+		} else {
+			output.showEndMessage("Alle " + valid + " Spiele sind gültig.", OK);
 		}
 	}
 
@@ -244,12 +599,36 @@ public class Main {
 		Log.log(LogLevel.INFO, LogModule.MAIN,
 				"Offering player " + gameParameters.getOfferType() + " on " + "the network.");
 
+		Players.setPondering(gameParameters.getPonder());
 		Player offeredPlayer = Players.createPlayer(gameParameters.getOfferType(), input,
 				gameParameters.getOfferUrl());
 		Players.offerPlayer(new RemotePlayer(offeredPlayer, output), gameParameters.getOfferName(),
 				gameParameters.getOfferPort());
 	}
 
+	/**
+	 * Lädt den angegebenen Spielstand und zeigt ihn in der grafischen Oberfläche zum Durchsehen
+	 * an. Mit einer {@link ReplayEngine} kann dort zu jedem Zug vor- und zurückgesprungen werden,
+	 * ein Spiel wird nicht gestartet.
+	 *
+	 * @throws LoadException
+	 * 		Falls beim Laden des Spielstands aus der Datei ein Fehler aufgetreten ist.
+	 */
+	private static void review() throws LoadException {
+		final SaveGame loadedSaveGame = SaveGame.load(gameParameters.getSaveGameName());
+		final ReplayEngine engine = new ReplayEngine(loadedSaveGame);
+		Log.log(LogLevel.INFO, LogModule.MAIN,
+				"Reviewing savegame " + gameParameters.getSaveGameName() + " with " +
+						engine.length() + " move(s)");
+
+		final BoardFrame boardFrame = BoardFrame.getInstance();
+		SwingUtilities.invokeLater(() -> {
+			boardFrame.setSaveGame(loadedSaveGame);
+			boardFrame.setViewer(engine.viewer());
+			boardFrame.showReplayControls(engine);
+		});
+	}
+
 	/**
 	 * Lädt den angegebenen Spielstand und startet mit diesen ein Spiel ab dem Punkt, an dem der
 	 * Spielstand gespeichert wurde.
@@ -278,15 +657,27 @@ public class Main {
 
 		boardSize = loadedSaveGame.getBoardSize();
 
-		initBoard();
+		/*
+		 * Die Züge bis zum Beginn des Replays, ohne Verzögerung alle Züge, werden auf einmal
+		 * ausgeführt. Dabei wird der nächstgelegene Schnappschuss im Spielstand verwendet.
+		 */
+		final int seekTo = gameParameters.getReplaySpeed() > 0 ?
+				Math.max(0, Math.min(gameParameters.getReplayFrom(), loadedSaveGame.size())) :
+				loadedSaveGame.size();
+		initBoard(loadedSaveGame.createBoard(seekTo));
+		int i = 0;
+		for (Move move : loadedSaveGame) {
+			if (i++ >= seekTo) {
+				break;
+			}
+			saveGame.add(move);
+		}
+		saveGame.copyCheckpoints(loadedSaveGame, seekTo);
+		output.setViewer(viewer);
 
-		// Das Replay des Spielstands wird nun ausgeführt.
-		if (gameParameters.getReplaySpeed() > 0) {
-			output.setViewer(viewer);
-			replay(loadedSaveGame);
-		} else {
+		// Das Replay der übrigen Züge des Spielstands wird nun ausgeführt.
+		if (seekTo < loadedSaveGame.size()) {
 			replay(loadedSaveGame);
-			output.setViewer(viewer);
 		}
 
 		Log.log(LogLevel.INFO, LogModule.MAIN,
@@ -308,10 +699,15 @@ public class Main {
 	 *
 	 * @throws InterruptedException
 	 * 		Falls während des Wartens zwischen Spielzügen der Thread unterbrochen worden ist.
+	 * @throws IOException
+	 * 		Falls ein Block des Exports nicht geschrieben werden konnte.
 	 */
-	private static Status run() throws InterruptedException {
+	private static Status run() throws InterruptedException, IOException {
 		Log.log(LogLevel.INFO, LogModule.MAIN, "Starting main game loop.");
 
+		// Die Meldungen in der Schleife werden nur zusammengesetzt, falls sie ausgegeben werden.
+		final boolean debug = gameParameters.getDebug();
+
 		// Wir benutzen in der internen Main-Loop Referenzen auf den roten und den blauen Spieler.
 		Player currentPlayer;
 		Player oppositePlayer;
@@ -323,8 +719,15 @@ public class Main {
 			oppositePlayer = redPlayer;
 		}
 
+		if (spectators.hasSpectators()) {
+			spectators.publish(GameEvent.start(boardSize, saveGame.size(), viewer.getStatus(),
+					viewer.getPoints(PlayerColor.Red), viewer.getPoints(PlayerColor.Blue)));
+		}
+
 		while (viewer.getStatus() == Status.Ok) {
-			Log.log(LogLevel.DEBUG, LogModule.MAIN, "Beginning game loop.");
+			if (debug) {
+				Log.log(LogLevel.DEBUG, LogModule.MAIN, "Beginning game loop.");
+			}
 
 			/*
 			 * Es wird versucht, vom aktuellen Spieler einen Zug zu erhalten. Schlägt dies fehl,
@@ -338,11 +741,15 @@ public class Main {
 			Move move = null;
 
 			try {
-				Log.log(LogLevel.DEBUG, LogModule.MAIN,
-						"Requesting move from player " + viewer.getTurn() + ".");
+				if (debug) {
+					Log.log(LogLevel.DEBUG, LogModule.MAIN,
+							"Requesting move from player " + viewer.getTurn() + ".");
+				}
 				move = currentPlayer.request();
-				Log.log(LogLevel.DEBUG, LogModule.MAIN,
-						"Player " + viewer.getTurn() + " returned move " + move);
+				if (debug) {
+					Log.log(LogLevel.DEBUG, LogModule.MAIN,
+							"Player " + viewer.getTurn() + " returned move " + move);
+				}
 			} catch (RemoteException e) {
 				output.showEndMessage(CONNECTION_LOST);
 				return null;
@@ -351,17 +758,39 @@ public class Main {
 				return null;
 			}
 
-			long endTime = System.currentTimeMillis();
-			Thread.sleep(Math.max(0, gameParameters.getDelay() - (endTime - startTime)));
+			if (gameParameters.getDelay() > 0) {
+				long endTime = System.currentTimeMillis();
+				Thread.sleep(Math.max(0, gameParameters.getDelay() - (endTime - startTime)));
+			}
 
 			/*
 			 * Der vom aktuellen Spieler übergebene Zug wird auf dem Spielbrett ausgeführt und dem
 			 * eigenem saveGame-
 			 * Objekt mitgeteilt.
 			 */
-			Log.log(LogLevel.DEBUG, LogModule.MAIN, "Making move on main board.");
+			if (debug) {
+				Log.log(LogLevel.DEBUG, LogModule.MAIN, "Making move on main board.");
+			}
+			final PlayerColor movingPlayer = viewer.getTurn();
 			board.make(move);
-			saveGame.add(move);
+			movesPlayed++;
+			if (recordMoves) {
+				saveGame.add(move);
+				addCheckpointIfDue();
+			}
+			if (autoSave != null) {
+				autoSave.moveMade();
+			}
+			if (exporter != null) {
+				exporter.add(boardSize, move, viewer);
+			}
+
+			// Den Zuschauern wird der Zug mitgeteilt, ohne auf sie zu warten.
+			if (spectators.hasSpectators()) {
+				spectators.publish(GameEvent.move(boardSize, saveGame.size(), movingPlayer, move,
+						viewer.getStatus(), viewer.getPoints(PlayerColor.Red),
+						viewer.getPoints(PlayerColor.Blue)));
+			}
 
 			try {
 				/*
@@ -369,11 +798,15 @@ public class Main {
 				 * Spielbretts des Hauptprogramms
 				 * und der Status des Spielbretts des aktuellen Spielers mit confirm verglichen.
 				 */
-				Log.log(LogLevel.DEBUG, LogModule.MAIN, "Confirming status.");
+				if (debug) {
+					Log.log(LogLevel.DEBUG, LogModule.MAIN, "Confirming status.");
+				}
 				currentPlayer.confirm(viewer.getStatus());
 				// Dem Gegner werden Zug des aktuellen Spielers und Status des Spielbretts mit
 				// update mitgeteilt.
-				Log.log(LogLevel.DEBUG, LogModule.MAIN, "Updating opposite player.");
+				if (debug) {
+					Log.log(LogLevel.DEBUG, LogModule.MAIN, "Updating opposite player.");
+				}
 				oppositePlayer.update(move, viewer.getStatus());
 			} catch (RemoteException e) {
 				output.showEndMessage(CONNECTION_LOST);
@@ -384,7 +817,9 @@ public class Main {
 			}
 
 			// Das Output-Objekt wirds aktualisiert um den ausgeführten Zug anzuzeigen.
-			Log.log(LogLevel.DEBUG, LogModule.MAIN, "Refreshing output.");
+			if (debug) {
+				Log.log(LogLevel.DEBUG, LogModule.MAIN, "Refreshing output.");
+			}
 			output.refresh();
 
 			// Abschließend werden die Spieler vertauscht und gewartet, falls gefordert.
@@ -401,7 +836,8 @@ public class Main {
 	/**
 	 * Startet die auf der Kommandezeile verlangte Anzahl von Spielen hintereinander und speichert
 	 * die Anzahl der Siege beider Spieler und der Unentschieden, sowie der durchschnittlichen
-	 * Anzahl von Punkten beider Spieler nach Ende eines Spiels.
+	 * Anzahl von Punkten beider Spieler nach Ende eines Spiels. Im Benchmark-Modus wird während
+	 * der Spiele nichts ausgegeben und am Ende nur das Ergebnis als JSON-Objekt in einer Zeile.
 	 *
 	 * @throws Exception
 	 * 		Falls während der Initialisierung der Spieler oder während des Spielverlaufs Fehler
@@ -417,11 +853,28 @@ public class Main {
 		int blueWins = 0;
 		int bluePoints = 0;
 		int draws = 0;
+		final boolean bench = gameParameters.getBench();
+		final long movesBefore = movesPlayed;
+		final long startTime = System.nanoTime();
 
 		createPlayers();
 
+		/*
+		 * Falls verlangt, wird jedes Spiel an ein Archiv angehängt. Wird das Programm vorzeitig
+		 * beendet, bleiben die bis dahin geschriebenen Spiele lesbar.
+		 */
+		GameArchiveWriter archive = null;
+		if (gameParameters.getArchiveName() != null) {
+			archive = new GameArchiveWriter(gameParameters.getArchiveName());
+		}
+		if (gameParameters.getExportName() != null) {
+			exporter = new ColumnarExporter(gameParameters.getExportName());
+		}
+
 		for (int i = 0; i < n; i++) {
-			System.out.println("Spiel " + (i + 1) + " von " + n + " wird gestartet...");
+			if (!bench) {
+				System.out.println("Spiel " + (i + 1) + " von " + n + " wird gestartet...");
+			}
 
 			initBoard();
 			initPlayers();
@@ -462,14 +915,49 @@ public class Main {
 				bluePoints += viewer.getPoints(PlayerColor.Red);
 			}
 
-			System.out.println(Convert.statusToText(viewer.getStatus()));
-			System.out.println("Wechsle die Seiten...");
+			if (archive != null) {
+				// Wegen Seitenwechsel spielt in ungeraden Spielen der blaue Spielertyp rot.
+				archive.append(saveGame,
+						i % 2 == 0 ? gameParameters.getRedType() : gameParameters.getBlueType(),
+						i % 2 == 0 ? gameParameters.getBlueType() : gameParameters.getRedType(),
+						runStatus, viewer.getPoints(PlayerColor.Red),
+						viewer.getPoints(PlayerColor.Blue));
+			}
+			if (exporter != null) {
+				exporter.endGame();
+			}
+
+			if (!bench) {
+				System.out.println(Convert.statusToText(viewer.getStatus()));
+				System.out.println("Wechsle die Seiten...");
+			}
 			// Spieler tauschen die Seiten
 			Player t = redPlayer;
 			redPlayer = bluePlayer;
 			bluePlayer = t;
 		}
 
+		if (archive != null) {
+			archive.close();
+		}
+		if (exporter != null) {
+			exporter.close();
+			exporter = null;
+		}
+
+		if (bench) {
+			final long moves = movesPlayed - movesBefore;
+			final double seconds = (System.nanoTime() - startTime) / 1e9;
+			System.out.println("{\"games\":" + n + ",\"size\":" + boardSize + ",\"red\":\"" +
+					gameParameters.getRedType() + "\",\"blue\":\"" + gameParameters.getBlueType() +
+					"\",\"redWins\":" + redWins + ",\"blueWins\":" + blueWins + ",\"draws\":" +
+					draws + ",\"redAveragePoints\":" + (double) redPoints / n +
+					",\"blueAveragePoints\":" + (double) bluePoints / n + ",\"moves\":" + moves +
+					",\"seconds\":" + seconds + ",\"gamesPerSecond\":" + n / seconds +
+					",\"movesPerSecond\":" + moves / seconds + "}");
+			return;
+		}
+
 		System.out.println();
 		System.out.println("=======================================");
 		System.out.println("Alle Spiele wurden beendet. Ergebnisse:");
@@ -505,14 +993,60 @@ public class Main {
 
 	/**
 	 * Initialisiert das Spielbrett.
+	 *
+	 * @throws InterruptedException
+	 * 		Falls der Thread beim Warten auf das in {@link #init()} erzeugte Spielbrett
+	 * 		unterbrochen wird
+	 */
+	private static void initBoard() throws InterruptedException {
+		// Eine neues Spielbrett wird mit der gegebenen Größe initialisiert. Wurde es bereits in
+		// init() erzeugt, wird darauf gewartet.
+		final FutureTask<MainBoard> prepared = preparedBoard;
+		preparedBoard = null;
+		if (prepared != null) {
+			try {
+				initBoard(prepared.get());
+				return;
+			} catch (ExecutionException e) {
+				Log.log(LogLevel.ERROR, LogModule.MAIN,
+						"Could not prepare the main board: " + e.getCause());
+			}
+		}
+		initBoard(new MainBoard(boardSize));
+	}
+
+	/**
+	 * Initialisiert das Spielbrett mit einem bereits erzeugten {@link MainBoard}.
+	 *
+	 * @param initialBoard
+	 * 		Das zu verwendende Spielbrett
 	 */
-	private static void initBoard() {
-		// Eine neues Spielbrett wird mit der gegebenen Größe initialisiert.
-		board = new MainBoard(boardSize);
+	private static void initBoard(MainBoard initialBoard) {
+		board = initialBoard;
 		viewer = board.viewer();
 
+		// Das Journal eines vorherigen Spiels wird geschlossen.
+		if (saveGame != null) {
+			saveGame.closeJournal();
+		}
+
 		// Zum Speichern des Spiels wird ein neues Objekt der Klasse saveGame erstellt.
 		saveGame = new SaveGame(boardSize);
+		if (autoSave != null) {
+			autoSave.setSaveGame(saveGame);
+		}
+
+		// Falls verlangt, wird jeder Zug sofort an das Journal angehängt.
+		if (gameParameters.getJournalName() != null) {
+			try {
+				saveGame.startJournal(gameParameters.getJournalName(),
+						gameParameters.getJournalSync());
+			} catch (IOException e) {
+				Log.log(LogLevel.ERROR, LogModule.MAIN,
+						"Could not start journal " + gameParameters.getJournalName() + ": " +
+								e.getMessage());
+			}
+		}
 
 		Log.log(LogLevel.INFO, LogModule.MAIN, "Initialized main board.");
 	}
@@ -538,9 +1072,15 @@ public class Main {
 		 * werden jeweils auf dem
 		 * Spielbrett ausgeführt.
 		 */
+		int i = 0;
 		for (Move move : loadedSaveGame) {
+			// Die bereits hergestellten Züge werden übersprungen.
+			if (i++ < saveGame.size()) {
+				continue;
+			}
 			board.make(move);
 			saveGame.add(move);
+			addCheckpointIfDue();
 			if (gameParameters.getReplaySpeed() > 0) {
 				output.refresh();
 				Thread.sleep(gameParameters.getReplaySpeed());
@@ -548,6 +1088,17 @@ public class Main {
 		}
 	}
 
+	/**
+	 * Speichert nach jeweils {@link SaveGame#CHECKPOINT_INTERVAL} Zügen einen Schnappschuss des
+	 * Spielbretts in {@link #saveGame}, solange das Spiel noch läuft.
+	 */
+	private static void addCheckpointIfDue() {
+		if (saveGame.size() % SaveGame.CHECKPOINT_INTERVAL == 0 &&
+				viewer.getStatus() == Status.Ok) {
+			saveGame.addCheckpoint(saveGame.size(), board.checkpoint());
+		}
+	}
+
 	/**
 	 * Initialisiert die Spieler.
 	 *
@@ -555,6 +1106,8 @@ public class Main {
 	 * 		Falls an der gegebenen URL kein entfernter Spieler gefunden werden konnte.
 	 */
 	private static void createPlayers() throws NetworkException {
+		Players.setPondering(gameParameters.getPonder());
+
 		// Roter und blauer Spieler werden auf Grundlage der Kommandozeilenparameter erstellt.
 		if (board == null) {
 			redPlayer = Players.createPlayer(gameParameters.getRedType(), input,
@@ -563,9 +1116,9 @@ public class Main {
 					gameParameters.getBlueUrl());
 		} else {
 			redPlayer = Players.createPlayer(gameParameters.getRedType(), input,
-					gameParameters.getRedUrl(), new MainBoard(board));
+					gameParameters.getRedUrl(), new MainBoard(board), saveGame);
 			bluePlayer = Players.createPlayer(gameParameters.getBlueType(), input,
-					gameParameters.getBlueUrl(), new MainBoard(board));
+					gameParameters.getBlueUrl(), new MainBoard(board), saveGame);
 		}
 
 		Log.log(LogLevel.INFO, LogModule.MAIN, "Players created.");
@@ -0,0 +1,127 @@
+package flowerwarspp.main.savegame;
+
+import flowerwarspp.preset.PlayerColor;
+import flowerwarspp.preset.PlayerType;
+import flowerwarspp.preset.Status;
+
+/**
+ * Ein in einem {@link GameArchive} gespeichertes Spiel, bestehend aus seinen Zügen als {@link
+ * SaveGame} und den Metadaten des Spiels: den {@link PlayerType}s beider Spieler, dem {@link
+ * Status} am Ende des Spiels und den Punkteständen.
+ */
+public class ArchivedGame {
+	/**
+	 * Die Nummer des Spiels im Archiv, beginnend mit 0.
+	 */
+	private final int number;
+
+	/**
+	 * Die Züge des Spiels.
+	 */
+	private final SaveGame saveGame;
+
+	/**
+	 * {@link PlayerType} des roten Spielers, oder <code>null</code> falls unbekannt.
+	 */
+	private final PlayerType redType;
+
+	/**
+	 * {@link PlayerType} des blauen Spielers, oder <code>null</code> falls unbekannt.
+	 */
+	private final PlayerType blueType;
+
+	/**
+	 * Der {@link Status} des Spielbretts am Ende des Spiels.
+	 */
+	private final Status status;
+
+	/**
+	 * Punktestand des roten Spielers am Ende des Spiels.
+	 */
+	private final int redPoints;
+
+	/**
+	 * Punktestand des blauen Spielers am Ende des Spiels.
+	 */
+	private final int bluePoints;
+
+	/**
+	 * Erzeugt ein neues archiviertes Spiel.
+	 *
+	 * @param number
+	 * 		Die Nummer des Spiels im Archiv
+	 * @param saveGame
+	 * 		Die Züge des Spiels
+	 * @param redType
+	 * 		{@link PlayerType} des roten Spielers
+	 * @param blueType
+	 * 		{@link PlayerType} des blauen Spielers
+	 * @param status
+	 * 		Der {@link Status} am Ende des Spiels
+	 * @param redPoints
+	 * 		Punktestand des roten Spielers
+	 * @param bluePoints
+	 * 		Punktestand des blauen Spielers
+	 */
+	ArchivedGame(int number, SaveGame saveGame, PlayerType redType, PlayerType blueType,
+	             Status status, int redPoints, int bluePoints) {
+		this.number = number;
+		this.saveGame = saveGame;
+		this.redType = redType;
+		this.blueType = blueType;
+		this.status = status;
+		this.redPoints = redPoints;
+		this.bluePoints = bluePoints;
+	}
+
+	/**
+	 * Gibt {@link #number} zurück.
+	 *
+	 * @return Wert von {@link #number}
+	 */
+	public int getNumber() {
+		return number;
+	}
+
+	/**
+	 * Gibt {@link #saveGame} zurück.
+	 *
+	 * @return Wert von {@link #saveGame}
+	 */
+	public SaveGame getSaveGame() {
+		return saveGame;
+	}
+
+	/**
+	 * Gibt den {@link PlayerType} des Spielers der gegebenen Farbe zurück.
+	 *
+	 * @param color
+	 * 		Die Farbe des Spielers
+	 *
+	 * @return {@link PlayerType} des Spielers, oder <code>null</code> falls unbekannt
+	 */
+	public PlayerType getPlayerType(PlayerColor color) {
+		return color == PlayerColor.Red ? redType : blueType;
+	}
+
+	/**
+	 * Gibt {@link #status} zurück.
+	 *
+	 * @return Wert von {@link #status}
+	 */
+	public Status getStatus() {
+		return status;
+	}
+
+	/**
+	 * Gibt den Punktestand des Spielers der gegebenen Farbe am Ende des Spiels zurück.
+	 *
+	 * @param color
+	 * 		Die Farbe des Spielers
+	 *
+	 * @return Punktestand des Spielers
+	 */
+	public int getPoints(PlayerColor color) {
+		return color == PlayerColor.Red ? redPoints : bluePoints;
+	}
+}
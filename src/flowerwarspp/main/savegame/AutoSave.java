@@ -0,0 +1,196 @@
+package flowerwarspp.main.savegame;
+
+import flowerwarspp.util.log.Log;
+import flowerwarspp.util.log.LogLevel;
+import flowerwarspp.util.log.LogModule;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Speichert einen {@link SaveGame} regelmäßig auf einem eigenen Thread, ohne das Spiel dabei
+ * aufzuhalten. Gespeichert wird nach einer festen Zeit oder nach einer festen Anzahl an Zügen,
+ * jeweils nur falls seit dem letzten Speichern Züge hinzugekommen sind.
+ * <p>
+ * Zum Speichern wird mit {@link SaveGame#snapshot()} ein unveränderlicher Stand erzeugt, was
+ * unabhängig von der Anzahl der Züge schnell geht. Nur dieser Stand wird geschrieben, zunächst in
+ * eine temporäre Datei, welche dann die vorherige Sicherung ersetzt. Eine Sicherung ist daher
+ * auch nach einem Absturz während des Speicherns vollständig.
+ * <p>
+ * {@link #moveMade()} wird vom Spiel nach jedem Zug aufgerufen und wartet nie auf den Thread.
+ */
+public class AutoSave implements Closeable {
+	/**
+	 * Name der Datei, in welche gespeichert wird. Endet er auf {@link SaveGame#BINARY_EXTENSION},
+	 * wird im Binärformat gespeichert.
+	 */
+	private final String fileName;
+
+	/**
+	 * Nach wie vielen Millisekunden spätestens gespeichert wird, oder 0.
+	 */
+	private final long interval;
+
+	/**
+	 * Nach wie vielen Zügen spätestens gespeichert wird, oder 0.
+	 */
+	private final int moveInterval;
+
+	/**
+	 * Der Thread, welcher speichert.
+	 */
+	private final Thread thread;
+
+	/**
+	 * Die Anzahl der Züge seit dem letzten Speichern.
+	 */
+	private final AtomicInteger pendingMoves = new AtomicInteger();
+
+	/**
+	 * Der zu speichernde Spielstand, oder <code>null</code> solange es keinen gibt.
+	 */
+	private volatile SaveGame saveGame = null;
+
+	/**
+	 * Ob {@link #close()} aufgerufen worden ist.
+	 */
+	private volatile boolean closed = false;
+
+	/**
+	 * Der zuletzt gespeicherte Spielstand. Wird nur von {@link #thread} verwendet.
+	 */
+	private SaveGame savedGame = null;
+
+	/**
+	 * Die Anzahl der Züge von {@link #savedGame} beim letzten Speichern. Wird nur von {@link
+	 * #thread} verwendet.
+	 */
+	private int savedMoves = -1;
+
+	/**
+	 * Erzeugt eine neue automatische Sicherung und startet den Thread, welcher speichert.
+	 *
+	 * @param fileName
+	 * 		Name der Datei, in welche gespeichert wird
+	 * @param interval
+	 * 		Nach wie vielen Millisekunden spätestens gespeichert wird, oder 0
+	 * @param moveInterval
+	 * 		Nach wie vielen Zügen spätestens gespeichert wird, oder 0
+	 */
+	public AutoSave(String fileName, long interval, int moveInterval) {
+		this.fileName = fileName;
+		this.interval = interval;
+		this.moveInterval = moveInterval;
+
+		thread = new Thread(this::run, "AutoSave");
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	/**
+	 * Setzt den zu speichernden Spielstand, etwa zu Beginn eines neuen Spiels.
+	 *
+	 * @param saveGame
+	 * 		Der zu speichernde Spielstand
+	 */
+	public void setSaveGame(SaveGame saveGame) {
+		this.saveGame = saveGame;
+		pendingMoves.set(0);
+	}
+
+	/**
+	 * Teilt mit, dass dem Spielstand ein Zug hinzugefügt wurde. Ist die Anzahl der Züge für das
+	 * nächste Speichern erreicht, wird der Thread geweckt.
+	 */
+	public void moveMade() {
+		if (moveInterval > 0 && pendingMoves.incrementAndGet() == moveInterval) {
+			LockSupport.unpark(thread);
+		}
+	}
+
+	/**
+	 * Beendet den Thread, nachdem er noch nicht gespeicherte Züge ein letztes Mal gespeichert
+	 * hat.
+	 */
+	@Override
+	public void close() {
+		closed = true;
+		LockSupport.unpark(thread);
+		try {
+			thread.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Die Schleife des Threads: Wartet, bis gespeichert werden soll, und speichert.
+	 */
+	private void run() {
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(interval);
+		while (!closed) {
+			final long remaining = deadline - System.nanoTime();
+			final boolean due = (interval > 0 && remaining <= 0) ||
+					(moveInterval > 0 && pendingMoves.get() >= moveInterval);
+			if (!due) {
+				// Ohne Zeitintervall wird nur durch moveMade() oder close() geweckt.
+				if (interval > 0) {
+					LockSupport.parkNanos(this, remaining);
+				} else {
+					LockSupport.park(this);
+				}
+				continue;
+			}
+
+			save();
+			deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(interval);
+		}
+		save();
+	}
+
+	/**
+	 * Speichert einen Stand des Spielstands, falls seit dem letzten Speichern Züge hinzugekommen
+	 * sind. Fehler werden nur protokolliert, damit das Spiel weiterlaufen kann.
+	 */
+	private void save() {
+		final SaveGame current = saveGame;
+		if (current == null) {
+			return;
+		}
+		pendingMoves.set(0);
+		final SaveGame snapshot = current.snapshot();
+		if (current == savedGame && snapshot.size() == savedMoves) {
+			return;
+		}
+
+		final Path target = Paths.get(fileName);
+		final Path temporary = Paths.get(fileName + ".tmp");
+		try {
+			if (fileName.endsWith(SaveGame.BINARY_EXTENSION)) {
+				snapshot.saveBinary(temporary.toString());
+			} else {
+				snapshot.save(temporary.toString());
+			}
+			try {
+				Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING,
+						StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING);
+			}
+			savedGame = current;
+			savedMoves = snapshot.size();
+			Log.log(LogLevel.DEBUG, LogModule.MAIN,
+					"Autosaved " + savedMoves + " move(s) to " + fileName);
+		} catch (IOException e) {
+			Log.log(LogLevel.ERROR, LogModule.MAIN, "Autosave failed: " + e.getMessage());
+		}
+	}
+}
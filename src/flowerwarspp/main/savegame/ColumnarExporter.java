@@ -0,0 +1,455 @@
+package flowerwarspp.main.savegame;
+
+import flowerwarspp.board.MainBoard;
+import flowerwarspp.preset.Move;
+import flowerwarspp.preset.MoveType;
+import flowerwarspp.preset.PlayerColor;
+import flowerwarspp.preset.Status;
+import flowerwarspp.preset.Viewer;
+import flowerwarspp.util.MoveCodec;
+import flowerwarspp.util.log.Log;
+import flowerwarspp.util.log.LogLevel;
+import flowerwarspp.util.log.LogModule;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Exportiert die Züge vieler Spiele spaltenweise in eine Datei, damit sie von Analysewerkzeugen
+ * ohne Parsen direkt als Arrays eingelesen werden können. Jeder Zug ist eine Zeile mit den
+ * Spalten aus {@link #COLUMN_WIDTHS}.
+ * <p>
+ * Die Datei beginnt mit einem Kopf aus der Kennung "FWCX", der Formatversion, der Anzahl der
+ * Zeilen pro Block, der Anzahl der Blöcke, der Anzahl der Zeilen im letzten Block, der Anzahl
+ * der Spiele und der Anzahl der Zeilen. Danach folgen die Blöcke. Jeder Block enthält
+ * nacheinander die Spalten als Arrays mit je {@link #CHUNK_ROWS} Einträgen, nur der letzte Block
+ * ist kürzer und enthält so viele Einträge, wie im Kopf angegeben. Die Position jeder Spalte in
+ * der Datei kann daher allein aus dem Kopf berechnet werden. Alle Werte sind im Format
+ * Little-Endian gespeichert.
+ * <p>
+ * Die Spalten sind:
+ * <ol>
+ * <li>Nummer des Spiels in der Datei (int)</li>
+ * <li>Nummer des Zugs im Spiel, beginnend mit 1 (short)</li>
+ * <li>Größe des Spielbretts (byte)</li>
+ * <li>{@link MoveType} als Ordinalzahl (byte)</li>
+ * <li>Erste {@link flowerwarspp.preset.Flower} mit {@link MoveCodec} kodiert, oder -1 (short)</li>
+ * <li>Zweite {@link flowerwarspp.preset.Flower} mit {@link MoveCodec} kodiert, oder -1
+ * (short)</li>
+ * <li>{@link flowerwarspp.preset.Ditch} mit {@link MoveCodec} kodiert, oder -1 (short)</li>
+ * <li>Punktestand des roten Spielers nach dem Zug (short)</li>
+ * <li>Punktestand des blauen Spielers nach dem Zug (short)</li>
+ * <li>{@link Status} nach dem Zug als Ordinalzahl (byte)</li>
+ * </ol>
+ * <p>
+ * Während eines Spiels wird jeder Zug mit {@link #add(int, Move, Viewer)} hinzugefügt, sodass
+ * Punktestände und Status dem Spielbrett entnommen werden, auf welchem gespielt wird. Wie beim
+ * {@link GameArchiveWriter} wird jeder volle Block sofort geschrieben, der Kopf wird erst beim
+ * Schließen vervollständigt.
+ */
+public class ColumnarExporter implements Closeable {
+	/**
+	 * Die Kennung am Anfang einer Exportdatei, "FWCX" in ASCII.
+	 */
+	static final int MAGIC = 0x46574358;
+
+	/**
+	 * Die Version des Formats.
+	 */
+	static final short VERSION = 2;
+
+	/**
+	 * Die Größe des Kopfes in Byte: Kennung, Version, reserviert, Zeilen pro Block, Anzahl der
+	 * Blöcke, Zeilen im letzten Block, Anzahl der Spiele und Anzahl der Zeilen.
+	 */
+	static final int HEADER_SIZE = 32;
+
+	/**
+	 * Die Anzahl der Zeilen pro Block.
+	 */
+	public static final int CHUNK_ROWS = 1 << 16;
+
+	/**
+	 * Die Breite jeder Spalte in Byte, in der Reihenfolge der Spalten.
+	 */
+	public static final int[] COLUMN_WIDTHS = {4, 2, 1, 1, 2, 2, 2, 2, 2, 1};
+
+	/**
+	 * Die Größe einer Zeile in Byte.
+	 */
+	public static final int ROW_SIZE = Arrays.stream(COLUMN_WIDTHS).sum();
+
+	/**
+	 * Die Größe eines vollen Blocks in Byte.
+	 */
+	public static final int CHUNK_SIZE = CHUNK_ROWS * ROW_SIZE;
+
+	/**
+	 * Der Kanal, in welchen die Datei geschrieben wird.
+	 */
+	private final FileChannel channel;
+
+	/**
+	 * Spalte des aktuellen Blocks: Nummer des Spiels.
+	 */
+	private final int[] games = new int[CHUNK_ROWS];
+
+	/**
+	 * Spalte des aktuellen Blocks: Nummer des Zugs.
+	 */
+	private final short[] plies = new short[CHUNK_ROWS];
+
+	/**
+	 * Spalte des aktuellen Blocks: Größe des Spielbretts.
+	 */
+	private final byte[] sizes = new byte[CHUNK_ROWS];
+
+	/**
+	 * Spalte des aktuellen Blocks: {@link MoveType}.
+	 */
+	private final byte[] types = new byte[CHUNK_ROWS];
+
+	/**
+	 * Spalte des aktuellen Blocks: Erste Blume.
+	 */
+	private final short[] firstFlowers = new short[CHUNK_ROWS];
+
+	/**
+	 * Spalte des aktuellen Blocks: Zweite Blume.
+	 */
+	private final short[] secondFlowers = new short[CHUNK_ROWS];
+
+	/**
+	 * Spalte des aktuellen Blocks: Graben.
+	 */
+	private final short[] ditches = new short[CHUNK_ROWS];
+
+	/**
+	 * Spalte des aktuellen Blocks: Punktestand des roten Spielers.
+	 */
+	private final short[] redPoints = new short[CHUNK_ROWS];
+
+	/**
+	 * Spalte des aktuellen Blocks: Punktestand des blauen Spielers.
+	 */
+	private final short[] bluePoints = new short[CHUNK_ROWS];
+
+	/**
+	 * Spalte des aktuellen Blocks: {@link Status}.
+	 */
+	private final byte[] statuses = new byte[CHUNK_ROWS];
+
+	/**
+	 * Die Anzahl der Zeilen im aktuellen Block.
+	 */
+	private int chunkRows = 0;
+
+	/**
+	 * Die Anzahl der bereits geschriebenen Blöcke.
+	 */
+	private int chunks = 0;
+
+	/**
+	 * Die Anzahl der Zeilen im zuletzt geschriebenen Block.
+	 */
+	private int lastChunkRows = 0;
+
+	/**
+	 * Die Anzahl der bisher exportierten Spiele.
+	 */
+	private int gameCount = 0;
+
+	/**
+	 * Die Anzahl der bisher exportierten Züge des aktuellen Spiels.
+	 */
+	private int gamePlies = 0;
+
+	/**
+	 * Die Anzahl der bisher exportierten Zeilen.
+	 */
+	private long rowCount = 0;
+
+	/**
+	 * Erzeugt eine neue, leere Exportdatei. Eine bestehende Datei wird dabei überschrieben.
+	 *
+	 * @param fileName
+	 * 		Name der Datei mit Pfad
+	 *
+	 * @throws IOException
+	 * 		Falls die Datei nicht geöffnet oder beschrieben werden konnte
+	 */
+	public ColumnarExporter(String fileName) throws IOException {
+		channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.CREATE,
+				StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+		writeHeader();
+	}
+
+	/**
+	 * Exportiert einen Zug des aktuellen Spiels. Punktestände und {@link Status} werden dem
+	 * Spielbrett entnommen, auf welchem der Zug gerade ausgeführt worden ist. Das Spiel wird mit
+	 * {@link #endGame()} abgeschlossen.
+	 *
+	 * @param boardSize
+	 * 		Größe des Spielbretts
+	 * @param move
+	 * 		Der ausgeführte Zug
+	 * @param viewer
+	 * 		{@link Viewer} auf das Spielbrett nach dem Zug
+	 *
+	 * @throws IOException
+	 * 		Falls ein voller Block nicht geschrieben werden konnte
+	 */
+	public synchronized void add(int boardSize, Move move, Viewer viewer) throws IOException {
+		final int row = chunkRows;
+		games[row] = gameCount;
+		plies[row] = (short) ++gamePlies;
+		sizes[row] = (byte) boardSize;
+		types[row] = (byte) move.getType().ordinal();
+		firstFlowers[row] = (short) (move.getType() == MoveType.Flower ?
+				MoveCodec.encode(move.getFirstFlower()) : -1);
+		secondFlowers[row] = (short) (move.getType() == MoveType.Flower ?
+				MoveCodec.encode(move.getSecondFlower()) : -1);
+		ditches[row] = (short) (move.getType() == MoveType.Ditch ?
+				MoveCodec.encode(move.getDitch()) : -1);
+		redPoints[row] = (short) viewer.getPoints(PlayerColor.Red);
+		bluePoints[row] = (short) viewer.getPoints(PlayerColor.Blue);
+		statuses[row] = (byte) viewer.getStatus().ordinal();
+
+		rowCount++;
+		if (++chunkRows == CHUNK_ROWS) {
+			writeChunk();
+		}
+	}
+
+	/**
+	 * Schließt das aktuelle Spiel ab, sodass die folgenden Züge zum nächsten Spiel gehören.
+	 *
+	 * @return Die Anzahl der exportierten Züge des abgeschlossenen Spiels
+	 */
+	public synchronized int endGame() {
+		final int plyCount = gamePlies;
+		gameCount++;
+		gamePlies = 0;
+		return plyCount;
+	}
+
+	/**
+	 * Exportiert ein gespeichertes Spiel. Die Züge werden dazu auf einem {@link MainBoard}
+	 * ausgeführt, um nach jedem Zug die Punktestände und den {@link Status} zu erhalten. Nach
+	 * einem ungültigen Zug werden keine weiteren Züge exportiert. Für ein laufendes Spiel ist
+	 * {@link #add(int, Move, Viewer)} günstiger, da die Züge dann nicht erneut ausgeführt werden.
+	 *
+	 * @param saveGame
+	 * 		Die Züge des Spiels
+	 *
+	 * @return Die Anzahl der exportierten Züge
+	 *
+	 * @throws IOException
+	 * 		Falls ein voller Block nicht geschrieben werden konnte
+	 */
+	public synchronized int append(SaveGame saveGame) throws IOException {
+		final MainBoard board = new MainBoard(saveGame.getBoardSize());
+		final Viewer viewer = board.viewer();
+		for (Move move : saveGame) {
+			if (viewer.getStatus() != Status.Ok) {
+				Log.log(LogLevel.WARNING, LogModule.MAIN, "Game " + gameCount + " has ended " +
+						"after move " + gamePlies + ", skipping the remaining moves");
+				break;
+			}
+			board.make(move);
+			add(saveGame.getBoardSize(), move, viewer);
+		}
+		return endGame();
+	}
+
+	/**
+	 * Exportiert alle Spiele aus einer Datei oder, falls ein Verzeichnis gegeben ist, aus allen
+	 * Dateien darin und in allen Unterverzeichnissen. Eine Datei kann ein Spielstand in einem der
+	 * Formate von {@link SaveGame} oder ein {@link GameArchive} sein. Dateien, die nicht gelesen
+	 * werden können, werden übersprungen.
+	 *
+	 * @param source
+	 * 		Die Datei oder das Verzeichnis
+	 *
+	 * @return Die Anzahl der gelesenen Dateien
+	 *
+	 * @throws IOException
+	 * 		Falls das Verzeichnis nicht durchsucht oder ein Block nicht geschrieben werden konnte
+	 */
+	public int appendAll(Path source) throws IOException {
+		final List<Path> files;
+		try (Stream<Path> stream = Files.walk(source)) {
+			files = stream.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+		}
+
+		int read = 0;
+		for (Path file : files) {
+			try {
+				appendFile(file.toString());
+				read++;
+			} catch (LoadException | IllegalArgumentException | IllegalStateException e) {
+				Log.log(LogLevel.WARNING, LogModule.MAIN,
+						"Skipping " + file + " for the export: " + e.getMessage());
+			}
+		}
+		return read;
+	}
+
+	/**
+	 * Exportiert alle Spiele aus einem Spielstand oder einem {@link GameArchive}.
+	 *
+	 * @param fileName
+	 * 		Name der Datei mit Pfad
+	 *
+	 * @throws LoadException
+	 * 		Falls die Datei nicht gelesen werden konnte
+	 * @throws IOException
+	 * 		Falls ein Block nicht geschrieben werden konnte
+	 */
+	private void appendFile(String fileName) throws LoadException, IOException {
+		if (!GameArchive.isArchive(fileName)) {
+			append(SaveGame.load(fileName));
+			return;
+		}
+
+		try (GameArchive archive = GameArchive.open(fileName)) {
+			for (ArchivedGame game : archive) {
+				append(game.getSaveGame());
+			}
+		}
+	}
+
+	/**
+	 * Gibt die Anzahl der bisher exportierten Spiele zurück.
+	 *
+	 * @return Anzahl der Spiele
+	 */
+	public synchronized int getGames() {
+		return gameCount;
+	}
+
+	/**
+	 * Gibt die Anzahl der bisher exportierten Zeilen zurück.
+	 *
+	 * @return Anzahl der Zeilen
+	 */
+	public synchronized long getRows() {
+		return rowCount;
+	}
+
+	/**
+	 * Schreibt den letzten, unvollständigen Block und den Kopf und schließt die Datei.
+	 *
+	 * @throws IOException
+	 * 		Falls die Datei nicht fertig geschrieben werden konnte
+	 */
+	@Override
+	public synchronized void close() throws IOException {
+		try {
+			if (chunkRows > 0) {
+				writeChunk();
+			}
+			writeHeader();
+			channel.force(false);
+
+			Log.log(LogLevel.INFO, LogModule.MAIN,
+					"Export closed with " + gameCount + " game(s) and " + rowCount + " move(s)");
+		} finally {
+			channel.close();
+		}
+	}
+
+	/**
+	 * Schreibt den aktuellen Block spaltenweise an das Ende der Datei und leert ihn. Jede Spalte
+	 * enthält nur die benutzten Einträge, sodass der letzte Block entsprechend kürzer ist.
+	 *
+	 * @throws IOException
+	 * 		Falls nicht in die Datei geschrieben werden konnte
+	 */
+	private void writeChunk() throws IOException {
+		final ByteBuffer buffer =
+				ByteBuffer.allocate(chunkRows * ROW_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+		buffer.asIntBuffer().put(games, 0, chunkRows);
+		buffer.position(buffer.position() + 4 * chunkRows);
+		putShorts(buffer, plies, chunkRows);
+		buffer.put(sizes, 0, chunkRows);
+		buffer.put(types, 0, chunkRows);
+		putShorts(buffer, firstFlowers, chunkRows);
+		putShorts(buffer, secondFlowers, chunkRows);
+		putShorts(buffer, ditches, chunkRows);
+		putShorts(buffer, redPoints, chunkRows);
+		putShorts(buffer, bluePoints, chunkRows);
+		buffer.put(statuses, 0, chunkRows);
+		buffer.flip();
+		write(buffer, HEADER_SIZE + (long) CHUNK_SIZE * chunks);
+
+		chunks++;
+		lastChunkRows = chunkRows;
+		chunkRows = 0;
+	}
+
+	/**
+	 * Schreibt die ersten Einträge eines Arrays von <code>short</code>s an die aktuelle Position
+	 * eines Puffers.
+	 *
+	 * @param buffer
+	 * 		Der Puffer
+	 * @param column
+	 * 		Die Spalte
+	 * @param length
+	 * 		Die Anzahl der zu schreibenden Einträge
+	 */
+	private static void putShorts(ByteBuffer buffer, short[] column, int length) {
+		buffer.asShortBuffer().put(column, 0, length);
+		buffer.position(buffer.position() + 2 * length);
+	}
+
+	/**
+	 * Schreibt den Kopf der Datei.
+	 *
+	 * @throws IOException
+	 * 		Falls nicht in die Datei geschrieben werden konnte
+	 */
+	private void writeHeader() throws IOException {
+		final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+		header.putInt(MAGIC);
+		header.putShort(VERSION);
+		header.putShort((short) 0);
+		header.putInt(CHUNK_ROWS);
+		header.putInt(chunks);
+		header.putInt(lastChunkRows);
+		header.putInt(gameCount);
+		header.putLong(rowCount);
+		header.flip();
+		write(header, 0);
+	}
+
+	/**
+	 * Schreibt den Inhalt eines Puffers vollständig an die gegebene Position der Datei.
+	 *
+	 * @param buffer
+	 * 		Der zu schreibende Puffer
+	 * @param at
+	 * 		Die Position in der Datei
+	 *
+	 * @throws IOException
+	 * 		Falls nicht in die Datei geschrieben werden konnte
+	 */
+	private void write(ByteBuffer buffer, long at) throws IOException {
+		final int length = buffer.remaining();
+		while (buffer.hasRemaining()) {
+			channel.write(buffer, at + length - buffer.remaining());
+		}
+	}
+}
@@ -0,0 +1,421 @@
+package flowerwarspp.main.savegame;
+
+import flowerwarspp.preset.Move;
+import flowerwarspp.preset.PlayerType;
+import flowerwarspp.preset.Status;
+import flowerwarspp.util.MoveCodec;
+import flowerwarspp.util.log.Log;
+import flowerwarspp.util.log.LogLevel;
+import flowerwarspp.util.log.LogModule;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.zip.CRC32;
+
+/**
+ * Ein Archiv, welches viele Spiele samt Metadaten in einer einzigen Datei speichert. Archive
+ * werden mit {@link GameArchiveWriter} geschrieben.
+ * <p>
+ * Ein Archiv beginnt mit einem Kopf aus der Kennung "FWPA", der Formatversion, der Anzahl der
+ * Spiele und der Position des Index. Danach folgen die Spiele hintereinander, jeweils mit ihrer
+ * Länge, den Metadaten (Spielbrettgröße, {@link Status}, {@link PlayerType}s und Punktestände),
+ * den mit {@link MoveCodec} kodierten Zügen und einer CRC32-Prüfsumme. Am Ende steht der Index mit
+ * der Position jedes Spiels in der Datei.
+ * <p>
+ * Mit {@link #get(int)} kann über den Index direkt auf ein beliebiges Spiel zugegriffen werden.
+ * Der {@link #iterator()} liest dagegen alle Spiele der Reihe nach in einem Durchgang durch die
+ * Datei. Wurde ein Archiv nicht ordnungsgemäß geschlossen und fehlt daher der Index, wird er beim
+ * Öffnen aus den vollständig geschriebenen Spielen wiederhergestellt.
+ */
+public class GameArchive implements Iterable<ArchivedGame>, Closeable {
+	/**
+	 * Die Kennung am Anfang eines Archivs, "FWPA" in ASCII.
+	 */
+	static final int MAGIC = 0x46575041;
+
+	/**
+	 * Die Version des Archivformats.
+	 */
+	static final short VERSION = 1;
+
+	/**
+	 * Die Größe des Kopfes in Byte: Kennung, Version, reserviert, Anzahl der Spiele und Position
+	 * des Index.
+	 */
+	static final int HEADER_SIZE = 20;
+
+	/**
+	 * Die Größe der Metadaten eines Spiels in Byte.
+	 */
+	private static final int METADATA_SIZE = 18;
+
+	/**
+	 * Der Pfad der Archivdatei.
+	 */
+	private final Path path;
+
+	/**
+	 * Der Kanal, über den einzelne Spiele gelesen werden.
+	 */
+	private final FileChannel channel;
+
+	/**
+	 * Die Positionen aller Spiele in der Datei.
+	 */
+	private final long[] offsets;
+
+	/**
+	 * Öffnet ein Archiv.
+	 *
+	 * @param path
+	 * 		Der Pfad der Archivdatei
+	 *
+	 * @throws LoadException
+	 * 		Falls die Datei nicht gelesen werden konnte oder kein Archiv ist
+	 */
+	private GameArchive(Path path) throws LoadException {
+		this.path = path;
+		try {
+			channel = FileChannel.open(path, StandardOpenOption.READ);
+			final ByteBuffer header = readFully(0, HEADER_SIZE);
+			if (header.getInt() != MAGIC) {
+				throw new LoadException("Die Datei " + path + " ist kein Spielarchiv.");
+			}
+			final short version = header.getShort();
+			if (version != VERSION) {
+				throw new LoadException("Unbekannte Version des Archivformats: " + version);
+			}
+			header.getShort();
+			final int gameCount = header.getInt();
+			final long indexOffset = header.getLong();
+
+			if (indexOffset == 0) {
+				Log.log(LogLevel.WARNING, LogModule.MAIN,
+						"Archive " + path + " was not closed, rebuilding its index");
+				offsets = rebuildIndex();
+			} else {
+				final ByteBuffer index = readFully(indexOffset, 8 * gameCount);
+				offsets = new long[gameCount];
+				for (int i = 0; i < gameCount; i++) {
+					offsets[i] = index.getLong();
+				}
+			}
+		} catch (IOException e) {
+			throw new LoadException(e);
+		}
+	}
+
+	/**
+	 * Öffnet das Archiv mit dem gegebenen Dateinamen.
+	 *
+	 * @param archiveName
+	 * 		Name der Archivdatei mit Pfad
+	 *
+	 * @return Das geöffnete Archiv
+	 *
+	 * @throws LoadException
+	 * 		Falls die Datei nicht gelesen werden konnte oder kein Archiv ist
+	 */
+	public static GameArchive open(String archiveName) throws LoadException {
+		return new GameArchive(Paths.get(archiveName));
+	}
+
+	/**
+	 * Prüft anhand der Kennung am Dateianfang, ob eine Datei ein Archiv ist.
+	 *
+	 * @param fileName
+	 * 		Name der Datei mit Pfad
+	 *
+	 * @return <code>true</code>, falls die Datei ein Archiv ist
+	 *
+	 * @throws LoadException
+	 * 		Falls die Datei nicht gelesen werden konnte
+	 */
+	public static boolean isArchive(String fileName) throws LoadException {
+		try (RandomAccessFile file = new RandomAccessFile(fileName, "r")) {
+			return file.length() >= HEADER_SIZE && file.readInt() == MAGIC;
+		} catch (IOException e) {
+			throw new LoadException(e);
+		}
+	}
+
+	/**
+	 * Gibt die Anzahl der Spiele im Archiv zurück.
+	 *
+	 * @return Anzahl der Spiele
+	 */
+	public int size() {
+		return offsets.length;
+	}
+
+	/**
+	 * Liest das Spiel mit der gegebenen Nummer.
+	 *
+	 * @param number
+	 * 		Die Nummer des Spiels, beginnend mit 0
+	 *
+	 * @return Das gelesene Spiel
+	 *
+	 * @throws LoadException
+	 * 		Falls das Spiel nicht gelesen werden konnte oder beschädigt ist
+	 * @throws IndexOutOfBoundsException
+	 * 		Falls es kein Spiel mit dieser Nummer gibt
+	 */
+	public ArchivedGame get(int number) throws LoadException, IndexOutOfBoundsException {
+		try {
+			final long offset = offsets[number];
+			final int length = readFully(offset, 4).getInt();
+			return decode(number, readFully(offset + 4, length + 4));
+		} catch (IOException e) {
+			throw new LoadException(e);
+		}
+	}
+
+	/**
+	 * Gibt einen {@link Iterator} zurück, welcher alle Spiele der Reihe nach aus der Datei liest.
+	 * Tritt dabei ein Fehler auf, wirft {@link Iterator#next()} eine {@link
+	 * IllegalStateException}.
+	 *
+	 * @return ein Iterator über alle Spiele
+	 */
+	@Override
+	public Iterator<ArchivedGame> iterator() {
+		return new Iterator<ArchivedGame>() {
+			private DataInputStream input = null;
+			private int next = 0;
+
+			@Override
+			public boolean hasNext() {
+				if (next >= offsets.length && input != null) {
+					closeInput();
+				}
+				return next < offsets.length;
+			}
+
+			@Override
+			public ArchivedGame next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				try {
+					if (input == null) {
+						final InputStream stream = Files.newInputStream(path);
+						input = new DataInputStream(new BufferedInputStream(stream, 1 << 16));
+						skip(offsets[0]);
+					}
+
+					final int length = input.readInt();
+					final byte[] record = new byte[length + 4];
+					input.readFully(record);
+					final ArchivedGame game = decode(next, ByteBuffer.wrap(record));
+
+					next++;
+					if (next < offsets.length) {
+						skip(offsets[next] - offsets[next - 1] - 4 - record.length);
+					}
+					return game;
+				} catch (IOException | LoadException e) {
+					closeInput();
+					throw new IllegalStateException(
+							"Spiel " + next + " konnte nicht gelesen werden: " + e.getMessage(),
+							e);
+				}
+			}
+
+			private void skip(long bytes) throws IOException {
+				while (bytes > 0) {
+					final long skipped = input.skip(bytes);
+					if (skipped <= 0) {
+						throw new EOFException();
+					}
+					bytes -= skipped;
+				}
+			}
+
+			private void closeInput() {
+				try {
+					input.close();
+				} catch (IOException e) {
+					Log.log(LogLevel.WARNING, LogModule.MAIN,
+							"Could not close archive stream: " + e.getMessage());
+				}
+			}
+		};
+	}
+
+	/**
+	 * Schließt das Archiv.
+	 *
+	 * @throws IOException
+	 * 		Falls die Datei nicht geschlossen werden konnte
+	 */
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+
+	/**
+	 * Stellt den Index eines nicht ordnungsgemäß geschlossenen Archivs wieder her, indem alle
+	 * vollständig geschriebenen und unbeschädigten Spiele der Reihe nach gesucht werden.
+	 *
+	 * @return Die Positionen aller gefundenen Spiele
+	 *
+	 * @throws IOException
+	 * 		Falls die Datei nicht gelesen werden konnte
+	 */
+	private long[] rebuildIndex() throws IOException {
+		final ArrayList<Long> found = new ArrayList<>();
+		long offset = HEADER_SIZE;
+		while (offset + 4 <= channel.size()) {
+			final int length = readFully(offset, 4).getInt();
+			if (length < METADATA_SIZE || offset + 8 + length > channel.size()) {
+				break;
+			}
+			try {
+				decode(found.size(), readFully(offset + 4, length + 4));
+			} catch (LoadException e) {
+				break;
+			}
+			found.add(offset);
+			offset += 8 + length;
+		}
+
+		final long[] result = new long[found.size()];
+		for (int i = 0; i < result.length; i++) {
+			result[i] = found.get(i);
+		}
+		return result;
+	}
+
+	/**
+	 * Liest die gegebene Anzahl an Bytes ab einer Position der Datei.
+	 *
+	 * @param position
+	 * 		Die Position in der Datei
+	 * @param length
+	 * 		Die Anzahl der zu lesenden Bytes
+	 *
+	 * @return Die gelesenen Bytes
+	 *
+	 * @throws IOException
+	 * 		Falls die Datei nicht gelesen werden konnte oder vorher endet
+	 */
+	private ByteBuffer readFully(long position, int length) throws IOException {
+		final ByteBuffer buffer = ByteBuffer.allocate(length);
+		while (buffer.hasRemaining()) {
+			if (channel.read(buffer, position + buffer.position()) < 0) {
+				throw new EOFException("Unerwartetes Ende des Archivs " + path);
+			}
+		}
+		buffer.flip();
+		return buffer;
+	}
+
+	/**
+	 * Kodiert ein Spiel samt Länge, Metadaten und Prüfsumme für das Archiv.
+	 *
+	 * @param saveGame
+	 * 		Die Züge des Spiels
+	 * @param redType
+	 * 		{@link PlayerType} des roten Spielers, oder <code>null</code>
+	 * @param blueType
+	 * 		{@link PlayerType} des blauen Spielers, oder <code>null</code>
+	 * @param status
+	 * 		Der {@link Status} am Ende des Spiels
+	 * @param redPoints
+	 * 		Punktestand des roten Spielers
+	 * @param bluePoints
+	 * 		Punktestand des blauen Spielers
+	 *
+	 * @return Das kodierte Spiel, bereit zum Schreiben
+	 *
+	 * @throws IllegalArgumentException
+	 * 		Falls ein Zug nicht kodiert werden kann
+	 */
+	static ByteBuffer encode(SaveGame saveGame, PlayerType redType, PlayerType blueType,
+	                         Status status, int redPoints, int bluePoints)
+			throws IllegalArgumentException {
+		final ArrayList<Move> moves = new ArrayList<>(saveGame.size());
+		for (Move move : saveGame) {
+			moves.add(move);
+		}
+
+		final int length = METADATA_SIZE + 4 * moves.size();
+		final ByteBuffer buffer = ByteBuffer.allocate(4 + length + 4);
+		buffer.putInt(length);
+		buffer.putShort((short) saveGame.getBoardSize());
+		buffer.put((byte) status.ordinal());
+		buffer.put((byte) (redType == null ? 0 : redType.ordinal() + 1));
+		buffer.put((byte) (blueType == null ? 0 : blueType.ordinal() + 1));
+		buffer.put((byte) 0);
+		buffer.putInt(redPoints);
+		buffer.putInt(bluePoints);
+		buffer.putInt(moves.size());
+		for (Move move : moves) {
+			buffer.putInt(MoveCodec.encode(move));
+		}
+
+		final CRC32 crc = new CRC32();
+		crc.update(buffer.array(), 4, length);
+		buffer.putInt((int) crc.getValue());
+		buffer.flip();
+		return buffer;
+	}
+
+	/**
+	 * Dekodiert ein Spiel aus seinen Metadaten, Zügen und der Prüfsumme.
+	 *
+	 * @param number
+	 * 		Die Nummer des Spiels
+	 * @param record
+	 * 		Die Bytes des Spiels ohne die vorangestellte Länge
+	 *
+	 * @return Das dekodierte Spiel
+	 *
+	 * @throws LoadException
+	 * 		Falls das Spiel beschädigt ist
+	 */
+	private static ArchivedGame decode(int number, ByteBuffer record) throws LoadException {
+		final int length = record.remaining() - 4;
+		final CRC32 crc = new CRC32();
+		crc.update(record.array(), record.arrayOffset() + record.position(), length);
+		if ((int) crc.getValue() != record.getInt(record.position() + length)) {
+			throw new LoadException("Die Prüfsumme von Spiel " + number + " stimmt nicht überein!");
+		}
+
+		try {
+			final SaveGame saveGame = new SaveGame(record.getShort());
+			final Status status = Status.values()[record.get()];
+			final int redType = record.get();
+			final int blueType = record.get();
+			record.get();
+			final int redPoints = record.getInt();
+			final int bluePoints = record.getInt();
+			final int moveCount = record.getInt();
+			for (int i = 0; i < moveCount; i++) {
+				saveGame.add(MoveCodec.decodeMove(record.getInt()));
+			}
+
+			return new ArchivedGame(number, saveGame,
+					redType == 0 ? null : PlayerType.values()[redType - 1],
+					blueType == 0 ? null : PlayerType.values()[blueType - 1], status, redPoints,
+					bluePoints);
+		} catch (RuntimeException e) {
+			throw new LoadException("Spiel " + number + " ist beschädigt: " + e.getMessage());
+		}
+	}
+}
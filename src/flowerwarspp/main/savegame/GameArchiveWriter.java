@@ -0,0 +1,163 @@
+package flowerwarspp.main.savegame;
+
+import flowerwarspp.preset.PlayerType;
+import flowerwarspp.preset.Status;
+import flowerwarspp.util.log.Log;
+import flowerwarspp.util.log.LogLevel;
+import flowerwarspp.util.log.LogModule;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+
+/**
+ * Schreibt Spiele nacheinander in ein {@link GameArchive}. Jedes Spiel wird bei {@link
+ * #append(SaveGame, PlayerType, PlayerType, Status, int, int)} sofort an die Datei angehängt,
+ * der Index wird erst beim Schließen geschrieben.
+ */
+public class GameArchiveWriter implements Closeable {
+	/**
+	 * Der Kanal, in welchen das Archiv geschrieben wird.
+	 */
+	private final FileChannel channel;
+
+	/**
+	 * Die Positionen aller bisher geschriebenen Spiele.
+	 */
+	private final ArrayList<Long> offsets = new ArrayList<>();
+
+	/**
+	 * Die Position, an welcher das nächste Spiel geschrieben wird.
+	 */
+	private long position = GameArchive.HEADER_SIZE;
+
+	/**
+	 * Erzeugt ein neues, leeres Archiv. Eine bestehende Datei wird dabei überschrieben.
+	 *
+	 * @param archiveName
+	 * 		Name der Archivdatei mit Pfad
+	 *
+	 * @throws IOException
+	 * 		Falls die Datei nicht geöffnet oder beschrieben werden konnte
+	 */
+	public GameArchiveWriter(String archiveName) throws IOException {
+		channel = FileChannel.open(Paths.get(archiveName), StandardOpenOption.CREATE,
+				StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+		writeHeader(0, 0);
+	}
+
+	/**
+	 * Hängt ein Spiel an das Archiv an.
+	 *
+	 * @param saveGame
+	 * 		Die Züge des Spiels
+	 * @param redType
+	 * 		{@link PlayerType} des roten Spielers, oder <code>null</code> falls unbekannt
+	 * @param blueType
+	 * 		{@link PlayerType} des blauen Spielers, oder <code>null</code> falls unbekannt
+	 * @param status
+	 * 		Der {@link Status} am Ende des Spiels
+	 * @param redPoints
+	 * 		Punktestand des roten Spielers
+	 * @param bluePoints
+	 * 		Punktestand des blauen Spielers
+	 *
+	 * @throws IOException
+	 * 		Falls das Spiel nicht geschrieben werden konnte oder ein Zug nicht kodiert werden kann
+	 */
+	public synchronized void append(SaveGame saveGame, PlayerType redType, PlayerType blueType,
+	                                Status status, int redPoints, int bluePoints)
+			throws IOException {
+		final ByteBuffer record;
+		try {
+			record = GameArchive.encode(saveGame, redType, blueType, status, redPoints,
+					bluePoints);
+		} catch (IllegalArgumentException e) {
+			throw new IOException("Ein Zug kann nicht kodiert werden: " + e.getMessage(), e);
+		}
+
+		offsets.add(position);
+		position += write(record, position);
+	}
+
+	/**
+	 * Gibt die Anzahl der bisher geschriebenen Spiele zurück.
+	 *
+	 * @return Anzahl der Spiele
+	 */
+	public synchronized int size() {
+		return offsets.size();
+	}
+
+	/**
+	 * Schreibt den Index und den Kopf des Archivs und schließt die Datei.
+	 *
+	 * @throws IOException
+	 * 		Falls das Archiv nicht fertig geschrieben werden konnte
+	 */
+	@Override
+	public synchronized void close() throws IOException {
+		try {
+			final ByteBuffer index = ByteBuffer.allocate(8 * offsets.size());
+			for (long offset : offsets) {
+				index.putLong(offset);
+			}
+			index.flip();
+			write(index, position);
+			writeHeader(offsets.size(), position);
+			channel.force(false);
+
+			Log.log(LogLevel.INFO, LogModule.MAIN,
+					"Archive closed with " + offsets.size() + " game(s)");
+		} finally {
+			channel.close();
+		}
+	}
+
+	/**
+	 * Schreibt den Kopf des Archivs.
+	 *
+	 * @param gameCount
+	 * 		Die Anzahl der Spiele
+	 * @param indexOffset
+	 * 		Die Position des Index, oder 0 solange das Archiv nicht geschlossen ist
+	 *
+	 * @throws IOException
+	 * 		Falls nicht in die Datei geschrieben werden konnte
+	 */
+	private void writeHeader(int gameCount, long indexOffset) throws IOException {
+		final ByteBuffer header = ByteBuffer.allocate(GameArchive.HEADER_SIZE);
+		header.putInt(GameArchive.MAGIC);
+		header.putShort(GameArchive.VERSION);
+		header.putShort((short) 0);
+		header.putInt(gameCount);
+		header.putLong(indexOffset);
+		header.flip();
+		write(header, 0);
+	}
+
+	/**
+	 * Schreibt den Inhalt eines Puffers vollständig an die gegebene Position der Datei.
+	 *
+	 * @param buffer
+	 * 		Der zu schreibende Puffer
+	 * @param at
+	 * 		Die Position in der Datei
+	 *
+	 * @return Die Anzahl der geschriebenen Bytes
+	 *
+	 * @throws IOException
+	 * 		Falls nicht in die Datei geschrieben werden konnte
+	 */
+	private int write(ByteBuffer buffer, long at) throws IOException {
+		final int length = buffer.remaining();
+		while (buffer.hasRemaining()) {
+			channel.write(buffer, at + length - buffer.remaining());
+		}
+		return length;
+	}
+}
@@ -0,0 +1,446 @@
+package flowerwarspp.main.savegame;
+
+import flowerwarspp.board.BoardCheckpoint;
+import flowerwarspp.board.MainBoard;
+import flowerwarspp.preset.Ditch;
+import flowerwarspp.preset.Flower;
+import flowerwarspp.preset.Move;
+import flowerwarspp.preset.PlayerColor;
+import flowerwarspp.preset.Status;
+import flowerwarspp.preset.Viewer;
+import flowerwarspp.util.log.Log;
+import flowerwarspp.util.log.LogLevel;
+import flowerwarspp.util.log.LogModule;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Spielt die Züge eines {@link SaveGame}s auf einem {@link MainBoard} nach, wobei beliebig vor-
+ * und zurückgesprungen werden kann.
+ * <p>
+ * Beim Erzeugen werden alle Züge einmal ausgeführt und dabei nach jeweils {@link
+ * #SNAPSHOT_INTERVAL} Zügen ein {@link BoardCheckpoint} angelegt. Ein Schritt vorwärts ist ein
+ * einzelner {@link MainBoard#make(Move)}. Für einen Schritt zurück oder einen Sprung wird das
+ * Spielbrett des letzten Schnappschusses vor dem Ziel mit {@link MainBoard#MainBoard(MainBoard)}
+ * kopiert und es werden höchstens {@link #SNAPSHOT_INTERVAL} - 1 Züge einzeln ausgeführt. Dabei
+ * werden die legalen Züge nicht von Grund auf neu berechnet.
+ * <p>
+ * Da ein großes Spielbrett mit seinen legalen Zügen viel Speicher belegt, werden nur für die
+ * {@link #LIVE_SNAPSHOTS} zuletzt verwendeten Schnappschüsse fertige Spielbretter behalten. Wird
+ * ein anderer Schnappschuss benötigt, wird sein Spielbrett einmalig aus dem {@link
+ * BoardCheckpoint} erzeugt, was so lange dauert wie das Nachspielen aller Züge bis dorthin.
+ * <p>
+ * Die Klasse ist nicht threadsicher und sollte nur von einem Thread, in der grafischen Oberfläche
+ * also vom Event Dispatch Thread, verwendet werden.
+ */
+public class ReplayEngine {
+	/**
+	 * Nach wie vielen Zügen jeweils ein Schnappschuss angelegt wird.
+	 */
+	public static final int SNAPSHOT_INTERVAL = 16;
+
+	/**
+	 * Für wie viele Schnappschüsse höchstens ein fertiges Spielbrett behalten wird.
+	 */
+	public static final int LIVE_SNAPSHOTS = 4;
+
+	/**
+	 * Die Größe des Spielbretts.
+	 */
+	private final int size;
+
+	/**
+	 * Die nachspielbaren Züge. Züge nach dem Ende des Spiels sind nicht enthalten.
+	 */
+	private final List<Move> moves;
+
+	/**
+	 * Die Schnappschüsse, nach der Anzahl der bis dahin ausgeführten Züge.
+	 */
+	private final TreeMap<Integer, BoardCheckpoint> snapshots = new TreeMap<>();
+
+	/**
+	 * Die Spielbretter der zuletzt verwendeten Schnappschüsse, nach der Anzahl der bis dahin
+	 * ausgeführten Züge und in der Reihenfolge ihrer Verwendung. Die Spielbretter werden nie
+	 * verändert, sondern vor dem Ausführen weiterer Züge kopiert.
+	 */
+	private final LinkedHashMap<Integer, MainBoard> liveSnapshots =
+			new LinkedHashMap<Integer, MainBoard>(LIVE_SNAPSHOTS + 1, 1f, true) {
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<Integer, MainBoard> eldest) {
+					return size() > LIVE_SNAPSHOTS;
+				}
+			};
+
+	/**
+	 * Der {@link Viewer}, welcher immer das aktuelle Spielbrett zeigt.
+	 */
+	private final Viewer viewer = new ReplayViewer();
+
+	/**
+	 * Das Spielbrett mit den ersten {@link #ply} Zügen.
+	 */
+	private MainBoard board;
+
+	/**
+	 * Ein {@link Viewer} auf {@link #board}.
+	 */
+	private Viewer boardViewer;
+
+	/**
+	 * Die Anzahl der auf {@link #board} ausgeführten Züge.
+	 */
+	private int ply = 0;
+
+	/**
+	 * Erzeugt eine neue Wiedergabe eines Spielstands, welche vor dem ersten Zug steht. Folgen in
+	 * dem Spielstand noch Züge auf das Ende des Spiels, werden diese ausgelassen.
+	 *
+	 * @param saveGame
+	 * 		Der nachzuspielende Spielstand
+	 */
+	public ReplayEngine(SaveGame saveGame) {
+		final SaveGame snapshot = saveGame.snapshot();
+		size = snapshot.getBoardSize();
+
+		final MainBoard scan = new MainBoard(size);
+		final Viewer scanViewer = scan.viewer();
+		snapshots.put(0, scan.checkpoint());
+		liveSnapshots.put(0, new MainBoard(scan));
+		final List<Move> playable = new ArrayList<>();
+		for (Move move : snapshot) {
+			if (scanViewer.getStatus() != Status.Ok) {
+				Log.log(LogLevel.WARNING, LogModule.MAIN,
+						"Skipping " + (snapshot.size() - playable.size()) +
+								" move(s) after the end of the game in the replay");
+				break;
+			}
+			scan.make(move);
+			playable.add(move);
+			if (playable.size() % SNAPSHOT_INTERVAL == 0 && scanViewer.getStatus() == Status.Ok) {
+				snapshots.put(playable.size(), scan.checkpoint());
+				// Nur die Spielbretter der letzten Schnappschüsse würden im Cache bleiben.
+				if (snapshot.size() - playable.size() < LIVE_SNAPSHOTS * SNAPSHOT_INTERVAL) {
+					liveSnapshots.put(playable.size(), new MainBoard(scan));
+				}
+			}
+		}
+		moves = Collections.unmodifiableList(playable);
+
+		setBoard(new MainBoard(size));
+	}
+
+	/**
+	 * Gibt {@link #ply} zurück.
+	 *
+	 * @return Wert von {@link #ply}
+	 */
+	public int getPly() {
+		return ply;
+	}
+
+	/**
+	 * Gibt die Anzahl der nachspielbaren Züge zurück.
+	 *
+	 * @return Anzahl der Züge
+	 */
+	public int length() {
+		return moves.size();
+	}
+
+	/**
+	 * Gibt den Zug zurück, welcher zuletzt ausgeführt worden ist.
+	 *
+	 * @return Der letzte Zug, oder <code>null</code> vor dem ersten Zug
+	 */
+	public Move getLastMove() {
+		return ply == 0 ? null : moves.get(ply - 1);
+	}
+
+	/**
+	 * Gibt einen {@link Viewer} zurück, welcher immer das Spielbrett nach dem aktuellen Zug zeigt.
+	 * Er muss daher nach einem Sprung nicht neu geholt werden.
+	 *
+	 * @return Der {@link Viewer}
+	 */
+	public Viewer viewer() {
+		return viewer;
+	}
+
+	/**
+	 * Führt den nächsten Zug aus.
+	 *
+	 * @return <code>false</code>, falls bereits alle Züge ausgeführt sind
+	 */
+	public boolean stepForward() {
+		if (ply >= moves.size()) {
+			return false;
+		}
+		seek(ply + 1);
+		return true;
+	}
+
+	/**
+	 * Nimmt den letzten Zug zurück.
+	 *
+	 * @return <code>false</code>, falls noch kein Zug ausgeführt ist
+	 */
+	public boolean stepBack() {
+		if (ply == 0) {
+			return false;
+		}
+		seek(ply - 1);
+		return true;
+	}
+
+	/**
+	 * Springt zu dem Spielbrett nach einer gegebenen Anzahl an Zügen.
+	 *
+	 * @param target
+	 * 		Die Anzahl der auszuführenden Züge, zwischen 0 und {@link #length()}
+	 *
+	 * @throws IllegalArgumentException
+	 * 		Falls das Ziel außerhalb der Züge liegt
+	 */
+	public void seek(int target) throws IllegalArgumentException {
+		if (target < 0 || target > moves.size()) {
+			throw new IllegalArgumentException("Zug " + target + " liegt außerhalb des Spiels");
+		}
+
+		/*
+		 * Rückwärts geht es nur über einen Schnappschuss. Vorwärts lohnt er sich erst, wenn das
+		 * Ziel mehr als einen Abstand zwischen zwei Schnappschüssen entfernt ist, da das Spielbrett
+		 * des Schnappschusses eventuell erst aus dem BoardCheckpoint erzeugt werden muss.
+		 */
+		final int snapshotPly = snapshots.floorKey(target);
+		if (target < ply || (target - ply > SNAPSHOT_INTERVAL && snapshotPly > ply)) {
+			setBoard(new MainBoard(getLiveSnapshot(snapshotPly)));
+			ply = snapshotPly;
+		}
+
+		/*
+		 * Die Züge werden einzeln ausgeführt, da MainBoard#makeAll die legalen Züge am Ende von
+		 * Grund auf neu berechnet, was so lange dauert wie das Nachspielen des ganzen Spiels.
+		 */
+		for (; ply < target; ply++) {
+			board.make(moves.get(ply));
+		}
+	}
+
+	/**
+	 * Gibt das Spielbrett eines Schnappschusses zurück. Ist es nicht mehr im Cache, wird es aus
+	 * dem {@link BoardCheckpoint} erzeugt und in den Cache gelegt.
+	 *
+	 * @param snapshotPly
+	 * 		Die Anzahl der Züge, nach welcher der Schnappschuss angelegt worden ist
+	 *
+	 * @return Das Spielbrett des Schnappschusses, welches nicht verändert werden darf
+	 */
+	private MainBoard getLiveSnapshot(int snapshotPly) {
+		MainBoard live = liveSnapshots.get(snapshotPly);
+		if (live == null) {
+			live = new MainBoard(snapshots.get(snapshotPly), Collections.emptyList());
+			liveSnapshots.put(snapshotPly, live);
+		}
+		return live;
+	}
+
+	/**
+	 * Setzt das aktuelle Spielbrett.
+	 *
+	 * @param board
+	 * 		Das neue Spielbrett
+	 */
+	private void setBoard(MainBoard board) {
+		this.board = board;
+		boardViewer = board.viewer();
+	}
+
+	/**
+	 * Ein {@link Viewer}, welcher alle Anfragen an das jeweils aktuelle Spielbrett weitergibt.
+	 */
+	private class ReplayViewer implements Viewer {
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public PlayerColor getTurn() {
+			return boardViewer.getTurn();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public int getSize() {
+			return size;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Status getStatus() {
+			return boardViewer.getStatus();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Collection<Flower> getFlowers(PlayerColor color) {
+			return boardViewer.getFlowers(color);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Collection<Ditch> getDitches(PlayerColor color) {
+			return boardViewer.getDitches(color);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Collection<Move> getPossibleMoves() {
+			return boardViewer.getPossibleMoves();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public int getPoints(PlayerColor color) {
+			return boardViewer.getPoints(color);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Collection<Flower> getDirectNeighbors(Flower center) {
+			return boardViewer.getDirectNeighbors(center);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Collection<Flower> getAllNeighbors(Flower center) {
+			return boardViewer.getAllNeighbors(center);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public boolean possibleMovesContains(Move move) {
+			return boardViewer.possibleMovesContains(move);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public boolean possibleMovesContainsMovesContaining(Flower flower) {
+			return boardViewer.possibleMovesContainsMovesContaining(flower);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Collection<Move> getPossibleFlowerMoves() {
+			return boardViewer.getPossibleFlowerMoves();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Collection<Flower> getPossibleFlowers() {
+			return boardViewer.getPossibleFlowers();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Collection<Flower> getFlowersCombinableWith(Flower flower) {
+			return boardViewer.getFlowersCombinableWith(flower);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Map<Flower, HashSet<Flower>> getFlowerMap() {
+			return boardViewer.getFlowerMap();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Collection<Move> getPossibleMovesContaining(Flower flower) {
+			return boardViewer.getPossibleMovesContaining(flower);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Collection<Move> getPossibleDitchMoves() {
+			return boardViewer.getPossibleDitchMoves();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public PlayerColor getFlowerColor(Flower flower) {
+			return boardViewer.getFlowerColor(flower);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public PlayerColor getDitchColor(Ditch ditch) {
+			return boardViewer.getDitchColor(ditch);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Collection<Flower> getFlowerBed(Flower flower) {
+			return boardViewer.getFlowerBed(flower);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Collection<Flower> getAllFlowers() {
+			return boardViewer.getAllFlowers();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public boolean isGarden(Collection<Flower> bed) {
+			return boardViewer.isGarden(bed);
+		}
+	}
+}
@@ -1,7 +1,10 @@
 package flowerwarspp.main.savegame;
 
+import flowerwarspp.board.BoardCheckpoint;
+import flowerwarspp.board.MainBoard;
 import flowerwarspp.preset.Move;
 import flowerwarspp.preset.PlayerColor;
+import flowerwarspp.util.MoveCodec;
 import flowerwarspp.util.log.Log;
 import flowerwarspp.util.log.LogLevel;
 import flowerwarspp.util.log.LogModule;
@@ -10,34 +13,139 @@ import java.io.BufferedReader;
 import java.io.FileReader;
 import java.io.IOException;
 import java.io.PrintWriter;
-import java.util.ArrayDeque;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.CRC32;
 
 import static flowerwarspp.preset.PlayerColor.Blue;
 import static flowerwarspp.preset.PlayerColor.Red;
 
 /**
  * Diese Klasse erlaubt das Speichern und Laden des aktuellen Status des Spiels. Dies wird
- * ermöglicht durch das Speichern aller gemachten Spielzüge in einer {@link ArrayDeque}.
+ * ermöglicht durch das Speichern aller gemachten Spielzüge in einem Array, an welches nur
+ * angehängt wird.
  * <p>
  * Mit {@link #save(String)} werden diese gemachten Züge zusammen mit gewissen Meta-Daten in einer
  * Datei mit dem gegebenen Namen gespeichert.
  * <p>
  * Diese Datei kann zu einem späteren Zeitpunkt mit {@link #load(String)} wieder geladen werden,
- * dabei werden die, von der Datei beschriebenen, Spielzüge in der {@link ArrayDeque} einer neuen
- * Instanz dieser Klasse gespeichert. Diese Instanz wird dann zurückgegeben.
+ * dabei werden die, von der Datei beschriebenen, Spielzüge in einer neuen Instanz dieser Klasse
+ * gespeichert. Diese Instanz wird dann zurückgegeben.
+ * <p>
+ * Mit {@link #snapshot()} wird ohne Kopieren der Züge ein unveränderlicher Stand erzeugt, der
+ * ohne weitere Synchronisation gespeichert werden kann. Auch {@link #save(String)} und {@link
+ * #saveBinary(String)} schreiben einen solchen Stand, sodass {@link #add(Move)} nie auf den
+ * Datenträger warten muss.
+ * <p>
+ * Neben diesem Textformat gibt es ein kompaktes Binärformat, welches mit {@link
+ * #saveBinary(String)} geschrieben wird. Es besteht aus einem Kopf mit der Kennung "FWPB", der
+ * Formatversion, der Spielbrettgröße und der Anzahl der Züge, gefolgt von allen mit {@link
+ * MoveCodec} kodierten Zügen zu je 4 Byte. Ab Version 2 folgen die Anzahl der Schnappschüsse
+ * und die Schnappschüsse selbst, jeweils als Zugnummer und {@link BoardCheckpoint}. Den Abschluss
+ * bildet eine CRC32-Prüfsumme über alle vorherigen Bytes. {@link #load(String)} erkennt das Format
+ * anhand der Kennung selbst.
+ * <p>
+ * Mit {@link #addCheckpoint(int, BoardCheckpoint)} können Schnappschüsse des Spielbretts zu
+ * einzelnen Zügen gespeichert werden. {@link #createBoard(int)} stellt dann den Spielstand nach
+ * einem beliebigen Zug her, indem nur die Züge nach dem nächstgelegenen Schnappschuss ausgeführt
+ * werden. Da die legalen Züge dabei trotzdem vollständig neu berechnet werden, ist das kaum
+ * schneller als das Ausführen aller Züge.
+ * <p>
+ * Mit {@link #startJournal(String, int)} wird zusätzlich jeder mit {@link #add(Move)} hinzugefügte
+ * Zug sofort an eine Datei im selben Format angehängt, sodass ein Spiel auch nach einem Absturz
+ * des Programms geladen werden kann.
  */
 public class SaveGame implements Iterable<Move> {
 	/**
-	 * Diese {@link ArrayDeque} speichert die ausgeführten Spielzüge.
+	 * Die übliche Datei-Endung von Spielständen im Binärformat.
+	 */
+	public static final String BINARY_EXTENSION = ".fwb";
+
+	/**
+	 * Die Kennung am Anfang eines Spielstands im Binärformat, "FWPB" in ASCII.
+	 */
+	private static final int BINARY_MAGIC = 0x46575042;
+
+	/**
+	 * Die Version des Binärformats.
+	 */
+	private static final short BINARY_VERSION = 2;
+
+	/**
+	 * Die erste Version des Binärformats, welche noch keine Schnappschüsse enthält.
+	 */
+	private static final short BINARY_VERSION_WITHOUT_CHECKPOINTS = 1;
+
+	/**
+	 * Nach wie vielen Zügen jeweils ein Schnappschuss des Spielbretts gespeichert werden soll.
+	 */
+	public static final int CHECKPOINT_INTERVAL = 50;
+
+	/**
+	 * Die Größe des Kopfes eines Spielstands im Binärformat in Byte: Kennung, Version,
+	 * Spielbrettgröße und Anzahl der Züge.
+	 */
+	private static final int BINARY_HEADER_SIZE = 12;
+
+	/**
+	 * Dieses Array speichert die ausgeführten Spielzüge in den ersten {@link #moveCount}
+	 * Einträgen. Diese Einträge werden nie verändert; ist das Array voll, wird es durch eine
+	 * größere Kopie ersetzt. Mit {@link #snapshot()} erzeugte Stände können sich das Array daher
+	 * mit diesem Spielstand teilen.
+	 */
+	private Move[] madeMoves;
+
+	/**
+	 * Die Anzahl der ausgeführten Spielzüge.
+	 */
+	private int moveCount = 0;
+
+	/**
+	 * Ob {@link #madeMoves} mit einem anderen Spielstand geteilt wird. Ein mit {@link
+	 * #snapshot()} erzeugter Stand kopiert das Array dann vor dem ersten eigenen Zug.
+	 */
+	private boolean sharedMoves = false;
+
+	/**
+	 * Die gespeicherten Schnappschüsse des Spielbretts, jeweils zur Anzahl der Züge, nach welchen
+	 * sie erzeugt wurden.
 	 */
-	private ArrayDeque<Move> madeMoves;
+	private final TreeMap<Integer, BoardCheckpoint> checkpoints = new TreeMap<>();
 
 	/**
 	 * Die Größe des aktuellen Spielbretts.
 	 */
 	private int boardSize;
 
+	/**
+	 * Der Kanal, an welchen jeder hinzugefügte Zug angehängt wird. <code>null</code>, falls kein
+	 * Journal geführt wird.
+	 */
+	private FileChannel journal = null;
+
+	/**
+	 * Nach wie vielen angehängten Zügen das Journal jeweils auf den Datenträger geschrieben wird.
+	 * Bei 0 geschieht dies erst beim Schließen des Journals.
+	 */
+	private int journalSyncInterval = 0;
+
+	/**
+	 * Die Anzahl der Züge, die seit dem letzten Schreiben auf den Datenträger angehängt wurden.
+	 */
+	private int unsyncedMoves = 0;
+
 	/**
 	 * Dieser Konstruktor initialisiert ein neues SaveGame-Objekt mit der gegebenen
 	 * Spielbrett-Größe.
@@ -47,7 +155,7 @@ public class SaveGame implements Iterable<Move> {
 	 */
 	public SaveGame(int boardSize) {
 
-		this.madeMoves = new ArrayDeque<>();
+		this.madeMoves = new Move[16];
 		this.boardSize = boardSize;
 	}
 
@@ -55,8 +163,8 @@ public class SaveGame implements Iterable<Move> {
 	 * Diese Methode ermöglicht das Laden eines mit {@link #save(String)} gespeicherten
 	 * Spielstands.
 	 * <p>
-	 * Dabei werden die, von der Datei beschriebenen, Spielzüge in der {@link ArrayDeque} einer
-	 * neuen Instanz dieser Klasse gespeichert. Diese Instanz wird dann zurückgegeben.
+	 * Dabei werden die, von der Datei beschriebenen, Spielzüge in dem Array {@link #madeMoves}
+	 * einer neuen Instanz dieser Klasse gespeichert. Diese Instanz wird dann zurückgegeben.
 	 *
 	 * @param saveGameName
 	 * 		Name der zu ladenden Spielstand-Datei mit Pfad
@@ -68,6 +176,9 @@ public class SaveGame implements Iterable<Move> {
 	 * 		Falls während des Ladevorgangs ein Fehler aufgetreten ist
 	 */
 	public static SaveGame load(String saveGameName) throws LoadException {
+		if (isBinary(saveGameName)) {
+			return loadBinary(saveGameName);
+		}
 
 		/*
 		 * Mit einem try-with-resources wird ein neuer BufferedReader instanziiert. Falls während
@@ -75,6 +186,10 @@ public class SaveGame implements Iterable<Move> {
 		 * Fehler auftritt und eine Exception geworfen wird, wird dieser BufferedReader
 		 * automatisch geschlossen.
 		 */
+		// Endet die Datei nicht mit einem Zeilenumbruch, wurde die letzte Zeile eines Journals
+		// eventuell nicht vollständig geschrieben.
+		final boolean complete = endsWithLineBreak(saveGameName);
+
 		try (BufferedReader bufferedReader = new BufferedReader(new FileReader(saveGameName))) {
 			/*
 			 * Die erste Zeile einer Savegame-Datei beinhaltet die Größe des Spielbretts. Diese
@@ -89,14 +204,26 @@ public class SaveGame implements Iterable<Move> {
 			String currentLine = bufferedReader.readLine();
 
 			while (currentLine != null) {
+				final String nextLine = bufferedReader.readLine();
 
 				/*
 				 * Es wird versucht, die aktuell eingelesene Zeile als Zug zu parsen. Außerdem
 				 * lesen wir den
 				 * gespeicherten Hash-Code des Zuges aus der gleichen Zeile aus.
 				 */
-				Move move = Move.parseMove(currentLine.split(";", 2)[0]);
-				int hashCode = Integer.parseInt(currentLine.split(";", 3)[1]);
+				Move move;
+				int hashCode;
+				try {
+					move = Move.parseMove(currentLine.split(";", 2)[0]);
+					hashCode = Integer.parseInt(currentLine.split(";", 3)[1]);
+				} catch (RuntimeException e) {
+					if (nextLine == null && !complete) {
+						Log.log(LogLevel.WARNING, LogModule.MAIN,
+								"Ignoring incomplete last line of savegame " + saveGameName);
+						break;
+					}
+					throw e;
+				}
 
 				/*
 				 * Falls sich der gespeicherte Hash-Code nicht mit dem Hash-Code des eingelesenen
@@ -116,7 +243,7 @@ public class SaveGame implements Iterable<Move> {
 				saveGame.add(move);
 
 				// Und die nächste Zeile wird gelesen.
-				currentLine = bufferedReader.readLine();
+				currentLine = nextLine;
 			}
 			return saveGame;
 		} catch (IOException e) {
@@ -125,10 +252,131 @@ public class SaveGame implements Iterable<Move> {
 	}
 
 	/**
-	 * Fügt den gegeben Zug der Liste der gespeicherten Spielzüge hinzu.
+	 * Prüft anhand der Kennung am Dateianfang, ob ein Spielstand im Binärformat vorliegt.
+	 *
+	 * @param saveGameName
+	 * 		Name der Spielstand-Datei mit Pfad
+	 *
+	 * @return <code>true</code>, falls die Datei ein Spielstand im Binärformat ist
+	 *
+	 * @throws LoadException
+	 * 		Falls die Datei nicht gelesen werden konnte
+	 */
+	public static boolean isBinary(String saveGameName) throws LoadException {
+		try (RandomAccessFile file = new RandomAccessFile(saveGameName, "r")) {
+			return file.length() >= BINARY_HEADER_SIZE && file.readInt() == BINARY_MAGIC;
+		} catch (IOException e) {
+			throw new LoadException(e);
+		}
+	}
+
+	/**
+	 * Lädt einen mit {@link #saveBinary(String)} gespeicherten Spielstand. Die Datei wird dazu in
+	 * den Speicher abgebildet und die Prüfsumme über den gesamten Inhalt geprüft, bevor die Züge
+	 * dekodiert werden.
+	 *
+	 * @param saveGameName
+	 * 		Name der zu ladenden Spielstand-Datei mit Pfad
+	 *
+	 * @return Die, mit den in der Datei gespeicherten Spielzüge, intialisierte Instanz dieser
+	 * Klasse
+	 *
+	 * @throws LoadException
+	 * 		Falls die Datei nicht gelesen werden konnte oder beschädigt ist
+	 */
+	private static SaveGame loadBinary(String saveGameName) throws LoadException {
+		try (FileChannel channel = FileChannel.open(Paths.get(saveGameName),
+				StandardOpenOption.READ)) {
+			final MappedByteBuffer buffer =
+					channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+			buffer.getInt(); // Kennung, bereits von isBinary() geprüft
+			final short version = buffer.getShort();
+			if (version != BINARY_VERSION && version != BINARY_VERSION_WITHOUT_CHECKPOINTS) {
+				throw new LoadException("Unbekannte Version des Binärformats: " + version);
+			}
+			final int boardSize = buffer.getShort();
+			final int moveCount = buffer.getInt();
+
+			// Der Kopf, alle Züge und die Prüfsumme müssen in die Datei passen, in Version 1
+			// füllen sie die Datei genau aus.
+			final long minimumSize = BINARY_HEADER_SIZE + 4L * moveCount + 4 +
+					(version == BINARY_VERSION ? 4 : 0);
+			if (moveCount < 0 || channel.size() < minimumSize ||
+					(version == BINARY_VERSION_WITHOUT_CHECKPOINTS &&
+							channel.size() != minimumSize)) {
+				throw new LoadException("Die Länge des Spielstands passt nicht zur Anzahl der " +
+						"Züge.");
+			}
+
+			final int contentSize = (int) channel.size() - 4;
+			final CRC32 crc = new CRC32();
+			final ByteBuffer content = buffer.duplicate();
+			content.position(0).limit(contentSize);
+			crc.update(content);
+			buffer.position(contentSize);
+			if ((int) crc.getValue() != buffer.getInt()) {
+				Log.log(LogLevel.ERROR, LogModule.MAIN,
+						"The checksum of the binary savegame " + saveGameName + " is wrong");
+				throw new LoadException("Die Prüfsumme des Spielstands stimmt nicht überein!");
+			}
+
+			final SaveGame saveGame = new SaveGame(boardSize);
+			buffer.position(BINARY_HEADER_SIZE).limit(contentSize);
+			for (int i = 0; i < moveCount; i++) {
+				saveGame.add(MoveCodec.decodeMove(buffer.getInt()));
+			}
+
+			if (version == BINARY_VERSION) {
+				for (int i = buffer.getInt(); i > 0; i--) {
+					final int ply = buffer.getInt();
+					final BoardCheckpoint checkpoint = BoardCheckpoint.read(buffer);
+					if (ply < 0 || ply > moveCount || checkpoint.getSize() != boardSize) {
+						throw new LoadException("Ungültiger Schnappschuss zu Zug " + ply);
+					}
+					saveGame.checkpoints.put(ply, checkpoint);
+				}
+				if (buffer.hasRemaining()) {
+					throw new LoadException("Die Länge des Spielstands passt nicht zum Inhalt.");
+				}
+			}
+			return saveGame;
+		} catch (IllegalArgumentException | BufferUnderflowException e) {
+			throw new LoadException("Der Spielstand ist beschädigt: " + e.getMessage());
+		} catch (IOException e) {
+			throw new LoadException(e);
+		}
+	}
+
+	/**
+	 * Prüft, ob das letzte Zeichen einer Datei ein Zeilenumbruch ist.
+	 *
+	 * @param fileName
+	 * 		Name der Datei mit Pfad
+	 *
+	 * @return <code>true</code>, falls die Datei leer ist oder mit einem Zeilenumbruch endet
+	 *
+	 * @throws LoadException
+	 * 		Falls die Datei nicht gelesen werden konnte
+	 */
+	private static boolean endsWithLineBreak(String fileName) throws LoadException {
+		try (RandomAccessFile file = new RandomAccessFile(fileName, "r")) {
+			if (file.length() == 0) {
+				return true;
+			}
+			file.seek(file.length() - 1);
+			return file.read() == '\n';
+		} catch (IOException e) {
+			throw new LoadException(e);
+		}
+	}
+
+	/**
+	 * Fügt den gegeben Zug der Liste der gespeicherten Spielzüge hinzu. Wird ein Journal geführt,
+	 * wird der Zug außerdem an dieses angehängt.
 	 *
 	 * @param move
-	 * 		Spielzug, welcher der {@link ArrayDeque} hinzugefügt werden soll
+	 * 		Spielzug, welcher hinzugefügt werden soll
 	 */
 	public void add(Move move) {
 		if (move == null) {
@@ -137,8 +385,253 @@ public class SaveGame implements Iterable<Move> {
 
 		synchronized (this) {
 
-			madeMoves.add(move);
+			if (moveCount == madeMoves.length || sharedMoves) {
+				madeMoves = Arrays.copyOf(madeMoves, Math.max(16, 2 * moveCount));
+				sharedMoves = false;
+			}
+			madeMoves[moveCount++] = move;
+
+			if (journal != null) {
+				appendToJournal(move, moveCount - 1);
+			}
+		}
+	}
+
+	/**
+	 * Beginnt ein Journal: Die Datei mit dem gegebenen Namen wird im Format von {@link
+	 * #save(String)} mit den bisherigen Zügen überschrieben und bleibt geöffnet. Jeder weitere
+	 * Zug wird von {@link #add(Move)} direkt angehängt, anstatt die ganze Datei neu zu schreiben.
+	 * Ein bereits geführtes Journal wird vorher geschlossen.
+	 *
+	 * @param journalName
+	 * 		Name der Journal-Datei mit Pfad
+	 * @param syncInterval
+	 * 		Nach wie vielen Zügen das Journal jeweils auf den Datenträger geschrieben werden soll,
+	 * 		oder 0, falls dies erst beim Schließen geschehen soll
+	 *
+	 * @throws IOException
+	 * 		Falls die Datei nicht geöffnet oder beschrieben werden konnte
+	 */
+	public synchronized void startJournal(String journalName, int syncInterval)
+			throws IOException {
+		closeJournal();
+
+		journal = FileChannel.open(Paths.get(journalName), StandardOpenOption.CREATE,
+				StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+		journalSyncInterval = syncInterval;
+		unsyncedMoves = 0;
+
+		try {
+			final StringBuilder content = new StringBuilder();
+			content.append(boardSize).append('\n');
+			int i = 0;
+			for (Move m : moves()) {
+				content.append(formatMove(m, i++)).append('\n');
+			}
+			writeFully(content);
+			journal.force(false);
+		} catch (IOException e) {
+			closeJournal();
+			throw e;
+		}
+
+		Log.log(LogLevel.INFO, LogModule.MAIN, "Started journal " + journalName);
+	}
+
+	/**
+	 * Schreibt alle angehängten Züge auf den Datenträger und schließt das Journal. Wird kein
+	 * Journal geführt, passiert nichts.
+	 */
+	public synchronized void closeJournal() {
+		if (journal == null) {
+			return;
+		}
+
+		try {
+			journal.force(false);
+			journal.close();
+		} catch (IOException e) {
+			Log.log(LogLevel.ERROR, LogModule.MAIN,
+					"Closing the journal failed: " + e.getMessage());
+		}
+		journal = null;
+	}
+
+	/**
+	 * Hängt einen Zug an das Journal an und schreibt es gegebenenfalls auf den Datenträger.
+	 * Schlägt dies fehl, wird das Journal geschlossen, damit das Spiel weiterlaufen kann.
+	 *
+	 * @param move
+	 * 		Der anzuhängende Zug
+	 * @param index
+	 * 		Die Nummer des Zugs, beginnend mit 0
+	 */
+	private void appendToJournal(Move move, int index) {
+		try {
+			writeFully(new StringBuilder(formatMove(move, index)).append('\n'));
+
+			if (journalSyncInterval > 0 && ++unsyncedMoves >= journalSyncInterval) {
+				journal.force(false);
+				unsyncedMoves = 0;
+			}
+		} catch (IOException e) {
+			Log.log(LogLevel.ERROR, LogModule.MAIN,
+					"Writing to the journal failed, journal closed: " + e.getMessage());
+			closeJournal();
+		}
+	}
+
+	/**
+	 * Schreibt den gegebenen Text vollständig in das Journal.
+	 *
+	 * @param text
+	 * 		Der zu schreibende Text
+	 *
+	 * @throws IOException
+	 * 		Falls nicht in das Journal geschrieben werden konnte
+	 */
+	private void writeFully(CharSequence text) throws IOException {
+		final ByteBuffer buffer = StandardCharsets.UTF_8.encode(text.toString());
+		while (buffer.hasRemaining()) {
+			journal.write(buffer);
+		}
+	}
+
+	/**
+	 * Wandelt einen Zug in eine Zeile des Spielstand-Formats um. Ein Zug wird in folgendem Format
+	 * gespeichert:
+	 * String-Repräsentation des Moves;HashCode des Zugs;Aktueller Spieler, #i
+	 * Das Semikolon (;) wird hier als Seperator verwendet, da es nicht in der
+	 * String-Repräsentation eines Spielzugs vorkommt.
+	 *
+	 * @param move
+	 * 		Der umzuwandelnde Zug
+	 * @param index
+	 * 		Die Nummer des Zugs, beginnend mit 0
+	 *
+	 * @return Die Zeile ohne Zeilenumbruch
+	 */
+	private static String formatMove(Move move, int index) {
+		final PlayerColor currentPlayer = index % 2 == 0 ? Red : Blue;
+		return move + ";" + move.hashCode() + ";" + currentPlayer + ", " + "#" + index;
+	}
+
+	/**
+	 * Gibt die Anzahl der gespeicherten Spielzüge zurück.
+	 *
+	 * @return Anzahl der gespeicherten Spielzüge
+	 */
+	public synchronized int size() {
+		return moveCount;
+	}
+
+	/**
+	 * Erzeugt einen unveränderlichen Stand dieses Spielstands mit allen bisherigen Zügen und
+	 * Schnappschüssen. Die Züge werden dabei nicht kopiert, der Aufruf ist daher unabhängig von
+	 * der Anzahl der Züge schnell. Später hinzugefügte Züge sind im Stand nicht enthalten.
+	 *
+	 * @return Der Stand des Spielstands
+	 */
+	public synchronized SaveGame snapshot() {
+		final SaveGame snapshot = new SaveGame(boardSize);
+		snapshot.madeMoves = madeMoves;
+		snapshot.moveCount = moveCount;
+		snapshot.sharedMoves = true;
+		snapshot.checkpoints.putAll(checkpoints);
+		return snapshot;
+	}
+
+	/**
+	 * Gibt die bisherigen Züge als unveränderliche Liste zurück. Die Liste bleibt auch dann
+	 * unverändert, wenn weitere Züge hinzugefügt werden.
+	 *
+	 * @return Die bisherigen Züge
+	 */
+	private synchronized List<Move> moves() {
+		return Collections.unmodifiableList(Arrays.asList(madeMoves).subList(0, moveCount));
+	}
+
+	/**
+	 * Speichert einen Schnappschuss des Spielbretts nach der gegebenen Anzahl an Zügen.
+	 *
+	 * @param ply
+	 * 		Die Anzahl der Züge, nach welchen der Schnappschuss erzeugt wurde
+	 * @param checkpoint
+	 * 		Der Schnappschuss des Spielbretts
+	 *
+	 * @throws IllegalArgumentException
+	 * 		Falls noch nicht so viele Züge gespeichert sind oder die Spielbrettgröße nicht passt
+	 */
+	public synchronized void addCheckpoint(int ply, BoardCheckpoint checkpoint)
+			throws IllegalArgumentException {
+		if (ply < 0 || ply > moveCount || checkpoint.getSize() != boardSize) {
+			throw new IllegalArgumentException("Ungültiger Schnappschuss zu Zug " + ply);
+		}
+		checkpoints.put(ply, checkpoint);
+	}
+
+	/**
+	 * Gibt alle gespeicherten Schnappschüsse des Spielbretts zurück, jeweils zur Anzahl der Züge,
+	 * nach welchen sie erzeugt wurden.
+	 *
+	 * @return Eine Kopie der gespeicherten Schnappschüsse
+	 */
+	public synchronized Map<Integer, BoardCheckpoint> getCheckpoints() {
+		return new TreeMap<>(checkpoints);
+	}
+
+	/**
+	 * Übernimmt alle Schnappschüsse eines anderen Spielstands bis zur gegebenen Zugnummer. Die
+	 * Züge beider Spielstände müssen bis dahin übereinstimmen.
+	 *
+	 * @param source
+	 * 		Der Spielstand, dessen Schnappschüsse übernommen werden
+	 * @param maxPly
+	 * 		Die größte Zugnummer eines zu übernehmenden Schnappschusses
+	 */
+	public void copyCheckpoints(SaveGame source, int maxPly) {
+		final Map<Integer, BoardCheckpoint> copied;
+		synchronized (source) {
+			copied = new TreeMap<>(source.checkpoints.headMap(maxPly, true));
+		}
+		synchronized (this) {
+			for (Map.Entry<Integer, BoardCheckpoint> entry : copied.entrySet()) {
+				addCheckpoint(entry.getKey(), entry.getValue());
+			}
+		}
+	}
+
+	/**
+	 * Erzeugt ein {@link MainBoard} mit dem Spielstand nach der gegebenen Anzahl an Zügen. Dazu
+	 * wird der nächstgelegene vorherige Schnappschuss wiederhergestellt und nur die übrigen Züge
+	 * werden ausgeführt. Ohne passenden Schnappschuss werden alle Züge mit {@link
+	 * MainBoard#MainBoard(int, Iterable)} ausgeführt.
+	 *
+	 * @param ply
+	 * 		Die Anzahl der auszuführenden Züge
+	 *
+	 * @return Das Spielbrett nach dem gegebenen Zug
+	 *
+	 * @throws IllegalArgumentException
+	 * 		Falls nicht so viele Züge gespeichert sind
+	 * @throws IllegalStateException
+	 * 		Falls nach dem Ende des Spiels noch Züge folgen
+	 */
+	public MainBoard createBoard(int ply) throws IllegalArgumentException, IllegalStateException {
+		final Map.Entry<Integer, BoardCheckpoint> checkpoint;
+		final List<Move> moves;
+		synchronized (this) {
+			if (ply < 0 || ply > moveCount) {
+				throw new IllegalArgumentException("Der Spielstand hat keinen Zug " + ply);
+			}
+			checkpoint = checkpoints.floorEntry(ply);
+			moves = moves().subList(checkpoint == null ? 0 : checkpoint.getKey(), ply);
 		}
+
+		if (checkpoint == null) {
+			return new MainBoard(boardSize, moves);
+		}
+		return new MainBoard(checkpoint.getValue(), moves);
 	}
 
 	/**
@@ -161,77 +654,121 @@ public class SaveGame implements Iterable<Move> {
 	 */
 	public void save(String saveGameName) throws IOException {
 
-		// synchronized, damit während des Speicherns nicht noch Züge in der Arraydeque gemachter
-		// Züge abgelegt werden
-		synchronized (this) {
+		// Gespeichert wird der Stand beim Aufruf, währenddessen können weitere Züge hinzugefügt
+		// werden.
+		final List<Move> moves = moves();
 
-			/*
-			 * Das Speichern der Züge wird mit einem try-with-resources ermöglicht. Der so
-			 * erstellte PrintWriter wird
-			 * automatisch geschlossen, falls während des Speicherns ein Fehler aufgetreten ist
-			 * und eine Exception
-			 * geworfen wurde.
-			 */
-			try (PrintWriter printWriter = new PrintWriter(saveGameName, "UTF-8")) {
-
-				// In der ersten Zeile wird die Größe des Spielbretts gespeichert.
-				printWriter.println(boardSize);
-				PlayerColor currentPlayer = Red;
-
-				// Hilfsvariable zum Speichern der Anzahl der gemachten Züge.
-				int i = 0;
-
-				// Iterieren durch die gemachten Züge. Pro Zeile wird genau ein Zug gespeichert.
-				for (Move m : madeMoves) {
-
-					/*
-					 * Ein Zug wird in folgendem Format gespeichert:
-					 * String-Repräsentation des Moves;HashCode des Zugs;Aktueller Spieler, #i
-					 * Das Semikolon (;) wird hier als Seperator verwendet, da es nicht in der
-					 * String-Repräsentation
-					 * eines Spielzugs vorkommt.
-					 */
-					printWriter
-							.println(m + ";" + m.hashCode() + ";" + currentPlayer + ", " + "#" +
-									i);
-
-					// Wechseln des aktuellen Spielers mit dem Elvis-Operator.
-					currentPlayer = currentPlayer == Red ? Blue : Red;
-					i++;
-				}
+		/*
+		 * Das Speichern der Züge wird mit einem try-with-resources ermöglicht. Der so
+		 * erstellte PrintWriter wird
+		 * automatisch geschlossen, falls während des Speicherns ein Fehler aufgetreten ist
+		 * und eine Exception
+		 * geworfen wurde.
+		 */
+		try (PrintWriter printWriter = new PrintWriter(saveGameName, "UTF-8")) {
 
-				// Den PrintWriter schließen, falls Speichern erfolgreich.
-				printWriter.close();
+			// In der ersten Zeile wird die Größe des Spielbretts gespeichert.
+			printWriter.println(boardSize);
 
-				Log.log(LogLevel.INFO, LogModule.MAIN, "Game was saved to: " + saveGameName);
-			} catch (IOException e) {
-				Log.log(LogLevel.ERROR, LogModule.MAIN,
-						"Saving the game failed: " + e.getMessage());
-				throw e;
+			// Hilfsvariable zum Speichern der Anzahl der gemachten Züge.
+			int i = 0;
+
+			// Iterieren durch die gemachten Züge. Pro Zeile wird genau ein Zug gespeichert.
+			for (Move m : moves) {
+				printWriter.println(formatMove(m, i));
+				i++;
 			}
+
+			// Den PrintWriter schließen, falls Speichern erfolgreich.
+			printWriter.close();
+
+			Log.log(LogLevel.INFO, LogModule.MAIN, "Game was saved to: " + saveGameName);
+		} catch (IOException e) {
+			Log.log(LogLevel.ERROR, LogModule.MAIN,
+					"Saving the game failed: " + e.getMessage());
+			throw e;
 		}
 	}
 
 	/**
-	 * Gibt einen Iterator für diese Klasse zurück. Der Iterator ist anonym implementiert.
+	 * Speichert den Spielstand im Binärformat in einer Datei mit gegebenen Namen.
 	 *
-	 * @return ein Iterator
+	 * @param saveGameName
+	 * 		Name des Spielstands mit Pfad.
+	 *
+	 * @throws IOException
+	 * 		Falls während des Speicherns des Spielstands ein Fehler aufgetreten ist, oder ein Zug
+	 * 		nicht kodiert werden kann.
 	 */
-	@Override
-	public Iterator<Move> iterator() {
-		return new Iterator<Move>() {
+	public void saveBinary(String saveGameName) throws IOException {
+		// Wie bei save(String) wird der Stand beim Aufruf gespeichert.
+		snapshot().writeBinary(saveGameName);
+	}
 
-			Iterator<Move> it = madeMoves.iterator();
+	/**
+	 * Schreibt diesen Spielstand im Binärformat in eine Datei. Der Spielstand darf dabei nicht
+	 * verändert werden.
+	 *
+	 * @param saveGameName
+	 * 		Name des Spielstands mit Pfad.
+	 *
+	 * @throws IOException
+	 * 		Falls während des Speicherns des Spielstands ein Fehler aufgetreten ist, oder ein Zug
+	 * 		nicht kodiert werden kann.
+	 */
+	private void writeBinary(String saveGameName) throws IOException {
+		final List<Move> moves = moves();
+		int checkpointSize = 4;
+		for (BoardCheckpoint checkpoint : checkpoints.values()) {
+			checkpointSize += 4 + checkpoint.encodedSize();
+		}
 
-			@Override
-			public boolean hasNext() {
-				return it.hasNext();
+		final ByteBuffer buffer = ByteBuffer.allocate(
+				BINARY_HEADER_SIZE + 4 * moves.size() + checkpointSize + 4);
+		buffer.putInt(BINARY_MAGIC);
+		buffer.putShort(BINARY_VERSION);
+		buffer.putShort((short) boardSize);
+		buffer.putInt(moves.size());
+		try {
+			for (Move m : moves) {
+				buffer.putInt(MoveCodec.encode(m));
+			}
+			buffer.putInt(checkpoints.size());
+			for (Map.Entry<Integer, BoardCheckpoint> entry : checkpoints.entrySet()) {
+				buffer.putInt(entry.getKey());
+				entry.getValue().write(buffer);
 			}
+		} catch (IllegalArgumentException e) {
+			throw new IOException("Ein Zug kann nicht kodiert werden: " + e.getMessage(), e);
+		}
+
+		final CRC32 crc = new CRC32();
+		crc.update(buffer.array(), 0, buffer.position());
+		buffer.putInt((int) crc.getValue());
+		buffer.flip();
 
-			@Override
-			public Move next() {
-				return it.next();
+		try (FileChannel channel = FileChannel.open(Paths.get(saveGameName),
+				StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING)) {
+			while (buffer.hasRemaining()) {
+				channel.write(buffer);
 			}
-		};
+			Log.log(LogLevel.INFO, LogModule.MAIN, "Game was saved to: " + saveGameName);
+		} catch (IOException e) {
+			Log.log(LogLevel.ERROR, LogModule.MAIN,
+					"Saving the game failed: " + e.getMessage());
+			throw e;
+		}
+	}
+
+	/**
+	 * Gibt einen Iterator über die bisherigen Züge zurück. Später hinzugefügte Züge werden nicht
+	 * mehr durchlaufen.
+	 *
+	 * @return ein Iterator
+	 */
+	@Override
+	public Iterator<Move> iterator() {
+		return moves().iterator();
 	}
 }
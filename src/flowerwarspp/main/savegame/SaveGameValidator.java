@@ -0,0 +1,269 @@
+package flowerwarspp.main.savegame;
+
+import flowerwarspp.board.BoardCheckpoint;
+import flowerwarspp.board.MainBoard;
+import flowerwarspp.preset.Move;
+import flowerwarspp.preset.PlayerColor;
+import flowerwarspp.preset.Status;
+import flowerwarspp.preset.Viewer;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Prüft viele Spielstände und {@link GameArchive}s parallel, ohne ein Spiel zu starten. Jede
+ * Datei wird auf einem eigenen Thread mit eigenen {@link MainBoard}s geprüft.
+ * <p>
+ * Alle Züge eines Spiels werden zunächst mit {@link MainBoard#MainBoard(int, Iterable)} auf
+ * einmal ausgeführt. Ist dabei ein Zug ungültig, wird der erste ungültige Zug per binärer Suche
+ * über die Anzahl der ausgeführten Züge bestimmt. Außerdem wird geprüft, ob gespeicherte
+ * Schnappschüsse und die im Archiv gespeicherten Ergebnisse zu den Zügen passen. Die
+ * Schnappschüsse werden dabei in einem weiteren Durchlauf über die Züge auf demselben
+ * {@link MainBoard} verglichen.
+ */
+public class SaveGameValidator {
+	/**
+	 * Die Anzahl der Threads, auf denen geprüft wird.
+	 */
+	private final int threads;
+
+	/**
+	 * Erzeugt einen neuen Prüfer.
+	 *
+	 * @param threads
+	 * 		Die Anzahl der Threads, auf denen geprüft wird
+	 */
+	public SaveGameValidator(int threads) {
+		this.threads = Math.max(1, threads);
+	}
+
+	/**
+	 * Prüft eine Datei oder, falls ein Verzeichnis gegeben ist, alle Dateien darin und in allen
+	 * Unterverzeichnissen.
+	 *
+	 * @param source
+	 * 		Die Datei oder das Verzeichnis
+	 *
+	 * @return Die Prüfergebnisse aller Spiele, sortiert nach Dateiname und Nummer im Archiv
+	 *
+	 * @throws IOException
+	 * 		Falls das Verzeichnis nicht durchsucht werden konnte
+	 * @throws InterruptedException
+	 * 		Falls der Thread während des Wartens auf die Prüfung unterbrochen worden ist
+	 */
+	public List<ValidationResult> validateAll(Path source)
+			throws IOException, InterruptedException {
+		final List<Path> files;
+		try (Stream<Path> stream = Files.walk(source)) {
+			files = stream.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+		}
+
+		final ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+			final Thread thread = new Thread(runnable, "Validator");
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			final List<Future<List<ValidationResult>>> futures = new ArrayList<>();
+			for (Path file : files) {
+				futures.add(executor.submit(() -> validateFile(file.toString())));
+			}
+
+			final List<ValidationResult> results = new ArrayList<>();
+			for (int i = 0; i < futures.size(); i++) {
+				try {
+					results.addAll(futures.get(i).get());
+				} catch (ExecutionException e) {
+					results.add(ValidationResult.unreadable(files.get(i).toString(),
+							String.valueOf(e.getCause())));
+				}
+			}
+			return results;
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Prüft alle Spiele in einem Spielstand oder einem {@link GameArchive}.
+	 *
+	 * @param fileName
+	 * 		Name der Datei mit Pfad
+	 *
+	 * @return Die Prüfergebnisse aller Spiele der Datei
+	 */
+	public static List<ValidationResult> validateFile(String fileName) {
+		try {
+			if (!GameArchive.isArchive(fileName)) {
+				return Collections.singletonList(validate(fileName, -1, SaveGame.load(fileName)));
+			}
+
+			final List<ValidationResult> results = new ArrayList<>();
+			try (GameArchive archive = GameArchive.open(fileName)) {
+				for (ArchivedGame game : archive) {
+					results.add(validate(fileName, game));
+				}
+			} catch (IllegalStateException e) {
+				// Die bis dahin gelesenen Spiele werden trotzdem berichtet.
+				results.add(ValidationResult.unreadable(fileName, e.getMessage()));
+			}
+			return results;
+		} catch (LoadException | IOException e) {
+			return Collections.singletonList(ValidationResult.unreadable(fileName,
+					e.getMessage()));
+		} catch (IllegalArgumentException e) {
+			return Collections.singletonList(ValidationResult.unreadable(fileName,
+					"Die Datei ist kein gültiger Spielstand."));
+		}
+	}
+
+	/**
+	 * Prüft ein Spiel aus einem {@link GameArchive}. Zusätzlich zu den Zügen wird geprüft, ob der
+	 * gespeicherte {@link Status} und die gespeicherten Punktestände zu den Zügen passen.
+	 *
+	 * @param fileName
+	 * 		Name der Archivdatei
+	 * @param game
+	 * 		Das zu prüfende Spiel
+	 *
+	 * @return Das Prüfergebnis
+	 */
+	private static ValidationResult validate(String fileName, ArchivedGame game) {
+		final ValidationResult result = validate(fileName, game.getNumber(), game.getSaveGame());
+		if (!result.isValid() || (result.getStatus() == game.getStatus() &&
+				result.getPoints(PlayerColor.Red) == game.getPoints(PlayerColor.Red) &&
+				result.getPoints(PlayerColor.Blue) == game.getPoints(PlayerColor.Blue))) {
+			return result;
+		}
+		return new ValidationResult(fileName, game.getNumber(), result.getMoveCount(),
+				result.getStatus(), result.getPoints(PlayerColor.Red),
+				result.getPoints(PlayerColor.Blue), -1,
+				"gespeichertes Ergebnis " + game.getStatus() + ", Rot " +
+						game.getPoints(PlayerColor.Red) + ", Blau " +
+						game.getPoints(PlayerColor.Blue) + " passt nicht zu den Zügen");
+	}
+
+	/**
+	 * Prüft die Züge und die Schnappschüsse eines Spiels.
+	 *
+	 * @param fileName
+	 * 		Name der Datei
+	 * @param gameNumber
+	 * 		Die Nummer des Spiels im Archiv, oder -1
+	 * @param saveGame
+	 * 		Die Züge des Spiels
+	 *
+	 * @return Das Prüfergebnis
+	 */
+	static ValidationResult validate(String fileName, int gameNumber, SaveGame saveGame) {
+		final List<Move> moves = new ArrayList<>();
+		for (Move move : saveGame) {
+			moves.add(move);
+		}
+		final int size = saveGame.getBoardSize();
+		if (size < 3 || size > 30) {
+			return new ValidationResult(fileName, gameNumber, moves.size(), Status.Illegal, 0, 0,
+					-1, "ungültige Spielbrettgröße " + size);
+		}
+
+		// Die Schnappschüsse zum Vergleich entstehen beim Nachspielen aller Züge.
+		final Map<Integer, BoardCheckpoint> checkpoints = saveGame.getCheckpoints();
+		final Map<Integer, BoardCheckpoint> replayed = new HashMap<>();
+		for (int ply : checkpoints.keySet()) {
+			replayed.put(ply, null);
+		}
+
+		MainBoard board = replay(size, moves, moves.size(), replayed);
+		int invalidMove = -1;
+		if (board == null) {
+			/*
+			 * Ist eine Zugfolge ungültig, sind es auch alle längeren. Gesucht ist die längste
+			 * gültige Zugfolge, der darauf folgende Zug ist der erste ungültige.
+			 */
+			int valid = 0;
+			int invalid = moves.size();
+			while (invalid - valid > 1) {
+				final int middle = (valid + invalid) >>> 1;
+				if (replay(size, moves, middle, null) != null) {
+					valid = middle;
+				} else {
+					invalid = middle;
+				}
+			}
+			invalidMove = invalid - 1;
+			board = replay(size, moves, valid, null);
+		}
+
+		final Viewer viewer = board.viewer();
+		String error = null;
+		if (invalidMove >= 0) {
+			error = "Zug " + (invalidMove + 1) + " (" + moves.get(invalidMove) + ") ist ungültig";
+		} else {
+			error = validateCheckpoints(checkpoints, replayed);
+		}
+
+		return new ValidationResult(fileName, gameNumber, moves.size(),
+				invalidMove >= 0 ? Status.Illegal : viewer.getStatus(),
+				viewer.getPoints(PlayerColor.Red), viewer.getPoints(PlayerColor.Blue), invalidMove,
+				error);
+	}
+
+	/**
+	 * Prüft, ob alle gespeicherten Schnappschüsse eines Spielstands zu seinen Zügen passen.
+	 *
+	 * @param checkpoints
+	 * 		Die gespeicherten Schnappschüsse
+	 * @param replayed
+	 * 		Die beim Nachspielen der Züge zu denselben Zugnummern angelegten Schnappschüsse
+	 *
+	 * @return Beschreibung des ersten fehlerhaften Schnappschusses, oder <code>null</code>
+	 */
+	private static String validateCheckpoints(Map<Integer, BoardCheckpoint> checkpoints,
+	                                          Map<Integer, BoardCheckpoint> replayed) {
+		for (Map.Entry<Integer, BoardCheckpoint> entry : checkpoints.entrySet()) {
+			// Zu Zugnummern nach dem Ende des Spiels ist kein Schnappschuss angelegt worden.
+			if (!entry.getValue().equals(replayed.get(entry.getKey()))) {
+				return "Schnappschuss nach Zug " + entry.getKey() + " passt nicht zu den Zügen";
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Führt die ersten Züge einer Zugfolge auf einem neuen {@link MainBoard} aus.
+	 *
+	 * @param size
+	 * 		Die Größe des Spielbretts
+	 * @param moves
+	 * 		Die Zugfolge
+	 * @param count
+	 * 		Die Anzahl der auszuführenden Züge
+	 * @param checkpoints
+	 * 		Die Zugnummern, zu welchen dabei Schnappschüsse angelegt werden, oder
+	 * 		<code>null</code>; siehe {@link MainBoard#MainBoard(int, Iterable, Map)}
+	 *
+	 * @return Das Spielbrett, oder <code>null</code> falls einer der Züge ungültig ist
+	 */
+	private static MainBoard replay(int size, List<Move> moves, int count,
+	                                Map<Integer, BoardCheckpoint> checkpoints) {
+		try {
+			final MainBoard board = new MainBoard(size, moves.subList(0, count), checkpoints);
+			return board.viewer().getStatus() == Status.Illegal ? null : board;
+		} catch (IllegalStateException e) {
+			// Züge nach dem Ende des Spiels
+			return null;
+		}
+	}
+}
@@ -0,0 +1,201 @@
+package flowerwarspp.main.savegame;
+
+import flowerwarspp.preset.PlayerColor;
+import flowerwarspp.preset.Status;
+
+/**
+ * Das Ergebnis der Prüfung eines Spiels durch den {@link SaveGameValidator}. Ein Spiel ist gültig,
+ * wenn seine Datei gelesen werden konnte, alle Züge erlaubt sind und alle gespeicherten
+ * Schnappschüsse und Ergebnisse zu den Zügen passen.
+ */
+public class ValidationResult {
+	/**
+	 * Der Name der geprüften Datei.
+	 */
+	private final String fileName;
+
+	/**
+	 * Die Nummer des Spiels in einem {@link GameArchive}, oder -1 für einen einzelnen Spielstand.
+	 */
+	private final int gameNumber;
+
+	/**
+	 * Die Anzahl der Züge des Spiels.
+	 */
+	private final int moveCount;
+
+	/**
+	 * Der {@link Status} nach dem letzten gültigen Zug, oder <code>null</code> falls die Datei
+	 * nicht gelesen werden konnte.
+	 */
+	private final Status status;
+
+	/**
+	 * Punktestand des roten Spielers nach dem letzten gültigen Zug.
+	 */
+	private final int redPoints;
+
+	/**
+	 * Punktestand des blauen Spielers nach dem letzten gültigen Zug.
+	 */
+	private final int bluePoints;
+
+	/**
+	 * Der Index des ersten ungültigen Zugs, beginnend mit 0, oder -1 falls alle Züge gültig sind.
+	 */
+	private final int invalidMove;
+
+	/**
+	 * Beschreibung des Fehlers, oder <code>null</code> falls das Spiel gültig ist.
+	 */
+	private final String error;
+
+	/**
+	 * Erzeugt ein neues Prüfergebnis.
+	 *
+	 * @param fileName
+	 * 		Der Name der geprüften Datei
+	 * @param gameNumber
+	 * 		Die Nummer des Spiels im Archiv, oder -1
+	 * @param moveCount
+	 * 		Die Anzahl der Züge des Spiels
+	 * @param status
+	 * 		Der {@link Status} nach dem letzten gültigen Zug, oder <code>null</code>
+	 * @param redPoints
+	 * 		Punktestand des roten Spielers
+	 * @param bluePoints
+	 * 		Punktestand des blauen Spielers
+	 * @param invalidMove
+	 * 		Der Index des ersten ungültigen Zugs, oder -1
+	 * @param error
+	 * 		Beschreibung des Fehlers, oder <code>null</code>
+	 */
+	ValidationResult(String fileName, int gameNumber, int moveCount, Status status,
+	                 int redPoints, int bluePoints, int invalidMove, String error) {
+		this.fileName = fileName;
+		this.gameNumber = gameNumber;
+		this.moveCount = moveCount;
+		this.status = status;
+		this.redPoints = redPoints;
+		this.bluePoints = bluePoints;
+		this.invalidMove = invalidMove;
+		this.error = error;
+	}
+
+	/**
+	 * Erzeugt das Prüfergebnis einer Datei, die nicht gelesen werden konnte.
+	 *
+	 * @param fileName
+	 * 		Der Name der Datei
+	 * @param error
+	 * 		Beschreibung des Fehlers
+	 *
+	 * @return Das Prüfergebnis
+	 */
+	static ValidationResult unreadable(String fileName, String error) {
+		return new ValidationResult(fileName, -1, 0, null, 0, 0, -1, error);
+	}
+
+	/**
+	 * Gibt {@link #fileName} zurück.
+	 *
+	 * @return Wert von {@link #fileName}
+	 */
+	public String getFileName() {
+		return fileName;
+	}
+
+	/**
+	 * Gibt {@link #gameNumber} zurück.
+	 *
+	 * @return Wert von {@link #gameNumber}
+	 */
+	public int getGameNumber() {
+		return gameNumber;
+	}
+
+	/**
+	 * Gibt {@link #moveCount} zurück.
+	 *
+	 * @return Wert von {@link #moveCount}
+	 */
+	public int getMoveCount() {
+		return moveCount;
+	}
+
+	/**
+	 * Gibt {@link #status} zurück.
+	 *
+	 * @return Wert von {@link #status}
+	 */
+	public Status getStatus() {
+		return status;
+	}
+
+	/**
+	 * Gibt den Punktestand des Spielers der gegebenen Farbe nach dem letzten gültigen Zug zurück.
+	 *
+	 * @param color
+	 * 		Die Farbe des Spielers
+	 *
+	 * @return Punktestand des Spielers
+	 */
+	public int getPoints(PlayerColor color) {
+		return color == PlayerColor.Red ? redPoints : bluePoints;
+	}
+
+	/**
+	 * Gibt {@link #invalidMove} zurück.
+	 *
+	 * @return Wert von {@link #invalidMove}
+	 */
+	public int getInvalidMove() {
+		return invalidMove;
+	}
+
+	/**
+	 * Gibt {@link #error} zurück.
+	 *
+	 * @return Wert von {@link #error}
+	 */
+	public String getError() {
+		return error;
+	}
+
+	/**
+	 * Gibt zurück, ob die Datei gelesen werden konnte.
+	 *
+	 * @return <code>true</code>, falls die Datei gelesen werden konnte
+	 */
+	public boolean isReadable() {
+		return status != null;
+	}
+
+	/**
+	 * Gibt zurück, ob das Spiel gültig ist.
+	 *
+	 * @return <code>true</code>, falls das Spiel gültig ist
+	 */
+	public boolean isValid() {
+		return error == null;
+	}
+
+	/**
+	 * Gibt das Prüfergebnis als eine Zeile des Prüfberichts zurück.
+	 *
+	 * @return Das Prüfergebnis als Text
+	 */
+	@Override
+	public String toString() {
+		final String name = gameNumber < 0 ? fileName : fileName + "#" + gameNumber;
+		if (!isReadable()) {
+			return name + ": UNLESBAR (" + error + ")";
+		}
+		final String result =
+				moveCount + " Züge, " + status + ", Rot " + redPoints + ", Blau " + bluePoints;
+		if (isValid()) {
+			return name + ": OK (" + result + ")";
+		}
+		return name + ": UNGÜLTIG (" + error + "; " + result + ")";
+	}
+}
@@ -0,0 +1,216 @@
+package flowerwarspp.main.spectator;
+
+import flowerwarspp.preset.Move;
+import flowerwarspp.preset.PlayerColor;
+import flowerwarspp.preset.Status;
+
+/**
+ * Ein unveränderliches Ereignis eines laufenden Spiels, welches an die Zuschauer übertragen wird.
+ * Ein Ereignis beschreibt entweder den Beginn eines Spiels oder einen ausgeführten Zug zusammen
+ * mit dem daraus resultierenden {@link Status} und Punktestand.
+ * <p>
+ * Mit {@link #toString()} wird das Ereignis in eine kompakte Textzeile umgewandelt:
+ * <pre>
+ * start &lt;Spielbrettgröße&gt; &lt;Anzahl Züge&gt; &lt;Status&gt; &lt;Punkte Rot&gt; &lt;Punkte Blau&gt;
+ * move &lt;Zugnummer&gt; &lt;Farbe&gt; &lt;Zug&gt; &lt;Status&gt; &lt;Punkte Rot&gt; &lt;Punkte Blau&gt;
+ * </pre>
+ */
+public class GameEvent {
+	/**
+	 * Größe des Spielbretts, auf welchem das Spiel stattfindet.
+	 */
+	private final int boardSize;
+
+	/**
+	 * Nummer des Zugs, beginnend mit 1. Beim Beginn eines Spiels die Anzahl der bereits gemachten
+	 * Züge.
+	 */
+	private final int ply;
+
+	/**
+	 * Der Spieler, der den Zug gemacht hat. <code>null</code> beim Beginn eines Spiels.
+	 */
+	private final PlayerColor player;
+
+	/**
+	 * Der gemachte Zug. <code>null</code> beim Beginn eines Spiels.
+	 */
+	private final Move move;
+
+	/**
+	 * Der {@link Status} des Spielbretts nach dem Zug.
+	 */
+	private final Status status;
+
+	/**
+	 * Punktestand des roten Spielers nach dem Zug.
+	 */
+	private final int redPoints;
+
+	/**
+	 * Punktestand des blauen Spielers nach dem Zug.
+	 */
+	private final int bluePoints;
+
+	/**
+	 * Erzeugt ein neues Ereignis.
+	 *
+	 * @param boardSize
+	 * 		Größe des Spielbretts
+	 * @param ply
+	 * 		Nummer des Zugs
+	 * @param player
+	 * 		Der Spieler, der den Zug gemacht hat
+	 * @param move
+	 * 		Der gemachte Zug
+	 * @param status
+	 * 		Der {@link Status} des Spielbretts nach dem Zug
+	 * @param redPoints
+	 * 		Punktestand des roten Spielers
+	 * @param bluePoints
+	 * 		Punktestand des blauen Spielers
+	 */
+	private GameEvent(int boardSize, int ply, PlayerColor player, Move move, Status status,
+	                  int redPoints, int bluePoints) {
+		this.boardSize = boardSize;
+		this.ply = ply;
+		this.player = player;
+		this.move = move;
+		this.status = status;
+		this.redPoints = redPoints;
+		this.bluePoints = bluePoints;
+	}
+
+	/**
+	 * Erzeugt ein Ereignis, welches den Beginn eines Spiels beschreibt.
+	 *
+	 * @param boardSize
+	 * 		Größe des Spielbretts
+	 * @param ply
+	 * 		Anzahl der bereits gemachten Züge, etwa bei einem geladenen Spielstand
+	 * @param status
+	 * 		Der {@link Status} des Spielbretts
+	 * @param redPoints
+	 * 		Punktestand des roten Spielers
+	 * @param bluePoints
+	 * 		Punktestand des blauen Spielers
+	 *
+	 * @return Das erzeugte Ereignis
+	 */
+	public static GameEvent start(int boardSize, int ply, Status status, int redPoints,
+	                              int bluePoints) {
+		return new GameEvent(boardSize, ply, null, null, status, redPoints, bluePoints);
+	}
+
+	/**
+	 * Erzeugt ein Ereignis, welches einen ausgeführten Zug beschreibt.
+	 *
+	 * @param boardSize
+	 * 		Größe des Spielbretts
+	 * @param ply
+	 * 		Nummer des Zugs, beginnend mit 1
+	 * @param player
+	 * 		Der Spieler, der den Zug gemacht hat
+	 * @param move
+	 * 		Der gemachte Zug
+	 * @param status
+	 * 		Der {@link Status} des Spielbretts nach dem Zug
+	 * @param redPoints
+	 * 		Punktestand des roten Spielers
+	 * @param bluePoints
+	 * 		Punktestand des blauen Spielers
+	 *
+	 * @return Das erzeugte Ereignis
+	 */
+	public static GameEvent move(int boardSize, int ply, PlayerColor player, Move move,
+	                             Status status, int redPoints, int bluePoints) {
+		return new GameEvent(boardSize, ply, player, move, status, redPoints, bluePoints);
+	}
+
+	/**
+	 * Gibt zurück, ob dieses Ereignis den Beginn eines Spiels beschreibt.
+	 *
+	 * @return <code>true</code>, falls das Ereignis kein Zug ist
+	 */
+	public boolean isStart() {
+		return move == null;
+	}
+
+	/**
+	 * Gibt {@link #boardSize} zurück.
+	 *
+	 * @return Wert von {@link #boardSize}
+	 */
+	public int getBoardSize() {
+		return boardSize;
+	}
+
+	/**
+	 * Gibt {@link #ply} zurück.
+	 *
+	 * @return Wert von {@link #ply}
+	 */
+	public int getPly() {
+		return ply;
+	}
+
+	/**
+	 * Gibt {@link #player} zurück.
+	 *
+	 * @return Wert von {@link #player}
+	 */
+	public PlayerColor getPlayer() {
+		return player;
+	}
+
+	/**
+	 * Gibt {@link #move} zurück.
+	 *
+	 * @return Wert von {@link #move}
+	 */
+	public Move getMove() {
+		return move;
+	}
+
+	/**
+	 * Gibt {@link #status} zurück.
+	 *
+	 * @return Wert von {@link #status}
+	 */
+	public Status getStatus() {
+		return status;
+	}
+
+	/**
+	 * Gibt {@link #redPoints} zurück.
+	 *
+	 * @return Wert von {@link #redPoints}
+	 */
+	public int getRedPoints() {
+		return redPoints;
+	}
+
+	/**
+	 * Gibt {@link #bluePoints} zurück.
+	 *
+	 * @return Wert von {@link #bluePoints}
+	 */
+	public int getBluePoints() {
+		return bluePoints;
+	}
+
+	/**
+	 * Wandelt das Ereignis in eine kompakte Textzeile ohne Zeilenumbruch um.
+	 *
+	 * @return Das Ereignis als Textzeile
+	 */
+	@Override
+	public String toString() {
+		if (isStart()) {
+			return "start " + boardSize + " " + ply + " " + status + " " + redPoints + " " +
+					bluePoints;
+		}
+		return "move " + ply + " " + player + " " + move + " " + status + " " + redPoints + " " +
+				bluePoints;
+	}
+}
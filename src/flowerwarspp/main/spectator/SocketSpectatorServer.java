@@ -0,0 +1,136 @@
+package flowerwarspp.main.spectator;
+
+import flowerwarspp.util.log.Log;
+import flowerwarspp.util.log.LogLevel;
+import flowerwarspp.util.log.LogModule;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Ein Server, welcher die Ereignisse einer {@link SpectatorBroadcast} über TCP an Zuschauer
+ * überträgt.
+ * <p>
+ * Jeder Client, der sich mit dem Port des Servers verbindet, wird als {@link Spectator}
+ * angemeldet und erhält ab diesem Zeitpunkt jedes Ereignis als eine Zeile im Format von {@link
+ * GameEvent#toString()}. Schließt der Client die Verbindung, wird er wieder abgemeldet.
+ */
+public class SocketSpectatorServer extends Thread {
+	/**
+	 * Der Server-Socket, an welchem Zuschauer sich verbinden.
+	 */
+	private final ServerSocket serverSocket;
+
+	/**
+	 * Die {@link SpectatorBroadcast}, deren Ereignisse übertragen werden.
+	 */
+	private final SpectatorBroadcast broadcast;
+
+	/**
+	 * Öffnet den Server an dem gegebenen Port. Angenommen werden Verbindungen erst nach {@link
+	 * #start()}.
+	 *
+	 * @param port
+	 * 		Der Port, an welchem Zuschauer sich verbinden können
+	 * @param broadcast
+	 * 		Die {@link SpectatorBroadcast}, deren Ereignisse übertragen werden
+	 *
+	 * @throws IOException
+	 * 		Falls der Port nicht geöffnet werden konnte
+	 */
+	public SocketSpectatorServer(int port, SpectatorBroadcast broadcast) throws IOException {
+		super("SpectatorServer-" + port);
+		this.serverSocket = new ServerSocket(port);
+		this.broadcast = broadcast;
+		setDaemon(true);
+	}
+
+	/**
+	 * Nimmt Verbindungen von Zuschauern an, bis der Server mit {@link #close()} geschlossen wird.
+	 */
+	@Override
+	public void run() {
+		Log.log(LogLevel.INFO, LogModule.MAIN,
+				"Accepting spectators on port " + serverSocket.getLocalPort());
+
+		while (!serverSocket.isClosed()) {
+			try {
+				final Socket socket = serverSocket.accept();
+				socket.setTcpNoDelay(true);
+				broadcast.subscribe(new SocketSpectator(socket));
+			} catch (IOException e) {
+				if (!serverSocket.isClosed()) {
+					Log.log(LogLevel.WARNING, LogModule.MAIN,
+							"Could not accept spectator: " + e.getMessage());
+				}
+			}
+		}
+	}
+
+	/**
+	 * Schließt den Server. Bereits verbundene Zuschauer bleiben angemeldet.
+	 *
+	 * @throws IOException
+	 * 		Falls der Server-Socket nicht geschlossen werden konnte
+	 */
+	public void close() throws IOException {
+		serverSocket.close();
+	}
+
+	/**
+	 * Ein über TCP verbundener Zuschauer.
+	 */
+	private static class SocketSpectator implements Spectator {
+		/**
+		 * Die Verbindung zum Zuschauer.
+		 */
+		private final Socket socket;
+
+		/**
+		 * Der gepufferte Ausgabestrom der Verbindung.
+		 */
+		private final Writer writer;
+
+		/**
+		 * Erzeugt einen neuen Zuschauer für die gegebene Verbindung.
+		 *
+		 * @param socket
+		 * 		Die Verbindung zum Zuschauer
+		 *
+		 * @throws IOException
+		 * 		Falls der Ausgabestrom der Verbindung nicht geöffnet werden konnte
+		 */
+		private SocketSpectator(Socket socket) throws IOException {
+			this.socket = socket;
+			this.writer = new BufferedWriter(
+					new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8));
+		}
+
+		/**
+		 * Schreibt das Ereignis als eine Zeile in die Verbindung. Schlägt dies fehl, wird die
+		 * Verbindung geschlossen.
+		 *
+		 * @param event
+		 * 		Das eingetretene Ereignis
+		 *
+		 * @throws IOException
+		 * 		Falls nicht in die Verbindung geschrieben werden konnte
+		 */
+		@Override
+		public void receive(GameEvent event) throws IOException {
+			try {
+				writer.write(event.toString());
+				writer.write('\n');
+				writer.flush();
+			} catch (IOException e) {
+				socket.close();
+				throw e;
+			}
+		}
+	}
+}
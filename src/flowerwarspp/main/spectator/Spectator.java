@@ -0,0 +1,23 @@
+package flowerwarspp.main.spectator;
+
+/**
+ * Ein Zuschauer eines laufenden Spiels, welcher mit {@link SpectatorBroadcast#subscribe(Spectator)}
+ * angemeldet wird und dann alle {@link GameEvent}s des Spiels erhält.
+ * <p>
+ * Die Ereignisse werden nicht vom Thread des Hauptprogramms, sondern von einem eigenen Thread pro
+ * Zuschauer zugestellt. Ein langsamer Zuschauer hält daher das Spiel nicht auf, kann aber
+ * Ereignisse verpassen.
+ */
+public interface Spectator {
+	/**
+	 * Wird für jedes Ereignis des Spiels aufgerufen, in der Reihenfolge der Ereignisse.
+	 *
+	 * @param event
+	 * 		Das eingetretene Ereignis
+	 *
+	 * @throws Exception
+	 * 		Falls der Zuschauer das Ereignis nicht verarbeiten kann. Der Zuschauer wird dann
+	 * 		abgemeldet.
+	 */
+	void receive(GameEvent event) throws Exception;
+}
@@ -0,0 +1,162 @@
+package flowerwarspp.main.spectator;
+
+import flowerwarspp.util.log.Log;
+import flowerwarspp.util.log.LogLevel;
+import flowerwarspp.util.log.LogModule;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Verteilt die {@link GameEvent}s eines laufenden Spiels an beliebig viele {@link Spectator}s.
+ * <p>
+ * Jeder angemeldete Zuschauer erhält eine eigene, in der Größe beschränkte Warteschlange und einen
+ * eigenen Thread, welcher die Ereignisse daraus zustellt. {@link #publish(GameEvent)} blockiert
+ * daher nie: Ist die Warteschlange eines Zuschauers voll, wird dessen ältestes noch nicht
+ * zugestelltes Ereignis verworfen.
+ */
+public class SpectatorBroadcast {
+	/**
+	 * Die Anzahl der Ereignisse, die pro Zuschauer höchstens auf ihre Zustellung warten.
+	 */
+	public static final int QUEUE_CAPACITY = 256;
+
+	/**
+	 * Die Anmeldungen aller aktuellen Zuschauer.
+	 */
+	private final CopyOnWriteArrayList<Subscription> subscriptions =
+			new CopyOnWriteArrayList<>();
+
+	/**
+	 * Meldet einen Zuschauer an. Er erhält alle ab jetzt veröffentlichten Ereignisse.
+	 *
+	 * @param spectator
+	 * 		Der anzumeldende Zuschauer
+	 */
+	public void subscribe(Spectator spectator) {
+		final Subscription subscription = new Subscription(spectator);
+		subscriptions.add(subscription);
+		subscription.start();
+
+		Log.log(LogLevel.INFO, LogModule.MAIN,
+				"Spectator subscribed, " + subscriptions.size() + " spectator(s) now");
+	}
+
+	/**
+	 * Meldet einen Zuschauer ab. Noch nicht zugestellte Ereignisse werden verworfen.
+	 *
+	 * @param spectator
+	 * 		Der abzumeldende Zuschauer
+	 */
+	public void unsubscribe(Spectator spectator) {
+		for (Subscription subscription : subscriptions) {
+			if (subscription.spectator == spectator) {
+				subscription.cancel();
+			}
+		}
+	}
+
+	/**
+	 * Gibt zurück, ob mindestens ein Zuschauer angemeldet ist. Damit kann das Erzeugen von
+	 * Ereignissen ohne Zuschauer übersprungen werden.
+	 *
+	 * @return <code>true</code>, falls Zuschauer angemeldet sind
+	 */
+	public boolean hasSpectators() {
+		return !subscriptions.isEmpty();
+	}
+
+	/**
+	 * Veröffentlicht ein Ereignis an alle angemeldeten Zuschauer, ohne auf deren Zustellung zu
+	 * warten.
+	 *
+	 * @param event
+	 * 		Das zu veröffentlichende Ereignis
+	 */
+	public void publish(GameEvent event) {
+		for (Subscription subscription : subscriptions) {
+			subscription.offer(event);
+		}
+	}
+
+	/**
+	 * Die Anmeldung eines einzelnen Zuschauers, bestehend aus seiner Warteschlange und dem Thread,
+	 * welcher die Ereignisse daraus zustellt.
+	 */
+	private class Subscription extends Thread {
+		/**
+		 * Der angemeldete Zuschauer.
+		 */
+		private final Spectator spectator;
+
+		/**
+		 * Die noch nicht zugestellten Ereignisse.
+		 */
+		private final BlockingQueue<GameEvent> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+
+		/**
+		 * Die Anzahl der Ereignisse, die wegen einer vollen Warteschlange verworfen worden sind.
+		 */
+		private volatile int dropped = 0;
+
+		/**
+		 * Erzeugt eine neue Anmeldung.
+		 *
+		 * @param spectator
+		 * 		Der angemeldete Zuschauer
+		 */
+		private Subscription(Spectator spectator) {
+			super("Spectator-" + subscriptions.size());
+			this.spectator = spectator;
+			setDaemon(true);
+		}
+
+		/**
+		 * Reiht ein Ereignis in die Warteschlange ein. Ist diese voll, wird das älteste
+		 * Ereignis verworfen. Die Methode wird nur vom Hauptprogramm aufgerufen.
+		 *
+		 * @param event
+		 * 		Das einzureihende Ereignis
+		 */
+		private void offer(GameEvent event) {
+			while (!queue.offer(event)) {
+				if (queue.poll() != null) {
+					dropped++;
+				}
+			}
+		}
+
+		/**
+		 * Beendet die Zustellung und meldet den Zuschauer ab.
+		 */
+		private void cancel() {
+			subscriptions.remove(this);
+			interrupt();
+		}
+
+		/**
+		 * Stellt die Ereignisse aus der Warteschlange zu, bis der Zuschauer abgemeldet wird oder
+		 * bei der Zustellung ein Fehler auftritt.
+		 */
+		@Override
+		public void run() {
+			try {
+				while (!isInterrupted()) {
+					spectator.receive(queue.take());
+				}
+			} catch (InterruptedException e) {
+				// Der Zuschauer ist abgemeldet worden.
+			} catch (Exception e) {
+				Log.log(LogLevel.INFO, LogModule.MAIN,
+						"Spectator removed after error: " + e.getMessage());
+			} finally {
+				subscriptions.remove(this);
+				if (dropped > 0) {
+					Log.log(LogLevel.INFO, LogModule.MAIN,
+							"Spectator missed " + dropped + " event(s)");
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,5 @@
+/**
+ * In diesem Package wird die Funktionalität bereitgestellt, laufende Spiele an beliebig viele
+ * Zuschauer zu übertragen, sowohl innerhalb des Programms als auch über das Netzwerk.
+ */
+package flowerwarspp.main.spectator;
@@ -1,13 +1,21 @@
 package flowerwarspp.player;
 
-import flowerwarspp.preset.Move;
-import flowerwarspp.preset.MoveType;
-import flowerwarspp.preset.Player;
+import flowerwarspp.board.BoardCheckpoint;
+import flowerwarspp.board.MainBoard;
+import flowerwarspp.player.book.OpeningBook;
+import flowerwarspp.preset.*;
 import flowerwarspp.util.log.Log;
 import flowerwarspp.util.log.LogLevel;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Eine abstrakte Klasse, welche grundlegende Methoden vordefiniert um KIs zu implementieren. Dabei
@@ -30,6 +38,43 @@ abstract class AbstractAI extends AbstractPlayer {
 	 * Hilfe von Pseudozufallszahlen leisten zu können.
 	 */
 	protected static final Random random = new Random();
+	/**
+	 * Die maximale Anzahl an vermuteten gegnerischen Zügen, für welche beim Pondering eine Antwort
+	 * vorausberechnet wird.
+	 */
+	private static final int PONDER_BREADTH = 4;
+	/**
+	 * Ob dieser Spieler während der Zugzeit des Gegners bereits Antworten auf dessen
+	 * wahrscheinlichste Züge vorausberechnen soll (Pondering).
+	 */
+	private boolean pondering = false;
+	/**
+	 * Der Executor, auf dessen Thread vorausberechnet wird. Wird erst bei Bedarf erzeugt.
+	 */
+	private ExecutorService ponderExecutor = null;
+	/**
+	 * Die aktuell laufende Vorausberechnung, oder <code>null</code>, falls keine läuft.
+	 */
+	private Future<?> ponderTask = null;
+	/**
+	 * Die Ergebnisse der aktuellen Vorausberechnung. Bildet vermutete gegnerische Züge auf die
+	 * vorausberechnete eigene Antwort ab.
+	 */
+	private Map<Move, Move> ponderedReplies = null;
+	/**
+	 * Die vorausberechnete Antwort auf den tatsächlich gemachten gegnerischen Zug, falls der Zug
+	 * richtig vermutet worden ist.
+	 */
+	private Move ponderedReply = null;
+	/**
+	 * Das Eröffnungsbuch, welches in den ersten Zügen vor der Bewertung aller Züge befragt wird,
+	 * oder <code>null</code>, falls keines verwendet wird.
+	 */
+	private OpeningBook openingBook = null;
+	/**
+	 * Bis zu wie vielen gemachten Zügen das {@link #openingBook} befragt wird.
+	 */
+	private int openingBookDepth = 0;
 
 	/**
 	 * Default-Konstruktor, welcher dieses Objekt mit Standardwerten versieht.
@@ -38,6 +83,196 @@ abstract class AbstractAI extends AbstractPlayer {
 		super();
 	}
 
+	/**
+	 * Setzt, ob dieser Spieler während der Zugzeit des Gegners Antworten vorausberechnen soll.
+	 *
+	 * @param pondering
+	 * 		<code>true</code>, falls vorausberechnet werden soll
+	 */
+	void setPondering(boolean pondering) {
+		this.pondering = pondering;
+	}
+
+	/**
+	 * Setzt das Eröffnungsbuch, welches dieser Spieler in den ersten Zügen eines Spiels befragen
+	 * soll.
+	 *
+	 * @param openingBook
+	 * 		Das Eröffnungsbuch, oder <code>null</code>
+	 * @param depth
+	 * 		Bis zu wie vielen gemachten Zügen das Eröffnungsbuch befragt wird
+	 */
+	void setOpeningBook(OpeningBook openingBook, int depth) {
+		this.openingBook = openingBook;
+		this.openingBookDepth = depth;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Eine eventuell noch laufende Vorausberechnung aus einem vorherigen Spiel wird verworfen.
+	 */
+	@Override
+	public void init(int boardSize, PlayerColor playerColor) throws Exception {
+		stopPondering();
+		ponderedReplies = null;
+		ponderedReply = null;
+
+		super.init(boardSize, playerColor);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Ist das Pondering aktiviert, wird auf einer Kopie des Spielbretts im Hintergrund berechnet,
+	 * welche Züge der Gegner wahrscheinlich machen wird (unter der Annahme, dass er nach derselben
+	 * Strategie spielt), und für jeden dieser Züge die eigene Antwort vorausberechnet. Auf dem
+	 * aufrufenden Thread wird dazu nur ein {@link BoardCheckpoint} der gesetzten Blumen und Gräben
+	 * angelegt, die Kopie mit allen legalen Zügen entsteht erst auf dem Thread der
+	 * Vorausberechnung.
+	 */
+	@Override
+	protected void opponentTurnStarted() {
+		if (!pondering || !(board instanceof MainBoard) ||
+				boardViewer.getStatus() != Status.Ok) {
+			return;
+		}
+
+		// Der Schnappschuss muss hier angelegt werden, da das eigene Brett mit update() verändert
+		// wird. Anders als das Spielbrett kann er danach nicht mehr verändert werden.
+		final BoardCheckpoint position = ((MainBoard) board).checkpoint();
+		final Map<Move, Move> replies = new ConcurrentHashMap<>();
+		ponderedReplies = replies;
+
+		if (ponderExecutor == null) {
+			ponderExecutor = Executors.newSingleThreadExecutor(runnable -> {
+				final Thread thread = new Thread(runnable, "Ponder-" + getPlayerColor());
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+
+		ponderTask = ponderExecutor.submit(() -> ponder(position, replies));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Die laufende Vorausberechnung wird abgebrochen. Falls für den tatsächlichen Zug des Gegners
+	 * bereits eine Antwort vorausberechnet worden ist, wird diese für {@link #requestMove()}
+	 * vorgemerkt, alle anderen Ergebnisse werden verworfen.
+	 */
+	@Override
+	protected void opponentMoveReceived(Move opponentMove) {
+		stopPondering();
+
+		if (ponderedReplies != null) {
+			ponderedReply = ponderedReplies.get(opponentMove);
+			log(LogLevel.DEBUG, "pondering " + ((ponderedReply != null) ? "hit" : "miss") +
+					" for opponent move " + opponentMove);
+		}
+		ponderedReplies = null;
+	}
+
+	/**
+	 * Bricht eine eventuell laufende Vorausberechnung ab.
+	 */
+	private void stopPondering() {
+		if (ponderTask != null) {
+			ponderTask.cancel(true);
+			ponderTask = null;
+		}
+	}
+
+	/**
+	 * Bricht eine eventuell laufende Vorausberechnung ab und beendet den Thread des {@link
+	 * #ponderExecutor}. Danach darf der Spieler nicht mehr verwendet werden.
+	 */
+	void close() {
+		stopPondering();
+		if (ponderExecutor != null) {
+			ponderExecutor.shutdownNow();
+			ponderExecutor = null;
+		}
+	}
+
+	/**
+	 * Berechnet für die wahrscheinlichsten Züge des Gegners die eigene Antwort voraus. Wird auf
+	 * dem Thread des {@link #ponderExecutor} ausgeführt und bricht ab, sobald dieser unterbrochen
+	 * wird.
+	 *
+	 * @param checkpoint
+	 * 		Ein Schnappschuss des eigenen Spielbretts, auf welchem der Gegner am Zug ist
+	 * @param replies
+	 * 		Die {@link Map}, in welche die vorausberechneten Antworten geschrieben werden
+	 */
+	private void ponder(BoardCheckpoint checkpoint, Map<Move, Move> replies) {
+		try {
+			final MainBoard position = new MainBoard(checkpoint, Collections.emptyList());
+			if (Thread.currentThread().isInterrupted()) {
+				return;
+			}
+
+			// Die Züge, welche der Gegner nach der eigenen Strategie am höchsten bewerten würde.
+			final AbstractAI predictor =
+					createPonderShadow(position, position.viewer().getTurn());
+			final Collection<Move> predictions = predictor.getHighestScoredMoves();
+
+			int predicted = 0;
+			for (Move prediction : predictions) {
+				if (predicted++ >= PONDER_BREADTH || Thread.currentThread().isInterrupted()) {
+					break;
+				}
+
+				final MainBoard next = new MainBoard(position);
+				next.make(prediction);
+				if (next.viewer().getStatus() != Status.Ok) {
+					continue;
+				}
+
+				final Move reply = createPonderShadow(next, getPlayerColor()).getMove();
+				if (reply != null && !Thread.currentThread().isInterrupted()) {
+					replies.put(prediction, reply);
+				}
+			}
+		} catch (Exception e) {
+			log(LogLevel.WARNING, "pondering failed: " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Erzeugt einen Spieler derselben Klasse auf dem gegebenen Spielbrett, mit welchem während
+	 * der Vorausberechnung Züge bewertet werden, ohne den Zustand dieses Spielers zu verändern.
+	 *
+	 * @param position
+	 * 		Das Spielbrett, auf welchem der erzeugte Spieler Züge bewerten soll
+	 * @param color
+	 * 		Die Farbe, für welche der erzeugte Spieler Züge bewerten soll
+	 *
+	 * @return Der erzeugte Spieler
+	 *
+	 * @throws Exception
+	 * 		Falls der Spieler nicht erzeugt werden konnte
+	 */
+	private AbstractAI createPonderShadow(MainBoard position, PlayerColor color)
+			throws Exception {
+		final AbstractAI shadow = getClass().getDeclaredConstructor().newInstance();
+		shadow.setBoard(position);
+		shadow.init(position.viewer().getSize(), color);
+		shadow.adoptPonderState(this);
+		return shadow;
+	}
+
+	/**
+	 * Übernimmt den für die Bewertung von Zügen relevanten Zustand eines anderen Spielers
+	 * derselben Klasse, nachdem dieser Spieler für die Vorausberechnung erzeugt worden ist. Per
+	 * default gibt es keinen solchen Zustand.
+	 *
+	 * @param original
+	 * 		Der Spieler, für welchen vorausberechnet wird
+	 */
+	protected void adoptPonderState(AbstractAI original) {}
+
 	/**
 	 * Fordert einen Zug an, nach den Vorgaben der Interface-Methode {@link Player#request()}.
 	 * Diese Methode bedient sich einer Strategie zur Bewertung und anschließend zur Auswahl
@@ -50,6 +285,23 @@ abstract class AbstractAI extends AbstractPlayer {
 	 * 		zum falschen Zeitpunkt innerhalb des Zyklus aufgerufen worden ist
 	 */
 	protected Move requestMove() throws Exception {
+		// Eine passende vorausberechnete Antwort wird ohne erneute Bewertung verwendet.
+		final Move reply = ponderedReply;
+		ponderedReply = null;
+		if (reply != null && boardViewer.possibleMovesContains(reply)) {
+			log(LogLevel.DEBUG, "using pondered reply " + reply);
+			return reply;
+		}
+
+		// In den ersten Zügen wird, falls vorhanden, das Eröffnungsbuch befragt.
+		if (openingBook != null && getPly() < openingBookDepth) {
+			final Move bookMove = openingBook.choose(boardViewer);
+			if (bookMove != null) {
+				log(LogLevel.DEBUG, "using book move " + bookMove);
+				return bookMove;
+			}
+		}
+
 		final Move move = getMove();
 
 		// Falls getMove() keinen Zug liefern konnte, wird eine Exception geworfen.
@@ -61,6 +313,19 @@ abstract class AbstractAI extends AbstractPlayer {
 		return move;
 	}
 
+	/**
+	 * Gibt die Anzahl der bisher gemachten Blumen- und Grabenzüge beider Spieler zurück.
+	 *
+	 * @return Anzahl der gemachten Züge
+	 */
+	private int getPly() {
+		int ply = 0;
+		for (PlayerColor color : PlayerColor.values()) {
+			ply += boardViewer.getFlowers(color).size() / 2 + boardViewer.getDitches(color).size();
+		}
+		return ply;
+	}
+
 	/**
 	 * Gibt einen Spielzug zurück, per default wird dieser Spielzug nach einem implementierten
 	 * Bewertungsalgorithmus ausgewählt. Der Spielzug mit dem höchsten Score wird zurück gegeben.
@@ -70,12 +335,43 @@ abstract class AbstractAI extends AbstractPlayer {
 	 * @return Der Spielzug mit dem höchsten Score.
 	 */
 	protected Move getMove() {
+		final Collection<Move> highestScoredMoves = getHighestScoredMoves();
+
+		// Falls die Collection der höchste bewerteten Züge leer ist wird null zurück gegeben.
+		if (highestScoredMoves.size() == 0) {
+			return null;
+		}
+
+		/*
+		 * Es wird aus der Collection der am höchsten bewerteten Züge zufällig ein Zug ausgewählt.
+		 * skip(int n) gibt einen neuen Stream zurück, mit den verbleibenden Elementen des Streams
+		 * nachdem die ersten n Elemente übersprungen worden sind.
+		 * findFirst() gibt entweder das erste Element dieses Streams als Optional zurück, oder
+		 * ein Optional mit dem Wert null. Mit orElse() wird entweder dieses erste Element zurück
+		 * gegeben, oder null, falls das Optional diesen Wert hat.
+		 */
+		return highestScoredMoves.stream().skip((random.nextInt(highestScoredMoves.size())))
+				.findFirst().orElse(null);
+	}
+
+	/**
+	 * Bewertet alle möglichen Züge mit {@link #getMoveScore(Move)} und gibt die Züge mit dem
+	 * höchsten Score zurück. Wird ein Zug mit einem Score von mindestens {@link #SCORE_END}
+	 * gefunden, wird nur dieser zurück gegeben. Wird der aktuelle Thread unterbrochen (etwa beim
+	 * Abbrechen einer Vorausberechnung), wird eine leere {@link Collection} zurück gegeben.
+	 *
+	 * @return Die Züge mit dem höchsten Score
+	 */
+	private Collection<Move> getHighestScoredMoves() {
 
 		int highestScore = 0;
 		HashSet<Move> highestScoredMoves = new HashSet<>();
 
 		// Durch alle möglichen Züge iterieren...
 		for (Move move : boardViewer.getPossibleMoves()) {
+			if (Thread.currentThread().isInterrupted()) {
+				return Collections.emptySet();
+			}
 
 			// Den Score eines Zuges mit der abstrakten Methode berechnen.
 			final int score = getMoveScore(move);
@@ -86,7 +382,7 @@ abstract class AbstractAI extends AbstractPlayer {
 				 * Falls getMoveScore() einen Wert größer gleich der statischen Werte SCORE_END
 				 * und SCORE_DITCH zurückgegeben hat, wird dieser Zug sofort verwendet.
 				 */
-				return move;
+				return Collections.singleton(move);
 			} else if (score > highestScore) {
 				/*
 				 * Falls der zurück gegebene Zug einen höheren Score hat als alle Züge davor, wird
@@ -111,21 +407,7 @@ abstract class AbstractAI extends AbstractPlayer {
 		log(LogLevel.DEBUG,
 				"highestScore: " + highestScore + ", highestScoredMoves: " + highestScoredMoves);
 
-		// Falls die Collection der höchste bewerteten Züge leer ist wird null zurück gegeben.
-		if (highestScoredMoves.size() == 0) {
-			return null;
-		}
-
-		/*
-		 * Es wird aus der Collection der am höchsten bewerteten Züge zufällig ein Zug ausgewählt.
-		 * skip(int n) gibt einen neuen Stream zurück, mit den verbleibenden Elementen des Streams
-		 * nachdem die ersten n Elemente übersprungen worden sind.
-		 * findFirst() gibt entweder das erste Element dieses Streams als Optional zurück, oder
-		 * ein Optional mit dem Wert null. Mit orElse() wird entweder dieses erste Element zurück
-		 * gegeben, oder null, falls das Optional diesen Wert hat.
-		 */
-		return highestScoredMoves.stream().skip((random.nextInt(highestScoredMoves.size())))
-				.findFirst().orElse(null);
+		return highestScoredMoves;
 	}
 
 	/**
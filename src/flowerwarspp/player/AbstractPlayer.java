@@ -7,6 +7,7 @@ import flowerwarspp.util.log.LogLevel;
 import flowerwarspp.util.log.LogModule;
 
 import java.rmi.RemoteException;
+import java.util.List;
 
 import static flowerwarspp.player.AbstractPlayer.PlayerFunction.*;
 import static flowerwarspp.util.log.LogLevel.*;
@@ -191,6 +192,9 @@ abstract class AbstractPlayer implements flowerwarspp.preset.Player {
 
 		// Spieler-Lifecycle aktualisieren.
 		cycleState = UPDATE;
+
+		// Ab hier ist der Gegner am Zug.
+		opponentTurnStarted();
 	}
 
 	/**
@@ -223,6 +227,8 @@ abstract class AbstractPlayer implements flowerwarspp.preset.Player {
 
 		log(DEBUG, "received enemy move " + opponentMove + " and status " + status);
 
+		opponentMoveReceived(opponentMove);
+
 		// Den Spielzug des Gegners auf dem eigenen Spielbrett ausführen.
 		board.make(opponentMove);
 
@@ -238,6 +244,22 @@ abstract class AbstractPlayer implements flowerwarspp.preset.Player {
 		cycleState = REQUEST;
 	}
 
+	/**
+	 * Wird aufgerufen, nachdem der eigene Zug mit {@link #confirm(Status)} bestätigt worden ist und
+	 * der Gegner am Zug ist. Erbende Klassen können diese Zeit nutzen, um bereits an ihrem nächsten
+	 * Zug zu arbeiten. Per default passiert hier nichts.
+	 */
+	protected void opponentTurnStarted() {}
+
+	/**
+	 * Wird zu Beginn von {@link #update(Move, Status)} aufgerufen, bevor der gegnerische Zug auf
+	 * dem eigenen Spielbrett ausgeführt wird. Per default passiert hier nichts.
+	 *
+	 * @param opponentMove
+	 * 		Zug des Gegenspielers
+	 */
+	protected void opponentMoveReceived(Move opponentMove) {}
+
 	/**
 	 * Initialisiert einen Spieler, indem dieser mit einem neuen Spielbrett passender Größe und der
 	 * gewünschten Farbe versehen wird. Falls diese Methode waärend eines laufenden Spiels
@@ -279,6 +301,41 @@ abstract class AbstractPlayer implements flowerwarspp.preset.Player {
 				boardSize);
 	}
 
+	/**
+	 * Initialisiert den Spieler mit einem Spielbrett, auf welchem die gegebenen Züge bereits
+	 * ausgeführt worden sind, und setzt den Spieler-Lebenszyklus so, dass als nächstes der Spieler
+	 * aufgerufen werden muss, welcher nach diesen Zügen am Zug ist.
+	 *
+	 * @param boardSize
+	 * 		Spielbrettgröße
+	 * @param playerColor
+	 * 		Farbe des Spielers
+	 * @param moves
+	 * 		Alle bisher im Spiel gemachten Züge, in ihrer Reihenfolge
+	 *
+	 * @throws Exception
+	 * 		Falls einer der Züge nicht gültig ist oder während der Initialisierung ein Fehler
+	 * 		auftrat
+	 * @see ResumablePlayer#resume(int, PlayerColor, List)
+	 */
+	void resume(int boardSize, PlayerColor playerColor, List<Move> moves) throws Exception {
+		final MainBoard resumedBoard = new MainBoard(boardSize, moves);
+
+		if (resumedBoard.viewer().getStatus() == Status.Illegal) {
+			log(ERROR, "resume(): the given moves contain an illegal move");
+			throw new Exception(statusErrorMessage);
+		}
+
+		// Mit cycleState NULL verwendet init() das übergebene Spielbrett weiter.
+		board = resumedBoard;
+		cycleState = NULL;
+		init(boardSize, playerColor);
+
+		cycleState = (boardViewer.getTurn() == playerColor) ? REQUEST : UPDATE;
+
+		log(INFO, "Resumed game after " + moves.size() + " moves");
+	}
+
 	/**
 	 * Gibt die Farbe dieses Spielers zurück.
 	 *
@@ -288,6 +345,17 @@ abstract class AbstractPlayer implements flowerwarspp.preset.Player {
 		return playerColor;
 	}
 
+	/**
+	 * Gibt {@link #boardViewer} zurück. Damit kann ein umhüllender Spieler (siehe {@link
+	 * RemotePlayer}) das Spielbrett dieses Spielers lesend mitbenutzen, anstatt ein eigenes zu
+	 * führen.
+	 *
+	 * @return Wert von {@link #boardViewer}
+	 */
+	Viewer getViewer() {
+		return boardViewer;
+	}
+
 	/**
 	 * Getter-Methode für das Spielbrett dieser Klasse. Wird nur von erbenden Klassen verwendet.
 	 *
@@ -92,6 +92,23 @@ public class AdvancedAI2 extends AbstractAI {
 		moveNr = 0;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Übernommen werden der Startpunkt fürs Clustern und die Anzahl der ausgeführten Züge, wobei
+	 * der Zähler wie in {@link #requestMove()} bereits für den nächsten Zug erhöht wird.
+	 */
+	@Override
+	protected void adoptPonderState(AbstractAI original) {
+		final AdvancedAI2 originalAI = (AdvancedAI2) original;
+
+		startClusteringAt = originalAI.startClusteringAt;
+		moveNr = originalAI.moveNr;
+		if (moveNr <= startClusteringAt) {
+			moveNr++;
+		}
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * <p>
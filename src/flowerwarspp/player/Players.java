@@ -1,5 +1,7 @@
 package flowerwarspp.player;
 
+import flowerwarspp.main.savegame.SaveGame;
+import flowerwarspp.player.book.OpeningBook;
 import flowerwarspp.preset.*;
 import flowerwarspp.util.log.Log;
 import flowerwarspp.util.log.LogLevel;
@@ -25,11 +27,54 @@ public class Players {
 			Arrays.asList(PlayerType.HUMAN, PlayerType.RANDOM_AI, PlayerType.SIMPLE_AI,
 					PlayerType.ADVANCED_AI_1, PlayerType.ADVANCED_AI_2, PlayerType.REMOTE);
 
+	/**
+	 * Ob neu erstellte Computerspieler während der Zugzeit des Gegners Antworten vorausberechnen
+	 * sollen.
+	 */
+	private static boolean pondering = false;
+
+	/**
+	 * Das Eröffnungsbuch, welches neu erstellte Computerspieler verwenden sollen, oder
+	 * <code>null</code>.
+	 */
+	private static OpeningBook openingBook = null;
+
+	/**
+	 * Bis zu wie vielen gemachten Zügen neu erstellte Computerspieler das {@link #openingBook}
+	 * befragen sollen.
+	 */
+	private static int openingBookDepth = 0;
+
 	/**
 	 * Leerer privater Konstruktor zum Verhindern der Objektinitialisierung
 	 */
 	private Players() {}
 
+	/**
+	 * Setzt, ob ab jetzt erstellte Computerspieler während der Zugzeit des Gegners Antworten auf
+	 * dessen wahrscheinlichste Züge vorausberechnen sollen.
+	 *
+	 * @param pondering
+	 * 		<code>true</code>, falls vorausberechnet werden soll
+	 */
+	public static void setPondering(boolean pondering) {
+		Players.pondering = pondering;
+	}
+
+	/**
+	 * Setzt das Eröffnungsbuch, welches ab jetzt erstellte Computerspieler in den ersten Zügen
+	 * eines Spiels befragen sollen. Der Zufallsspieler verwendet kein Eröffnungsbuch.
+	 *
+	 * @param openingBook
+	 * 		Das Eröffnungsbuch, oder <code>null</code>
+	 * @param depth
+	 * 		Bis zu wie vielen gemachten Zügen das Eröffnungsbuch befragt wird
+	 */
+	public static void setOpeningBook(OpeningBook openingBook, int depth) {
+		Players.openingBook = openingBook;
+		Players.openingBookDepth = depth;
+	}
+
 	/**
 	 * Variante von {@link #createPlayer(PlayerType, Requestable, String, Board)}, welche dem neu
 	 * erstellten Spieler kein {@link Board} zuweist.
@@ -53,8 +98,9 @@ public class Players {
 	}
 
 	/**
-	 * Erstellt einen neuen Spieler gegebenen Typs und weist im ein gegebenes {@link Requestable}
-	 * und ein bestehendes {@link Board} zu.
+	 * Variante von {@link #createPlayer(PlayerType, Requestable, String, Board, SaveGame)}, welche
+	 * keinen Spielstand übergibt. Remote-Spieler können damit nur für ein leeres Spielbrett erzeugt
+	 * werden.
 	 *
 	 * @param type
 	 * 		Typ des zu erstellenden Spielers
@@ -75,18 +121,49 @@ public class Players {
 	 */
 	public static Player createPlayer(PlayerType type, Requestable input, String url, Board board)
 			throws IllegalArgumentException, NetworkException {
-		// Falls auf dem Brett schon Züge gemacht wurden, geht Netzwerkspiel nicht.
-		if (type == PlayerType.REMOTE && board != null &&
+		return createPlayer(type, input, url, board, null);
+	}
+
+	/**
+	 * Erstellt einen neuen Spieler gegebenen Typs und weist im ein gegebenes {@link Requestable}
+	 * und ein bestehendes {@link Board} zu. Ein Remote-Spieler wird über eine {@link
+	 * RemoteConnection} angebunden, welche ihn bei Spielbeginn mit den Zügen des gegebenen
+	 * Spielstands fortsetzt und Verbindungsabbrüche übersteht.
+	 *
+	 * @param type
+	 * 		Typ des zu erstellenden Spielers
+	 * @param input
+	 * 		Das {@link Requestable}, das der Spieler zum Abfragen von Zügen verwenden soll
+	 * @param board
+	 * 		Bestehendes Spielbrett, welches dem Spieler zugewiesen wird
+	 * @param url
+	 * 		Die URL im Fall eines Remote-Spielers
+	 * @param saveGame
+	 * 		Der Spielstand, welcher zu <code>board</code> geführt hat, oder <code>null</code>
+	 *
+	 * @return Ein nach den gegebenen Parametern erzeugter Spieler
+	 *
+	 * @throws IllegalArgumentException
+	 * 		falls versucht wird, einen Remote-Spieler mit vorhandenem, nichtleerem Board, aber
+	 * 		ohne Spielstand zu erzeugen.
+	 * @throws NetworkException
+	 * 		Falls an der gegebenen URL kein entfernter Spieler gefunden werden konnte.
+	 */
+	public static Player createPlayer(PlayerType type, Requestable input, String url, Board board,
+	                                  SaveGame saveGame)
+			throws IllegalArgumentException, NetworkException {
+		// Ohne die gemachten Züge kann ein entfernter Spieler nicht fortgesetzt werden.
+		if (type == PlayerType.REMOTE && saveGame == null && board != null &&
 				!board.viewer().getFlowers(PlayerColor.Red).isEmpty()) {
 			throw new IllegalArgumentException(
-					"Spielstände laden wird von Remote-Spielern nicht unterstützt.");
+					"Remote-Spieler benötigen zum Fortsetzen eines Spiels den Spielstand.");
 		}
 
 		// Einen neuen Spieler gemäß des geforderten Typs erstellen.
 		AbstractPlayer player = null;
 		switch (type) {
 			case REMOTE:
-				return findRemotePlayer(url);
+				return new RemoteConnection(url, saveGame);
 			case HUMAN:
 				player = new InteractivePlayer(input);
 				break;
@@ -107,11 +184,34 @@ public class Players {
 						"Players.createPlayer: Invalid PlayerType passed: " + type);
 				return null;
 		}
+		// Die zufällige KI bewertet keine Züge, Vorausberechnen und Eröffnungsbuch nützen ihr
+		// nichts.
+		if (player instanceof AbstractAI && type != PlayerType.RANDOM_AI) {
+			((AbstractAI) player).setPondering(pondering);
+			((AbstractAI) player).setOpeningBook(openingBook, openingBookDepth);
+		}
+
 		// Das gegebene Spielbrett dem Spieler zuweisen.
 		player.setBoard(board);
 		return player;
 	}
 
+	/**
+	 * Gibt die Threads frei, welche ein mit {@link #createPlayer(PlayerType, Requestable, String,
+	 * Board, SaveGame)} erstellter Spieler im Hintergrund verwendet. Danach darf der Spieler nicht
+	 * mehr verwendet werden.
+	 *
+	 * @param player
+	 * 		Der freizugebende Spieler, oder <code>null</code>
+	 */
+	public static void close(Player player) {
+		if (player instanceof RemoteConnection) {
+			((RemoteConnection) player).close();
+		} else if (player instanceof AbstractAI) {
+			((AbstractAI) player).close();
+		}
+	}
+
 	/**
 	 * Diese Methode versucht einen im Netzwerk angebotenen entfernten Spieler zu finden und gibt
 	 * diesen dann zurück.
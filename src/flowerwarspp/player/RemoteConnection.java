@@ -0,0 +1,386 @@
+package flowerwarspp.player;
+
+import flowerwarspp.main.savegame.SaveGame;
+import flowerwarspp.preset.Move;
+import flowerwarspp.preset.Player;
+import flowerwarspp.preset.PlayerColor;
+import flowerwarspp.preset.Status;
+import flowerwarspp.util.log.Log;
+import flowerwarspp.util.log.LogLevel;
+
+import java.rmi.RemoteException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static flowerwarspp.util.log.LogModule.PLAYER;
+
+/**
+ * Eine Verbindung des Hauptprogramms zu einem im Netzwerk angebotenen Spieler, welche
+ * Verbindungsabbrüche übersteht.
+ * <p>
+ * Die Verbindung führt Buch über alle Züge des Spiels und prüft in regelmäßigen Abständen mit
+ * {@link ResumablePlayer#ping()}, ob der entfernte Spieler noch erreichbar ist. Bricht die
+ * Verbindung ab, wird der Spieler unter seiner URL erneut gesucht und mit {@link
+ * ResumablePlayer#resume(int, PlayerColor, List)} auf den aktuellen Spielstand gebracht. Erst
+ * wenn dies wiederholt fehlschlägt, wird eine {@link RemoteException} an das Hauptprogramm
+ * weitergegeben. Ein entfernter Spieler, der kein {@link ResumablePlayer} ist, kann weder geprüft
+ * noch fortgesetzt werden; für ihn werden keine Heartbeats gesendet.
+ * <p>
+ * Nach dem Ende des Spiels muss die Verbindung mit {@link #close()} geschlossen werden, damit ihre
+ * Threads beendet werden.
+ */
+class RemoteConnection implements ResumablePlayer {
+	/**
+	 * Der Abstand zwischen zwei Heartbeats in Millisekunden.
+	 */
+	private static final long HEARTBEAT_INTERVAL = 2000;
+	/**
+	 * Die Anzahl an aufeinanderfolgenden fehlgeschlagenen Heartbeats, nach welcher die Verbindung
+	 * als abgebrochen gilt.
+	 */
+	private static final int HEARTBEAT_TOLERANCE = 3;
+	/**
+	 * Die Anzahl an Versuchen, die Verbindung wiederherzustellen.
+	 */
+	private static final int RECONNECT_ATTEMPTS = 30;
+	/**
+	 * Die Wartezeit zwischen zwei Versuchen, die Verbindung wiederherzustellen, in Millisekunden.
+	 */
+	private static final long RECONNECT_DELAY = 2000;
+
+	/**
+	 * Die URL, unter welcher der entfernte Spieler angeboten wird.
+	 */
+	private final String url;
+	/**
+	 * Alle bisher im Spiel gemachten Züge, in ihrer Reihenfolge.
+	 */
+	private final List<Move> history;
+	/**
+	 * Die Referenz auf den entfernten Spieler. Wird nach einem Verbindungsabbruch ersetzt.
+	 */
+	private volatile Player remote;
+	/**
+	 * Die Größe des Spielbretts des laufenden Spiels.
+	 */
+	private int boardSize;
+	/**
+	 * Die Farbe des entfernten Spielers im laufenden Spiel.
+	 */
+	private PlayerColor color;
+	/**
+	 * Ob der Spieler bereits einmal initialisiert worden ist. Nur das erste Spiel beginnt mit den
+	 * Zügen des geladenen Spielstands.
+	 */
+	private boolean initialized = false;
+	/**
+	 * Die Anzahl an zuletzt hintereinander fehlgeschlagenen Heartbeats.
+	 */
+	private volatile int failedHeartbeats = 0;
+	/**
+	 * Führt die Heartbeats im Hintergrund aus, oder <code>null</code>, falls der entfernte Spieler
+	 * keine Heartbeats unterstützt.
+	 */
+	private final ScheduledExecutorService heartbeat;
+	/**
+	 * Führt die Aufrufe an den entfernten Spieler aus, damit auf einen abgebrochenen Aufruf nicht
+	 * unbegrenzt gewartet wird.
+	 */
+	private ExecutorService caller;
+
+	/**
+	 * Sucht den unter der gegebenen URL angebotenen Spieler und baut eine Verbindung zu ihm auf.
+	 *
+	 * @param url
+	 * 		Die URL des entfernten Spielers
+	 * @param saveGame
+	 * 		Der Spielstand, mit welchem das Spiel beginnt, oder <code>null</code> für ein neues
+	 * 		Spiel
+	 *
+	 * @throws NetworkException
+	 * 		Falls an der gegebenen URL kein Spieler gefunden werden konnte
+	 */
+	RemoteConnection(String url, SaveGame saveGame) throws NetworkException {
+		this.url = url;
+		this.remote = Players.findRemotePlayer(url);
+		this.history = new ArrayList<>();
+		if (saveGame != null) {
+			for (Move move : saveGame) {
+				history.add(move);
+			}
+		}
+
+		this.caller = createCaller();
+		if (!(remote instanceof ResumablePlayer)) {
+			Log.log(LogLevel.WARNING, PLAYER, "Remote player " + url + " does not support " +
+					"heartbeats, a lost connection will end the game.");
+			this.heartbeat = null;
+			return;
+		}
+		this.heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			final Thread thread = new Thread(runnable, "Heartbeat-" + url);
+			thread.setDaemon(true);
+			return thread;
+		});
+		heartbeat.scheduleWithFixedDelay(this::beat, HEARTBEAT_INTERVAL, HEARTBEAT_INTERVAL,
+				TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Beendet die Heartbeats und den Thread für die Aufrufe an den entfernten Spieler. Danach kann
+	 * die Verbindung nicht mehr verwendet werden.
+	 */
+	void close() {
+		if (heartbeat != null) {
+			heartbeat.shutdownNow();
+		}
+		caller.shutdownNow();
+		Log.log(LogLevel.DEBUG, PLAYER, "Closed connection to " + url);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Bricht die Verbindung während des Aufrufs ab, wird sie wiederhergestellt und der Zug erneut
+	 * angefordert.
+	 */
+	@Override
+	public Move request() throws Exception, RemoteException {
+		try {
+			final Move move = call(() -> remote.request());
+			history.add(move);
+			return move;
+		} catch (RemoteException e) {
+			reconnect(e);
+			final Move move = call(() -> remote.request());
+			history.add(move);
+			return move;
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Bricht die Verbindung während des Aufrufs ab, wird sie wiederhergestellt. Der fortgesetzte
+	 * Spieler kennt den eigenen Zug dann bereits, eine erneute Bestätigung entfällt. Ist das Spiel
+	 * bereits beendet, wird ein Verbindungsabbruch ignoriert.
+	 */
+	@Override
+	public void confirm(Status status) throws Exception, RemoteException {
+		try {
+			call(() -> {
+				remote.confirm(status);
+				return null;
+			});
+		} catch (RemoteException e) {
+			// Ist das Spiel vorbei, muss der Spieler nicht mehr fortgesetzt werden.
+			if (status == Status.Ok) {
+				reconnect(e);
+			}
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Bricht die Verbindung während des Aufrufs ab, wird sie wiederhergestellt. Der fortgesetzte
+	 * Spieler kennt den gegnerischen Zug dann bereits. Ist das Spiel bereits beendet, wird ein
+	 * Verbindungsabbruch ignoriert.
+	 */
+	@Override
+	public void update(Move opponentMove, Status status) throws Exception, RemoteException {
+		history.add(opponentMove);
+		try {
+			call(() -> {
+				remote.update(opponentMove, status);
+				return null;
+			});
+		} catch (RemoteException e) {
+			// Ist das Spiel vorbei, muss der Spieler nicht mehr fortgesetzt werden.
+			if (status == Status.Ok) {
+				reconnect(e);
+			}
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Beginnt das erste Spiel mit den Zügen eines geladenen Spielstands, wird der entfernte Spieler
+	 * mit {@link ResumablePlayer#resume(int, PlayerColor, List)} auf diesen Stand gebracht.
+	 */
+	@Override
+	public void init(int boardSize, PlayerColor color) throws Exception, RemoteException {
+		if (initialized) {
+			history.clear();
+		}
+		initialized = true;
+		this.boardSize = boardSize;
+		this.color = color;
+
+		if (history.isEmpty()) {
+			call(() -> {
+				remote.init(boardSize, color);
+				return null;
+			});
+		} else {
+			resumeRemote();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Ist der entfernte Spieler kein {@link ResumablePlayer}, kann seine Erreichbarkeit nicht
+	 * geprüft werden. Für ihn werden daher keine Heartbeats gesendet.
+	 */
+	@Override
+	public void ping() throws RemoteException {
+		if (remote instanceof ResumablePlayer) {
+			((ResumablePlayer) remote).ping();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void resume(int boardSize, PlayerColor color, List<Move> moves)
+			throws Exception, RemoteException {
+		initialized = true;
+		this.boardSize = boardSize;
+		this.color = color;
+		history.clear();
+		history.addAll(moves);
+
+		resumeRemote();
+	}
+
+	/**
+	 * Bringt den entfernten Spieler auf den Stand von {@link #history}.
+	 *
+	 * @throws Exception
+	 * 		Falls der entfernte Spieler nicht fortgesetzt werden konnte
+	 */
+	private void resumeRemote() throws Exception {
+		if (!(remote instanceof ResumablePlayer)) {
+			throw new Exception(
+					"Der entfernte Spieler unterstützt das Fortsetzen von Spielen nicht.");
+		}
+
+		final List<Move> moves = new ArrayList<>(history);
+		call(() -> {
+			((ResumablePlayer) remote).resume(boardSize, color, moves);
+			return null;
+		});
+	}
+
+	/**
+	 * Führt einen Aufruf an den entfernten Spieler aus. Während auf das Ergebnis gewartet wird,
+	 * wird geprüft, ob die Heartbeats fehlschlagen. Ist dies der Fall, wird nicht länger gewartet
+	 * und der Aufruf gilt als abgebrochen.
+	 *
+	 * @param call
+	 * 		Der auszuführende Aufruf
+	 * @param <T>
+	 * 		Der Typ des Ergebnisses
+	 *
+	 * @return Das Ergebnis des Aufrufs
+	 *
+	 * @throws Exception
+	 * 		Die vom Aufruf geworfene {@link Exception}, oder eine {@link RemoteException}, falls
+	 * 		die Verbindung abgebrochen ist
+	 */
+	private <T> T call(Callable<T> call) throws Exception {
+		final Future<T> future = caller.submit(call);
+
+		while (true) {
+			try {
+				return future.get(HEARTBEAT_INTERVAL, TimeUnit.MILLISECONDS);
+			} catch (ExecutionException e) {
+				if (e.getCause() instanceof Exception) {
+					throw (Exception) e.getCause();
+				}
+				throw e;
+			} catch (TimeoutException e) {
+				if (failedHeartbeats >= HEARTBEAT_TOLERANCE) {
+					/*
+					 * Der blockierte Aufruf wird aufgegeben. Sein Thread wird verworfen und für
+					 * folgende Aufrufe ein neuer erzeugt.
+					 */
+					future.cancel(true);
+					caller.shutdownNow();
+					caller = createCaller();
+					throw new RemoteException("Heartbeat von " + url + " ausgeblieben.");
+				}
+			}
+		}
+	}
+
+	/**
+	 * Stellt die Verbindung zum entfernten Spieler wieder her und bringt ihn auf den aktuellen
+	 * Spielstand.
+	 *
+	 * @param cause
+	 * 		Der Fehler, welcher den Verbindungsabbruch angezeigt hat
+	 *
+	 * @throws RemoteException
+	 * 		Falls die Verbindung nicht wiederhergestellt werden konnte
+	 * @throws InterruptedException
+	 * 		Falls der Thread während des Wartens unterbrochen worden ist
+	 */
+	private void reconnect(RemoteException cause) throws RemoteException, InterruptedException {
+		Log.log(LogLevel.WARNING, PLAYER,
+				"Lost connection to " + url + ": " + cause.getMessage() + ", reconnecting.");
+
+		for (int attempt = 1; attempt <= RECONNECT_ATTEMPTS; attempt++) {
+			try {
+				remote = Players.findRemotePlayer(url);
+				resumeRemote();
+				failedHeartbeats = 0;
+
+				Log.log(LogLevel.INFO, PLAYER,
+						"Reconnected to " + url + " after " + attempt + " attempt(s), resumed " +
+								"game after " + history.size() + " moves.");
+				return;
+			} catch (NetworkException | RemoteException e) {
+				Log.log(LogLevel.DEBUG, PLAYER, "Reconnect attempt " + attempt + " failed.");
+			} catch (Exception e) {
+				// Der Spieler ist erreichbar, kann das Spiel aber nicht fortsetzen.
+				break;
+			}
+			Thread.sleep(RECONNECT_DELAY);
+		}
+
+		Log.log(LogLevel.ERROR, PLAYER, "Could not reconnect to " + url);
+		throw cause;
+	}
+
+	/**
+	 * Führt einen Heartbeat aus und zählt die hintereinander fehlgeschlagenen Heartbeats.
+	 */
+	private void beat() {
+		try {
+			ping();
+			failedHeartbeats = 0;
+		} catch (RemoteException e) {
+			failedHeartbeats++;
+			Log.log(LogLevel.WARNING, PLAYER,
+					"Heartbeat to " + url + " failed (" + failedHeartbeats + ").");
+		}
+	}
+
+	/**
+	 * Erzeugt den Executor für die Aufrufe an den entfernten Spieler.
+	 *
+	 * @return Der erzeugte Executor
+	 */
+	private ExecutorService createCaller() {
+		return Executors.newSingleThreadExecutor(runnable -> {
+			final Thread thread = new Thread(runnable, "Remote-" + url);
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+}
@@ -9,12 +9,14 @@ import flowerwarspp.util.Convert;
 
 import java.rmi.RemoteException;
 import java.rmi.server.UnicastRemoteObject;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Mit diesem Netzwerk-Spieler kann jede Implementation der Schnittstelle {@link Player} einer
  * anderen Implementation von FlowerWarsPP angeboten werden.
  */
-public class RemotePlayer extends UnicastRemoteObject implements Player {
+public class RemotePlayer extends UnicastRemoteObject implements ResumablePlayer {
 	/**
 	 * Serialisierungskonstante
 	 */
@@ -27,12 +29,15 @@ public class RemotePlayer extends UnicastRemoteObject implements Player {
 	private Output output;
 
 	/**
-	 * Das Spielbrett des Spielers.
+	 * Das Spielbrett des Spielers. Ist <code>null</code>, falls das Spielbrett des umhüllten
+	 * Spielers mitbenutzt wird.
 	 */
 	private Board board;
 
 	/**
-	 * Ein Viewer auf das Spielbrett des Spielers.
+	 * Ein Viewer auf das Spielbrett des Spielers. Ist der umhüllte Spieler ein lokaler Spieler,
+	 * ist dies der {@link Viewer} auf dessen Spielbrett, sodass der Spielstand nur einmal geführt
+	 * werden muss.
 	 */
 	private Viewer boardViewer;
 
@@ -96,7 +101,7 @@ public class RemotePlayer extends UnicastRemoteObject implements Player {
 			output.showEndMessage(ExitCode.NO_MOVE);
 			throw e;
 		}
-		board.make(result);
+		makeMove(result);
 
 		if (saveGame != null) {
 			saveGame.add(result);
@@ -133,7 +138,7 @@ public class RemotePlayer extends UnicastRemoteObject implements Player {
 			output.showEndMessage(ExitCode.ILLEGAL_MOVE);
 			throw e;
 		}
-		board.make(opponentMove);
+		makeMove(opponentMove);
 
 		if (saveGame != null) {
 			saveGame.add(opponentMove);
@@ -147,14 +152,82 @@ public class RemotePlayer extends UnicastRemoteObject implements Player {
 
 	/**
 	 * {@inheritDoc}
+	 * <p>
+	 * Ist der umhüllte Spieler ein lokaler Spieler, wird kein eigenes Spielbrett erzeugt. Der
+	 * Spielverlauf wird dann über den {@link Viewer} auf das Spielbrett des umhüllten Spielers
+	 * verfolgt, welcher jeden Zug ohnehin selbst ausführt.
 	 */
 	@Override
 	public void init(int boardSize, PlayerColor color) throws Exception, RemoteException {
-		board = new MainBoard(boardSize);
-		boardViewer = board.viewer();
+		player.init(boardSize, color);
+		initBoard(boardSize, Collections.emptyList());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void ping() throws RemoteException {}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Der umhüllte Spieler wird ebenfalls fortgesetzt. Dazu muss er entweder ein lokaler Spieler
+	 * sein, oder selbst {@link ResumablePlayer} implementieren.
+	 */
+	@Override
+	public void resume(int boardSize, PlayerColor color, List<Move> moves)
+			throws Exception, RemoteException {
+		if (player instanceof AbstractPlayer) {
+			((AbstractPlayer) player).resume(boardSize, color, moves);
+		} else if (player instanceof ResumablePlayer) {
+			((ResumablePlayer) player).resume(boardSize, color, moves);
+		} else {
+			throw new Exception("Der angebotene Spieler kann nicht fortgesetzt werden.");
+		}
+
+		initBoard(boardSize, moves);
+		output.refresh();
+	}
+
+	/**
+	 * Setzt das Spielbrett, über welches der Spielverlauf verfolgt wird, nachdem der umhüllte
+	 * Spieler initialisiert worden ist, und teilt es dem {@link #output} mit.
+	 *
+	 * @param boardSize
+	 * 		Spielbrettgröße
+	 * @param moves
+	 * 		Die bereits gemachten Züge, mit welchen das Spiel beginnt
+	 */
+	private void initBoard(int boardSize, List<Move> moves) {
+		final SaveGame initialSaveGame = new SaveGame(boardSize);
+
+		if (player instanceof AbstractPlayer) {
+			board = null;
+			boardViewer = ((AbstractPlayer) player).getViewer();
+		} else {
+			board = new MainBoard(boardSize, moves);
+			boardViewer = board.viewer();
+		}
+
+		for (Move move : moves) {
+			initialSaveGame.add(move);
+		}
+
 		output.setViewer(boardViewer);
-		output.setSaveGame(new SaveGame(boardSize));
+		output.setSaveGame(initialSaveGame);
+	}
 
-		player.init(boardSize, color);
+	/**
+	 * Führt einen Zug auf dem eigenen Spielbrett aus. Wird das Spielbrett des umhüllten Spielers
+	 * mitbenutzt, ist der Zug dort bereits ausgeführt worden und es passiert nichts.
+	 *
+	 * @param move
+	 * 		Der auszuführende Zug
+	 */
+	private void makeMove(Move move) {
+		if (board != null) {
+			board.make(move);
+		}
 	}
 }
@@ -0,0 +1,51 @@
+package flowerwarspp.player;
+
+import flowerwarspp.preset.Move;
+import flowerwarspp.preset.Player;
+import flowerwarspp.preset.PlayerColor;
+
+import java.rmi.RemoteException;
+import java.util.List;
+
+/**
+ * Erweitert das Interface {@link Player} um die Methoden, welche das Überwachen der Verbindung zu
+ * einem entfernten Spieler und das Fortsetzen eines unterbrochenen Spiels ermöglichen.
+ * <p>
+ * Bricht die Verbindung zu einem entfernten Spieler ab, kann sich das Hauptprogramm erneut mit
+ * diesem verbinden und ihn mit {@link #resume(int, PlayerColor, List)} auf den aktuellen
+ * Spielstand bringen, anstatt das Spiel zu beenden.
+ */
+public interface ResumablePlayer extends Player {
+	/**
+	 * Prüft, ob der Spieler noch erreichbar ist. Die Methode tut nichts, außer im Fehlerfall eine
+	 * {@link RemoteException} zu werfen.
+	 *
+	 * @throws RemoteException
+	 * 		falls der Spieler nicht erreichbar ist
+	 */
+	void ping() throws RemoteException;
+
+	/**
+	 * Initialisiert den Spieler wie {@link #init(int, PlayerColor)} und führt anschließend alle
+	 * gegebenen Züge aus. Die Züge werden in einem einzigen Aufruf übertragen und vom Spieler mit
+	 * {@link flowerwarspp.board.MainBoard#MainBoard(int, Iterable)} auf einmal ausgeführt, anstatt
+	 * jeden Zug einzeln mit {@link #update(Move, flowerwarspp.preset.Status)} nachzuspielen.
+	 * Danach ist der Spieler entweder mit {@link #request()} oder mit
+	 * {@link #update(Move, flowerwarspp.preset.Status)} aufzurufen, je nachdem wer nach den
+	 * gegebenen Zügen am Zug ist.
+	 *
+	 * @param boardSize
+	 * 		Spielbrettgröße
+	 * @param color
+	 * 		Farbe des Spielers
+	 * @param moves
+	 * 		Alle bisher im Spiel gemachten Züge, in ihrer Reihenfolge
+	 *
+	 * @throws Exception
+	 * 		falls der Spieler nicht fortgesetzt werden konnte
+	 * @throws RemoteException
+	 * 		falls bei der Netzwerkkommunikation etwas schief gelaufen ist
+	 */
+	void resume(int boardSize, PlayerColor color, List<Move> moves)
+			throws Exception, RemoteException;
+}
@@ -0,0 +1,109 @@
+package flowerwarspp.player.book;
+
+import flowerwarspp.preset.Move;
+
+/**
+ * Ein im {@link OpeningBook} gespeicherter {@link Move} zu einer Spielsituation, zusammen mit den
+ * Ergebnissen der aufgezeichneten Spiele, in welchen er gemacht wurde. Die Ergebnisse sind aus
+ * Sicht des Spielers angegeben, der den Zug gemacht hat.
+ */
+public class BookMove {
+	/**
+	 * Der gespeicherte Zug.
+	 */
+	private final Move move;
+
+	/**
+	 * Anzahl der gewonnenen Spiele.
+	 */
+	private final int wins;
+
+	/**
+	 * Anzahl der unentschiedenen Spiele.
+	 */
+	private final int draws;
+
+	/**
+	 * Anzahl der verlorenen Spiele.
+	 */
+	private final int losses;
+
+	/**
+	 * Erzeugt einen neuen Eintrag.
+	 *
+	 * @param move
+	 * 		Der gespeicherte Zug
+	 * @param wins
+	 * 		Anzahl der gewonnenen Spiele
+	 * @param draws
+	 * 		Anzahl der unentschiedenen Spiele
+	 * @param losses
+	 * 		Anzahl der verlorenen Spiele
+	 */
+	BookMove(Move move, int wins, int draws, int losses) {
+		this.move = move;
+		this.wins = wins;
+		this.draws = draws;
+		this.losses = losses;
+	}
+
+	/**
+	 * Gibt {@link #move} zurück.
+	 *
+	 * @return Wert von {@link #move}
+	 */
+	public Move getMove() {
+		return move;
+	}
+
+	/**
+	 * Gibt {@link #wins} zurück.
+	 *
+	 * @return Wert von {@link #wins}
+	 */
+	public int getWins() {
+		return wins;
+	}
+
+	/**
+	 * Gibt {@link #draws} zurück.
+	 *
+	 * @return Wert von {@link #draws}
+	 */
+	public int getDraws() {
+		return draws;
+	}
+
+	/**
+	 * Gibt {@link #losses} zurück.
+	 *
+	 * @return Wert von {@link #losses}
+	 */
+	public int getLosses() {
+		return losses;
+	}
+
+	/**
+	 * Gibt die Anzahl aller Spiele zurück, in welchen der Zug gemacht wurde.
+	 *
+	 * @return Anzahl der Spiele
+	 */
+	public int getGames() {
+		return wins + draws + losses;
+	}
+
+	/**
+	 * Gibt den Anteil der Punkte zurück, die mit diesem Zug erzielt wurden. Ein Sieg zählt dabei
+	 * einen Punkt, ein Unentschieden einen halben.
+	 *
+	 * @return Wert zwischen 0 und 1
+	 */
+	public double getScore() {
+		return (wins + draws / 2.0) / getGames();
+	}
+
+	@Override
+	public String toString() {
+		return move + " (+" + wins + " =" + draws + " -" + losses + ")";
+	}
+}
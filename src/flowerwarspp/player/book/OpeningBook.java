@@ -0,0 +1,242 @@
+package flowerwarspp.player.book;
+
+import flowerwarspp.board.BoardSymmetry;
+import flowerwarspp.preset.Move;
+import flowerwarspp.preset.Viewer;
+import flowerwarspp.util.MoveCodec;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Ein Eröffnungsbuch, welches zu Spielsituationen aus aufgezeichneten Spielen die dort gemachten
+ * Züge und deren Ergebnisse speichert. Eröffnungsbücher werden mit {@link OpeningBookBuilder}
+ * erzeugt.
+ * <p>
+ * Die Datei beginnt mit einem Kopf aus der Kennung "FWOB", der Formatversion, der Anzahl an
+ * Zügen, bis zu der die Spiele aufgenommen wurden, und der Anzahl der Einträge. Danach folgen die
+ * Einträge mit fester Länge, sortiert nach dem {@link PositionKey} der Spielsituation: Schlüssel,
+ * mit {@link MoveCodec} kodierter Zug und die Anzahl der Siege, Unentschieden und Niederlagen.
+ * Die Züge sind dabei so gespeichert, wie sie im Vertreter der Spielsituation unter allen
+ * symmetrischen Spielsituationen gemacht würden (siehe {@link PositionKey#canonicalSymmetry}).
+ * <p>
+ * Die Datei wird beim Öffnen in den Speicher abgebildet und nicht eingelesen, die Einträge zu
+ * einer Spielsituation werden per binärer Suche gefunden. Ein Eröffnungsbuch kann daher von
+ * mehreren Spielern gleichzeitig verwendet werden.
+ */
+public class OpeningBook {
+	/**
+	 * Die Kennung am Anfang eines Eröffnungsbuchs, "FWOB" in ASCII.
+	 */
+	static final int MAGIC = 0x46574F42;
+
+	/**
+	 * Die Version des Formats.
+	 */
+	static final short VERSION = 2;
+
+	/**
+	 * Die Größe des Kopfes in Byte: Kennung, Version, reserviert, Tiefe und Anzahl der Einträge.
+	 */
+	static final int HEADER_SIZE = 16;
+
+	/**
+	 * Die Größe eines Eintrags in Byte: Schlüssel, Zug, Siege, Unentschieden und Niederlagen.
+	 */
+	static final int ENTRY_SIZE = 24;
+
+	/**
+	 * In wie vielen aufgezeichneten Spielen ein Zug mindestens gemacht worden sein muss, damit er
+	 * von {@link #choose(Viewer)} gewählt wird.
+	 */
+	private static final int MINIMUM_GAMES = 2;
+
+	/**
+	 * Der Inhalt der in den Speicher abgebildeten Datei. Es wird nur mit absoluten Positionen
+	 * gelesen, damit mehrere Threads gleichzeitig zugreifen können.
+	 */
+	private final ByteBuffer buffer;
+
+	/**
+	 * Bis zu wie vielen Zügen die aufgezeichneten Spiele aufgenommen wurden.
+	 */
+	private final int depth;
+
+	/**
+	 * Die Anzahl der Einträge.
+	 */
+	private final int entryCount;
+
+	/**
+	 * Erzeugt ein Eröffnungsbuch aus dem Inhalt einer Datei.
+	 *
+	 * @param buffer
+	 * 		Der Inhalt der Datei
+	 *
+	 * @throws IOException
+	 * 		Falls der Inhalt kein gültiges Eröffnungsbuch ist
+	 */
+	private OpeningBook(ByteBuffer buffer) throws IOException {
+		if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+			throw new IOException("Die Datei ist kein Eröffnungsbuch.");
+		}
+		final short version = buffer.getShort(4);
+		if (version != VERSION) {
+			throw new IOException("Unbekannte Version des Eröffnungsbuchs: " + version);
+		}
+		depth = buffer.getInt(8);
+		entryCount = buffer.getInt(12);
+		if (entryCount < 0 || buffer.capacity() != HEADER_SIZE + (long) ENTRY_SIZE * entryCount) {
+			throw new IOException("Die Länge des Eröffnungsbuchs passt nicht zur Anzahl der " +
+					"Einträge.");
+		}
+		this.buffer = buffer;
+	}
+
+	/**
+	 * Öffnet das Eröffnungsbuch mit dem gegebenen Dateinamen.
+	 *
+	 * @param bookName
+	 * 		Name der Datei mit Pfad
+	 *
+	 * @return Das geöffnete Eröffnungsbuch
+	 *
+	 * @throws IOException
+	 * 		Falls die Datei nicht gelesen werden konnte oder kein Eröffnungsbuch ist
+	 */
+	public static OpeningBook open(String bookName) throws IOException {
+		try (FileChannel channel = FileChannel.open(Paths.get(bookName),
+				StandardOpenOption.READ)) {
+			return new OpeningBook(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+		}
+	}
+
+	/**
+	 * Gibt {@link #depth} zurück.
+	 *
+	 * @return Wert von {@link #depth}
+	 */
+	public int getDepth() {
+		return depth;
+	}
+
+	/**
+	 * Gibt die Anzahl der Einträge zurück.
+	 *
+	 * @return Anzahl der Einträge
+	 */
+	public int size() {
+		return entryCount;
+	}
+
+	/**
+	 * Gibt alle gespeicherten Züge zur Spielsituation eines {@link Viewer}s zurück. Die Züge
+	 * werden dazu vom Vertreter der Spielsituation auf die Spielsituation selbst abgebildet.
+	 *
+	 * @param viewer
+	 * 		Der {@link Viewer} auf das Spielbrett
+	 *
+	 * @return Die gespeicherten Züge, oder eine leere Liste falls die Spielsituation nicht
+	 * gespeichert ist
+	 */
+	public List<BookMove> getMoves(Viewer viewer) {
+		final long[] keys = PositionKey.ofEachSymmetry(viewer);
+		final int canonical = PositionKey.canonicalSymmetry(keys);
+		final int inverse = BoardSymmetry.inverse(canonical);
+		final BoardSymmetry symmetry = BoardSymmetry.forSize(viewer.getSize());
+
+		final List<BookMove> moves = new ArrayList<>();
+		for (BookMove move : getMoves(keys[canonical])) {
+			moves.add(new BookMove(symmetry.apply(inverse, move.getMove()), move.getWins(),
+					move.getDraws(), move.getLosses()));
+		}
+		return moves;
+	}
+
+	/**
+	 * Gibt alle gespeicherten Züge zu einer Spielsituation zurück, so wie sie im Vertreter der
+	 * Spielsituation gemacht würden.
+	 *
+	 * @param key
+	 * 		Der {@link PositionKey} der Spielsituation
+	 *
+	 * @return Die gespeicherten Züge, oder eine leere Liste falls die Spielsituation nicht
+	 * gespeichert ist
+	 */
+	public List<BookMove> getMoves(long key) {
+		final List<BookMove> moves = new ArrayList<>();
+		for (int i = firstEntry(key); i < entryCount && keyAt(i) == key; i++) {
+			final int offset = HEADER_SIZE + ENTRY_SIZE * i;
+			moves.add(new BookMove(MoveCodec.decodeMove(buffer.getInt(offset + 8)),
+					buffer.getInt(offset + 12), buffer.getInt(offset + 16),
+					buffer.getInt(offset + 20)));
+		}
+		return moves;
+	}
+
+	/**
+	 * Wählt zur Spielsituation eines {@link Viewer}s den Zug mit dem besten Ergebnis, der in
+	 * mindestens {@link #MINIMUM_GAMES} Spielen gemacht wurde und auf dem Spielbrett erlaubt ist.
+	 * Bei gleichem Ergebnis wird der häufiger gespielte Zug gewählt.
+	 *
+	 * @param viewer
+	 * 		Der {@link Viewer} auf das Spielbrett des Spielers am Zug
+	 *
+	 * @return Der gewählte Zug, oder <code>null</code> falls kein passender Zug gespeichert ist
+	 */
+	public Move choose(Viewer viewer) {
+		BookMove best = null;
+		for (BookMove candidate : getMoves(viewer)) {
+			if (candidate.getGames() < MINIMUM_GAMES ||
+					!viewer.possibleMovesContains(candidate.getMove())) {
+				continue;
+			}
+			if (best == null || candidate.getScore() > best.getScore() ||
+					(candidate.getScore() == best.getScore() &&
+							candidate.getGames() > best.getGames())) {
+				best = candidate;
+			}
+		}
+		return best == null ? null : best.getMove();
+	}
+
+	/**
+	 * Sucht per binärer Suche den ersten Eintrag mit einem Schlüssel, der nicht kleiner als der
+	 * gegebene ist.
+	 *
+	 * @param key
+	 * 		Der gesuchte Schlüssel
+	 *
+	 * @return Der Index des Eintrags, oder {@link #entryCount} falls es keinen solchen gibt
+	 */
+	private int firstEntry(long key) {
+		int low = 0;
+		int high = entryCount;
+		while (low < high) {
+			final int middle = (low + high) >>> 1;
+			if (keyAt(middle) < key) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * Gibt den Schlüssel eines Eintrags zurück.
+	 *
+	 * @param index
+	 * 		Der Index des Eintrags
+	 *
+	 * @return Der Schlüssel des Eintrags
+	 */
+	private long keyAt(int index) {
+		return buffer.getLong(HEADER_SIZE + ENTRY_SIZE * index);
+	}
+}
@@ -0,0 +1,272 @@
+package flowerwarspp.player.book;
+
+import flowerwarspp.board.BoardSymmetry;
+import flowerwarspp.board.MainBoard;
+import flowerwarspp.main.savegame.ArchivedGame;
+import flowerwarspp.main.savegame.GameArchive;
+import flowerwarspp.main.savegame.LoadException;
+import flowerwarspp.main.savegame.SaveGame;
+import flowerwarspp.preset.Ditch;
+import flowerwarspp.preset.Flower;
+import flowerwarspp.preset.Move;
+import flowerwarspp.preset.MoveType;
+import flowerwarspp.preset.PlayerColor;
+import flowerwarspp.preset.Status;
+import flowerwarspp.util.MoveCodec;
+import flowerwarspp.util.log.Log;
+import flowerwarspp.util.log.LogLevel;
+import flowerwarspp.util.log.LogModule;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Erzeugt ein {@link OpeningBook} aus aufgezeichneten Spielen. Von jedem beendeten Spiel werden
+ * die ersten Züge zusammen mit dem Ergebnis des Spiels aus Sicht des ziehenden Spielers
+ * aufgenommen. Unvollständige Spiele und Spiele mit ungültigen Zügen werden übersprungen.
+ * <p>
+ * Zueinander symmetrische Spielsituationen werden zusammengefasst: Jeder Zug wird mit der {@link
+ * BoardSymmetry} abgebildet, welche die Spielsituation auf ihren Vertreter abbildet.
+ */
+public class OpeningBookBuilder {
+	/**
+	 * Bis zu wie vielen Zügen die Spiele aufgenommen werden.
+	 */
+	private final int depth;
+
+	/**
+	 * Die bisher gesammelten Ergebnisse. Bildet den {@link PositionKey} einer Spielsituation auf
+	 * die dort gemachten, mit {@link MoveCodec} kodierten Züge und deren Siege, Unentschieden und
+	 * Niederlagen ab.
+	 */
+	private final HashMap<Long, HashMap<Integer, int[]>> statistics = new HashMap<>();
+
+	/**
+	 * Die Anzahl der bisher aufgenommenen Spiele.
+	 */
+	private int games = 0;
+
+	/**
+	 * Erzeugt einen neuen, leeren Builder.
+	 *
+	 * @param depth
+	 * 		Bis zu wie vielen Zügen die Spiele aufgenommen werden
+	 */
+	public OpeningBookBuilder(int depth) {
+		this.depth = depth;
+	}
+
+	/**
+	 * Nimmt ein Spiel auf, dessen Ergebnis noch nicht bekannt ist. Dazu werden alle Züge auf
+	 * einem {@link MainBoard} ausgeführt.
+	 *
+	 * @param saveGame
+	 * 		Die Züge des Spiels
+	 *
+	 * @return <code>true</code>, falls das Spiel aufgenommen wurde
+	 */
+	public boolean add(SaveGame saveGame) {
+		final Status result;
+		try {
+			result = new MainBoard(saveGame.getBoardSize(), saveGame).viewer().getStatus();
+		} catch (IllegalStateException e) {
+			return false;
+		}
+		return add(saveGame, result);
+	}
+
+	/**
+	 * Nimmt ein Spiel mit bekanntem Ergebnis auf.
+	 *
+	 * @param saveGame
+	 * 		Die Züge des Spiels
+	 * @param result
+	 * 		Der {@link Status} am Ende des Spiels
+	 *
+	 * @return <code>true</code>, falls das Spiel aufgenommen wurde
+	 */
+	public boolean add(SaveGame saveGame, Status result) {
+		if (result != Status.RedWin && result != Status.BlueWin && result != Status.Draw) {
+			return false;
+		}
+
+		final EnumMap<PlayerColor, HashSet<Flower>> flowers = new EnumMap<>(PlayerColor.class);
+		final EnumMap<PlayerColor, HashSet<Ditch>> ditches = new EnumMap<>(PlayerColor.class);
+		for (PlayerColor color : PlayerColor.values()) {
+			flowers.put(color, new HashSet<>());
+			ditches.put(color, new HashSet<>());
+		}
+
+		final BoardSymmetry symmetry = BoardSymmetry.forSize(saveGame.getBoardSize());
+		PlayerColor turn = PlayerColor.Red;
+		int ply = 0;
+		for (Move move : saveGame) {
+			if (ply++ >= depth ||
+					(move.getType() != MoveType.Flower && move.getType() != MoveType.Ditch)) {
+				break;
+			}
+
+			final long[] keys = PositionKey.ofEachSymmetry(saveGame.getBoardSize(), turn,
+					flowers::get, ditches::get);
+			final int canonical = PositionKey.canonicalSymmetry(keys);
+			final int[] counts = statistics.computeIfAbsent(keys[canonical], k -> new HashMap<>())
+					.computeIfAbsent(MoveCodec.encode(symmetry.apply(canonical, move)),
+							k -> new int[3]);
+			if (result == Status.Draw) {
+				counts[1]++;
+			} else if ((result == Status.RedWin) == (turn == PlayerColor.Red)) {
+				counts[0]++;
+			} else {
+				counts[2]++;
+			}
+
+			if (move.getType() == MoveType.Flower) {
+				flowers.get(turn).add(move.getFirstFlower());
+				flowers.get(turn).add(move.getSecondFlower());
+			} else {
+				ditches.get(turn).add(move.getDitch());
+			}
+			turn = turn == PlayerColor.Red ? PlayerColor.Blue : PlayerColor.Red;
+		}
+
+		games++;
+		return true;
+	}
+
+	/**
+	 * Nimmt alle Spiele aus einer Datei oder, falls ein Verzeichnis gegeben ist, aus allen Dateien
+	 * darin und in allen Unterverzeichnissen auf. Eine Datei kann ein Spielstand in einem der
+	 * Formate von {@link SaveGame} oder ein {@link GameArchive} sein. Dateien, die nicht gelesen
+	 * werden können, werden übersprungen.
+	 *
+	 * @param source
+	 * 		Die Datei oder das Verzeichnis
+	 *
+	 * @return Die Anzahl der gelesenen Dateien
+	 *
+	 * @throws IOException
+	 * 		Falls das Verzeichnis nicht durchsucht werden konnte
+	 */
+	public int addAll(Path source) throws IOException {
+		final List<Path> files;
+		try (Stream<Path> stream = Files.walk(source)) {
+			files = stream.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+		}
+
+		int read = 0;
+		for (Path file : files) {
+			try {
+				addFile(file.toString());
+				read++;
+			} catch (LoadException | IllegalArgumentException | IllegalStateException e) {
+				Log.log(LogLevel.WARNING, LogModule.MAIN,
+						"Skipping " + file + " for the opening book: " + e.getMessage());
+			}
+		}
+		return read;
+	}
+
+	/**
+	 * Nimmt alle Spiele aus einem Spielstand oder einem {@link GameArchive} auf.
+	 *
+	 * @param fileName
+	 * 		Name der Datei mit Pfad
+	 *
+	 * @throws LoadException
+	 * 		Falls die Datei nicht gelesen werden konnte
+	 */
+	private void addFile(String fileName) throws LoadException {
+		if (!GameArchive.isArchive(fileName)) {
+			add(SaveGame.load(fileName));
+			return;
+		}
+
+		try (GameArchive archive = GameArchive.open(fileName)) {
+			for (ArchivedGame game : archive) {
+				add(game.getSaveGame(), game.getStatus());
+			}
+		} catch (IOException e) {
+			throw new LoadException(e);
+		}
+	}
+
+	/**
+	 * Gibt die Anzahl der bisher aufgenommenen Spiele zurück.
+	 *
+	 * @return Anzahl der Spiele
+	 */
+	public int getGames() {
+		return games;
+	}
+
+	/**
+	 * Gibt die Anzahl der bisher gesammelten Spielsituationen zurück.
+	 *
+	 * @return Anzahl der Spielsituationen
+	 */
+	public int getPositions() {
+		return statistics.size();
+	}
+
+	/**
+	 * Schreibt das Eröffnungsbuch in eine Datei. Eine bestehende Datei wird dabei überschrieben.
+	 *
+	 * @param bookName
+	 * 		Name der Datei mit Pfad
+	 *
+	 * @throws IOException
+	 * 		Falls die Datei nicht geschrieben werden konnte
+	 */
+	public void write(String bookName) throws IOException {
+		final List<Long> keys = new ArrayList<>(statistics.keySet());
+		keys.sort(null);
+
+		int entryCount = 0;
+		for (HashMap<Integer, int[]> moves : statistics.values()) {
+			entryCount += moves.size();
+		}
+
+		final ByteBuffer buffer =
+				ByteBuffer.allocate(OpeningBook.HEADER_SIZE + OpeningBook.ENTRY_SIZE * entryCount);
+		buffer.putInt(OpeningBook.MAGIC);
+		buffer.putShort(OpeningBook.VERSION);
+		buffer.putShort((short) 0);
+		buffer.putInt(depth);
+		buffer.putInt(entryCount);
+		for (long key : keys) {
+			for (Map.Entry<Integer, int[]> entry : new TreeMap<>(statistics.get(key)).entrySet()) {
+				buffer.putLong(key);
+				buffer.putInt(entry.getKey());
+				buffer.putInt(entry.getValue()[0]);
+				buffer.putInt(entry.getValue()[1]);
+				buffer.putInt(entry.getValue()[2]);
+			}
+		}
+		buffer.flip();
+
+		try (FileChannel channel = FileChannel.open(Paths.get(bookName), StandardOpenOption.CREATE,
+				StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+			while (buffer.hasRemaining()) {
+				channel.write(buffer);
+			}
+		}
+
+		Log.log(LogLevel.INFO, LogModule.MAIN,
+				"Opening book " + bookName + " written with " + games + " game(s) and " +
+						statistics.size() + " position(s)");
+	}
+}
@@ -0,0 +1,179 @@
+package flowerwarspp.player.book;
+
+import flowerwarspp.board.BoardSymmetry;
+import flowerwarspp.preset.Ditch;
+import flowerwarspp.preset.Flower;
+import flowerwarspp.preset.PlayerColor;
+import flowerwarspp.preset.Viewer;
+import flowerwarspp.util.MoveCodec;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.Function;
+
+/**
+ * Hilfs-Klasse, welche einer Spielsituation einen 64 Bit langen Schlüssel zuordnet. Der Schlüssel
+ * hängt nur von der Spielbrettgröße, dem Spieler am Zug und den gesetzten Blumen und Gräben ab,
+ * nicht aber von der Reihenfolge der Züge, die zu dieser Spielsituation geführt haben. Zueinander
+ * symmetrische Spielsituationen erhalten denselben Schlüssel.
+ * <p>
+ * Dazu wird jede gesetzte {@link Flower} und jeder gesetzte {@link Ditch} zusammen mit der Farbe
+ * des Spielers mit {@link MoveCodec} kodiert, gestreut und aufsummiert. Dies geschieht für das
+ * Bild der Spielsituation unter jeder {@link BoardSymmetry}, der kleinste dieser Schlüssel ist
+ * der Schlüssel der Spielsituation.
+ */
+public class PositionKey {
+	/**
+	 * Markiert einen kodierten {@link Ditch}, damit er nicht mit einer kodierten {@link Flower}
+	 * zusammenfällt.
+	 */
+	private static final long DITCH = 1L << 40;
+
+	/**
+	 * Markiert die Spielbrettgröße.
+	 */
+	private static final long SIZE = 1L << 41;
+
+	/**
+	 * Markiert den Spieler am Zug.
+	 */
+	private static final long TURN = 1L << 42;
+
+	/**
+	 * Leerer privater Konstruktor zum Verhindern der Objektinitialisierung
+	 */
+	private PositionKey() {}
+
+	/**
+	 * Berechnet den Schlüssel der Spielsituation, die ein {@link Viewer} beschreibt.
+	 *
+	 * @param viewer
+	 * 		Der {@link Viewer} auf das Spielbrett
+	 *
+	 * @return Der Schlüssel der Spielsituation
+	 */
+	public static long of(Viewer viewer) {
+		return of(ofEachSymmetry(viewer));
+	}
+
+	/**
+	 * Berechnet für jede {@link BoardSymmetry} den Schlüssel des Bildes der Spielsituation, die ein
+	 * {@link Viewer} beschreibt.
+	 *
+	 * @param viewer
+	 * 		Der {@link Viewer} auf das Spielbrett
+	 *
+	 * @return Die Schlüssel, nach Symmetrie
+	 */
+	public static long[] ofEachSymmetry(Viewer viewer) {
+		return ofEachSymmetry(viewer.getSize(), viewer.getTurn(), viewer::getFlowers,
+				viewer::getDitches);
+	}
+
+	/**
+	 * Berechnet den Schlüssel einer Spielsituation.
+	 *
+	 * @param size
+	 * 		Die Spielbrettgröße
+	 * @param turn
+	 * 		Der Spieler am Zug
+	 * @param flowers
+	 * 		Liefert zu jeder Farbe die gesetzten {@link Flower}s des Spielers
+	 * @param ditches
+	 * 		Liefert zu jeder Farbe die gesetzten {@link Ditch}es des Spielers
+	 *
+	 * @return Der Schlüssel der Spielsituation
+	 */
+	public static long of(int size, PlayerColor turn,
+	                      Function<PlayerColor, ? extends Collection<Flower>> flowers,
+	                      Function<PlayerColor, ? extends Collection<Ditch>> ditches) {
+		return of(ofEachSymmetry(size, turn, flowers, ditches));
+	}
+
+	/**
+	 * Berechnet für jede {@link BoardSymmetry} den Schlüssel des Bildes einer Spielsituation.
+	 *
+	 * @param size
+	 * 		Die Spielbrettgröße
+	 * @param turn
+	 * 		Der Spieler am Zug
+	 * @param flowers
+	 * 		Liefert zu jeder Farbe die gesetzten {@link Flower}s des Spielers
+	 * @param ditches
+	 * 		Liefert zu jeder Farbe die gesetzten {@link Ditch}es des Spielers
+	 *
+	 * @return Die Schlüssel, nach Symmetrie
+	 */
+	public static long[] ofEachSymmetry(int size, PlayerColor turn,
+	                                    Function<PlayerColor, ? extends Collection<Flower>> flowers,
+	                                    Function<PlayerColor, ? extends Collection<Ditch>> ditches) {
+		final BoardSymmetry symmetry = BoardSymmetry.forSize(size);
+		final long[] keys = new long[BoardSymmetry.COUNT];
+		Arrays.fill(keys, mix(SIZE | size) + mix(TURN | turn.ordinal()));
+
+		for (PlayerColor color : PlayerColor.values()) {
+			final long colorBits = (long) color.ordinal() << 32;
+			for (Flower flower : flowers.apply(color)) {
+				final int code = MoveCodec.encode(flower);
+				for (int s = 0; s < keys.length; s++) {
+					keys[s] += mix(colorBits | symmetry.applyToFlower(s, code));
+				}
+			}
+			for (Ditch ditch : ditches.apply(color)) {
+				final int code = MoveCodec.encode(ditch);
+				for (int s = 0; s < keys.length; s++) {
+					keys[s] += mix(DITCH | colorBits | symmetry.applyToDitch(s, code));
+				}
+			}
+		}
+		return keys;
+	}
+
+	/**
+	 * Gibt die Symmetrie zurück, deren Schlüssel der kleinste ist. Sie bildet die Spielsituation
+	 * auf ihren Vertreter unter allen symmetrischen Spielsituationen ab. Sind mehrere Schlüssel
+	 * gleich, wird die erste dieser Symmetrien gewählt.
+	 *
+	 * @param keys
+	 * 		Die mit {@link #ofEachSymmetry(Viewer)} berechneten Schlüssel
+	 *
+	 * @return Die Symmetrie mit dem kleinsten Schlüssel
+	 */
+	public static int canonicalSymmetry(long[] keys) {
+		int result = 0;
+		for (int s = 1; s < keys.length; s++) {
+			if (keys[s] < keys[result]) {
+				result = s;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Gibt den kleinsten der mit {@link #ofEachSymmetry(Viewer)} berechneten Schlüssel zurück.
+	 *
+	 * @param keys
+	 * 		Die Schlüssel, nach Symmetrie
+	 *
+	 * @return Der Schlüssel der Spielsituation
+	 */
+	private static long of(long[] keys) {
+		return keys[canonicalSymmetry(keys)];
+	}
+
+	/**
+	 * Streut die Bits eines Werts, sodass sich die Summen verschiedener Mengen kaum überschneiden
+	 * (Finalisierer von SplitMix64).
+	 *
+	 * @param value
+	 * 		Der zu streuende Wert
+	 *
+	 * @return Der gestreute Wert
+	 */
+	private static long mix(long value) {
+		long z = value + 0x9E3779B97F4A7C15L;
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+}
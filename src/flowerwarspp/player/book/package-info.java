@@ -0,0 +1,6 @@
+/**
+ * Dieses Package umfasst das Eröffnungsbuch, mit welchem Computerspieler in den ersten Zügen eines
+ * Spiels auf die Ergebnisse aufgezeichneter Spiele zurückgreifen können, anstatt alle möglichen
+ * Züge zu bewerten.
+ */
+package flowerwarspp.player.book;
@@ -275,6 +275,74 @@ public class ArgumentParser {
 		return Integer.parseInt((String) getSetting("port"));
 	}
 
+	public int getSpectatePort() throws ArgumentParserException {
+		return Integer.parseInt((String) getSetting("spectate"));
+	}
+
+	public String getArchive() throws ArgumentParserException {
+		return (String) getSetting("archive");
+	}
+
+	public String getJournal() throws ArgumentParserException {
+		return (String) getSetting("journal");
+	}
+
+	public int getJournalSync() throws ArgumentParserException {
+		return Integer.parseInt((String) getSetting("journalSync"));
+	}
+
+	public String getAutosave() throws ArgumentParserException {
+		return (String) getSetting("autosave");
+	}
+
+	public int getAutosaveInterval() throws ArgumentParserException {
+		return Integer.parseInt((String) getSetting("autosaveInterval"));
+	}
+
+	public int getAutosaveMoves() throws ArgumentParserException {
+		return Integer.parseInt((String) getSetting("autosaveMoves"));
+	}
+
+	public int getReplayFrom() throws ArgumentParserException {
+		return Integer.parseInt((String) getSetting("replayFrom"));
+	}
+
+	public String getBook() throws ArgumentParserException {
+		return (String) getSetting("book");
+	}
+
+	public int getBookDepth() throws ArgumentParserException {
+		return Integer.parseInt((String) getSetting("bookDepth"));
+	}
+
+	public String getBuildBook() throws ArgumentParserException {
+		return (String) getSetting("buildBook");
+	}
+
+	public String getExport() throws ArgumentParserException {
+		return (String) getSetting("export");
+	}
+
+	public String getExportFrom() throws ArgumentParserException {
+		return (String) getSetting("exportFrom");
+	}
+
+	public String getValidate() throws ArgumentParserException {
+		return (String) getSetting("validate");
+	}
+
+	public String getReview() throws ArgumentParserException {
+		return (String) getSetting("review");
+	}
+
+	public int getThreads() throws ArgumentParserException {
+		return Integer.parseInt((String) getSetting("threads"));
+	}
+
+	public int getFps() throws ArgumentParserException {
+		return Integer.parseInt((String) getSetting("fps"));
+	}
+
     public boolean isText() throws ArgumentParserException {
         return getFlag("text");
     }
@@ -0,0 +1,327 @@
+package flowerwarspp.ui;
+
+import flowerwarspp.preset.Ditch;
+import flowerwarspp.preset.Flower;
+import flowerwarspp.preset.PlayerColor;
+import flowerwarspp.preset.Position;
+import flowerwarspp.preset.Viewer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Zeichnet ein Spielbrett für das {@link TextInterface} als ASCII-Art.
+ * <p>
+ * Die Zellen des Spielbretts werden nur einmal erzeugt, die Zeichenketten aller möglichen
+ * Färbungen einer Zelle nur einmal für alle Spielbretter. Nach einem vollständigen Bild werden
+ * mit {@link #renderChanges(Viewer, StringBuilder)} nur noch die Zellen, deren Farben sich seit
+ * dem letzten Bild geändert haben, mit ANSI-Escape-Codes an ihrer Stelle im Terminal
+ * überschrieben.
+ */
+final class TextBoardRenderer {
+	/**
+	 * Der Anfang einer ANSI-Escape-Sequenz.
+	 */
+	private static final String CSI = "\u001B[";
+
+	/**
+	 * Die Farben einer Zelle nach ihrem Code, siehe {@link #code(PlayerColor)}.
+	 */
+	private static final PlayerColor[] COLORS = {null, PlayerColor.Red, PlayerColor.Blue};
+
+	/**
+	 * Die Zeichenketten der Dreiecke mit der Spitze nach oben, nach {@link Cell#key(Viewer)}.
+	 */
+	private static final String[] UPRIGHT_CELLS = new String[81];
+
+	/**
+	 * Die Zeichenketten der Dreiecke mit der Spitze nach unten, nach {@link Cell#key(Viewer)}.
+	 */
+	private static final String[] INVERTED_CELLS = new String[3];
+
+	static {
+		for (int key = 0; key < UPRIGHT_CELLS.length; key++) {
+			UPRIGHT_CELLS[key] = GameColors.getAnsiDitchColor(COLORS[key / 3 % 3]) + '/' +
+					GameColors.ANSI_RESET + GameColors.getAnsiFlowerColor(COLORS[key % 3]) +
+					GameColors.getAnsiDitchColor(COLORS[key / 9 % 3]) + '_' +
+					GameColors.ANSI_RESET + GameColors.getAnsiDitchColor(COLORS[key / 27]) +
+					'\\' + GameColors.ANSI_RESET;
+		}
+		for (int key = 0; key < INVERTED_CELLS.length; key++) {
+			INVERTED_CELLS[key] =
+					GameColors.getAnsiFlowerColor(COLORS[key]) + ' ' + GameColors.ANSI_RESET;
+		}
+	}
+
+	/**
+	 * Die Größe des Spielbretts.
+	 */
+	private final int size;
+
+	/**
+	 * Alle Zellen in der Reihenfolge, in der sie gezeichnet werden.
+	 */
+	private final Cell[] cells;
+
+	/**
+	 * Die Färbung jeder Zelle im zuletzt gezeichneten Bild, oder -1.
+	 */
+	private final int[] drawnKeys;
+
+	/**
+	 * Die Punkte jedes Spielers im zuletzt gezeichneten Bild, oder -1.
+	 */
+	private final int[] drawnPoints = new int[COLORS.length];
+
+	/**
+	 * Erzeugt die Zellen eines Spielbretts.
+	 *
+	 * @param size
+	 * 		Die Größe des Spielbretts
+	 */
+	TextBoardRenderer(int size) {
+		this.size = size;
+
+		final List<Cell> cellList = new ArrayList<>();
+		for (int i = 0; i < size; i++) {
+			// Die erste Zeile des Bilds enthält nur die Beschriftung, daher i + 2.
+			int column = (size - i - 1) * 2 + 4;
+			for (int j = 1; j <= i + 1; j++) {
+				cellList.add(new Cell(
+						new Flower(new Position(j, size - i), new Position(j + 1, size - i),
+								new Position(j, size - i + 1)), i + 2, column));
+				column += 3;
+				if (j != i + 1) {
+					cellList.add(new Cell(new Flower(new Position(j + 1, size - i + 1),
+							new Position(j + 1, size - i), new Position(j, size - i + 1)), i + 2,
+							column));
+					column += 1;
+				}
+			}
+		}
+		cells = cellList.toArray(new Cell[0]);
+		drawnKeys = new int[cells.length];
+		Arrays.fill(drawnKeys, -1);
+		Arrays.fill(drawnPoints, -1);
+	}
+
+	/**
+	 * Gibt die Anzahl der Zeilen eines vollständigen Bilds zurück.
+	 *
+	 * @return Die Anzahl der Zeilen
+	 */
+	int getHeight() {
+		return size + 5;
+	}
+
+	/**
+	 * Zeichnet das vollständige Spielbrett samt Punkten.
+	 *
+	 * @param viewer
+	 * 		Der {@link Viewer} auf das Spielbrett
+	 * @param out
+	 * 		Der {@link StringBuilder}, an welchen das Bild angehängt wird
+	 */
+	void renderFull(Viewer viewer, StringBuilder out) {
+		int cell = 0;
+		for (int i = -1; i < size; i++) {
+			for (int j = 0; j < (size - i - 1) * 2; j++) {
+				out.append(' ');
+			}
+			appendLabel(out, size - i);
+			out.append(' ');
+			for (; cell < cells.length && cells[cell].row == i + 2; cell++) {
+				drawnKeys[cell] = cells[cell].key(viewer);
+				out.append(cells[cell].text(drawnKeys[cell]));
+			}
+			out.append('\n');
+		}
+		out.append(GameColors.ANSI_GRID);
+		for (int i = 1; i <= size + 1; i++) {
+			if (i < 100) {
+				out.append(i < 10 ? "  " : " ");
+			}
+			out.append(i).append(' ');
+		}
+		out.append(GameColors.ANSI_RESET);
+		out.append('\n');
+
+		out.append('\n');
+		for (int color = 1; color < COLORS.length; color++) {
+			drawnPoints[color] = viewer.getPoints(COLORS[color]);
+			appendPoints(out, color);
+			out.append('\n');
+		}
+	}
+
+	/**
+	 * Überschreibt nur die Zellen und Punkte, die sich seit dem letzten Bild geändert haben. Das
+	 * letzte Bild muss mit {@link #renderFull(Viewer, StringBuilder)} in der ersten Zeile des
+	 * Terminals begonnen haben. Die Position des Cursors ist danach unbestimmt.
+	 *
+	 * @param viewer
+	 * 		Der {@link Viewer} auf das Spielbrett
+	 * @param out
+	 * 		Der {@link StringBuilder}, an welchen die ANSI-Escape-Codes angehängt werden
+	 */
+	void renderChanges(Viewer viewer, StringBuilder out) {
+		for (int cell = 0; cell < cells.length; cell++) {
+			int key = cells[cell].key(viewer);
+			if (key != drawnKeys[cell]) {
+				drawnKeys[cell] = key;
+				moveCursor(out, cells[cell].row, cells[cell].column);
+				out.append(cells[cell].text(key));
+			}
+		}
+		for (int color = 1; color < COLORS.length; color++) {
+			int points = viewer.getPoints(COLORS[color]);
+			if (points != drawnPoints[color]) {
+				drawnPoints[color] = points;
+				moveCursor(out, size + 3 + color, 1);
+				appendPoints(out, color);
+				out.append(CSI).append('K');
+			}
+		}
+	}
+
+	/**
+	 * Hängt eine zweistellige Beschriftung einer Zeile an.
+	 *
+	 * @param out
+	 * 		Der {@link StringBuilder}
+	 * @param label
+	 * 		Die Nummer der Zeile
+	 */
+	private static void appendLabel(StringBuilder out, int label) {
+		out.append(GameColors.ANSI_GRID);
+		if (label < 10) {
+			out.append(' ');
+		}
+		out.append(label);
+		out.append(GameColors.ANSI_RESET);
+	}
+
+	/**
+	 * Hängt die Punkte eines Spielers an, wie sie zuletzt gezeichnet wurden.
+	 *
+	 * @param out
+	 * 		Der {@link StringBuilder}
+	 * @param color
+	 * 		Der Code des Spielers, siehe {@link #code(PlayerColor)}
+	 */
+	private void appendPoints(StringBuilder out, int color) {
+		out.append(COLORS[color] == PlayerColor.Red ? "Rot:  " : "Blau: ");
+		out.append(drawnPoints[color]).append(" Punkte");
+	}
+
+	/**
+	 * Hängt einen ANSI-Escape-Code an, welcher den Cursor an eine Stelle im Terminal setzt.
+	 *
+	 * @param out
+	 * 		Der {@link StringBuilder}
+	 * @param row
+	 * 		Die Zeile, beginnend bei 1
+	 * @param column
+	 * 		Die Spalte, beginnend bei 1
+	 */
+	private static void moveCursor(StringBuilder out, int row, int column) {
+		out.append(CSI).append(row).append(';').append(column).append('H');
+	}
+
+	/**
+	 * Gibt den Code einer Farbe zurück, wie er in {@link Cell#key(Viewer)} verwendet wird.
+	 *
+	 * @param color
+	 * 		Die Farbe, oder <code>null</code>
+	 *
+	 * @return 0 für keine Farbe, 1 für Rot und 2 für Blau
+	 */
+	private static int code(PlayerColor color) {
+		if (color == null) {
+			return 0;
+		}
+		return color == PlayerColor.Red ? 1 : 2;
+	}
+
+	/**
+	 * Eine Zelle des Bilds: ein Dreieck mit seiner {@link Flower} und, falls seine Spitze nach
+	 * oben zeigt, den drei {@link Ditch}es, die als seine Kanten gezeichnet werden.
+	 */
+	private static final class Cell {
+		/**
+		 * Die {@link Flower} des Dreiecks.
+		 */
+		private final Flower flower;
+
+		/**
+		 * Die Kanten links, unten und rechts, oder <code>null</code>, falls die Spitze des
+		 * Dreiecks nach unten zeigt.
+		 */
+		private final Ditch[] ditches;
+
+		/**
+		 * Die Zeile im Terminal, beginnend bei 1.
+		 */
+		private final int row;
+
+		/**
+		 * Die Spalte im Terminal, beginnend bei 1.
+		 */
+		private final int column;
+
+		/**
+		 * Erzeugt eine neue Zelle.
+		 *
+		 * @param flower
+		 * 		Die {@link Flower} des Dreiecks
+		 * @param row
+		 * 		Die Zeile im Terminal
+		 * @param column
+		 * 		Die Spalte im Terminal
+		 */
+		private Cell(Flower flower, int row, int column) {
+			this.flower = flower;
+			this.row = row;
+			this.column = column;
+			if (flower.getFirst().getRow() == flower.getSecond().getRow()) {
+				ditches = new Ditch[] {new Ditch(flower.getFirst(), flower.getThird()),
+						new Ditch(flower.getFirst(), flower.getSecond()),
+						new Ditch(flower.getSecond(), flower.getThird())};
+			} else {
+				ditches = null;
+			}
+		}
+
+		/**
+		 * Bestimmt die Färbung der Zelle. Der Wert ist ein Index in {@link #UPRIGHT_CELLS}
+		 * oder {@link #INVERTED_CELLS}.
+		 *
+		 * @param viewer
+		 * 		Der {@link Viewer} auf das Spielbrett
+		 *
+		 * @return Die Färbung der Zelle
+		 */
+		private int key(Viewer viewer) {
+			int key = code(viewer.getFlowerColor(flower));
+			if (ditches != null) {
+				for (int i = 0, factor = 3; i < ditches.length; i++, factor *= 3) {
+					key += factor * code(viewer.getDitchColor(ditches[i]));
+				}
+			}
+			return key;
+		}
+
+		/**
+		 * Gibt die Zeichenkette der Zelle in einer Färbung zurück.
+		 *
+		 * @param key
+		 * 		Die Färbung, siehe {@link #key(Viewer)}
+		 *
+		 * @return Die Zeichenkette
+		 */
+		private String text(int key) {
+			return ditches != null ? UPRIGHT_CELLS[key] : INVERTED_CELLS[key];
+		}
+	}
+}
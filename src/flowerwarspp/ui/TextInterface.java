@@ -3,12 +3,29 @@ package flowerwarspp.ui;
 import flowerwarspp.main.ExitCode;
 import flowerwarspp.main.savegame.SaveGame;
 import flowerwarspp.preset.*;
-
+import flowerwarspp.util.log.Log;
+import flowerwarspp.util.log.LogLevel;
+import flowerwarspp.util.log.LogModule;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Scanner;
 
 /**
  * Eine Klasse, die ein Command Line Interface implementiert. Stellt Spielfunktionen mittels
  * ASCII-Art und Texteingabe zur Verfügung.
+ * <p>
+ * Läuft das Programm in einem Terminal, das hoch genug für das Spielbrett ist, bleibt das
+ * Spielbrett oben im Terminal stehen und es werden nach jedem Zug nur die geänderten Zellen mit
+ * dem {@link TextBoardRenderer} überschrieben. Alle übrigen Ausgaben scrollen darunter. Sonst
+ * wird das Spielbrett nach jedem Zug vollständig ausgegeben. Jedes Bild wird mit einem einzigen
+ * Schreibaufruf ausgegeben.
  */
 public class TextInterface implements Requestable, Output {
 	/**
@@ -39,6 +56,28 @@ public class TextInterface implements Requestable, Output {
 	 */
 	private Scanner inputScanner = new Scanner(System.in);
 
+	/**
+	 * Die Standardausgabe ohne Puffer, auf welche jedes Bild mit einem Aufruf geschrieben wird.
+	 */
+	private final OutputStream frameOutput = new FileOutputStream(FileDescriptor.out);
+
+	/**
+	 * Der {@link TextBoardRenderer} für das aktuelle Spielbrett.
+	 */
+	private TextBoardRenderer renderer = null;
+
+	/**
+	 * <code>true</code>, falls das Spielbrett oben im Terminal steht und nur geänderte Zellen
+	 * überschrieben werden.
+	 */
+	private boolean inPlace = false;
+
+	/**
+	 * <code>true</code>, falls beim Beenden des Programms der Scrollbereich des Terminals
+	 * zurückgesetzt wird.
+	 */
+	private boolean resetOnExit = false;
+
 	/**
 	 * Liest einen Spielzug vom Standard Input ein.
 	 *
@@ -71,6 +110,8 @@ public class TextInterface implements Requestable, Output {
 	@Override
 	public void setViewer(Viewer viewer) {
 		this.viewer = viewer;
+		renderer = new TextBoardRenderer(viewer.getSize());
+		inPlace = false;
 		refresh();
 	}
 
@@ -83,82 +124,80 @@ public class TextInterface implements Requestable, Output {
 			throw new IllegalStateException("Viewer wurde noch nicht gesetzt.");
 		}
 
-		System.out.println();
-		System.out.print(drawBoard());
-		System.out.println();
-		System.out.println("Rot:  " + viewer.getPoints(PlayerColor.Red) + " Punkte");
-		System.out.println("Blau: " + viewer.getPoints(PlayerColor.Blue) + " Punkte");
+		StringBuilder frame = new StringBuilder();
+		if (inPlace) {
+			// Der Cursor wird nach dem Überschreiben an seine Stelle unter dem Spielbrett gesetzt.
+			frame.append("\u001B7");
+			renderer.renderChanges(viewer, frame);
+			frame.append("\u001B8");
+		} else if (System.console() != null && terminalHeight() > renderer.getHeight()) {
+			// Das Spielbrett wird oben gezeichnet, alle weiteren Ausgaben scrollen nur darunter.
+			int height = renderer.getHeight();
+			frame.append("\u001B[2J\u001B[H");
+			renderer.renderFull(viewer, frame);
+			frame.append("\u001B[").append(height + 1).append(";r");
+			frame.append("\u001B[").append(height + 1).append(";1H");
+			inPlace = true;
+			if (!resetOnExit) {
+				resetOnExit = true;
+				Runtime.getRuntime().addShutdownHook(
+						new Thread(() -> writeFrame(new StringBuilder("\u001B7\u001B[r\u001B8"))));
+			}
+		} else {
+			frame.append('\n');
+			renderer.renderFull(viewer, frame);
+		}
+		writeFrame(frame);
 	}
 
 	/**
-	 * Zeichnet das {@link Board} aus ASCII-Art.
+	 * Schreibt ein Bild mit einem einzigen Aufruf auf die Standardausgabe.
 	 *
-	 * @return Einen {@link StringBuilder}, der eine Textdarstellung des Spielbretts enthält.
-	 */
-	private StringBuilder drawBoard() {
-		int size = viewer.getSize();
-		StringBuilder board = new StringBuilder();
-		for (int i = -1; i < size; i++) {
-			for (int j = 0; j < (size - i - 1) * 2; j++) {
-				board.append(' ');
-			}
-			board.append(GameColors.ANSI_GRID);
-			board.append(String.format("%2d", size - i));
-			board.append(GameColors.ANSI_RESET);
-			board.append(' ');
-			for (int j = 1; j <= i + 1; j++) {
-				board.append(drawTriangle(
-						new Flower(new Position(j, size - i), new Position(j + 1, size - i),
-								new Position(j, size - i + 1))));
-				if (j != i + 1) {
-					board.append(drawTriangle(new Flower(new Position(j + 1, size - i + 1),
-							new Position(j + 1, size - i), new Position(j, size - i + 1))));
-				}
-			}
-			board.append('\n');
-		}
-		board.append(GameColors.ANSI_GRID);
-		for (int i = 1; i <= size + 1; i++) {
-			board.append(String.format("%3d", i));
-			board.append(' ');
+	 * @param frame
+	 * 		Das Bild
+	 */
+	private void writeFrame(StringBuilder frame) {
+		// Bisherige Ausgaben über System.out sollen vor dem Bild erscheinen.
+		System.out.flush();
+		try {
+			frameOutput.write(frame.toString().getBytes(StandardCharsets.UTF_8));
+		} catch (IOException e) {
+			Log.log(LogLevel.WARNING, LogModule.UI, "Could not write the board: " + e.getMessage());
 		}
-		board.append(GameColors.ANSI_RESET);
-		board.append('\n');
-		return board;
 	}
 
 	/**
-	 * Erstellt ein Dreieck aus ASCII-Zeichen, gegebenenfalls mit einer Farbe.
+	 * Bestimmt die Anzahl der Zeilen des Terminals, aus der Umgebungsvariablen
+	 * <code>LINES</code> oder mit <code>stty size</code>.
 	 *
-	 * @param flower
-	 * 		Die zu zeichnende {@link Flower}.
-	 *
-	 * @return Ein {@link StringBuilder}, der das Dreieck enthält.
-	 */
-	private StringBuilder drawTriangle(Flower flower) {
-		StringBuilder triangle = new StringBuilder();
-		if (flower.getFirst().getRow() == flower.getSecond().getRow()) {
-			Ditch leftDitch = new Ditch(flower.getFirst(), flower.getThird());
-			triangle.append(GameColors.getAnsiDitchColor(viewer.getDitchColor(leftDitch)));
-			triangle.append('/');
-			triangle.append(GameColors.ANSI_RESET);
-
-			triangle.append(GameColors.getAnsiFlowerColor(viewer.getFlowerColor(flower)));
-			Ditch bottomDitch = new Ditch(flower.getFirst(), flower.getSecond());
-			triangle.append(GameColors.getAnsiDitchColor(viewer.getDitchColor(bottomDitch)));
-			triangle.append('_');
-			triangle.append(GameColors.ANSI_RESET);
-
-			Ditch rightDitch = new Ditch(flower.getSecond(), flower.getThird());
-			triangle.append(GameColors.getAnsiDitchColor(viewer.getDitchColor(rightDitch)));
-			triangle.append('\\');
-			triangle.append(GameColors.ANSI_RESET);
-		} else {
-			triangle.append(GameColors.getAnsiFlowerColor(viewer.getFlowerColor(flower)));
-			triangle.append(" ");
-			triangle.append(GameColors.ANSI_RESET);
+	 * @return Die Anzahl der Zeilen, oder 0, falls sie nicht bestimmt werden kann
+	 */
+	private static int terminalHeight() {
+		try {
+			String lines = System.getenv("LINES");
+			if (lines != null) {
+				return Integer.parseInt(lines.trim());
+			}
+
+			Process stty = new ProcessBuilder("stty", "size").redirectInput(new File("/dev/tty"))
+					.redirectError(ProcessBuilder.Redirect.DISCARD).start();
+			String size;
+			try (BufferedReader reader = new BufferedReader(
+					new InputStreamReader(stty.getInputStream(), StandardCharsets.UTF_8))) {
+				size = reader.readLine();
+			}
+			if (stty.waitFor() != 0 || size == null) {
+				return 0;
+			}
+			return Integer.parseInt(size.trim().split("\\s+")[0]);
+		} catch (IOException | NumberFormatException e) {
+			Log.log(LogLevel.DEBUG, LogModule.UI,
+					"Could not determine the terminal height: " + e.getMessage());
+			return 0;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return 0;
 		}
-		return triangle;
 	}
 
 	/**
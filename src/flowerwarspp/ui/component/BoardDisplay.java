@@ -2,8 +2,11 @@ package flowerwarspp.ui.component;
 
 import flowerwarspp.preset.*;
 import flowerwarspp.ui.GameColors;
+import flowerwarspp.ui.geometry.BoardPolygon;
 import flowerwarspp.ui.geometry.Dot;
 import flowerwarspp.ui.geometry.Edge;
+import flowerwarspp.ui.geometry.HitIndex;
+import flowerwarspp.ui.geometry.LowDetailPainter;
 import flowerwarspp.ui.geometry.Triangle;
 
 import javax.swing.*;
@@ -12,12 +15,47 @@ import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
+import java.awt.image.BufferedImage;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 
 /**
  * Ein {@link JComponent}, welches Nutzereingaben handhabt und eine graphische Ausgabe für ein
  * {@link Board} durch einen {@link Viewer} zur Verfügung stellt.
+ * <p>
+ * Nach einem Zug werden nur die {@link Triangle}s und {@link Edge}s neu eingefärbt und neu
+ * gezeichnet, deren {@link Flower}s und {@link Ditch}es sich geändert haben, sowie die Beete
+ * um geänderte {@link Flower}s, da sich dort Gärten bilden oder auflösen können. Die Geometrie
+ * wird nur bei einer Änderung der Größe oder des Zooms neu berechnet. Nur Eingaben des
+ * menschlichen Spielers färben das ganze Spielbrett neu ein.
+ * <p>
+ * Alle Polygons werden in ein zwischengespeichertes Bild gezeichnet, welches beim Zeichnen des
+ * Displays nur noch kopiert wird. Scrollen, Tooltips und Neuzeichnen durch Swing kosten dadurch
+ * nur eine Kopie. Bei einem Zug werden nur die geänderten Bereiche des Bilds neu gezeichnet, bei
+ * einer Änderung der Farben durch Nutzereingaben oder der Geometrie das ganze Bild.
+ * <p>
+ * Sind die Dreiecke bei großen Spielbrettern oder kleinem Zoom nur wenige Pixel groß, zeichnet der
+ * {@link LowDetailPainter} gleichfarbige Dreiecke einer Zeile als ein Polygon und lässt Umrisse
+ * und {@link Dot}s weg. Sobald weit genug hineingezoomt wird, wird wieder mit allen Details
+ * gezeichnet.
+ * <p>
+ * {@link #refresh()} liest das Spielbrett nur auf dem aufrufenden Thread des Spiels und legt
+ * einen unveränderlichen {@link BoardSnapshot} in ein einzelnes Fach. Der Event Dispatch Thread
+ * holt nur den jeweils neuesten Snapshot ab, dazwischenliegende Stände werden übersprungen. Ein
+ * schnelles Spiel wartet daher nie auf das Zeichnen, und die Oberfläche liest nie das sich
+ * ändernde Spielbrett.
+ * <p>
+ * Mit {@link #setFrameRate(int)} wird der neueste Snapshot stattdessen nur in einem festen Takt
+ * abgeholt, sodass auch bei sehr schnellen Spielen höchstens so oft gezeichnet wird.
  */
 public class BoardDisplay extends JPanel {
 	/**
@@ -42,6 +80,37 @@ public class BoardDisplay extends JPanel {
 	 * Eine {@link Collection} von {@link Dot}s, verwendet für kosmetische Zwecke.
 	 */
 	private Collection<Dot> mapDots = new ArrayList<>();
+	/**
+	 * Bildet jede {@link Flower} auf das {@link Triangle} ab, das sie repräsentiert.
+	 */
+	private HashMap<Flower, Triangle> trianglesByFlower = new HashMap<>();
+	/**
+	 * Bildet jeden {@link Ditch} auf die {@link Edge} ab, die ihn repräsentiert.
+	 */
+	private HashMap<Ditch, Edge> edgesByDitch = new HashMap<>();
+	/**
+	 * Der {@link HitIndex}, mit dem Mausereignisse den Polygons zugeordnet werden.
+	 */
+	private HitIndex hitIndex;
+	/**
+	 * Zeichnet das Spielbrett mit wenigen Details, solange die Dreiecke klein sind.
+	 */
+	private LowDetailPainter lowDetailPainter;
+	/**
+	 * Die Größe des Elternelements, für welche die Geometrie zuletzt berechnet wurde, oder
+	 * <code>null</code>, falls sie neu berechnet werden muss.
+	 */
+	private Dimension geometrySize = null;
+	/**
+	 * Das zwischengespeicherte Bild aller Polygons, oder <code>null</code> solange noch keines
+	 * erzeugt wurde. Wird nur auf dem Event Dispatch Thread verwendet.
+	 */
+	private BufferedImage boardImage = null;
+	/**
+	 * <code>false</code>, falls {@link #boardImage} beim nächsten Zeichnen vollständig neu
+	 * gezeichnet werden muss.
+	 */
+	private boolean boardImageValid = false;
 	/**
 	 * Ein Vergrößerungsfaktor für die Zeichengeometrie.
 	 */
@@ -63,6 +132,10 @@ public class BoardDisplay extends JPanel {
 	 * Ein {@link PlayerStatusDisplay}, das den Status des {@link PlayerColor#Blue} anzeigt.
 	 */
 	private PlayerStatusDisplay blueStatusDisplay = new PlayerStatusDisplay(GameColors.BLUE);
+	/**
+	 * Eine Referenz auf die Toolbar am oberen Rand des Bildschirms.
+	 */
+	private TopToolbarPanel topToolbarPanel;
 	/**
 	 * Eine Referenz auf die Toolbar am unteren Rand des Bildschirms.
 	 */
@@ -79,22 +152,79 @@ public class BoardDisplay extends JPanel {
 	 * (i.d.R. nach jedem Zug).
 	 */
 	/**
-	 * Die {@link Flower}s, die mit einer bestimmten Blume kombinierbar sind.
+	 * Die möglichen Züge des menschlichen Spielers, oder <code>null</code>, solange sie noch
+	 * berechnet werden oder kein Zug angefragt ist.
+	 */
+	private volatile MoveHighlights moveHighlights = null;
+	/**
+	 * Die zuerst gewählte {@link Flower}, deren kombinierbare {@link Flower}s hervorgehoben
+	 * werden, oder <code>null</code>, falls alle möglichen Züge hervorgehoben werden.
 	 */
-	private Collection<Flower> combinableFlowers;
+	private volatile Flower highlightedFlower = null;
 	/**
-	 * Eine {@link Collection} möglicher {@link Move}s, die {@link Ditch}es enthalten.
+	 * Der Thread, welcher zu Beginn eines Zugs des menschlichen Spielers {@link #moveHighlights}
+	 * berechnet, oder <code>null</code>.
 	 */
-	private Collection<Move> possibleDitchMoves;
+	private Thread highlightWorker = null;
 	/**
 	 * <code>true</code> genau dann, wenn das Spiel geendet hat.
 	 */
-	private boolean gameHasEnded = false;
+	private volatile boolean gameHasEnded = false;
+
+	/*
+	 * Die folgenden Objekte verfolgen die Änderungen am Spielbrett zwischen zwei Aufrufen von
+	 * refresh(), damit nur die geänderten Teile neu gezeichnet werden. Sie werden nur von
+	 * refresh() verwendet, außer colorsValid und displayedSnapshot.
+	 */
+	/**
+	 * <code>false</code>, falls beim nächsten Zeichnen alle {@link Triangle}s und {@link Edge}s
+	 * neu eingefärbt werden müssen.
+	 */
+	private volatile boolean colorsValid = false;
+	/**
+	 * Die {@link Flower}s jedes Spielers beim letzten Aufruf von {@link #refresh()}.
+	 */
+	private EnumMap<PlayerColor, HashSet<Flower>> knownFlowers = new EnumMap<>(PlayerColor.class);
+	/**
+	 * Die {@link Ditch}es jedes Spielers beim letzten Aufruf von {@link #refresh()}.
+	 */
+	private EnumMap<PlayerColor, HashSet<Ditch>> knownDitches = new EnumMap<>(PlayerColor.class);
+	/**
+	 * Die Farben aller {@link Flower}s, die einem Spieler gehören, beim letzten Aufruf von
+	 * {@link #refresh()}.
+	 */
+	private HashMap<Flower, Color> ownedFlowerColors = new HashMap<>();
+	/**
+	 * Die Farben aller {@link Ditch}es, die einem Spieler gehören, beim letzten Aufruf von
+	 * {@link #refresh()}.
+	 */
+	private HashMap<Ditch, Color> ownedDitchColors = new HashMap<>();
+	/**
+	 * Das Fach, über welches {@link BoardSnapshot}s an den Event Dispatch Thread übergeben
+	 * werden. Ein neuer Snapshot ersetzt einen noch nicht abgeholten.
+	 */
+	private final AtomicReference<BoardSnapshot> mailbox = new AtomicReference<>();
+	/**
+	 * Der zuletzt abgeholte {@link BoardSnapshot}, oder <code>null</code> solange noch keiner
+	 * abgeholt wurde. Wird nur auf dem Event Dispatch Thread verwendet.
+	 */
+	private BoardSnapshot displayedSnapshot = null;
+	/**
+	 * Der {@link Timer}, welcher im Takt der eingestellten Bildrate den neuesten Snapshot abholt,
+	 * oder <code>null</code>, falls jeder Snapshot sofort abgeholt wird.
+	 */
+	private volatile Timer frameTimer = null;
 
 	/**
 	 * Konstruiert ein Display für die Darstellung eines {@link Board}s.
+	 *
+	 * @param topToolbarPanel
+	 * 		Die Toolbar am oberen Rand des Bildschirms, welche die Punkte anzeigt
+	 * @param bottomToolbarPanel
+	 * 		Die Toolbar am unteren Rand des Bildschirms
 	 */
-	public BoardDisplay(BottomToolbarPanel bottomToolbarPanel) {
+	public BoardDisplay(TopToolbarPanel topToolbarPanel, BottomToolbarPanel bottomToolbarPanel) {
+		this.topToolbarPanel = topToolbarPanel;
 		this.bottomToolbarPanel = bottomToolbarPanel;
 
 		// deriveFont leitet aus dem aktuellen Font einen Font mit anderen Eigenschaften ab.
@@ -130,6 +260,20 @@ public class BoardDisplay extends JPanel {
 		createTriangles();
 		createDitches();
 		createDots();
+		hitIndex = new HitIndex(boardSize, mapTriangles, mapEdges, mapDots);
+		lowDetailPainter = new LowDetailPainter(boardSize, mapTriangles, mapEdges);
+		geometrySize = null;
+		colorsValid = false;
+		synchronized (this) {
+			for (PlayerColor playerColor : PlayerColor.values()) {
+				knownFlowers.put(playerColor, new HashSet<>());
+				knownDitches.put(playerColor, new HashSet<>());
+			}
+			ownedFlowerColors.clear();
+			ownedDitchColors.clear();
+		}
+		mailbox.set(null);
+		displayedSnapshot = null;
 
 		displayMouseHandler.reset();
 		addMouseListener(displayMouseHandler);
@@ -143,10 +287,15 @@ public class BoardDisplay extends JPanel {
 	private void createTriangles() {
 		// Wenn der Viewer gesetzt wird ist es möglich, dass das Spielbrett eine andere Größe hat.
 		mapTriangles.clear();
+		trianglesByFlower.clear();
 
 		// Für jede Blume vom Spielbrett soll ein Triangle erstellt werden.
 		Collection<Flower> flowers = boardViewer.getAllFlowers();
-		flowers.forEach(f -> mapTriangles.add(new Triangle(f, GameColors.TRIANGLE_DEFAULT)));
+		for (Flower f : flowers) {
+			Triangle triangle = new Triangle(f, GameColors.TRIANGLE_DEFAULT);
+			mapTriangles.add(triangle);
+			trianglesByFlower.put(f, triangle);
+		}
 	}
 
 	/**
@@ -154,6 +303,7 @@ public class BoardDisplay extends JPanel {
 	 */
 	private void createDitches() {
 		mapEdges.clear();
+		edgesByDitch.clear();
 
 		// Für jedes Triangle, das nicht auf dem Kopf steht, sollen drei Edges erstellt werden.
 		for (Triangle t : mapTriangles) {
@@ -163,9 +313,12 @@ public class BoardDisplay extends JPanel {
 				Edge rightDitch = new Edge(f.getFirst(), f.getThird());
 				Edge bottomDitch = new Edge(f.getSecond(), f.getThird());
 
-				mapEdges.add(leftDitch);
-				mapEdges.add(rightDitch);
-				mapEdges.add(bottomDitch);
+				// Benachbarte Dreiecke teilen sich Kanten, jede Kante wird nur einmal erstellt.
+				for (Edge edge : new Edge[] {leftDitch, rightDitch, bottomDitch}) {
+					if (edgesByDitch.putIfAbsent(edge.toDitch(), edge) == null) {
+						mapEdges.add(edge);
+					}
+				}
 			}
 		}
 	}
@@ -183,6 +336,7 @@ public class BoardDisplay extends JPanel {
 	 */
 	private void createDots() {
 		mapDots.clear();
+		HashSet<Position> positions = new HashSet<>();
 
 		// Für jedes Triangle, das nicht auf dem Kopf steht, sollen drei Dots erstellt werden.
 		for (Triangle t : mapTriangles) {
@@ -192,26 +346,253 @@ public class BoardDisplay extends JPanel {
 				Dot topDot = new Dot(f.getSecond(), GameColors.DOT_DEFAULT);
 				Dot rightDot = new Dot(f.getThird(), GameColors.DOT_DEFAULT);
 
-				mapDots.add(leftDot);
-				mapDots.add(topDot);
-				mapDots.add(rightDot);
+				// Benachbarte Dreiecke teilen sich Ecken, jeder Dot wird nur einmal erstellt.
+				for (Dot dot : new Dot[] {leftDot, topDot, rightDot}) {
+					if (positions.add(dot.getPosition())) {
+						mapDots.add(dot);
+					}
+				}
 			}
 		}
 	}
 
 	/**
-	 * Updatet das Display und schedulet ein Repaint.
+	 * Updatet das Display und schedulet ein Repaint der Teile des Spielbretts, die sich seit dem
+	 * letzten Aufruf geändert haben. Das Spielbrett wird nur auf dem aufrufenden Thread gelesen,
+	 * auf welchem es sich währenddessen nicht ändert. Der Aufruf wartet nie auf den Event Dispatch
+	 * Thread.
 	 */
-	public void refresh() {
-		redStatusDisplay.updateStatus(boardViewer.getPoints(PlayerColor.Red));
-		blueStatusDisplay.updateStatus(boardViewer.getPoints(PlayerColor.Blue));
-		bottomToolbarPanel.setTurnDisplay(boardViewer.getTurn());
+	public synchronized void refresh() {
+		HashSet<Flower> changedFlowers = new HashSet<>();
+		HashSet<Ditch> changedDitches = new HashSet<>();
+		for (PlayerColor playerColor : PlayerColor.values()) {
+			diff(boardViewer.getFlowers(playerColor), knownFlowers.get(playerColor),
+					changedFlowers);
+			diff(boardViewer.getDitches(playerColor), knownDitches.get(playerColor),
+					changedDitches);
+		}
 
-		// Wenn das Spiel zuende ist, soll ein Dialog das anzeigen.
-		if ((boardViewer.getStatus() != Status.Ok) && (!gameHasEnded)) {
-			possibleDitchMoves = null;
+		// Gärten können sich in allen Beeten bilden oder auflösen, die an eine geänderte Blume
+		// grenzen oder sie enthalten.
+		HashSet<Flower> dirtyFlowers = new HashSet<>(changedFlowers);
+		for (Flower flower : changedFlowers) {
+			addOwnedFlowerBed(flower, dirtyFlowers);
+			for (Flower neighbor : boardViewer.getDirectNeighbors(flower)) {
+				addOwnedFlowerBed(neighbor, dirtyFlowers);
+			}
+		}
+
+		for (Flower flower : dirtyFlowers) {
+			Color color = ownedFlowerColor(flower, boardViewer.getFlowerColor(flower));
+			if (color == null) {
+				ownedFlowerColors.remove(flower);
+			} else {
+				ownedFlowerColors.put(flower, color);
+			}
+		}
+		for (Ditch ditch : changedDitches) {
+			PlayerColor owner = boardViewer.getDitchColor(ditch);
+			if (owner == null) {
+				ownedDitchColors.remove(ditch);
+			} else {
+				ownedDitchColors.put(ditch, GameColors.getColorForPlayerColor(owner));
+			}
+		}
+
+		EnumMap<PlayerColor, Integer> points = new EnumMap<>(PlayerColor.class);
+		for (PlayerColor playerColor : PlayerColor.values()) {
+			points.put(playerColor, boardViewer.getPoints(playerColor));
+		}
+		publish(new BoardSnapshot(boardViewer.getTurn(), boardViewer.getStatus(), points,
+				ownedFlowerColors, ownedDitchColors));
+	}
+
+	/**
+	 * Legt einen {@link BoardSnapshot} in {@link #mailbox}. War das Fach leer, wird {@link
+	 * #consumeSnapshot()} auf dem Event Dispatch Thread eingeplant, sonst ersetzt der Snapshot nur
+	 * den noch nicht abgeholten.
+	 *
+	 * @param snapshot
+	 * 		Der neue {@link BoardSnapshot}
+	 */
+	private void publish(BoardSnapshot snapshot) {
+		if (mailbox.getAndSet(snapshot) == null && frameTimer == null) {
+			SwingUtilities.invokeLater(this::consumeSnapshot);
+		}
+	}
+
+	/**
+	 * Setzt, wie oft pro Sekunde der neueste {@link BoardSnapshot} abgeholt und gezeichnet wird.
+	 * Dazwischen veröffentlichte Snapshots werden übersprungen. Muss auf dem Event Dispatch Thread
+	 * aufgerufen werden.
+	 *
+	 * @param framesPerSecond
+	 * 		Die Anzahl der Bilder pro Sekunde, oder 0, falls jeder Snapshot sofort abgeholt wird
+	 */
+	public void setFrameRate(int framesPerSecond) {
+		if (frameTimer != null) {
+			frameTimer.stop();
+			frameTimer = null;
+		}
+		if (framesPerSecond > 0) {
+			Timer timer = new Timer(Math.max(1, 1000 / framesPerSecond), e -> consumeSnapshot());
+			timer.setCoalesce(true);
+			timer.start();
+			frameTimer = timer;
+		}
+
+		// Ein bereits veröffentlichter Snapshot soll nicht liegen bleiben.
+		SwingUtilities.invokeLater(this::consumeSnapshot);
+	}
+
+	/**
+	 * Gleicht eine bekannte Menge mit der aktuellen ab und sammelt dabei alle hinzugekommenen und
+	 * entfernten Elemente.
+	 *
+	 * @param current
+	 * 		Die aktuelle Menge
+	 * @param known
+	 * 		Die bekannte Menge, welche danach der aktuellen entspricht
+	 * @param changed
+	 * 		Die {@link Set}, zu welcher die geänderten Elemente hinzugefügt werden
+	 * @param <T>
+	 * 		Der Typ der Elemente
+	 */
+	private static <T> void diff(Collection<T> current, HashSet<T> known, Set<T> changed) {
+		for (T element : current) {
+			if (known.add(element)) {
+				changed.add(element);
+			}
+		}
+
+		// Während eines Spiels kommen nur Elemente hinzu, nur beim Zurückspringen in einem
+		// Spielstand werden welche entfernt.
+		if (known.size() == current.size()) {
+			return;
+		}
+		Iterator<T> iterator = known.iterator();
+		while (iterator.hasNext()) {
+			T element = iterator.next();
+			if (!current.contains(element)) {
+				iterator.remove();
+				changed.add(element);
+			}
+		}
+	}
+
+	/**
+	 * Fügt das Beet einer {@link Flower} zu einer Menge hinzu, falls die {@link Flower} einem
+	 * Spieler gehört.
+	 *
+	 * @param flower
+	 * 		Die {@link Flower}
+	 * @param flowers
+	 * 		Die Menge, zu welcher das Beet hinzugefügt wird
+	 */
+	private void addOwnedFlowerBed(Flower flower, Set<Flower> flowers) {
+		if (boardViewer.getFlowerColor(flower) != null) {
+			flowers.addAll(boardViewer.getFlowerBed(flower));
+		}
+	}
+
+	/**
+	 * Holt den neuesten {@link BoardSnapshot} ab, aktualisiert die Anzeigen und färbt die seit dem
+	 * zuletzt abgeholten Snapshot geänderten {@link Triangle}s und {@link Edge}s neu ein. Nur
+	 * deren Bereiche werden neu gezeichnet. Wird auf dem Event Dispatch Thread ausgeführt.
+	 */
+	private void consumeSnapshot() {
+		BoardSnapshot snapshot = mailbox.getAndSet(null);
+		if (snapshot == null) {
+			return;
+		}
+		BoardSnapshot previous = displayedSnapshot;
+		displayedSnapshot = snapshot;
+
+		for (PlayerColor playerColor : PlayerColor.values()) {
+			topToolbarPanel.updatePlayerStatus(playerColor, snapshot.getPoints(playerColor));
+		}
+		redStatusDisplay.updateStatus(snapshot.getPoints(PlayerColor.Red));
+		blueStatusDisplay.updateStatus(snapshot.getPoints(PlayerColor.Blue));
+		bottomToolbarPanel.setTurnDisplay(snapshot.getTurn());
+		topToolbarPanel.repaint();
+
+		// Wenn das Spiel zuende ist, sollen keine möglichen Züge mehr angezeigt werden.
+		if ((snapshot.getStatus() != Status.Ok) && (!gameHasEnded)) {
+			moveHighlights = null;
 			gameHasEnded = true;
+			colorsValid = false;
+		}
+
+		// Ohne vorherigen Snapshot, gültige Geometrie, Farben oder Bild wird beim nächsten
+		// Zeichnen ohnehin alles erneuert.
+		if (previous == null) {
+			colorsValid = false;
 		}
+		if (geometrySize == null || !colorsValid || !boardImageValid) {
+			repaint();
+			return;
+		}
+
+		recolorChanged(previous.getFlowerColors(), snapshot.getFlowerColors(), trianglesByFlower,
+				this::interactionColor);
+		recolorChanged(previous.getDitchColors(), snapshot.getDitchColors(), edgesByDitch,
+				this::interactionColor);
+	}
+
+	/**
+	 * Färbt alle Polygons neu ein, deren Farbe sich zwischen zwei {@link BoardSnapshot}s geändert
+	 * hat, und zeichnet deren Bereiche neu.
+	 *
+	 * @param previous
+	 * 		Die Farben der Elemente, die im vorherigen Snapshot einem Spieler gehörten
+	 * @param current
+	 * 		Die Farben der Elemente, die im neuen Snapshot einem Spieler gehören
+	 * @param polygons
+	 * 		Bildet die Elemente auf ihre Polygons ab
+	 * @param interactionColor
+	 * 		Bestimmt die Farbe eines Elements, das keinem Spieler mehr gehört
+	 * @param <T>
+	 * 		Der Typ der Elemente
+	 */
+	private <T> void recolorChanged(Map<T, Color> previous, Map<T, Color> current,
+	                                Map<T, ? extends BoardPolygon> polygons,
+	                                Function<T, Color> interactionColor) {
+		for (Map.Entry<T, Color> entry : current.entrySet()) {
+			if (!entry.getValue().equals(previous.get(entry.getKey()))) {
+				BoardPolygon polygon = polygons.get(entry.getKey());
+				polygon.setFillColor(entry.getValue());
+				repaintPolygon(polygon);
+			}
+		}
+		for (T element : previous.keySet()) {
+			if (!current.containsKey(element)) {
+				BoardPolygon polygon = polygons.get(element);
+				polygon.setFillColor(interactionColor.apply(element));
+				repaintPolygon(polygon);
+			}
+		}
+	}
+
+	/**
+	 * Zeichnet den Bereich eines {@link Polygon}s samt Rand in {@link #boardImage} neu und plant
+	 * ein Repaint dieses Bereichs ein.
+	 *
+	 * @param polygon
+	 * 		Das neu zu zeichnende {@link Polygon}
+	 */
+	private void repaintPolygon(Polygon polygon) {
+		Rectangle bounds = polygon.getBounds();
+		bounds.grow(1, 1);
+		renderBoardImage(bounds);
+		repaint(bounds);
+	}
+
+	/**
+	 * Veranlasst, dass beim nächsten Zeichnen alle {@link Triangle}s und {@link Edge}s neu
+	 * eingefärbt werden, etwa nach einer Nutzereingabe.
+	 */
+	private void invalidateColors() {
+		colorsValid = false;
 	}
 
 	/**
@@ -222,6 +603,7 @@ public class BoardDisplay extends JPanel {
 	 */
 	public void setZoom(double zoom) {
 		this.zoom = zoom;
+		geometrySize = null;
 		repaint();
 	}
 
@@ -234,7 +616,8 @@ public class BoardDisplay extends JPanel {
 	 *    Sie können größer oder kleiner werden, oder ihre Größe beibehalten.
 	 * c) Fordere die Swing-Umgebung auf, alle JComponents neu zu zeichnen.
 	 *    Insbesondere wird hierbei der Bildschirm gecleart.
-	 * d) Beginne mit dem Zeichnen auf das Panel (d.h. in den Buffer)
+	 * d) Zeichne die BoardPolygons, falls sich a) oder b) geändert haben, in das
+	 *    zwischengespeicherte Bild und kopiere dieses auf das Panel (d.h. in den Buffer)
 	 *
 	 * Diese Aktionen passieren im folgenden Codeabteil.
 	 */
@@ -244,100 +627,248 @@ public class BoardDisplay extends JPanel {
 	 */
 	@Override
 	public void paintComponent(Graphics g) {
-		updateTriangles();
-		updateEdges();
-		updatePolygonSizes();
+		if (!colorsValid) {
+			// Zuerst als gültig markieren, damit gleichzeitige Änderungen nicht verloren gehen.
+			colorsValid = true;
+			updateTriangles();
+			updateEdges();
+			boardImageValid = false;
+		}
+		if (!getParent().getSize().equals(geometrySize)) {
+			updatePolygonSizes();
+			boardImageValid = false;
+		}
 		super.paintComponent(g);
 
-		// Antialiasing macht Kanten unpixelig.
-		if (g instanceof Graphics2D) {
-			((Graphics2D) g).setRenderingHint(RenderingHints.KEY_ANTIALIASING,
+		// Das Bild wird nur bei einer Größenänderung neu erzeugt.
+		if (boardImage == null || boardImage.getWidth() != getWidth() ||
+				boardImage.getHeight() != getHeight()) {
+			boardImage = createBoardImage();
+			boardImageValid = false;
+		}
+		if (!boardImageValid) {
+			boardImageValid = true;
+			renderBoardImage(null);
+		}
+
+		g.drawImage(boardImage, 0, 0, null);
+	}
+
+	/**
+	 * Erzeugt ein durchsichtiges Bild in der Größe dieses Displays, möglichst in einem Format,
+	 * welches schnell auf den Bildschirm kopiert werden kann.
+	 *
+	 * @return Das Bild
+	 */
+	private BufferedImage createBoardImage() {
+		int width = Math.max(1, getWidth());
+		int height = Math.max(1, getHeight());
+		GraphicsConfiguration configuration = getGraphicsConfiguration();
+		if (configuration == null) {
+			return new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+		}
+		return configuration.createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+	}
+
+	/**
+	 * Zeichnet alle Polygons in einem Bereich von {@link #boardImage} neu.
+	 *
+	 * @param area
+	 * 		Der neu zu zeichnende Bereich, oder <code>null</code> für das ganze Bild
+	 */
+	private void renderBoardImage(Rectangle area) {
+		Graphics2D g = boardImage.createGraphics();
+		try {
+			// Der Bereich wird zunächst geleert, da das Display nicht undurchsichtig ist.
+			if (area != null) {
+				g.setClip(area);
+			}
+			g.setComposite(AlphaComposite.Clear);
+			g.fillRect(0, 0, boardImage.getWidth(), boardImage.getHeight());
+			g.setComposite(AlphaComposite.SrcOver);
+
+			// Sind die Dreiecke klein, werden Umrisse und Dots nicht gezeichnet.
+			if (lowDetailPainter.isActive()) {
+				lowDetailPainter.paint(g);
+				return;
+			}
+
+			// Antialiasing macht Kanten unpixelig.
+			g.setRenderingHint(RenderingHints.KEY_ANTIALIASING,
 					RenderingHints.VALUE_ANTIALIAS_ON);
+
+			// Die Triangles werden unter allen anderen Polygons gezeichnet. Gezeichnet werden nur
+			// Polygons im neu zu zeichnenden Bereich.
+			Rectangle clip = area == null ? null : new Rectangle(area);
+			if (clip != null) {
+				// Die Ränder der Polygons ragen bis zu einen Pixel über ihre Bounds hinaus.
+				clip.grow(1, 1);
+			}
+			mapTriangles.forEach(t -> drawIfVisible(t, g, clip));
+			mapEdges.forEach(e -> drawIfVisible(e, g, clip));
+			mapDots.forEach(d -> drawIfVisible(d, g, clip));
+		} finally {
+			g.dispose();
 		}
+	}
 
-		// Die Triangles werden unter allen anderen Polygons gezeichnet.
-		mapTriangles.forEach(t -> t.drawPolygon(g));
-		mapEdges.forEach(e -> e.drawPolygon(g));
-		mapDots.forEach(d -> d.drawPolygon(g));
+	/**
+	 * Zeichnet ein {@link BoardPolygon}, falls es im neu zu zeichnenden Bereich liegt.
+	 *
+	 * @param polygon
+	 * 		Das zu zeichnende {@link BoardPolygon}
+	 * @param g
+	 * 		Das {@link Graphics}-Objekt, auf das gezeichnet wird
+	 * @param clip
+	 * 		Der neu zu zeichnende Bereich, oder <code>null</code> für das ganze Display
+	 */
+	private static void drawIfVisible(BoardPolygon polygon, Graphics g, Rectangle clip) {
+		if (clip == null || polygon.getBounds().intersects(clip)) {
+			polygon.drawPolygon(g);
+		}
 	}
 
-	// NOTE: Keine der folgenden Methoden sollte außer durch #paintComponent aufgeruft werden.
+	// NOTE: Keine der folgenden update-Methoden sollte außer durch #paintComponent aufgeruft werden.
 
 	/**
 	 * Updatet die {@link Triangle}s nach einem Zug.
 	 */
 	private void updateTriangles() {
-		Collection<Flower> redFlowers = boardViewer.getFlowers(PlayerColor.Red);
-		Collection<Flower> blueFlowers = boardViewer.getFlowers(PlayerColor.Blue);
+		Map<Flower, Color> flowerColors = displayedSnapshot == null ? Collections.emptyMap() :
+				displayedSnapshot.getFlowerColors();
 
 		for (Triangle t : mapTriangles) {
 			Flower flower = t.toFlower();
 
-			if (redFlowers != null && redFlowers.contains(flower)) {
-				// Für den Fall, dass die aktuelle Blume dem roten Spieler gehört...
-				if (boardViewer.isGarden(boardViewer.getFlowerBed(flower))) {
-					t.setFillColor(GameColors.RED_IN_GARDEN);
-				} else {
-					t.setFillColor(GameColors.RED);
-				}
-			} else if (blueFlowers != null && blueFlowers.contains(flower)) {
-				// oder dem blauen Spieler gehört, färbe das Dreieck entsprechend.
-				if (boardViewer.isGarden(boardViewer.getFlowerBed(flower))) {
-					t.setFillColor(GameColors.BLUE_IN_GARDEN);
-				} else {
-					t.setFillColor(GameColors.BLUE);
-				}
-			} else if (flower.equals(displayMouseHandler.clickedFlower1)) {
-				// Andererseits, überprüfe, ob der Spieler gerade einen Flower-Move macht
-				// und diese Blume als erstes ausgewählt hat.
-				t.setFillColor(GameColors.TRIANGLE_CLICKED);
-			} else if (flower.equals(displayMouseHandler.lastClickedFlower1) ||
-					flower.equals(displayMouseHandler.lastClickedFlower2)) {
-				if (boardViewer.getTurn() == PlayerColor.Red) {
-					t.setFillColor(GameColors.RED);
-				} else {
-					t.setFillColor(GameColors.BLUE);
-				}
-			} else if (combinableFlowers != null && combinableFlowers.contains(flower)) {
-				t.setFillColor(GameColors.TRIANGLE_COMBINABLE);
-			} else {
-				// Sonst behält das Triangle die Hintergrundfarbe dieses Displays.
-				t.setFillColor(getBackground());
-			}
+			// Gehört die Blume einem Spieler, färbe das Dreieck entsprechend.
+			Color color = flowerColors.get(flower);
+			t.setFillColor(color != null ? color : interactionColor(flower));
+		}
+	}
+
+	/**
+	 * Gibt die Farbe einer {@link Flower} zurück, die einem Spieler gehört.
+	 *
+	 * @param flower
+	 * 		Die {@link Flower}
+	 * @param owner
+	 * 		Der Spieler, dem die {@link Flower} gehört, oder <code>null</code>
+	 *
+	 * @return Die Farbe der {@link Flower}, oder <code>null</code> falls sie keinem Spieler gehört
+	 */
+	private Color ownedFlowerColor(Flower flower, PlayerColor owner) {
+		if (owner == null) {
+			return null;
+		}
+		boolean inGarden = boardViewer.isGarden(boardViewer.getFlowerBed(flower));
+		if (owner == PlayerColor.Red) {
+			return inGarden ? GameColors.RED_IN_GARDEN : GameColors.RED;
+		}
+		return inGarden ? GameColors.BLUE_IN_GARDEN : GameColors.BLUE;
+	}
+
+	/**
+	 * Gibt die Farbe einer {@link Flower} zurück, die keinem Spieler gehört. Diese hängt nur von
+	 * den Eingaben des menschlichen Spielers ab.
+	 *
+	 * @param flower
+	 * 		Die {@link Flower}
+	 *
+	 * @return Die Farbe der {@link Flower}
+	 */
+	private Color interactionColor(Flower flower) {
+		if (flower.equals(displayMouseHandler.clickedFlower1)) {
+			// Überprüfe, ob der Spieler gerade einen Flower-Move macht
+			// und diese Blume als erstes ausgewählt hat.
+			return GameColors.TRIANGLE_CLICKED;
+		} else if (flower.equals(displayMouseHandler.lastClickedFlower1) ||
+				flower.equals(displayMouseHandler.lastClickedFlower2)) {
+			return GameColors.getColorForPlayerColor(displayedTurn());
+		} else if (isHighlighted(flower)) {
+			return GameColors.TRIANGLE_COMBINABLE;
 		}
+		// Sonst behält das Triangle die Hintergrundfarbe dieses Displays.
+		return getBackground();
 	}
 
 	/**
 	 * Updatet die {@link Edge}s nach einem Zug.
 	 */
 	private void updateEdges() {
-		Collection<Ditch> redDitches = boardViewer.getDitches(PlayerColor.Red);
-		Collection<Ditch> blueDitches = boardViewer.getDitches(PlayerColor.Blue);
+		Map<Ditch, Color> ditchColors = displayedSnapshot == null ? Collections.emptyMap() :
+				displayedSnapshot.getDitchColors();
 
 		for (Edge e : mapEdges) {
 			Ditch ditch = e.toDitch();
-			Move move = new Move(ditch);
 
 			// Färbe die Edge in der Farbe, die den Spieler repräsentiert, dem sie gehört.
-			if (redDitches != null && redDitches.contains(ditch)) {
-				e.setFillColor(GameColors.RED);
-			} else if (blueDitches != null && blueDitches.contains(ditch)) {
-				e.setFillColor(GameColors.BLUE);
-			} else if ((boardViewer.getTurn() == PlayerColor.Red &&
-					ditch.equals(displayMouseHandler.lastClickedDitch))) {
-				e.setFillColor(GameColors.RED);
-			} else if (boardViewer.getTurn() == PlayerColor.Blue &&
-					ditch.equals(displayMouseHandler.lastClickedDitch)) {
-				e.setFillColor(GameColors.BLUE);
-			} else if (possibleDitchMoves != null && possibleDitchMoves.contains(move)) {
-				// Wenn sie niemandem gehört, aber der Spieler gerade spielen soll,
-				// färbe sie, um das darzustellen.
-				e.setFillColor(GameColors.EDGE_CLICKABLE);
-			} else {
-				// Sonst, färbe sie in der Standardfarbe.
-				e.setFillColor(GameColors.EDGE_DEFAULT);
-			}
+			Color color = ditchColors.get(ditch);
+			e.setFillColor(color != null ? color : interactionColor(ditch));
+		}
+	}
+
+	/**
+	 * Gibt die Farbe eines {@link Ditch}es zurück, der keinem Spieler gehört. Diese hängt nur von
+	 * den Eingaben des menschlichen Spielers ab.
+	 *
+	 * @param ditch
+	 * 		Der {@link Ditch}
+	 *
+	 * @return Die Farbe des {@link Ditch}es
+	 */
+	private Color interactionColor(Ditch ditch) {
+		if (ditch.equals(displayMouseHandler.lastClickedDitch)) {
+			return GameColors.getColorForPlayerColor(displayedTurn());
+		} else if (isHighlighted(ditch)) {
+			// Wenn sie niemandem gehört, aber der Spieler gerade spielen soll,
+			// färbe sie, um das darzustellen.
+			return GameColors.EDGE_CLICKABLE;
 		}
+		// Sonst, färbe sie in der Standardfarbe.
+		return GameColors.EDGE_DEFAULT;
+	}
+
+	/**
+	 * Gibt zurück, ob eine {@link Flower} hervorgehoben wird. Dies sind alle möglichen {@link
+	 * Flower}s, oder nach der Wahl einer ersten {@link Flower} die mit ihr kombinierbaren.
+	 *
+	 * @param flower
+	 * 		Die {@link Flower}
+	 *
+	 * @return <code>true</code>, falls die {@link Flower} hervorgehoben wird
+	 */
+	private boolean isHighlighted(Flower flower) {
+		MoveHighlights highlights = moveHighlights;
+		if (highlights == null) {
+			return false;
+		}
+		Flower first = highlightedFlower;
+		return first == null ? highlights.isPossible(flower) :
+				highlights.isCombinable(first, flower);
+	}
+
+	/**
+	 * Gibt zurück, ob ein {@link Ditch} hervorgehoben wird. Dies sind alle möglichen {@link
+	 * Ditch}es, solange keine {@link Flower} gewählt ist.
+	 *
+	 * @param ditch
+	 * 		Der {@link Ditch}
+	 *
+	 * @return <code>true</code>, falls der {@link Ditch} hervorgehoben wird
+	 */
+	private boolean isHighlighted(Ditch ditch) {
+		MoveHighlights highlights = moveHighlights;
+		return highlights != null && highlightedFlower == null && highlights.isPossible(ditch);
+	}
+
+	/**
+	 * Gibt den Spieler zurück, der im angezeigten {@link BoardSnapshot} am Zug ist.
+	 *
+	 * @return Der Spieler am Zug, oder {@link PlayerColor#Red} solange noch kein Snapshot
+	 * angezeigt wird
+	 */
+	private PlayerColor displayedTurn() {
+		return displayedSnapshot == null ? PlayerColor.Red : displayedSnapshot.getTurn();
 	}
 
 	/**
@@ -346,7 +877,8 @@ public class BoardDisplay extends JPanel {
 	 */
 	private void updatePolygonSizes() {
 		// Teile die Höhe dieses Dreiecks auf die verschiedenen Triangles auf.
-		Dimension displaySize = getParent().getSize();
+		geometrySize = getParent().getSize();
+		Dimension displaySize = new Dimension(geometrySize);
 		displaySize.width = (int) (displaySize.width * zoom);
 		displaySize.height = (int) (displaySize.height * zoom);
 		setPreferredSize(displaySize);
@@ -363,6 +895,8 @@ public class BoardDisplay extends JPanel {
 		mapTriangles.forEach(t -> t.recalcPoints(sideLength, drawBegin));
 		mapEdges.forEach(e -> e.recalcPoints(sideLength, drawBegin));
 		mapDots.forEach(e -> e.recalcPoints(sideLength, drawBegin));
+		hitIndex.setGeometry(sideLength, drawBegin);
+		lowDetailPainter.setGeometry(sideLength, drawBegin);
 	}
 
 
@@ -392,41 +926,111 @@ public class BoardDisplay extends JPanel {
 		// Wenn das Spiel bereits zuende ist,
 		// sollen keine weiteren möglichen Moves mehr angezeigt werden,
 		// selbst wenn es noch welche gäbe.
+		highlightedFlower = null;
 		if ((boardViewer.getStatus() != Status.Ok) && (!gameHasEnded)) {
-			possibleDitchMoves = null;
-			combinableFlowers = null;
+			moveHighlights = null;
 		} else {
-			possibleDitchMoves = boardViewer.getPossibleDitchMoves();
-			combinableFlowers = boardViewer.getPossibleFlowers();
+			startHighlightWorker();
 		}
 
 		// Ändert den Status der Buttons in der Toolbar.
 		// Insbesondere setzt es den End-Button auf enabled genau dann,
 		// wenn es einen "End"-Move gibt.
-		bottomToolbarPanel.setSurrenderEnabled(true);
-		bottomToolbarPanel.setEndEnabled(boardViewer.possibleMovesContains(new Move(MoveType
-				.End)));
+		boolean endEnabled = boardViewer.possibleMovesContains(new Move(MoveType.End));
+		SwingUtilities.invokeLater(() -> {
+			bottomToolbarPanel.setSurrenderEnabled(true);
+			bottomToolbarPanel.setEndEnabled(endEnabled);
+		});
 
+		invalidateColors();
 		getParent().repaint();
 		// Erwartet einen Move.
 		// NOTE: Laut Javadoc ist es wichtig, Object#wait in einer Schleife aufzurufen.
 		// Da #awaitMove Object#wait aufruft, muss hier synchronised werden
 		Move result = null;
-		synchronized (displayMouseHandler.moveAwaitLock) {
-			while (result == null) {
-				result = awaitMove();
+		try {
+			synchronized (displayMouseHandler.moveAwaitLock) {
+				while (result == null) {
+					result = awaitMove();
+					// Die Auswahl des Spielers hat sich geändert.
+					invalidateColors();
+					getParent().repaint();
+				}
 			}
+		} finally {
+			// Nach dem Zug ändert sich das Spielbrett, der Worker darf es dann nicht mehr lesen.
+			stopHighlightWorker();
 		}
 
 		displayMouseHandler.reset();
 		// Wenn der Spieler nicht am Zug ist, soll er auch keinen machen.
-		bottomToolbarPanel.setSurrenderEnabled(false);
-		bottomToolbarPanel.setEndEnabled(false);
-		combinableFlowers = null;
+		SwingUtilities.invokeLater(() -> {
+			bottomToolbarPanel.setSurrenderEnabled(false);
+			bottomToolbarPanel.setEndEnabled(false);
+		});
+		invalidateColors();
 		getParent().repaint();
 		return result;
 	}
 
+	/**
+	 * Startet einen Thread, welcher die {@link MoveHighlights} des aktuellen Zugs berechnet. Bis
+	 * sie vorliegen, wird nichts hervorgehoben, danach wird das Spielbrett neu eingefärbt. Die
+	 * Berechnung liest das Spielbrett, welches sich während des Zugs des menschlichen Spielers
+	 * nicht ändert, und blockiert weder den Event Dispatch Thread noch die Eingaben.
+	 */
+	private void startHighlightWorker() {
+		moveHighlights = null;
+		final Viewer viewer = boardViewer;
+		highlightWorker = new Thread(() -> {
+			try {
+				moveHighlights = new MoveHighlights(viewer);
+			} catch (InterruptedException e) {
+				return;
+			}
+			invalidateColors();
+			getParent().repaint();
+		}, "MoveHighlights");
+		highlightWorker.setDaemon(true);
+		highlightWorker.start();
+	}
+
+	/**
+	 * Bricht die Berechnung der {@link MoveHighlights} ab, wartet auf das Ende des Threads und
+	 * entfernt alle Hervorhebungen.
+	 *
+	 * @throws InterruptedException
+	 * 		Wenn beim Warten auf den Thread eine {@link InterruptedException} geworfen wird.
+	 */
+	private void stopHighlightWorker() throws InterruptedException {
+		if (highlightWorker != null) {
+			highlightWorker.interrupt();
+			highlightWorker.join();
+			highlightWorker = null;
+		}
+		moveHighlights = null;
+		highlightedFlower = null;
+	}
+
+	/**
+	 * Gibt zurück, ob zwei {@link Flower}s zusammen einen möglichen Zug ergeben. Solange die
+	 * {@link MoveHighlights} noch berechnet werden, wird das Spielbrett direkt gefragt.
+	 *
+	 * @param first
+	 * 		Die zuerst gewählte {@link Flower}
+	 * @param second
+	 * 		Die zweite {@link Flower}
+	 *
+	 * @return <code>true</code>, falls beide {@link Flower}s einen möglichen Zug ergeben
+	 */
+	private boolean isCombinable(Flower first, Flower second) {
+		MoveHighlights highlights = moveHighlights;
+		if (highlights != null) {
+			return highlights.isCombinable(first, second);
+		}
+		return boardViewer.getFlowersCombinableWith(first).contains(second);
+	}
+
 	/**
 	 * Erwartet einen Move vom {@link DisplayMouseHandler}.
 	 *
@@ -507,8 +1111,7 @@ public class BoardDisplay extends JPanel {
 			// Wenn die geklickte Flower erst die erste war,
 			// sollen die möglichen Kombinationen gefärbt werden.
 			// Außerdem darf dann kein Ditch-Move mehr gewählt werden.
-			combinableFlowers = boardViewer.getFlowersCombinableWith(flower1);
-			possibleDitchMoves = null;
+			highlightedFlower = flower1;
 		} else {
 			// Wenn schon eine zweite Flower geklickt wurde, muss sichergestellt werden,
 			// dass die entstehende Kombination gültig ist.
@@ -517,9 +1120,8 @@ public class BoardDisplay extends JPanel {
 			if (flower1.equals(flower2)) {
 				displayMouseHandler.reset();
 				displayMouseHandler.isRequesting = true;
-				combinableFlowers = boardViewer.getPossibleFlowers();
-				possibleDitchMoves = boardViewer.getPossibleDitchMoves();
-			} else if (!combinableFlowers.contains(flower2)) {
+				highlightedFlower = null;
+			} else if (!isCombinable(flower1, flower2)) {
 				displayMouseHandler.clickedFlower2 = null;
 			} else {
 				displayMouseHandler.lastClickedFlower1 = flower1;
@@ -588,28 +1190,24 @@ public class BoardDisplay extends JPanel {
 		/**
 		 * Handelt das Event {@link MouseAdapter#mouseMoved(MouseEvent)}.
 		 * <p>
-		 * Es wird durch alle gezeichneten {@link Dot}s iteriert. Dann wird überprüft, ob der
-		 * Mauszeiger, dessen Position als {@link Point} vom {@link MouseEvent} durchgereicht wird,
-		 * in diesem überprüften Dot liegt. Falls dem so ist, wird der ToolTip mit der {@link
-		 * String}-Repräsentation der {@link Position} des Dots gesetzt. Liegt der Mauszeiger nicht
-		 * im Dot, wird der ToolTip auf <code>null</code> gesetzt.
+		 * Mit dem {@link HitIndex} wird der {@link Dot} gesucht, in welchem der Mauszeiger, dessen
+		 * Position als {@link Point} vom {@link MouseEvent} durchgereicht wird, liegt. Falls es
+		 * einen gibt, wird der ToolTip mit der {@link String}-Repräsentation der {@link Position}
+		 * des Dots gesetzt. Liegt der Mauszeiger in keinem Dot, wird der ToolTip auf
+		 * <code>null</code> gesetzt.
 		 *
 		 * @param mouseEvent
 		 * 		Das durchgereichte {@link MouseEvent}.
 		 */
 		@Override
 		public void mouseMoved(MouseEvent mouseEvent) {
-
-			for (Dot dot : mapDots) {
-
-				if (dot.contains(mouseEvent.getPoint())) {
-					setToolTipText(dot.getPosition().toString());
-					return;
-				} else {
-					setToolTipText(null);
-				}
+			Dot dot = findDot(mouseEvent.getPoint());
+			if (dot != null) {
+				setToolTipText(dot.getPosition().toString());
+				return;
 			}
 
+			setToolTipText(null);
 			ToolTipManager.sharedInstance().mouseMoved(mouseEvent);
 		}
 
@@ -625,6 +1223,7 @@ public class BoardDisplay extends JPanel {
 			// Sonst soll alles neu gezeichnet und der Wartende benachrichtigt werden,
 			// dass er die Zustandsänderung verarbeiten kann.
 			processClick(mouseEvent);
+			invalidateColors();
 			boardDisplay.getParent().repaint();
 			synchronized (moveAwaitLock) {
 				moveAwaitLock.notify();
@@ -673,13 +1272,7 @@ public class BoardDisplay extends JPanel {
 		 * <code>null</code>, falls dort keiner liegt.
 		 */
 		private Dot findDot(Point point) {
-			for (Dot d : boardDisplay.mapDots) {
-				if (d.contains(point)) {
-					return d;
-				}
-			}
-
-			return null;
+			return boardDisplay.hitIndex == null ? null : boardDisplay.hitIndex.findDot(point);
 		}
 
 		/**
@@ -692,13 +1285,7 @@ public class BoardDisplay extends JPanel {
 		 * <code>null</code>, falls dort keine liegt.
 		 */
 		private Edge findEdge(Point point) {
-			for (Edge e : boardDisplay.mapEdges) {
-				if (e.contains(point)) {
-					return e;
-				}
-			}
-
-			return null;
+			return boardDisplay.hitIndex == null ? null : boardDisplay.hitIndex.findEdge(point);
 		}
 
 		/**
@@ -726,13 +1313,7 @@ public class BoardDisplay extends JPanel {
 		 * <code>null</code>, falls dort keines liegt.
 		 */
 		private Triangle findTriangle(Point point) {
-			for (Triangle t : boardDisplay.mapTriangles) {
-				if (t.contains(point)) {
-					return t;
-				}
-			}
-
-			return null;
+			return boardDisplay.hitIndex == null ? null : boardDisplay.hitIndex.findTriangle(point);
 		}
 
 		/**
@@ -770,6 +1351,7 @@ public class BoardDisplay extends JPanel {
 				moveType = MoveType.End;
 			}
 
+			invalidateColors();
 			boardDisplay.getParent().repaint();
 			synchronized (moveAwaitLock) {
 				moveAwaitLock.notify();
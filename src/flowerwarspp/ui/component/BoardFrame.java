@@ -1,6 +1,7 @@
 package flowerwarspp.ui.component;
 
 import flowerwarspp.main.ExitCode;
+import flowerwarspp.main.savegame.ReplayEngine;
 import flowerwarspp.main.savegame.SaveGame;
 import flowerwarspp.preset.*;
 import flowerwarspp.ui.Output;
@@ -15,6 +16,7 @@ import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.io.File;
+import java.lang.reflect.InvocationTargetException;
 
 /**
  * Das {@link JFrame}, das das {@link BoardDisplay} enthält.
@@ -36,10 +38,15 @@ public class BoardFrame extends JFrame
 	 */
 	private LoadingScreen loadingScreen = new LoadingScreen();
 
+	/*
+	 * Die folgenden Komponenten werden erst benötigt, wenn ein Viewer gesetzt wird, und daher erst
+	 * in setViewer erzeugt. Der Ladebildschirm erscheint so früher, und ihre Klassen werden erst
+	 * geladen, während das Spielbrett bereits erzeugt wird.
+	 */
 	/**
 	 * Das {@link JPanel}, das die obere Toolbar hält.
 	 */
-	private TopToolbarPanel topToolbarPanel = new TopToolbarPanel();
+	private TopToolbarPanel topToolbarPanel;
 
 	/**
 	 * Das {@link BoardDisplay}, das auf das {@link Board} schaut.
@@ -48,12 +55,12 @@ public class BoardFrame extends JFrame
 	/**
 	 * Ein {@link JScrollPane}, das das Scrollen über die Spielbrettanzeige ermöglicht.
 	 */
-	private JScrollPane boardScrollPane = new JScrollPane();
+	private JScrollPane boardScrollPane;
 
 	/**
 	 * Das {@link BottomToolbarPanel}, das die Toolbar am unteren Bildschirmrand darstellt.
 	 */
-	private BottomToolbarPanel bottomToolbarPanel = new BottomToolbarPanel();
+	private BottomToolbarPanel bottomToolbarPanel;
 
 	/**
 	 * Das vom Hauptprogramm übergebende {@link SaveGame}, mit welchem das Spiel gespeichert werden
@@ -61,6 +68,12 @@ public class BoardFrame extends JFrame
 	 */
 	private SaveGame saveGame;
 
+	/**
+	 * Wie oft das {@link BoardDisplay} pro Sekunde den neuesten Stand zeichnet, oder 0, falls
+	 * nach jedem Zug gezeichnet wird.
+	 */
+	private int framesPerSecond = 0;
+
 	/**
 	 * Konstruiert das {@link JFrame} und versetzt es in einen nutzbaren Zustand.
 	 */
@@ -92,22 +105,46 @@ public class BoardFrame extends JFrame
 
 	/**
 	 * Setzt den {@link Viewer}, durch den gerade geschaut wird und erstellt ein zugehöriges {@link
-	 * BoardDisplay}.
+	 * BoardDisplay}. Wird die Methode nicht auf dem Event Dispatch Thread aufgerufen, wartet sie,
+	 * bis das {@link BoardDisplay} dort erstellt wurde, damit sich das Spielbrett währenddessen
+	 * nicht ändert.
 	 *
 	 * @param viewer
 	 * 		Der {@link Viewer}, durch den auf das Spielbrett geschaut wird.
 	 */
 	public void setViewer(Viewer viewer) {
+		if (!SwingUtilities.isEventDispatchThread()) {
+			try {
+				SwingUtilities.invokeAndWait(() -> setViewer(viewer));
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} catch (InvocationTargetException e) {
+				Log.log(LogLevel.ERROR, LogModule.UI,
+						"Board display could not be created: " + e.getCause());
+			}
+			return;
+		}
 		this.viewer = viewer;
 
-		boardDisplay = new BoardDisplay(bottomToolbarPanel);
+		if (topToolbarPanel == null) {
+			topToolbarPanel = new TopToolbarPanel();
+			bottomToolbarPanel = new BottomToolbarPanel();
+			boardScrollPane = new JScrollPane();
+			topToolbarPanel.getSaveButton().addActionListener(this);
+			topToolbarPanel.getZoomSpinner().addChangeListener(this);
+		}
+
+		// Das vorherige BoardDisplay soll nicht mehr zeichnen.
+		if (boardDisplay != null) {
+			boardDisplay.setFrameRate(0);
+		}
+		boardDisplay = new BoardDisplay(topToolbarPanel, bottomToolbarPanel);
+		boardDisplay.setFrameRate(framesPerSecond);
 		boardDisplay.setBoardViewer(viewer);
 		boardScrollPane.setViewportView(boardDisplay);
 
 		remove(loadingScreen);
 
-		topToolbarPanel.getSaveButton().addActionListener(this);
-		topToolbarPanel.getZoomSpinner().addChangeListener(this);
 		add(topToolbarPanel, BorderLayout.NORTH);
 		add(boardScrollPane, BorderLayout.CENTER);
 		add(bottomToolbarPanel, BorderLayout.SOUTH);
@@ -115,6 +152,31 @@ public class BoardFrame extends JFrame
 		setVisible(true);
 	}
 
+	/**
+	 * Setzt, wie oft das {@link BoardDisplay} pro Sekunde den neuesten Stand zeichnet. Gilt ab dem
+	 * nächsten Aufruf von {@link #setViewer(Viewer)}.
+	 *
+	 * @param framesPerSecond
+	 * 		Die Anzahl der Bilder pro Sekunde, oder 0, falls nach jedem Zug gezeichnet werden soll
+	 */
+	public void setFrameRate(int framesPerSecond) {
+		this.framesPerSecond = framesPerSecond;
+	}
+
+	/**
+	 * Zeigt in der unteren Toolbar ein {@link ReplayControlPanel} an, mit welchem ein Spielstand
+	 * durchgesehen werden kann. Vorher muss mit {@link #setViewer(Viewer)} der {@link
+	 * ReplayEngine#viewer()} gesetzt worden sein.
+	 *
+	 * @param engine
+	 * 		Die {@link ReplayEngine}, welche den Spielstand wiedergibt
+	 */
+	public void showReplayControls(ReplayEngine engine) {
+		bottomToolbarPanel.add(new ReplayControlPanel(engine, this), BorderLayout.CENTER);
+		bottomToolbarPanel.revalidate();
+		refresh();
+	}
+
 	/**
 	 * Die {@link ActionListener}-Implementation. Speichert das Spiel in eine Datei, die wieder
 	 * geladen werden kann.
@@ -134,11 +196,16 @@ public class BoardFrame extends JFrame
 				fc.approveSelection();
 			}
 			String filename = fc.getSelectedFile().getAbsolutePath();
-			if (!filename.endsWith(".sav")) {
+			final boolean binary = filename.endsWith(SaveGame.BINARY_EXTENSION);
+			if (!filename.endsWith(".sav") && !binary) {
 				filename += ".sav";
 			}
 			try {
-				saveGame.save(filename);
+				if (binary) {
+					saveGame.saveBinary(filename);
+				} else {
+					saveGame.save(filename);
+				}
 			} catch (Exception e) {
 				Log.log(LogLevel.WARNING, LogModule.UI,
 						"Savegame could not be saved at the given location: " + filename);
@@ -175,6 +242,10 @@ public class BoardFrame extends JFrame
 
 	/**
 	 * {@inheritDoc}
+	 * <p>
+	 * Das {@link BoardDisplay} übergibt den aktuellen Stand an den Event Dispatch Thread, welcher
+	 * auch die Punkte in der oberen Toolbar aktualisiert. Der Aufruf wartet nicht auf das
+	 * Zeichnen.
 	 */
 	@Override
 	public void refresh() {
@@ -182,12 +253,8 @@ public class BoardFrame extends JFrame
 			return;
 		}
 
-		for (PlayerColor playerColor : PlayerColor.values()) {
-			topToolbarPanel.updatePlayerStatus(playerColor, viewer.getPoints(playerColor));
-		}
-
+		// Das BoardDisplay zeichnet selbst nur die geänderten Bereiche neu.
 		boardDisplay.refresh();
-		repaint();
 	}
 
 	/**
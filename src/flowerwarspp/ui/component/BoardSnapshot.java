@@ -0,0 +1,117 @@
+package flowerwarspp.ui.component;
+
+import flowerwarspp.preset.Ditch;
+import flowerwarspp.preset.Flower;
+import flowerwarspp.preset.PlayerColor;
+import flowerwarspp.preset.Status;
+
+import java.awt.*;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Ein unveränderlicher Stand des Spielbretts, wie er vom {@link BoardDisplay} angezeigt wird.
+ * <p>
+ * Ein Snapshot wird auf dem Thread des Spiels erzeugt, solange sich das Spielbrett nicht ändert,
+ * und danach nur noch auf dem Event Dispatch Thread gelesen. Die Oberfläche muss daher nie auf
+ * das sich ändernde Spielbrett zugreifen.
+ */
+final class BoardSnapshot {
+	/**
+	 * Der Spieler, der am Zug ist.
+	 */
+	private final PlayerColor turn;
+
+	/**
+	 * Der Status des Spielbretts.
+	 */
+	private final Status status;
+
+	/**
+	 * Die Punkte jedes Spielers.
+	 */
+	private final EnumMap<PlayerColor, Integer> points;
+
+	/**
+	 * Die Farben aller {@link Flower}s, die einem Spieler gehören.
+	 */
+	private final Map<Flower, Color> flowerColors;
+
+	/**
+	 * Die Farben aller {@link Ditch}es, die einem Spieler gehören.
+	 */
+	private final Map<Ditch, Color> ditchColors;
+
+	/**
+	 * Erzeugt einen neuen Snapshot. Die übergebenen {@link Map}s werden kopiert.
+	 *
+	 * @param turn
+	 * 		Der Spieler, der am Zug ist
+	 * @param status
+	 * 		Der Status des Spielbretts
+	 * @param points
+	 * 		Die Punkte jedes Spielers
+	 * @param flowerColors
+	 * 		Die Farben aller {@link Flower}s, die einem Spieler gehören
+	 * @param ditchColors
+	 * 		Die Farben aller {@link Ditch}es, die einem Spieler gehören
+	 */
+	BoardSnapshot(PlayerColor turn, Status status, EnumMap<PlayerColor, Integer> points,
+	              Map<Flower, Color> flowerColors, Map<Ditch, Color> ditchColors) {
+		this.turn = turn;
+		this.status = status;
+		this.points = new EnumMap<>(points);
+		this.flowerColors = Collections.unmodifiableMap(new HashMap<>(flowerColors));
+		this.ditchColors = Collections.unmodifiableMap(new HashMap<>(ditchColors));
+	}
+
+	/**
+	 * Gibt {@link #turn} zurück.
+	 *
+	 * @return Wert von {@link #turn}
+	 */
+	PlayerColor getTurn() {
+		return turn;
+	}
+
+	/**
+	 * Gibt {@link #status} zurück.
+	 *
+	 * @return Wert von {@link #status}
+	 */
+	Status getStatus() {
+		return status;
+	}
+
+	/**
+	 * Gibt die Punkte eines Spielers zurück.
+	 *
+	 * @param playerColor
+	 * 		Der Spieler
+	 *
+	 * @return Die Punkte des Spielers
+	 */
+	int getPoints(PlayerColor playerColor) {
+		return points.get(playerColor);
+	}
+
+	/**
+	 * Gibt {@link #flowerColors} zurück.
+	 *
+	 * @return Wert von {@link #flowerColors}
+	 */
+	Map<Flower, Color> getFlowerColors() {
+		return flowerColors;
+	}
+
+	/**
+	 * Gibt {@link #ditchColors} zurück.
+	 *
+	 * @return Wert von {@link #ditchColors}
+	 */
+	Map<Ditch, Color> getDitchColors() {
+		return ditchColors;
+	}
+}
@@ -0,0 +1,156 @@
+package flowerwarspp.ui.component;
+
+import flowerwarspp.preset.Ditch;
+import flowerwarspp.preset.Flower;
+import flowerwarspp.preset.Move;
+import flowerwarspp.preset.Position;
+import flowerwarspp.preset.Viewer;
+
+import java.util.BitSet;
+import java.util.Collection;
+
+/**
+ * Die Züge, die ein menschlicher Spieler zu Beginn seines Zugs machen kann, als unveränderliche
+ * {@link BitSet}s, wie sie vom {@link BoardDisplay} hervorgehoben werden.
+ * <p>
+ * Eine {@link Flower} wird durch ihren {@link Flower#hashCode()} indiziert, welcher für alle
+ * gültigen Blumen eindeutig ist, ein {@link Ditch} durch {@link #ditchIndex(Ditch)}. Ob eine
+ * Blume oder ein Graben hervorgehoben wird, kostet daher nur das Lesen eines Bits. Die Mengen
+ * werden nur im Konstruktor geschrieben und danach nie verändert, sodass sie ohne
+ * Synchronisierung vom Event Dispatch Thread gelesen werden können.
+ */
+final class MoveHighlights {
+	/**
+	 * Eine obere Schranke für {@link Flower#hashCode()}, der größte Wert von {@link
+	 * Position#hashCode()} ist <code>MAX_VALUE * MAX_VALUE + MAX_VALUE</code>.
+	 */
+	private static final int FLOWER_INDEXES =
+			(Position.MAX_VALUE * Position.MAX_VALUE + Position.MAX_VALUE + 1) * 2;
+
+	/**
+	 * Die {@link Flower}s, die in einem möglichen Zug enthalten sind.
+	 */
+	private final BitSet possibleFlowers = new BitSet();
+
+	/**
+	 * Die {@link Ditch}es, die in einem möglichen Zug enthalten sind.
+	 */
+	private final BitSet possibleDitches = new BitSet();
+
+	/**
+	 * Die {@link Flower}s, die mit einer {@link Flower} kombinierbar sind, nach dem Index der
+	 * {@link Flower}. Ist <code>null</code> für {@link Flower}s, die in keinem Zug enthalten
+	 * sind.
+	 */
+	private final BitSet[] combinableFlowers = new BitSet[FLOWER_INDEXES];
+
+	/**
+	 * Berechnet die hervorzuhebenden Züge. Das Spielbrett darf sich währenddessen nicht ändern.
+	 * Wird der aufrufende Thread unterbrochen, wird die Berechnung abgebrochen.
+	 *
+	 * @param viewer
+	 * 		Der {@link Viewer} auf das Spielbrett, dessen aktueller Spieler am Zug ist
+	 *
+	 * @throws InterruptedException
+	 * 		Falls der aufrufende Thread unterbrochen wurde
+	 */
+	MoveHighlights(Viewer viewer) throws InterruptedException {
+		for (Move move : viewer.getPossibleDitchMoves()) {
+			possibleDitches.set(ditchIndex(move.getDitch()));
+		}
+		for (Flower flower : viewer.getPossibleFlowers()) {
+			if (Thread.interrupted()) {
+				throw new InterruptedException();
+			}
+			possibleFlowers.set(flower.hashCode());
+			combinableFlowers[flower.hashCode()] =
+					toBitSet(viewer.getFlowersCombinableWith(flower));
+		}
+	}
+
+	/**
+	 * Gibt zurück, ob eine {@link Flower} in einem möglichen Zug enthalten ist.
+	 *
+	 * @param flower
+	 * 		Die {@link Flower}
+	 *
+	 * @return <code>true</code>, falls die {@link Flower} in einem möglichen Zug enthalten ist
+	 */
+	boolean isPossible(Flower flower) {
+		return possibleFlowers.get(flower.hashCode());
+	}
+
+	/**
+	 * Gibt zurück, ob ein {@link Ditch} in einem möglichen Zug enthalten ist.
+	 *
+	 * @param ditch
+	 * 		Der {@link Ditch}
+	 *
+	 * @return <code>true</code>, falls der {@link Ditch} in einem möglichen Zug enthalten ist
+	 */
+	boolean isPossible(Ditch ditch) {
+		return possibleDitches.get(ditchIndex(ditch));
+	}
+
+	/**
+	 * Gibt zurück, ob zwei {@link Flower}s zusammen einen möglichen Zug ergeben.
+	 *
+	 * @param first
+	 * 		Die zuerst gewählte {@link Flower}
+	 * @param second
+	 * 		Die zweite {@link Flower}
+	 *
+	 * @return <code>true</code>, falls beide {@link Flower}s einen möglichen Zug ergeben
+	 */
+	boolean isCombinable(Flower first, Flower second) {
+		BitSet combinable = combinableFlowers[first.hashCode()];
+		return combinable != null && combinable.get(second.hashCode());
+	}
+
+	/**
+	 * Wandelt eine {@link Collection} von {@link Flower}s in ein {@link BitSet} um.
+	 *
+	 * @param flowers
+	 * 		Die {@link Flower}s
+	 *
+	 * @return Ein {@link BitSet}, in dem die Indexe aller {@link Flower}s gesetzt sind
+	 */
+	private static BitSet toBitSet(Collection<Flower> flowers) {
+		BitSet bits = new BitSet();
+		for (Flower flower : flowers) {
+			bits.set(flower.hashCode());
+		}
+		return bits;
+	}
+
+	/**
+	 * Berechnet einen eindeutigen Index eines {@link Ditch}es aus der linken unteren seiner beiden
+	 * {@link Position}s und seiner Richtung. Im Gegensatz zu {@link Ditch#hashCode()} liegen die
+	 * Indexe dicht beieinander.
+	 *
+	 * @param ditch
+	 * 		Der {@link Ditch}
+	 *
+	 * @return Der Index des {@link Ditch}es
+	 */
+	private static int ditchIndex(Ditch ditch) {
+		Position first = ditch.getFirst();
+		Position second = ditch.getSecond();
+		if (second.getColumn() < first.getColumn() ||
+				(second.getColumn() == first.getColumn() && second.getRow() < first.getRow())) {
+			Position swap = first;
+			first = second;
+			second = swap;
+		}
+
+		int direction;
+		if (first.getRow() == second.getRow()) {
+			direction = 0;
+		} else if (first.getColumn() == second.getColumn()) {
+			direction = 1;
+		} else {
+			direction = 2;
+		}
+		return first.hashCode() * 3 + direction;
+	}
+}
@@ -0,0 +1,115 @@
+package flowerwarspp.ui.component;
+
+import flowerwarspp.main.savegame.ReplayEngine;
+
+import javax.swing.*;
+import javax.swing.event.ChangeEvent;
+import javax.swing.event.ChangeListener;
+import java.awt.event.ActionEvent;
+import java.awt.event.KeyEvent;
+import java.util.function.IntSupplier;
+
+/**
+ * Ein {@link JPanel} zum Durchsehen eines Spielstands mit einer {@link ReplayEngine}. Mit den
+ * Buttons und den Pfeiltasten wird ein Zug vor- oder zurückgegangen, mit Pos1 und Ende zum Anfang
+ * oder Ende gesprungen und mit dem Schieberegler zu einem beliebigen Zug.
+ */
+public class ReplayControlPanel extends JPanel implements ChangeListener {
+	/**
+	 * Die {@link ReplayEngine}, welche den Spielstand wiedergibt.
+	 */
+	private final ReplayEngine engine;
+
+	/**
+	 * Das {@link BoardFrame}, welches nach jedem Sprung aktualisiert wird.
+	 */
+	private final BoardFrame boardFrame;
+
+	/**
+	 * Ein {@link JSlider}, der den aktuellen Zug bestimmt. Alle Buttons setzen nur seinen Wert.
+	 */
+	private final JSlider plySlider;
+
+	/**
+	 * Das {@link JLabel}, das den aktuellen Zug anzeigt.
+	 */
+	private final JLabel plyLabel = new JLabel();
+
+	/**
+	 * Konstruiert ein {@link ReplayControlPanel} und fügt notwendige {@link JComponent}s hinzu.
+	 *
+	 * @param engine
+	 * 		Die {@link ReplayEngine}, welche den Spielstand wiedergibt
+	 * @param boardFrame
+	 * 		Das {@link BoardFrame}, welches nach jedem Sprung aktualisiert wird
+	 */
+	public ReplayControlPanel(ReplayEngine engine, BoardFrame boardFrame) {
+		this.engine = engine;
+		this.boardFrame = boardFrame;
+
+		plySlider = new JSlider(0, engine.length(), engine.getPly());
+		plySlider.addChangeListener(this);
+
+		add(createButton("|<", KeyEvent.VK_HOME, () -> 0));
+		add(createButton("<", KeyEvent.VK_LEFT, () -> plySlider.getValue() - 1));
+		add(plySlider);
+		add(createButton(">", KeyEvent.VK_RIGHT, () -> plySlider.getValue() + 1));
+		add(createButton(">|", KeyEvent.VK_END, engine::length));
+		add(plyLabel);
+
+		updatePlyLabel();
+	}
+
+	/**
+	 * Erzeugt einen {@link JButton}, welcher zu einem Zug springt, und belegt eine Taste mit der
+	 * gleichen Aktion.
+	 *
+	 * @param text
+	 * 		Die Beschriftung des Buttons
+	 * @param keyCode
+	 * 		Die Taste, welche den Button auslöst
+	 * @param target
+	 * 		Berechnet den Zug, zu welchem gesprungen wird
+	 *
+	 * @return Der {@link JButton}
+	 */
+	private JButton createButton(String text, int keyCode, IntSupplier target) {
+		final Action action = new AbstractAction(text) {
+			@Override
+			public void actionPerformed(ActionEvent actionEvent) {
+				// Der JSlider beschränkt den Wert selbst auf die Züge des Spielstands.
+				plySlider.setValue(target.getAsInt());
+			}
+		};
+		getInputMap(WHEN_IN_FOCUSED_WINDOW).put(KeyStroke.getKeyStroke(keyCode, 0), text);
+		getActionMap().put(text, action);
+
+		final JButton button = new JButton(action);
+		button.setFocusable(false);
+		return button;
+	}
+
+	/**
+	 * Springt zu dem mit dem {@link #plySlider} gewählten Zug und aktualisiert das {@link
+	 * BoardFrame}.
+	 *
+	 * @param changeEvent
+	 * 		Das {@link ChangeEvent}, das die Ausführung verursacht hat.
+	 */
+	@Override
+	public void stateChanged(ChangeEvent changeEvent) {
+		if (plySlider.getValue() == engine.getPly()) {
+			return;
+		}
+		engine.seek(plySlider.getValue());
+		updatePlyLabel();
+		boardFrame.refresh();
+	}
+
+	/**
+	 * Setzt den Text des {@link #plyLabel}s.
+	 */
+	private void updatePlyLabel() {
+		plyLabel.setText("Zug " + engine.getPly() + " von " + engine.length());
+	}
+}
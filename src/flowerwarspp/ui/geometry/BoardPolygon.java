@@ -118,7 +118,7 @@ public abstract class BoardPolygon extends Polygon {
 	 *
 	 * @return Der berechnete Punkt, der an der Stelle liegt, an der der Punkt liegen soll.
 	 */
-	public Point positionToPoint(Position position, int triangleSideLength, Point referencePoint) {
+	public static Point positionToPoint(Position position, int triangleSideLength, Point referencePoint) {
 		int column = position.getColumn();
 		int row = position.getRow();
 
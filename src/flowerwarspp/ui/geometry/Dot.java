@@ -78,6 +78,23 @@ public class Dot extends BoardPolygon {
 		currentDiameter = triangleSideLength / 2;
 	}
 
+	/**
+	 * Gibt das umschließende Rechteck des Kreises zurück. Da ein {@link Dot} keine Eckpunkte hat,
+	 * wäre es sonst leer. Wird die {@link Position} als Text gezeichnet, ist das Rechteck breiter,
+	 * da der Text breiter als der Kreis sein kann.
+	 *
+	 * @return Das umschließende Rechteck
+	 */
+	@Override
+	public Rectangle getBounds() {
+		Rectangle bounds = new Rectangle(currentLocation.x - (currentDiameter / 2),
+				currentLocation.y - (currentDiameter / 2), currentDiameter, currentDiameter);
+		if (currentDiameter > 30) {
+			bounds.grow(currentDiameter / 2, 0);
+		}
+		return bounds;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
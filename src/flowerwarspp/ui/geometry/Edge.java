@@ -26,6 +26,10 @@ public class Edge extends BoardPolygon {
 	 * Die "zweite" Position (siehe {@link Position#compareTo(Position)}).
 	 */
 	private Position position2;
+	/**
+	 * Der {@link Ditch}, den diese Edge repräsentiert.
+	 */
+	private Ditch ditch;
 
 	/**
 	 * Erstelle ein Edge-Objekt, das einen {@link Ditch} repräsentiert.
@@ -42,17 +46,17 @@ public class Edge extends BoardPolygon {
 
 		this.position1 = position1;
 		this.position2 = position2;
+		ditch = new Ditch(position1, position2);
 	}
 
 	/**
-	 * Erstellt ein {@link Ditch}-Objekt, das auf dem Spielbrett an der Stelle liegt, die dieses
-	 * Polygon repräsentiert.
+	 * Gibt das {@link Ditch}-Objekt zurück, das auf dem Spielbrett an der Stelle liegt, die
+	 * dieses Polygon repräsentiert.
 	 *
-	 * @return Ein neues {@link Ditch}-Objekt, das die Koordinaten diese Edge auf dem Spielbrett
-	 * hat.
+	 * @return Das {@link Ditch}-Objekt, das die Koordinaten diese Edge auf dem Spielbrett hat.
 	 */
 	public Ditch toDitch() {
-		return new Ditch(position1, position2);
+		return ditch;
 	}
 
 	/**
@@ -0,0 +1,267 @@
+package flowerwarspp.ui.geometry;
+
+import flowerwarspp.preset.Ditch;
+import flowerwarspp.preset.Flower;
+import flowerwarspp.preset.Position;
+
+import java.awt.*;
+import java.util.Collection;
+import java.util.HashMap;
+
+/**
+ * Ein Index, welcher einen {@link Point} auf dem Zeichenbrett direkt dem {@link Triangle}, der
+ * {@link Edge} oder dem {@link Dot} an dieser Stelle zuordnet, anstatt alle Polygons zu
+ * durchsuchen.
+ * <p>
+ * Dazu wird die Umrechnung aus {@link BoardPolygon#positionToPoint(Position, int, Point)}
+ * umgekehrt: Ein {@link Point} wird in Spalte und Zeile des Spielbretts als Kommazahlen
+ * umgerechnet. Deren ganzzahliger Anteil bestimmt eine Raute aus zwei Dreiecken, deren
+ * Nachkommaanteile bestimmen, in welchem der beiden Dreiecke der {@link Point} liegt. Da die
+ * Eckpunkte der Polygons auf ganze Pixel gerundet sind, werden zusätzlich die benachbarten Rauten
+ * mit {@link Polygon#contains(Point)} geprüft. Jede Anfrage prüft daher höchstens eine feste Anzahl
+ * an Polygons, unabhängig von der Größe des Spielbretts und dem Zoom.
+ */
+public class HitIndex {
+	/**
+	 * Die Höhe eines gleichseitigen Dreiecks mit Seitenlänge 1, wie in {@link BoardPolygon}.
+	 */
+	private static final double triangleSideHeightFactor = Math.sqrt(3.0) / 2;
+
+	/**
+	 * Die Anzahl der Spalten und Zeilen der Indexe, mit Rand.
+	 */
+	private final int extent;
+
+	/**
+	 * Die {@link Triangle}s nach Spalte und Zeile der linken unteren Ecke ihrer Raute. Index 0 ist
+	 * das untere, Index 1 das obere Dreieck der Raute.
+	 */
+	private final Triangle[][][] triangles;
+
+	/**
+	 * Die {@link Edge}s jedes {@link Triangle}s, mit den gleichen Indexen wie {@link #triangles}.
+	 */
+	private final Edge[][][][] triangleEdges;
+
+	/**
+	 * Die {@link Dot}s nach Spalte und Zeile ihrer {@link Position}.
+	 */
+	private final Dot[][] dots;
+
+	/**
+	 * Die aktuelle Seitenlänge der Dreiecke.
+	 */
+	private int triangleSideLength = 0;
+
+	/**
+	 * Der aktuelle Referenzpunkt, ab dem das Spielbrett gezeichnet wird.
+	 */
+	private Point relativeStart = new Point();
+
+	/**
+	 * Erzeugt einen neuen Index über die Polygons eines Spielbretts.
+	 *
+	 * @param boardSize
+	 * 		Die Größe des Spielbretts
+	 * @param mapTriangles
+	 * 		Die {@link Triangle}s des Spielbretts
+	 * @param mapEdges
+	 * 		Die {@link Edge}s des Spielbretts
+	 * @param mapDots
+	 * 		Die {@link Dot}s des Spielbretts
+	 */
+	public HitIndex(int boardSize, Collection<Triangle> mapTriangles, Collection<Edge> mapEdges,
+	                Collection<Dot> mapDots) {
+		extent = boardSize + 3;
+		triangles = new Triangle[extent][extent][2];
+		triangleEdges = new Edge[extent][extent][2][];
+		dots = new Dot[extent][extent];
+
+		HashMap<Ditch, Edge> edgesByDitch = new HashMap<>();
+		mapEdges.forEach(e -> edgesByDitch.put(e.toDitch(), e));
+
+		for (Triangle triangle : mapTriangles) {
+			Flower flower = triangle.toFlower();
+			Position[] corners = {flower.getFirst(), flower.getSecond(), flower.getThird()};
+			int column = Integer.MAX_VALUE;
+			int row = Integer.MAX_VALUE;
+			int columnSum = 0;
+			for (Position corner : corners) {
+				column = Math.min(column, corner.getColumn());
+				row = Math.min(row, corner.getRow());
+				columnSum += corner.getColumn();
+			}
+
+			// Das untere Dreieck hat zwei Ecken in der linken Spalte, das obere nur eine.
+			int half = columnSum - 3 * column - 1;
+			triangles[column][row][half] = triangle;
+			triangleEdges[column][row][half] = new Edge[] {
+					edgesByDitch.get(new Ditch(corners[0], corners[1])),
+					edgesByDitch.get(new Ditch(corners[0], corners[2])),
+					edgesByDitch.get(new Ditch(corners[1], corners[2]))};
+		}
+
+		for (Dot dot : mapDots) {
+			dots[dot.getPosition().getColumn()][dot.getPosition().getRow()] = dot;
+		}
+	}
+
+	/**
+	 * Setzt die Geometrie, mit welcher die Polygons zuletzt mit {@link
+	 * BoardPolygon#recalcPoints(int, Point)} berechnet wurden.
+	 *
+	 * @param triangleSideLength
+	 * 		Die Länge der Seiten der Dreiecke auf dem aktuellen Spielbrett.
+	 * @param relativeStart
+	 * 		Der Ort, ab dem das Zeichnen stattfindet.
+	 */
+	public void setGeometry(int triangleSideLength, Point relativeStart) {
+		this.triangleSideLength = triangleSideLength;
+		this.relativeStart = new Point(relativeStart);
+	}
+
+	/**
+	 * Findet das {@link Triangle} an einem {@link Point}.
+	 *
+	 * @param point
+	 * 		Der {@link Point} auf dem Zeichenbrett
+	 *
+	 * @return Das {@link Triangle}, oder <code>null</code>, falls dort keines liegt
+	 */
+	public Triangle findTriangle(Point point) {
+		if (triangleSideLength <= 0) {
+			return null;
+		}
+
+		// Zuerst das Dreieck, in welchem der Point ohne Rundung liegt.
+		double row = toRow(point);
+		double column = toColumn(point, row);
+		int baseColumn = (int) Math.floor(column);
+		int baseRow = (int) Math.floor(row);
+		int half = (column - baseColumn) + (row - baseRow) < 1 ? 0 : 1;
+		Triangle candidate = getTriangle(baseColumn, baseRow, half);
+		if (candidate != null && candidate.contains(point)) {
+			return candidate;
+		}
+
+		for (int c = baseColumn - 1; c <= baseColumn + 1; c++) {
+			for (int r = baseRow - 1; r <= baseRow + 1; r++) {
+				for (int h = 0; h < 2; h++) {
+					Triangle triangle = getTriangle(c, r, h);
+					if (triangle != null && triangle.contains(point)) {
+						return triangle;
+					}
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Findet die {@link Edge} an einem {@link Point}. Da jede {@link Edge} Seite eines
+	 * benachbarten {@link Triangle}s ist, werden nur deren Seiten geprüft.
+	 *
+	 * @param point
+	 * 		Der {@link Point} auf dem Zeichenbrett
+	 *
+	 * @return Die {@link Edge}, oder <code>null</code>, falls dort keine liegt
+	 */
+	public Edge findEdge(Point point) {
+		if (triangleSideLength <= 0) {
+			return null;
+		}
+
+		double row = toRow(point);
+		int baseColumn = (int) Math.floor(toColumn(point, row));
+		int baseRow = (int) Math.floor(row);
+		for (int c = baseColumn - 1; c <= baseColumn + 1; c++) {
+			for (int r = baseRow - 1; r <= baseRow + 1; r++) {
+				for (int h = 0; h < 2; h++) {
+					if (getTriangle(c, r, h) == null) {
+						continue;
+					}
+					for (Edge edge : triangleEdges[c][r][h]) {
+						if (edge != null && edge.contains(point)) {
+							return edge;
+						}
+					}
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Findet den {@link Dot} an einem {@link Point}. Ein {@link Dot} ist kleiner als ein
+	 * Dreieck, daher liegt er auf einer Ecke einer der benachbarten Rauten.
+	 *
+	 * @param point
+	 * 		Der {@link Point} auf dem Zeichenbrett
+	 *
+	 * @return Der {@link Dot}, oder <code>null</code>, falls dort keiner liegt
+	 */
+	public Dot findDot(Point point) {
+		if (triangleSideLength <= 0) {
+			return null;
+		}
+
+		double row = toRow(point);
+		int baseColumn = (int) Math.floor(toColumn(point, row));
+		int baseRow = (int) Math.floor(row);
+		for (int c = baseColumn - 1; c <= baseColumn + 2; c++) {
+			for (int r = baseRow - 1; r <= baseRow + 2; r++) {
+				if (c >= 0 && r >= 0 && c < extent && r < extent && dots[c][r] != null &&
+						dots[c][r].contains(point)) {
+					return dots[c][r];
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Rechnet die y-Koordinate eines {@link Point}s in eine Zeile des Spielbretts um.
+	 *
+	 * @param point
+	 * 		Der {@link Point}
+	 *
+	 * @return Die Zeile als Kommazahl
+	 */
+	private double toRow(Point point) {
+		return (relativeStart.y - point.y) / (triangleSideLength * triangleSideHeightFactor) + 1;
+	}
+
+	/**
+	 * Rechnet die x-Koordinate eines {@link Point}s in eine Spalte des Spielbretts um.
+	 *
+	 * @param point
+	 * 		Der {@link Point}
+	 * @param row
+	 * 		Die mit {@link #toRow(Point)} berechnete Zeile
+	 *
+	 * @return Die Spalte als Kommazahl
+	 */
+	private double toColumn(Point point, double row) {
+		return (point.x - relativeStart.x - ((row - 1) / 2.0) * triangleSideLength) /
+				triangleSideLength;
+	}
+
+	/**
+	 * Gibt ein {@link Triangle} aus {@link #triangles} zurück, ohne die Grenzen zu überschreiten.
+	 *
+	 * @param column
+	 * 		Die Spalte der Raute
+	 * @param row
+	 * 		Die Zeile der Raute
+	 * @param half
+	 * 		0 für das untere, 1 für das obere Dreieck
+	 *
+	 * @return Das {@link Triangle}, oder <code>null</code>
+	 */
+	private Triangle getTriangle(int column, int row, int half) {
+		if (column < 0 || row < 0 || column >= extent || row >= extent) {
+			return null;
+		}
+		return triangles[column][row][half];
+	}
+}
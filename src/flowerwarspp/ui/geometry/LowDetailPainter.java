@@ -0,0 +1,255 @@
+package flowerwarspp.ui.geometry;
+
+import flowerwarspp.preset.Flower;
+import flowerwarspp.preset.Position;
+import flowerwarspp.ui.GameColors;
+
+import java.awt.*;
+import java.util.Collection;
+
+/**
+ * Zeichnet das Spielbrett mit wenigen Details, solange die Dreiecke so klein sind, dass Umrisse,
+ * {@link Dot}s und Antialiasing kaum zu erkennen sind, aber den Großteil der Zeit beim Zeichnen
+ * kosten.
+ * <p>
+ * Die {@link Triangle}s einer Zeile des Spielbretts liegen abwechselnd mit der Spitze nach oben
+ * und unten nebeneinander. Aufeinanderfolgende {@link Triangle}s gleicher Farbe bilden ein Trapez
+ * und werden als ein einziges Polygon gefüllt. Das Gitter der {@link Edge}s besteht aus drei
+ * Scharen gerader Linien über das ganze Spielbrett und wird mit je einer Linie gezeichnet. Nur
+ * {@link Edge}s, die nicht die Standardfarbe haben, werden einzeln als Linie gezeichnet. Die Anzahl
+ * der Zeichenoperationen hängt so von der Anzahl der Farbwechsel ab und nicht von der Anzahl der
+ * Polygons.
+ */
+public class LowDetailPainter {
+	/**
+	 * Ab dieser Seitenlänge der Dreiecke in Pixeln wird mit allen Details gezeichnet.
+	 */
+	public static final int FULL_DETAIL_SIDE_LENGTH = 24;
+
+	/**
+	 * Die Größe des Spielbretts.
+	 */
+	private final int boardSize;
+
+	/**
+	 * Die {@link Triangle}s nach Zeile und ihrer Reihenfolge von links nach rechts in der Zeile.
+	 */
+	private final Triangle[][] rows;
+
+	/**
+	 * Die {@link Edge}s, die einzeln gezeichnet werden, falls sie nicht die Standardfarbe haben.
+	 */
+	private final Edge[] edges;
+
+	/**
+	 * Die Eckpunkte der {@link Edge}s, mit den gleichen Indexen wie {@link #edges}.
+	 */
+	private final Position[][] edgePositions;
+
+	/**
+	 * Die x-Koordinaten aller {@link Position}s nach Spalte und Zeile.
+	 */
+	private final int[][] xs;
+
+	/**
+	 * Die y-Koordinaten aller {@link Position}s nach Spalte und Zeile.
+	 */
+	private final int[][] ys;
+
+	/**
+	 * Die aktuelle Seitenlänge der Dreiecke.
+	 */
+	private int triangleSideLength = 0;
+
+	/**
+	 * Erzeugt einen neuen Painter für die Polygons eines Spielbretts.
+	 *
+	 * @param boardSize
+	 * 		Die Größe des Spielbretts
+	 * @param mapTriangles
+	 * 		Die {@link Triangle}s des Spielbretts
+	 * @param mapEdges
+	 * 		Die {@link Edge}s des Spielbretts
+	 */
+	public LowDetailPainter(int boardSize, Collection<Triangle> mapTriangles,
+	                        Collection<Edge> mapEdges) {
+		this.boardSize = boardSize;
+		rows = new Triangle[boardSize + 1][];
+		for (int row = 1; row <= boardSize; row++) {
+			rows[row] = new Triangle[2 * (boardSize + 1 - row) - 1];
+		}
+
+		// Das Dreieck mit der Spitze nach oben liegt in der Zeile vor dem mit der Spitze nach
+		// unten, welches dieselbe linke untere Ecke hat. Wie im HitIndex hat das Dreieck mit der
+		// Spitze nach oben zwei Ecken in der linken Spalte, das andere nur eine.
+		for (Triangle triangle : mapTriangles) {
+			Flower flower = triangle.toFlower();
+			Position[] corners = {flower.getFirst(), flower.getSecond(), flower.getThird()};
+			int column = Integer.MAX_VALUE;
+			int row = Integer.MAX_VALUE;
+			int columnSum = 0;
+			for (Position corner : corners) {
+				column = Math.min(column, corner.getColumn());
+				row = Math.min(row, corner.getRow());
+				columnSum += corner.getColumn();
+			}
+			rows[row][2 * (column - 1) + columnSum - 3 * column - 1] = triangle;
+		}
+
+		edges = mapEdges.toArray(new Edge[0]);
+		edgePositions = new Position[edges.length][];
+		for (int i = 0; i < edges.length; i++) {
+			edgePositions[i] = new Position[] {edges[i].toDitch().getFirst(),
+					edges[i].toDitch().getSecond()};
+		}
+
+		xs = new int[boardSize + 2][boardSize + 2];
+		ys = new int[boardSize + 2][boardSize + 2];
+	}
+
+	/**
+	 * Setzt die Geometrie, mit welcher die Polygons zuletzt mit {@link
+	 * BoardPolygon#recalcPoints(int, Point)} berechnet wurden.
+	 *
+	 * @param triangleSideLength
+	 * 		Die Länge der Seiten der Dreiecke auf dem aktuellen Spielbrett.
+	 * @param relativeStart
+	 * 		Der Ort, ab dem das Zeichnen stattfindet.
+	 */
+	public void setGeometry(int triangleSideLength, Point relativeStart) {
+		this.triangleSideLength = triangleSideLength;
+		for (int column = 1; column <= boardSize + 1; column++) {
+			for (int row = 1; column + row <= boardSize + 2; row++) {
+				Point point = BoardPolygon.positionToPoint(new Position(column, row),
+						triangleSideLength, relativeStart);
+				xs[column][row] = point.x;
+				ys[column][row] = point.y;
+			}
+		}
+	}
+
+	/**
+	 * Gibt zurück, ob die Dreiecke bei der aktuellen Geometrie so klein sind, dass mit diesem
+	 * Painter gezeichnet werden soll.
+	 *
+	 * @return <code>true</code>, falls mit wenigen Details gezeichnet werden soll
+	 */
+	public boolean isActive() {
+		return triangleSideLength > 0 && triangleSideLength < FULL_DETAIL_SIDE_LENGTH;
+	}
+
+	/**
+	 * Zeichnet das Spielbrett in den Farben, die zuletzt in den Polygons gesetzt wurden.
+	 *
+	 * @param g
+	 * 		Das {@link Graphics2D}-Objekt, auf das gezeichnet wird
+	 */
+	public void paint(Graphics2D g) {
+		// Ohne Antialiasing schließen benachbarte Trapeze ohne Lücke aneinander an.
+		g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_OFF);
+
+		int[] x = new int[4];
+		int[] y = new int[4];
+		for (int row = 1; row <= boardSize; row++) {
+			Triangle[] triangles = rows[row];
+			int start = 0;
+			for (int i = 1; i <= triangles.length; i++) {
+				if (i == triangles.length ||
+						!triangles[i].getFillColor().equals(triangles[start].getFillColor())) {
+					fillSpan(g, row, start, i - 1, triangles[start].getFillColor(), x, y);
+					start = i;
+				}
+			}
+		}
+
+		g.setColor(GameColors.EDGE_DEFAULT);
+		for (int i = 1; i <= boardSize; i++) {
+			// Zeilen, Spalten und Diagonalen mit gleicher Summe aus Spalte und Zeile
+			drawLine(g, 1, i, boardSize + 2 - i, i);
+			drawLine(g, i, 1, i, boardSize + 2 - i);
+			drawLine(g, 1, i + 1, i + 1, 1);
+		}
+
+		// Ohne Enden über die Ecken hinaus bleiben die Linien innerhalb der Bounds ihrer Edges.
+		g.setStroke(new BasicStroke(Math.max(2, triangleSideLength / 8), BasicStroke.CAP_BUTT,
+				BasicStroke.JOIN_MITER));
+		for (int i = 0; i < edges.length; i++) {
+			Color color = edges[i].getFillColor();
+			if (!GameColors.EDGE_DEFAULT.equals(color)) {
+				g.setColor(color);
+				drawLine(g, edgePositions[i][0].getColumn(), edgePositions[i][0].getRow(),
+						edgePositions[i][1].getColumn(), edgePositions[i][1].getRow());
+			}
+		}
+	}
+
+	/**
+	 * Füllt das Trapez, welches die {@link Triangle}s einer Zeile zwischen zwei Indexen bilden.
+	 * Die Zeile reicht von der unteren Zeile der {@link Position}s bis zur nächsten. Ein
+	 * gerader Index ist ein Dreieck mit der Spitze nach oben, ein ungerader eines mit der Spitze
+	 * nach unten.
+	 *
+	 * @param g
+	 * 		Das {@link Graphics2D}-Objekt, auf das gezeichnet wird
+	 * @param row
+	 * 		Die Zeile
+	 * @param first
+	 * 		Der Index des ersten {@link Triangle}s
+	 * @param last
+	 * 		Der Index des letzten {@link Triangle}s
+	 * @param color
+	 * 		Die Farbe aller {@link Triangle}s zwischen den Indexen
+	 * @param x
+	 * 		Ein Array für die x-Koordinaten der Ecken
+	 * @param y
+	 * 		Ein Array für die y-Koordinaten der Ecken
+	 */
+	private void fillSpan(Graphics2D g, int row, int first, int last, Color color, int[] x,
+	                      int[] y) {
+		int firstColumn = first / 2 + 1;
+		int lastColumn = last / 2 + 1;
+		setCorner(x, y, 0, firstColumn + first % 2, row);
+		setCorner(x, y, 1, lastColumn + 1, row);
+		setCorner(x, y, 2, lastColumn + last % 2, row + 1);
+		setCorner(x, y, 3, firstColumn, row + 1);
+		g.setColor(color);
+		g.fillPolygon(x, y, 4);
+	}
+
+	/**
+	 * Setzt eine Ecke eines Polygons auf die Koordinaten einer {@link Position}.
+	 *
+	 * @param x
+	 * 		Die x-Koordinaten der Ecken
+	 * @param y
+	 * 		Die y-Koordinaten der Ecken
+	 * @param index
+	 * 		Der Index der Ecke
+	 * @param column
+	 * 		Die Spalte der {@link Position}
+	 * @param row
+	 * 		Die Zeile der {@link Position}
+	 */
+	private void setCorner(int[] x, int[] y, int index, int column, int row) {
+		x[index] = xs[column][row];
+		y[index] = ys[column][row];
+	}
+
+	/**
+	 * Zeichnet eine Linie zwischen zwei {@link Position}s.
+	 *
+	 * @param g
+	 * 		Das {@link Graphics2D}-Objekt, auf das gezeichnet wird
+	 * @param column1
+	 * 		Die Spalte der ersten {@link Position}
+	 * @param row1
+	 * 		Die Zeile der ersten {@link Position}
+	 * @param column2
+	 * 		Die Spalte der zweiten {@link Position}
+	 * @param row2
+	 * 		Die Zeile der zweiten {@link Position}
+	 */
+	private void drawLine(Graphics2D g, int column1, int row1, int column2, int row2) {
+		g.drawLine(xs[column1][row1], ys[column1][row1], xs[column2][row2], ys[column2][row2]);
+	}
+}
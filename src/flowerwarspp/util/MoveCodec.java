@@ -0,0 +1,225 @@
+package flowerwarspp.util;
+
+import flowerwarspp.preset.Ditch;
+import flowerwarspp.preset.Flower;
+import flowerwarspp.preset.Move;
+import flowerwarspp.preset.MoveType;
+import flowerwarspp.preset.Position;
+
+/**
+ * Hilfs-Klasse, welche {@link Move}s, {@link Flower}s und {@link Ditch}es in Ganzzahlen fester
+ * Breite umwandelt und zurück. Diese Kodierung wird etwa für das binäre Spielstand-Format
+ * verwendet.
+ * <p>
+ * Da die {@link Position}en einer {@link Flower} sortiert sind, ist eine {@link Flower} durch
+ * ihre erste {@link Position} und ihre Ausrichtung eindeutig bestimmt: Spalte (5 Bit), Zeile (5
+ * Bit) und ein Bit, welches angibt, ob die zweite {@link Position} links unterhalb der ersten
+ * liegt (11 Bit insgesamt). Ein {@link Ditch} ist ebenso durch seine erste {@link Position} und
+ * eine von drei Richtungen bestimmt (12 Bit insgesamt).
+ * <p>
+ * Ein {@link Move} wird als {@link MoveType} in den Bits 24 bis 25 und den kodierten Blumen oder
+ * dem kodierten Graben in den unteren 24 Bit dargestellt.
+ */
+public class MoveCodec {
+	/**
+	 * Anzahl der Bits einer kodierten {@link Flower}.
+	 */
+	public static final int FLOWER_BITS = 11;
+
+	/**
+	 * Anzahl der Bits eines kodierten {@link Ditch}.
+	 */
+	public static final int DITCH_BITS = 12;
+
+	/**
+	 * Anzahl der Bits einer kodierten Spalte oder Zeile.
+	 */
+	private static final int COORDINATE_BITS = 5;
+
+	/**
+	 * Maske für eine kodierte Spalte oder Zeile.
+	 */
+	private static final int COORDINATE_MASK = (1 << COORDINATE_BITS) - 1;
+
+	/**
+	 * Die Position des {@link MoveType}s in einem kodierten {@link Move}.
+	 */
+	private static final int TYPE_SHIFT = 24;
+
+	/**
+	 * Spalten- und Zeilenverschiebung der zweiten {@link Position} eines {@link Ditch} für jede
+	 * der drei Richtungen.
+	 */
+	private static final int[][] DITCH_DIRECTIONS = {{1, 0}, {0, 1}, {-1, 1}};
+
+	/**
+	 * Leerer privater Konstruktor zum Verhindern der Objektinitialisierung
+	 */
+	private MoveCodec() {}
+
+	/**
+	 * Kodiert eine {@link Position} als Spalte und Zeile mit je 5 Bit.
+	 *
+	 * @param position
+	 * 		Die zu kodierende {@link Position}
+	 *
+	 * @return Die kodierte {@link Position}
+	 */
+	private static int encode(Position position) {
+		return position.getColumn() << COORDINATE_BITS | position.getRow();
+	}
+
+	/**
+	 * Dekodiert eine mit {@link #encode(Position)} kodierte {@link Position}, verschoben um die
+	 * gegebene Anzahl an Spalten und Zeilen.
+	 *
+	 * @param code
+	 * 		Die kodierte {@link Position}
+	 * @param columnOffset
+	 * 		Die Verschiebung der Spalte
+	 * @param rowOffset
+	 * 		Die Verschiebung der Zeile
+	 *
+	 * @return Die dekodierte {@link Position}
+	 */
+	private static Position decodePosition(int code, int columnOffset, int rowOffset) {
+		return new Position((code >> COORDINATE_BITS & COORDINATE_MASK) + columnOffset,
+				(code & COORDINATE_MASK) + rowOffset);
+	}
+
+	/**
+	 * Kodiert eine {@link Flower} mit {@link #FLOWER_BITS} Bit.
+	 *
+	 * @param flower
+	 * 		Die zu kodierende {@link Flower}
+	 *
+	 * @return Die kodierte {@link Flower}
+	 *
+	 * @throws IllegalArgumentException
+	 * 		falls die {@link Flower} kein Dreieck des Spielbretts ist
+	 */
+	public static int encode(Flower flower) throws IllegalArgumentException {
+		final int flip = flower.getSecond().getColumn() < flower.getFirst().getColumn() ? 1 : 0;
+		final int code = encode(flower.getFirst()) << 1 | flip;
+		if (!decodeFlower(code).equals(flower)) {
+			throw new IllegalArgumentException("Die Blume " + flower + " ist kein Dreieck.");
+		}
+		return code;
+	}
+
+	/**
+	 * Dekodiert eine mit {@link #encode(Flower)} kodierte {@link Flower}.
+	 *
+	 * @param code
+	 * 		Die kodierte {@link Flower}
+	 *
+	 * @return Die dekodierte {@link Flower}
+	 */
+	public static Flower decodeFlower(int code) {
+		final int position = code >> 1;
+		if ((code & 1) == 0) {
+			return new Flower(decodePosition(position, 0, 0), decodePosition(position, 1, 0),
+					decodePosition(position, 0, 1));
+		}
+		return new Flower(decodePosition(position, 0, 0), decodePosition(position, -1, 1),
+				decodePosition(position, 0, 1));
+	}
+
+	/**
+	 * Kodiert einen {@link Ditch} mit {@link #DITCH_BITS} Bit.
+	 *
+	 * @param ditch
+	 * 		Der zu kodierende {@link Ditch}
+	 *
+	 * @return Der kodierte {@link Ditch}
+	 *
+	 * @throws IllegalArgumentException
+	 * 		falls die {@link Position}en des {@link Ditch} nicht benachbart sind
+	 */
+	public static int encode(Ditch ditch) throws IllegalArgumentException {
+		final int columnOffset = ditch.getSecond().getColumn() - ditch.getFirst().getColumn();
+		final int rowOffset = ditch.getSecond().getRow() - ditch.getFirst().getRow();
+		for (int direction = 0; direction < DITCH_DIRECTIONS.length; direction++) {
+			if (DITCH_DIRECTIONS[direction][0] == columnOffset &&
+					DITCH_DIRECTIONS[direction][1] == rowOffset) {
+				return encode(ditch.getFirst()) << 2 | direction;
+			}
+		}
+		throw new IllegalArgumentException("Der Graben " + ditch + " ist keine Kante.");
+	}
+
+	/**
+	 * Dekodiert einen mit {@link #encode(Ditch)} kodierten {@link Ditch}.
+	 *
+	 * @param code
+	 * 		Der kodierte {@link Ditch}
+	 *
+	 * @return Der dekodierte {@link Ditch}
+	 *
+	 * @throws IllegalArgumentException
+	 * 		falls der Code keine gültige Richtung enthält
+	 */
+	public static Ditch decodeDitch(int code) throws IllegalArgumentException {
+		final int direction = code & 3;
+		if (direction >= DITCH_DIRECTIONS.length) {
+			throw new IllegalArgumentException("Ungültige Richtung eines Grabens: " + direction);
+		}
+		final int position = code >> 2;
+		return new Ditch(decodePosition(position, 0, 0),
+				decodePosition(position, DITCH_DIRECTIONS[direction][0],
+						DITCH_DIRECTIONS[direction][1]));
+	}
+
+	/**
+	 * Kodiert einen {@link Move} als Ganzzahl.
+	 *
+	 * @param move
+	 * 		Der zu kodierende {@link Move}
+	 *
+	 * @return Der kodierte {@link Move}
+	 *
+	 * @throws IllegalArgumentException
+	 * 		falls eine {@link Flower} oder ein {@link Ditch} des {@link Move}s nicht kodiert werden
+	 * 		kann
+	 */
+	public static int encode(Move move) throws IllegalArgumentException {
+		final int type = move.getType().ordinal() << TYPE_SHIFT;
+		switch (move.getType()) {
+			case Flower:
+				return type | encode(move.getFirstFlower()) << FLOWER_BITS |
+						encode(move.getSecondFlower());
+			case Ditch:
+				return type | encode(move.getDitch());
+			default:
+				return type;
+		}
+	}
+
+	/**
+	 * Dekodiert einen mit {@link #encode(Move)} kodierten {@link Move}.
+	 *
+	 * @param code
+	 * 		Der kodierte {@link Move}
+	 *
+	 * @return Der dekodierte {@link Move}
+	 *
+	 * @throws IllegalArgumentException
+	 * 		falls der Code keinen gültigen {@link Move} beschreibt
+	 */
+	public static Move decodeMove(int code) throws IllegalArgumentException {
+		final int type = code >>> TYPE_SHIFT;
+		if (type >= MoveType.values().length) {
+			throw new IllegalArgumentException("Ungültiger Zugtyp: " + type);
+		}
+		final int payload = code & ((1 << TYPE_SHIFT) - 1);
+		switch (MoveType.values()[type]) {
+			case Flower:
+				return new Move(decodeFlower(payload >> FLOWER_BITS),
+						decodeFlower(payload & ((1 << FLOWER_BITS) - 1)));
+			case Ditch:
+				return new Move(decodeDitch(payload));
+			default:
+				return new Move(MoveType.values()[type]);
+		}
+	}
+}
@@ -0,0 +1,20 @@
+package flowerwarspp;
+
+import flowerwarspp.board.MainBoardBedUpdateTest;
+import flowerwarspp.board.MainBoardMakeAllTest;
+import flowerwarspp.main.savegame.ColumnarExporterTest;
+import flowerwarspp.main.savegame.SaveGameBinaryTest;
+import flowerwarspp.main.savegame.SaveGameValidatorTest;
+import flowerwarspp.util.MoveCodecTest;
+import org.junit.runner.RunWith;
+import org.junit.runners.Suite;
+
+/**
+ * Alle Tests dieses Projekts, welche zusätzlich zu den Tests des Spielbretts im
+ * <code>FlowerWarsPP-Tester.jar</code> mit <code>ant test</code> ausgeführt werden.
+ */
+@RunWith(Suite.class)
+@Suite.SuiteClasses({MainBoardMakeAllTest.class, MainBoardBedUpdateTest.class,
+		ColumnarExporterTest.class, SaveGameValidatorTest.class, SaveGameBinaryTest.class,
+		MoveCodecTest.class})
+public class FlowerWarsTests {}
@@ -0,0 +1,67 @@
+package flowerwarspp.board;
+
+import flowerwarspp.preset.Move;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+/**
+ * Prüft, dass {@link MainBoard#make(Move)} nach einem Blumenzug auch die Züge verbietet, welche
+ * ein weiter entferntes Beet über die neue Blume zu groß werden lassen würden.
+ */
+public class MainBoardBedUpdateTest {
+	private static final int BOARD_SIZE = 6;
+
+	/**
+	 * Die Züge, nach welchen ein Beet neu bewertet werden muss, das mehr als vier direkte Schritte
+	 * von einer gesetzten Blume entfernt liegt.
+	 */
+	private static final String[] MOVES = {
+			"{{(1,4),(2,4),(1,5)},{(1,5),(2,5),(1,6)}}",
+			"{{(1,2),(2,2),(1,3)},{(3,4),(4,4),(3,5)}}",
+			"{{(1,1),(2,1),(1,2)},{(4,3),(3,4),(4,4)}}",
+			"{{(4,2),(3,3),(4,3)},{(1,3),(2,3),(1,4)}}"
+	};
+
+	/**
+	 * Der Zug, welcher nach {@link #MOVES} für den Spieler am Zug nicht mehr möglich ist.
+	 */
+	private static final String ILLEGAL_MOVE = "{{(2,4),(1,5),(2,5)},{(2,4),(3,4),(2,5)}}";
+
+	private List<Move> moves;
+
+	@Before
+	public void init() {
+		moves = new ArrayList<>();
+		for (String move : MOVES) {
+			moves.add(Move.parseMove(move));
+		}
+	}
+
+	@Test
+	public void makeForbidsMovesForDistantBeds() {
+		final MainBoard board = new MainBoard(BOARD_SIZE);
+		for (Move move : moves) {
+			board.make(move);
+		}
+		assertFalse(board.viewer().getPossibleFlowerMoves()
+				.contains(Move.parseMove(ILLEGAL_MOVE)));
+	}
+
+	@Test
+	public void makeMatchesRebuiltBoard() {
+		final MainBoard board = new MainBoard(BOARD_SIZE);
+		for (Move move : moves) {
+			board.make(move);
+		}
+		assertEquals(new HashSet<>(new MainBoard(BOARD_SIZE, moves).viewer()
+						.getPossibleFlowerMoves()),
+				new HashSet<>(board.viewer().getPossibleFlowerMoves()));
+	}
+}
@@ -0,0 +1,182 @@
+package flowerwarspp.board;
+
+import flowerwarspp.preset.Move;
+import flowerwarspp.preset.MoveType;
+import flowerwarspp.preset.PlayerColor;
+import flowerwarspp.preset.Status;
+import flowerwarspp.preset.Viewer;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+/**
+ * Vergleicht {@link MainBoard#makeAll(Iterable)} und {@link MainBoard#MainBoard(int, Iterable)}
+ * mit dem Ausführen derselben Züge mit {@link MainBoard#make(Move)}.
+ */
+public class MainBoardMakeAllTest {
+	/**
+	 * Die Anzahl der zufälligen Spiele je Spielbrettgröße.
+	 */
+	private static final int GAMES = 30;
+
+	/**
+	 * Die Spielbrettgrößen, auf welchen gespielt wird.
+	 */
+	private static final int[] BOARD_SIZES = {3, 4, 5, 6};
+
+	/**
+	 * Erzeugt die Spiele mit festem Startwert, damit fehlschlagende Tests wiederholbar sind.
+	 */
+	private Random random;
+
+	@Before
+	public void init() {
+		random = new Random(29);
+	}
+
+	@Test
+	public void makeAllMatchesMakeForFinishedGames() {
+		for (int size : BOARD_SIZES) {
+			for (int game = 0; game < GAMES; game++) {
+				final MainBoard played = new MainBoard(size);
+				final List<Move> moves = playToEnd(played);
+				assertNotEquals(Status.Ok, played.viewer().getStatus());
+
+				final MainBoard bulk = new MainBoard(size);
+				bulk.makeAll(moves);
+				assertSameState(played.viewer(), bulk.viewer());
+				assertSameState(played.viewer(), new MainBoard(size, moves).viewer());
+			}
+		}
+	}
+
+	@Test
+	public void makeAllMatchesMakeForRunningGames() {
+		for (int size : BOARD_SIZES) {
+			for (int game = 0; game < GAMES; game++) {
+				final List<Move> moves = playToEnd(new MainBoard(size));
+				final List<Move> prefix = moves.subList(0, random.nextInt(moves.size()));
+
+				final MainBoard played = new MainBoard(size);
+				for (Move move : prefix) {
+					played.make(move);
+				}
+				final MainBoard bulk = new MainBoard(size, prefix);
+				assertSameState(played.viewer(), bulk.viewer());
+				assertEquals(new HashSet<>(played.viewer().getPossibleMoves()),
+						new HashSet<>(bulk.viewer().getPossibleMoves()));
+			}
+		}
+	}
+
+	@Test
+	public void bulkConstructorRecordsCheckpointsLikeMake() {
+		for (int size : BOARD_SIZES) {
+			for (int game = 0; game < GAMES; game++) {
+				final List<Move> moves = playToEnd(new MainBoard(size));
+
+				// Zu jeder Zugnummer einschließlich der nach dem Ende des Spiels.
+				final Map<Integer, BoardCheckpoint> recorded = new HashMap<>();
+				for (int ply = 0; ply <= moves.size() + 1; ply++) {
+					recorded.put(ply, null);
+				}
+				new MainBoard(size, moves, recorded);
+
+				final MainBoard played = new MainBoard(size);
+				for (int ply = 0; ply < moves.size(); ply++) {
+					assertEquals(played.checkpoint(), recorded.get(ply));
+					played.make(moves.get(ply));
+				}
+				assertNull(recorded.get(moves.size()));
+				assertNull(recorded.get(moves.size() + 1));
+			}
+		}
+	}
+
+	@Test
+	public void makeAllRejectsMovesAfterEndOfGame() {
+		for (int size : BOARD_SIZES) {
+			for (int game = 0; game < GAMES; game++) {
+				final List<Move> moves = playToEnd(new MainBoard(size));
+				moves.add(new Move(MoveType.Surrender));
+
+				final MainBoard played = new MainBoard(size);
+				assertRejected(() -> {
+					for (Move move : moves) {
+						played.make(move);
+					}
+				});
+				assertRejected(() -> new MainBoard(size).makeAll(moves));
+				assertRejected(() -> new MainBoard(size, moves));
+			}
+		}
+	}
+
+	/**
+	 * Spielt mit zufälligen Blumen- und Grabenzügen, bis das Spiel endet, weil der nächste
+	 * Spieler keinen solchen Zug mehr machen kann.
+	 *
+	 * @param board
+	 * 		Das Spielbrett, auf dem gespielt wird
+	 *
+	 * @return Die gemachten Züge
+	 */
+	private List<Move> playToEnd(MainBoard board) {
+		final Viewer viewer = board.viewer();
+		final List<Move> moves = new ArrayList<>();
+		while (viewer.getStatus() == Status.Ok) {
+			final List<Move> possible = new ArrayList<>(viewer.getPossibleFlowerMoves());
+			possible.addAll(viewer.getPossibleDitchMoves());
+			final Move move = possible.get(random.nextInt(possible.size()));
+			board.make(move);
+			moves.add(move);
+		}
+		return moves;
+	}
+
+	/**
+	 * Prüft, ob zwei Spielbretter denselben Spielstand haben.
+	 *
+	 * @param expected
+	 * 		Ein {@link Viewer} auf das mit {@link MainBoard#make(Move)} gespielte Spielbrett
+	 * @param actual
+	 * 		Ein {@link Viewer} auf das zu prüfende Spielbrett
+	 */
+	private static void assertSameState(Viewer expected, Viewer actual) {
+		assertEquals(expected.getStatus(), actual.getStatus());
+		assertEquals(expected.getTurn(), actual.getTurn());
+		for (PlayerColor color : PlayerColor.values()) {
+			assertEquals(new HashSet<>(expected.getFlowers(color)),
+					new HashSet<>(actual.getFlowers(color)));
+			assertEquals(new HashSet<>(expected.getDitches(color)),
+					new HashSet<>(actual.getDitches(color)));
+			assertEquals(expected.getPoints(color), actual.getPoints(color));
+		}
+	}
+
+	/**
+	 * Prüft, ob das Ausführen von Zügen mit einer {@link IllegalStateException} abgelehnt wird.
+	 *
+	 * @param moves
+	 * 		Das Ausführen der Züge
+	 */
+	private static void assertRejected(Runnable moves) {
+		try {
+			moves.run();
+			fail("Ein Zug nach dem Ende des Spiels wurde angenommen.");
+		} catch (IllegalStateException expected) {
+			// Wie erwartet
+		}
+	}
+}
@@ -0,0 +1,148 @@
+package flowerwarspp.main.savegame;
+
+import flowerwarspp.board.MainBoard;
+import flowerwarspp.preset.Move;
+import flowerwarspp.preset.PlayerColor;
+import flowerwarspp.preset.Status;
+import flowerwarspp.preset.Viewer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Prüft das Format der Dateien des {@link ColumnarExporter} und dass laufend exportierte Spiele
+ * denselben Inhalt ergeben wie nachträglich exportierte.
+ */
+public class ColumnarExporterTest {
+	private static final int BOARD_SIZE = 5;
+
+	private static final int GAMES = 3;
+
+	private Random random;
+
+	private File live;
+
+	private File replayed;
+
+	@Before
+	public void init() throws IOException {
+		random = new Random(38);
+		live = File.createTempFile("live", ".fwc");
+		replayed = File.createTempFile("replayed", ".fwc");
+	}
+
+	@After
+	public void cleanUp() {
+		live.delete();
+		replayed.delete();
+	}
+
+	@Test
+	public void lastChunkOnlyContainsUsedRows() throws IOException {
+		final long rows = export();
+
+		final ByteBuffer file = read(live);
+		assertEquals(ColumnarExporter.MAGIC, file.getInt(0));
+		assertEquals(ColumnarExporter.VERSION, file.getShort(4));
+		assertEquals(ColumnarExporter.CHUNK_ROWS, file.getInt(8));
+		assertEquals(1, file.getInt(12));
+		assertEquals(rows, file.getInt(16));
+		assertEquals(GAMES, file.getInt(20));
+		assertEquals(rows, file.getLong(24));
+		assertEquals(ColumnarExporter.HEADER_SIZE + rows * ColumnarExporter.ROW_SIZE,
+				file.capacity());
+	}
+
+	@Test
+	public void addMatchesAppend() throws IOException {
+		export();
+		assertArrayEquals(Files.readAllBytes(replayed.toPath()),
+				Files.readAllBytes(live.toPath()));
+	}
+
+	@Test
+	public void lastRowHoldsFinalPoints() throws IOException {
+		final MainBoard board = new MainBoard(BOARD_SIZE);
+		final List<Move> moves = playToEnd(board);
+		try (ColumnarExporter exporter = new ColumnarExporter(live.getPath())) {
+			final SaveGame saveGame = new SaveGame(BOARD_SIZE);
+			moves.forEach(saveGame::add);
+			assertEquals(moves.size(), exporter.append(saveGame));
+		}
+
+		// Spalten bis zu den Punkten von Rot: Spiel, Zug, Größe, Typ, zwei Blumen und Graben.
+		final int rows = moves.size();
+		final int redPoints = ColumnarExporter.HEADER_SIZE + (4 + 2 + 1 + 1 + 2 + 2 + 2) * rows;
+		final int bluePoints = redPoints + 2 * rows;
+		final ByteBuffer file = read(live);
+		assertEquals(board.viewer().getPoints(PlayerColor.Red),
+				file.getShort(redPoints + 2 * (rows - 1)));
+		assertEquals(board.viewer().getPoints(PlayerColor.Blue),
+				file.getShort(bluePoints + 2 * (rows - 1)));
+	}
+
+	/**
+	 * Spielt {@link #GAMES} zufällige Spiele und exportiert sie laufend nach {@link #live} sowie
+	 * nachträglich nach {@link #replayed}.
+	 *
+	 * @return Die Anzahl der exportierten Züge
+	 */
+	private long export() throws IOException {
+		try (ColumnarExporter liveExporter = new ColumnarExporter(live.getPath());
+				ColumnarExporter replayExporter = new ColumnarExporter(replayed.getPath())) {
+			for (int game = 0; game < GAMES; game++) {
+				final MainBoard board = new MainBoard(BOARD_SIZE);
+				final SaveGame saveGame = new SaveGame(BOARD_SIZE);
+				for (Move move : playToEnd(board)) {
+					saveGame.add(move);
+				}
+
+				final MainBoard replay = new MainBoard(BOARD_SIZE);
+				for (Move move : saveGame) {
+					replay.make(move);
+					liveExporter.add(BOARD_SIZE, move, replay.viewer());
+				}
+				assertEquals(saveGame.size(), liveExporter.endGame());
+				assertEquals(saveGame.size(), replayExporter.append(saveGame));
+			}
+			return liveExporter.getRows();
+		}
+	}
+
+	/**
+	 * Spielt zufällige Blumen- und Grabenzüge, bis das Spiel beendet ist.
+	 *
+	 * @param board
+	 * 		Das Spielbrett
+	 *
+	 * @return Die ausgeführten Züge
+	 */
+	private List<Move> playToEnd(MainBoard board) {
+		final Viewer viewer = board.viewer();
+		final List<Move> moves = new ArrayList<>();
+		while (viewer.getStatus() == Status.Ok) {
+			final List<Move> possible = new ArrayList<>(viewer.getPossibleFlowerMoves());
+			possible.addAll(viewer.getPossibleDitchMoves());
+			final Move move = possible.get(random.nextInt(possible.size()));
+			board.make(move);
+			moves.add(move);
+		}
+		return moves;
+	}
+
+	private static ByteBuffer read(File file) throws IOException {
+		return ByteBuffer.wrap(Files.readAllBytes(file.toPath())).order(ByteOrder.LITTLE_ENDIAN);
+	}
+}
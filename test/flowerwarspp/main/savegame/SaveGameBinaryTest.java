@@ -0,0 +1,159 @@
+package flowerwarspp.main.savegame;
+
+import flowerwarspp.board.MainBoard;
+import flowerwarspp.preset.Move;
+import flowerwarspp.preset.Status;
+import flowerwarspp.preset.Viewer;
+import flowerwarspp.util.MoveCodec;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.zip.CRC32;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Prüft, dass Spielstände im Binärformat "FWPB" nach {@link SaveGame#saveBinary(String)} und
+ * {@link SaveGame#load(String)} unverändert sind und beschädigte Dateien abgelehnt werden.
+ */
+public class SaveGameBinaryTest {
+	private static final int BOARD_SIZE = 8;
+
+	/**
+	 * Nach wie vielen Zügen jeweils ein Schnappschuss gespeichert wird.
+	 */
+	private static final int CHECKPOINT_INTERVAL = 8;
+
+	private Random random;
+
+	private File file;
+
+	/**
+	 * Ein zufälliges Spiel mit Schnappschüssen.
+	 */
+	private SaveGame saveGame;
+
+	@Before
+	public void init() throws IOException {
+		random = new Random(31);
+		file = File.createTempFile("savegame", SaveGame.BINARY_EXTENSION);
+
+		final MainBoard board = new MainBoard(BOARD_SIZE);
+		final Viewer viewer = board.viewer();
+		saveGame = new SaveGame(BOARD_SIZE);
+		while (viewer.getStatus() == Status.Ok) {
+			final List<Move> possible = new ArrayList<>(viewer.getPossibleFlowerMoves());
+			possible.addAll(viewer.getPossibleDitchMoves());
+			final Move move = possible.get(random.nextInt(possible.size()));
+			board.make(move);
+			saveGame.add(move);
+			if (saveGame.size() % CHECKPOINT_INTERVAL == 0 && viewer.getStatus() == Status.Ok) {
+				saveGame.addCheckpoint(saveGame.size(), board.checkpoint());
+			}
+		}
+	}
+
+	@After
+	public void cleanUp() {
+		file.delete();
+	}
+
+	@Test
+	public void roundTripKeepsMovesAndCheckpoints() throws Exception {
+		saveGame.saveBinary(file.getPath());
+		assertTrue(SaveGame.isBinary(file.getPath()));
+
+		final SaveGame loaded = SaveGame.load(file.getPath());
+		assertEquals(BOARD_SIZE, loaded.getBoardSize());
+		assertEquals(moves(saveGame), moves(loaded));
+		assertFalse(saveGame.getCheckpoints().isEmpty());
+		assertEquals(saveGame.getCheckpoints(), loaded.getCheckpoints());
+	}
+
+	@Test
+	public void emptyGameRoundTrips() throws Exception {
+		new SaveGame(BOARD_SIZE).saveBinary(file.getPath());
+
+		final SaveGame loaded = SaveGame.load(file.getPath());
+		assertEquals(BOARD_SIZE, loaded.getBoardSize());
+		assertEquals(0, loaded.size());
+		assertTrue(loaded.getCheckpoints().isEmpty());
+	}
+
+	@Test
+	public void versionWithoutCheckpointsCanBeLoaded() throws Exception {
+		// Version 1: Kennung, Version, Größe, Anzahl der Züge, Züge und Prüfsumme.
+		final List<Move> moves = moves(saveGame);
+		final ByteBuffer buffer = ByteBuffer.allocate(12 + 4 * moves.size() + 4);
+		buffer.putInt(0x46575042).putShort((short) 1).putShort((short) BOARD_SIZE);
+		buffer.putInt(moves.size());
+		for (Move move : moves) {
+			buffer.putInt(MoveCodec.encode(move));
+		}
+		final CRC32 crc = new CRC32();
+		crc.update(buffer.array(), 0, buffer.position());
+		buffer.putInt((int) crc.getValue());
+		Files.write(file.toPath(), buffer.array());
+
+		final SaveGame loaded = SaveGame.load(file.getPath());
+		assertEquals(moves, moves(loaded));
+		assertTrue(loaded.getCheckpoints().isEmpty());
+	}
+
+	@Test(expected = LoadException.class)
+	public void changedMoveFailsChecksum() throws Exception {
+		saveGame.saveBinary(file.getPath());
+		final byte[] content = Files.readAllBytes(file.toPath());
+		// Ein Bit im ersten Zug direkt nach dem 12 Byte langen Kopf.
+		content[15] ^= 1;
+		Files.write(file.toPath(), content);
+
+		SaveGame.load(file.getPath());
+	}
+
+	@Test(expected = LoadException.class)
+	public void changedChecksumIsRejected() throws Exception {
+		saveGame.saveBinary(file.getPath());
+		final byte[] content = Files.readAllBytes(file.toPath());
+		content[content.length - 1] ^= 1;
+		Files.write(file.toPath(), content);
+
+		SaveGame.load(file.getPath());
+	}
+
+	@Test(expected = LoadException.class)
+	public void truncatedFileIsRejected() throws Exception {
+		saveGame.saveBinary(file.getPath());
+		final byte[] content = Files.readAllBytes(file.toPath());
+		Files.write(file.toPath(), Arrays.copyOf(content, content.length - 8));
+
+		SaveGame.load(file.getPath());
+	}
+
+	/**
+	 * Gibt die Züge eines Spielstands als {@link List} zurück.
+	 *
+	 * @param saveGame
+	 * 		Der Spielstand
+	 *
+	 * @return Die Züge in ihrer Reihenfolge
+	 */
+	private static List<Move> moves(SaveGame saveGame) {
+		final List<Move> moves = new ArrayList<>();
+		for (Move move : saveGame) {
+			moves.add(move);
+		}
+		return moves;
+	}
+}
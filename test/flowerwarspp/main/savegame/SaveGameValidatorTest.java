@@ -0,0 +1,100 @@
+package flowerwarspp.main.savegame;
+
+import flowerwarspp.board.BoardCheckpoint;
+import flowerwarspp.board.MainBoard;
+import flowerwarspp.preset.Move;
+import flowerwarspp.preset.Status;
+import flowerwarspp.preset.Viewer;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Prüft, dass {@link SaveGameValidator} die gespeicherten Schnappschüsse eines Spielstands mit
+ * seinen Zügen vergleicht.
+ */
+public class SaveGameValidatorTest {
+	private static final int BOARD_SIZE = 6;
+
+	/**
+	 * Nach wie vielen Zügen jeweils ein Schnappschuss gespeichert wird.
+	 */
+	private static final int CHECKPOINT_INTERVAL = 4;
+
+	private Random random;
+
+	/**
+	 * Die Züge eines zufälligen Spiels.
+	 */
+	private List<Move> moves;
+
+	/**
+	 * Die Schnappschüsse des Spiels nach jedem Zug, solange es läuft.
+	 */
+	private List<BoardCheckpoint> checkpoints;
+
+	@Before
+	public void init() {
+		random = new Random(37);
+		moves = new ArrayList<>();
+		checkpoints = new ArrayList<>();
+
+		final MainBoard board = new MainBoard(BOARD_SIZE);
+		final Viewer viewer = board.viewer();
+		checkpoints.add(board.checkpoint());
+		while (viewer.getStatus() == Status.Ok) {
+			final List<Move> possible = new ArrayList<>(viewer.getPossibleFlowerMoves());
+			possible.addAll(viewer.getPossibleDitchMoves());
+			final Move move = possible.get(random.nextInt(possible.size()));
+			board.make(move);
+			moves.add(move);
+			if (viewer.getStatus() == Status.Ok) {
+				checkpoints.add(board.checkpoint());
+			}
+		}
+	}
+
+	@Test
+	public void matchingCheckpointsAreValid() {
+		final SaveGame saveGame = createSaveGame(-1);
+		final ValidationResult result = SaveGameValidator.validate("test", 0, saveGame);
+		assertNull(result.getError());
+		assertEquals(moves.size(), result.getMoveCount());
+	}
+
+	@Test
+	public void firstMismatchingCheckpointIsReported() {
+		final int wrongPly = 2 * CHECKPOINT_INTERVAL;
+		final SaveGame saveGame = createSaveGame(wrongPly);
+		final ValidationResult result = SaveGameValidator.validate("test", 0, saveGame);
+		assertEquals("Schnappschuss nach Zug " + wrongPly + " passt nicht zu den Zügen",
+				result.getError());
+	}
+
+	/**
+	 * Erzeugt einen Spielstand mit den Zügen des Spiels und einem Schnappschuss nach jeweils
+	 * {@link #CHECKPOINT_INTERVAL} Zügen.
+	 *
+	 * @param wrongPly
+	 * 		Die Zugnummer, zu welcher der Schnappschuss des vorherigen Zugs gespeichert wird,
+	 * 		oder -1
+	 *
+	 * @return Der Spielstand
+	 */
+	private SaveGame createSaveGame(int wrongPly) {
+		final SaveGame saveGame = new SaveGame(BOARD_SIZE);
+		for (int ply = 1; ply <= moves.size(); ply++) {
+			saveGame.add(moves.get(ply - 1));
+			if (ply % CHECKPOINT_INTERVAL == 0 && ply < checkpoints.size()) {
+				saveGame.addCheckpoint(ply, checkpoints.get(ply == wrongPly ? ply - 1 : ply));
+			}
+		}
+		return saveGame;
+	}
+}
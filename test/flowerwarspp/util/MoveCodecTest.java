@@ -0,0 +1,104 @@
+package flowerwarspp.util;
+
+import flowerwarspp.board.MainBoard;
+import flowerwarspp.preset.Ditch;
+import flowerwarspp.preset.Flower;
+import flowerwarspp.preset.Move;
+import flowerwarspp.preset.MoveType;
+import flowerwarspp.preset.Viewer;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Prüft, dass {@link MoveCodec} alle Züge auf dem größten Spielbrett eindeutig kodiert und wieder
+ * dekodiert.
+ */
+public class MoveCodecTest {
+	private static final int BOARD_SIZE = 30;
+
+	/**
+	 * Die möglichen Züge auf dem leeren Spielbrett: alle Paare von Blumen und das Aufgeben.
+	 */
+	private Collection<Move> possibleMoves;
+
+	/**
+	 * Alle Blumen des Spielbretts.
+	 */
+	private Set<Flower> flowers;
+
+	@Before
+	public void init() {
+		final Viewer viewer = new MainBoard(BOARD_SIZE).viewer();
+		possibleMoves = viewer.getPossibleMoves();
+		flowers = new HashSet<>();
+		for (Move move : viewer.getPossibleFlowerMoves()) {
+			flowers.add(move.getFirstFlower());
+			flowers.add(move.getSecondFlower());
+		}
+	}
+
+	@Test
+	public void everyLegalMoveRoundTrips() {
+		final Map<Integer, Move> codes = new HashMap<>();
+		for (Move move : possibleMoves) {
+			final int code = MoveCodec.encode(move);
+			assertEquals(move, MoveCodec.decodeMove(code));
+			assertNull("Code " + code + " ist doppelt vergeben", codes.put(code, move));
+		}
+	}
+
+	@Test
+	public void everyFlowerFitsIntoItsBits() {
+		assertEquals(BOARD_SIZE * BOARD_SIZE, flowers.size());
+		final Set<Integer> codes = new HashSet<>();
+		for (Flower flower : flowers) {
+			final int code = MoveCodec.encode(flower);
+			assertTrue(code >= 0 && code < 1 << MoveCodec.FLOWER_BITS);
+			assertEquals(flower, MoveCodec.decodeFlower(code));
+			assertTrue(codes.add(code));
+		}
+	}
+
+	@Test
+	public void everyDitchRoundTrips() {
+		// Jede Kante einer Blume ist ein Graben des Spielbretts.
+		final Set<Ditch> ditches = new HashSet<>();
+		for (Flower flower : flowers) {
+			ditches.add(new Ditch(flower.getFirst(), flower.getSecond()));
+			ditches.add(new Ditch(flower.getSecond(), flower.getThird()));
+			ditches.add(new Ditch(flower.getFirst(), flower.getThird()));
+		}
+
+		final Set<Integer> codes = new HashSet<>();
+		for (Ditch ditch : ditches) {
+			final int code = MoveCodec.encode(ditch);
+			assertTrue(code >= 0 && code < 1 << MoveCodec.DITCH_BITS);
+			assertEquals(ditch, MoveCodec.decodeDitch(code));
+			assertEquals(new Move(ditch), MoveCodec.decodeMove(MoveCodec.encode(new Move(ditch))));
+			assertTrue(codes.add(code));
+		}
+	}
+
+	@Test
+	public void movesWithoutPositionsRoundTrip() {
+		for (MoveType type : new MoveType[] {MoveType.Surrender, MoveType.End}) {
+			assertEquals(new Move(type), MoveCodec.decodeMove(MoveCodec.encode(new Move(type))));
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void unknownMoveTypeIsRejected() {
+		// Der Zugtyp steht in den Bits ab Bit 24.
+		MoveCodec.decodeMove(MoveType.values().length << 24);
+	}
+}